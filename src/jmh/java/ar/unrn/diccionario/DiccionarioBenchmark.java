@@ -0,0 +1,241 @@
+package ar.unrn.diccionario;
+
+import ar.unrn.ObjetoSimple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide las operaciones básicas de {@link Diccionario} y las compara con las de
+ * {@link java.util.HashMap}, para distintos tamaños de tabla, tipos de clave y
+ * factores de carga.
+ * <p>
+ * Antes de cada iteración se llena una tabla con {@code tamanio} claves; las
+ * consultas recorren esas claves en un orden aleatorio fijo, para que el
+ * resultado no dependa de que claves consecutivas queden en baldes vecinos. Las
+ * claves ausentes son otras {@code tamanio} claves del mismo tipo.
+ * </p>
+ * <p>
+ * El diccionario se construye con {@link PoliticaColision#ENCADENAMIENTO}, porque
+ * con {@link PoliticaColision#RECHAZO} una tabla grande no puede llenarse. Con
+ * {@link LlaveDefectuosa} las claves comparten {@value #HASHES_DEFECTUOSOS}
+ * códigos hash, así que cada balde recibe muchas claves: es el peor caso de las
+ * dos implementaciones.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiccionarioBenchmark {
+
+    /**
+     * Cantidad de códigos hash distintos entre las claves {@link LlaveDefectuosa}.
+     */
+    static final int HASHES_DEFECTUOSOS = 1_024;
+    /**
+     * Semilla del orden en que se consultan las claves.
+     */
+    private static final long SEMILLA = 42;
+
+    /**
+     * La implementación que se mide: {@code Diccionario} o {@code HashMap}.
+     */
+    @Param({"Diccionario", "HashMap"})
+    String implementacion;
+
+    /**
+     * El tipo de las claves: {@code String}, {@code ObjetoSimple} o
+     * {@code LlaveDefectuosa}.
+     */
+    @Param({"String", "ObjetoSimple", "LlaveDefectuosa"})
+    String llave;
+
+    /**
+     * La cantidad de entradas de la tabla.
+     */
+    @Param({"1000", "100000", "1000000"})
+    int tamanio;
+
+    /**
+     * El factor de carga de la tabla.
+     */
+    @Param({"0.5", "0.75", "1.0"})
+    float factorDeCarga;
+
+    /**
+     * La tabla llena sobre la que se hacen las operaciones.
+     */
+    private TablaHash<Object, Integer> tabla;
+    /**
+     * Las claves de la tabla, en el orden en que se consultan.
+     */
+    private Object[] presentes;
+    /**
+     * Claves que no están en la tabla.
+     */
+    private Object[] ausentes;
+    /**
+     * Posición de la próxima clave que se consulta.
+     */
+    private int posicion;
+
+    /**
+     * Genera las claves.
+     */
+    @Setup(Level.Trial)
+    public void generarLlaves() {
+        presentes = new Object[tamanio];
+        ausentes = new Object[tamanio];
+        for (int i = 0; i < tamanio; i++) {
+            presentes[i] = crearLlave(i);
+            ausentes[i] = crearLlave(tamanio + i);
+        }
+        Random azar = new Random(SEMILLA);
+        for (int i = tamanio - 1; i > 0; i--) {
+            int otra = azar.nextInt(i + 1);
+            Object temporal = presentes[i];
+            presentes[i] = presentes[otra];
+            presentes[otra] = temporal;
+        }
+    }
+
+    /**
+     * Llena una tabla nueva con las claves presentes.
+     */
+    @Setup(Level.Iteration)
+    public void llenarTabla() {
+        tabla = llenar();
+        posicion = 0;
+    }
+
+    /**
+     * Consulta una clave que está en la tabla.
+     *
+     * @return el valor asociado.
+     */
+    @Benchmark
+    public Integer getPresente() {
+        return tabla.get(presentes[siguiente()]);
+    }
+
+    /**
+     * Consulta una clave que no está en la tabla.
+     *
+     * @return {@code null}.
+     */
+    @Benchmark
+    public Integer getAusente() {
+        return tabla.get(ausentes[siguiente()]);
+    }
+
+    /**
+     * Pregunta si la tabla contiene una clave, presente o ausente en partes
+     * iguales.
+     *
+     * @return si la clave está.
+     */
+    @Benchmark
+    public boolean containsKey() {
+        int indice = siguiente();
+        Object[] llaves = (indice & 1) == 0 ? presentes : ausentes;
+        return tabla.containsKey(llaves[indice]);
+    }
+
+    /**
+     * Consulta la cantidad de entradas.
+     *
+     * @return la cantidad de entradas.
+     */
+    @Benchmark
+    public int size() {
+        return tabla.size();
+    }
+
+    /**
+     * Reemplaza el valor de una clave que está en la tabla.
+     *
+     * @return el valor anterior.
+     */
+    @Benchmark
+    public Integer put() {
+        int indice = siguiente();
+        return tabla.put(presentes[indice], indice);
+    }
+
+    /**
+     * Elimina una clave y la vuelve a agregar, para que la tabla conserve su
+     * tamaño entre invocaciones.
+     *
+     * @return si la clave estaba.
+     */
+    @Benchmark
+    public boolean removeYPut() {
+        int indice = siguiente();
+        boolean eliminada = tabla.remove(presentes[indice]);
+        tabla.put(presentes[indice], indice);
+        return eliminada;
+    }
+
+    /**
+     * Construye una tabla vacía y le agrega todas las claves, incluido el
+     * costo de crecer.
+     *
+     * @return la tabla llena.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public TablaHash<Object, Integer> llenar() {
+        TablaHash<Object, Integer> nueva = "HashMap".equals(implementacion)
+                ? new TablaHashMap<>(factorDeCarga)
+                : new Diccionario<>(TablaHashMap.CAPACIDAD_INICIAL, factorDeCarga,
+                        PoliticaColision.ENCADENAMIENTO);
+        for (int i = 0; i < presentes.length; i++) {
+            nueva.put(presentes[i], i);
+        }
+        return nueva;
+    }
+
+    /**
+     * Avanza a la siguiente clave, volviendo a la primera al terminar.
+     *
+     * @return la posición de la clave.
+     */
+    private int siguiente() {
+        int actual = posicion;
+        posicion = actual + 1 == presentes.length ? 0 : actual + 1;
+        return actual;
+    }
+
+    /**
+     * Crea la clave número {@code i} del tipo elegido.
+     *
+     * @param i el número de clave.
+     * @return la clave.
+     */
+    private Object crearLlave(int i) {
+        return switch (llave) {
+            case "String" -> "llave-" + i;
+            case "ObjetoSimple" ->
+                    new ObjetoSimple(i, Integer.toString(i, Character.MAX_RADIX));
+            case "LlaveDefectuosa" ->
+                    new LlaveDefectuosa("llave-" + i, i % HASHES_DEFECTUOSOS);
+            default ->
+                    throw new IllegalArgumentException("Tipo de clave desconocido: " + llave);
+        };
+    }
+}
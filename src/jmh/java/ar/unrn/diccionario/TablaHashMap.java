@@ -0,0 +1,96 @@
+package ar.unrn.diccionario;
+
+import ar.unrn.diccionario.excepciones.LlaveNulaException;
+
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Adapta un {@link HashMap} a {@link TablaHash}, para medirlo con los mismos
+ * benchmarks que los diccionarios del paquete. Las dos implementaciones se
+ * invocan a través de la misma interfaz, así que pagan el mismo costo de
+ * llamada.
+ *
+ * @param <K> el tipo de las claves.
+ * @param <V> el tipo de los valores.
+ */
+final class TablaHashMap<K, V> implements TablaHash<K, V> {
+
+    /**
+     * Capacidad con la que comienzan las tablas de los benchmarks, la misma que
+     * usa {@link HashMap} por defecto.
+     */
+    static final int CAPACIDAD_INICIAL = 16;
+
+    /**
+     * El mapa adaptado.
+     */
+    private final HashMap<K, V> mapa;
+
+    /**
+     * Construye una tabla vacía con el factor de carga indicado.
+     *
+     * @param factorDeCarga el factor de carga del mapa.
+     */
+    TablaHashMap(float factorDeCarga) {
+        this.mapa = new HashMap<>(CAPACIDAD_INICIAL, factorDeCarga);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return mapa.put(verificar(key), value);
+    }
+
+    @Override
+    public boolean remove(K key) {
+        // Una sola búsqueda, aunque el valor asociado sea null.
+        return mapa.keySet().remove(verificar(key));
+    }
+
+    @Override
+    public V get(K key) {
+        return mapa.get(verificar(key));
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return mapa.containsKey(verificar(key));
+    }
+
+    @Override
+    public int size() {
+        return mapa.size();
+    }
+
+    /**
+     * {@link HashMap} no expone la cantidad de baldes, así que se informa la
+     * cantidad de entradas.
+     *
+     * @return la cantidad de entradas.
+     */
+    @Override
+    public int capacidad() {
+        return mapa.size();
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> accion) {
+        mapa.forEach(accion);
+    }
+
+    /**
+     * Rechaza las claves nulas, como el resto de las tablas del paquete.
+     *
+     * @param key la clave.
+     * @param <K> el tipo de la clave.
+     * @return la misma clave.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    private static <K> K verificar(K key) {
+        if (Objects.isNull(key)) {
+            throw new LlaveNulaException("La clave no puede ser nula.");
+        }
+        return key;
+    }
+}
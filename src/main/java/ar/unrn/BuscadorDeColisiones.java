@@ -0,0 +1,393 @@
+package ar.unrn;
+
+import ar.unrn.diccionario.IntIntDiccionario;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntFunction;
+
+/**
+ * Busca colisiones de {@code hashCode()} entre los objetos que una fábrica crea
+ * para los IDs {@code 1..cantidad}, repartiendo el trabajo en un
+ * {@link ForkJoinPool}.
+ * <p>
+ * La búsqueda tiene tres fases, todas en paralelo:
+ * </p>
+ * <ol>
+ *   <li><b>Conteo:</b> el rango de IDs se divide en tramos; cada hilo crea los
+ *   objetos de sus tramos y cuenta cuántas veces aparece cada hash en sus
+ *   propios {@link IntIntDiccionario}, sin compartir nada con los demás hilos.
+ *   Cada hilo tiene una tabla por partición del espacio de hashes.</li>
+ *   <li><b>Fusión:</b> cada partición se fusiona por separado, sumando las
+ *   tablas de esa partición de todos los hilos, y se conservan solo los hashes
+ *   que aparecieron más de una vez.</li>
+ *   <li><b>Detalle:</b> se recorren otra vez los IDs y se guardan solo los
+ *   objetos cuyo hash está repetido, que son pocos.</li>
+ * </ol>
+ * <p>
+ * Ningún hilo espera a otro salvo entre fases, y ningún objeto sobrevive a la
+ * fase en que se creó salvo los que colisionan, así que el tiempo baja casi en
+ * proporción a la cantidad de núcleos. La memoria la ocupan las tablas de
+ * conteo: unos 11 bytes por hash distinto.
+ * </p>
+ *
+ * @param <T> el tipo de los objetos analizados.
+ */
+public final class BuscadorDeColisiones<T> {
+
+    /**
+     * Bits del hash mezclado que eligen la partición.
+     */
+    private static final int BITS_DE_PARTICION = 6;
+    /**
+     * Cantidad de particiones del espacio de hashes.
+     */
+    private static final int PARTICIONES = 1 << BITS_DE_PARTICION;
+    /**
+     * Desplazamiento que deja los bits de la partición.
+     */
+    private static final int DESPLAZAMIENTO = Integer.SIZE - BITS_DE_PARTICION;
+    /**
+     * Multiplicador de Fibonacci (2^32 / φ), que reparte los hashes entre las
+     * particiones aunque sus bits altos sean parecidos.
+     */
+    private static final int FIBONACCI = 0x9E3779B9;
+    /**
+     * Cantidad de IDs a partir de la cual un tramo se divide en dos.
+     */
+    private static final int UMBRAL = 1 << 14;
+
+    /**
+     * Crea el objeto de cada ID.
+     */
+    private final IntFunction<? extends T> fabrica;
+    /**
+     * Cantidad de objetos a analizar.
+     */
+    private final int cantidad;
+    /**
+     * Las tablas de conteo de cada hilo que participó. A diferencia de un
+     * {@link ThreadLocal}, no deja nada en los hilos del pool al terminar la
+     * búsqueda.
+     */
+    private final Map<Thread, IntIntDiccionario[]> tablasDeLosHilos =
+            new ConcurrentHashMap<>();
+    /**
+     * Los hashes repetidos de cada partición, con su cantidad de apariciones.
+     */
+    private final IntIntDiccionario[] repetidos = new IntIntDiccionario[PARTICIONES];
+    /**
+     * La cantidad de hashes distintos de cada partición.
+     */
+    private final long[] unicos = new long[PARTICIONES];
+
+    /**
+     * Construye un buscador para una búsqueda.
+     *
+     * @param cantidad la cantidad de objetos.
+     * @param fabrica  crea el objeto de cada ID.
+     */
+    private BuscadorDeColisiones(int cantidad, IntFunction<? extends T> fabrica) {
+        this.cantidad = cantidad;
+        this.fabrica = fabrica;
+    }
+
+    /**
+     * Busca las colisiones entre los objetos de los IDs {@code 1..cantidad} en
+     * el pool común de fork-join.
+     *
+     * @param cantidad la cantidad de objetos.
+     * @param fabrica  crea el objeto de cada ID; se invoca desde varios hilos a
+     *                 la vez y dos veces por ID.
+     * @param <T>      el tipo de los objetos.
+     * @return el resultado de la búsqueda.
+     * @throws IllegalArgumentException si la cantidad es negativa.
+     */
+    public static <T> Resultado<T> buscar(int cantidad,
+                                          IntFunction<? extends T> fabrica) {
+        return buscar(cantidad, fabrica, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Busca las colisiones entre los objetos de los IDs {@code 1..cantidad} en
+     * el pool indicado.
+     *
+     * @param cantidad la cantidad de objetos.
+     * @param fabrica  crea el objeto de cada ID; se invoca desde varios hilos a
+     *                 la vez y dos veces por ID.
+     * @param pool     el pool en el que se reparte el trabajo.
+     * @param <T>      el tipo de los objetos.
+     * @return el resultado de la búsqueda.
+     * @throws IllegalArgumentException si la cantidad es negativa.
+     */
+    public static <T> Resultado<T> buscar(int cantidad, IntFunction<? extends T> fabrica,
+                                          ForkJoinPool pool) {
+        if (cantidad < 0) {
+            throw new IllegalArgumentException(
+                    "La cantidad no puede ser negativa: " + cantidad);
+        }
+        Objects.requireNonNull(fabrica, "La fábrica no puede ser nula.");
+        Objects.requireNonNull(pool, "El pool no puede ser nulo.");
+        return new BuscadorDeColisiones<T>(cantidad, fabrica).ejecutar(pool);
+    }
+
+    /**
+     * Ejecuta las tres fases de la búsqueda.
+     *
+     * @param pool el pool en el que se reparte el trabajo.
+     * @return el resultado de la búsqueda.
+     */
+    private Resultado<T> ejecutar(ForkJoinPool pool) {
+        long fin = (long) cantidad + 1;
+        pool.invoke(new Conteo(1, fin));
+
+        List<ForkJoinTask<?>> fusiones = new ArrayList<>(PARTICIONES);
+        for (int particion = 0; particion < PARTICIONES; particion++) {
+            int actual = particion;
+            fusiones.add(pool.submit(() -> fusionar(actual)));
+        }
+        for (ForkJoinTask<?> fusion : fusiones) {
+            fusion.join();
+        }
+
+        Map<Integer, List<T>> grupos = new LinkedHashMap<>();
+        for (T objeto : pool.invoke(new Detalle(1, fin))) {
+            grupos.computeIfAbsent(objeto.hashCode(), hash -> new ArrayList<>())
+                    .add(objeto);
+        }
+        long hashesUnicos = 0;
+        for (long unicosDeLaParticion : unicos) {
+            hashesUnicos = hashesUnicos + unicosDeLaParticion;
+        }
+        return new Resultado<>(cantidad, hashesUnicos, grupos);
+    }
+
+    /**
+     * Crea las tablas de conteo de un hilo.
+     *
+     * @param hilo el hilo, que no se usa.
+     * @return una tabla vacía por partición.
+     */
+    private static IntIntDiccionario[] nuevasTablas(Thread hilo) {
+        IntIntDiccionario[] tablas = new IntIntDiccionario[PARTICIONES];
+        for (int i = 0; i < PARTICIONES; i++) {
+            tablas[i] = new IntIntDiccionario();
+        }
+        return tablas;
+    }
+
+    /**
+     * Suma las tablas de una partición de todos los hilos, las libera y se queda
+     * con los hashes repetidos.
+     *
+     * @param particion la partición a fusionar.
+     */
+    private void fusionar(int particion) {
+        IntIntDiccionario total = new IntIntDiccionario();
+        for (IntIntDiccionario[] tablas : tablasDeLosHilos.values()) {
+            tablas[particion].forEach(total::sumar);
+            tablas[particion] = null;
+        }
+        IntIntDiccionario repetidosDeLaParticion = new IntIntDiccionario();
+        total.forEach((hash, apariciones) -> {
+            if (apariciones > 1) {
+                repetidosDeLaParticion.put(hash, apariciones);
+            }
+        });
+        unicos[particion] = total.size();
+        repetidos[particion] = repetidosDeLaParticion;
+    }
+
+    /**
+     * Calcula la partición de un hash.
+     *
+     * @param hash el hash.
+     * @return un valor entre 0 y {@code PARTICIONES - 1}.
+     */
+    private static int particion(int hash) {
+        return (hash * FIBONACCI) >>> DESPLAZAMIENTO;
+    }
+
+    /**
+     * Fase de conteo sobre un tramo de IDs.
+     */
+    private final class Conteo extends RecursiveAction {
+
+        /**
+         * Versión de la forma serializada, que la tarea hereda sin usarla.
+         */
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * El primer ID del tramo.
+         */
+        private final long desde;
+        /**
+         * El ID siguiente al último del tramo.
+         */
+        private final long hasta;
+
+        /**
+         * Construye la tarea de un tramo.
+         *
+         * @param desde el primer ID.
+         * @param hasta el ID siguiente al último.
+         */
+        Conteo(long desde, long hasta) {
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde <= UMBRAL) {
+                IntIntDiccionario[] tablas = tablasDeLosHilos.computeIfAbsent(
+                        Thread.currentThread(), BuscadorDeColisiones::nuevasTablas);
+                for (long id = desde; id < hasta; id++) {
+                    int hash = fabrica.apply((int) id).hashCode();
+                    tablas[particion(hash)].sumar(hash, 1);
+                }
+            } else {
+                long medio = (desde + hasta) >>> 1;
+                invokeAll(new Conteo(desde, medio), new Conteo(medio, hasta));
+            }
+        }
+    }
+
+    /**
+     * Fase de detalle sobre un tramo de IDs: devuelve, en orden de ID, los
+     * objetos cuyo hash está repetido.
+     */
+    private final class Detalle extends RecursiveTask<List<T>> {
+
+        /**
+         * Versión de la forma serializada, que la tarea hereda sin usarla.
+         */
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * El primer ID del tramo.
+         */
+        private final long desde;
+        /**
+         * El ID siguiente al último del tramo.
+         */
+        private final long hasta;
+
+        /**
+         * Construye la tarea de un tramo.
+         *
+         * @param desde el primer ID.
+         * @param hasta el ID siguiente al último.
+         */
+        Detalle(long desde, long hasta) {
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected List<T> compute() {
+            List<T> encontrados;
+            if (hasta - desde <= UMBRAL) {
+                encontrados = new ArrayList<>();
+                for (long id = desde; id < hasta; id++) {
+                    T objeto = fabrica.apply((int) id);
+                    int hash = objeto.hashCode();
+                    if (repetidos[particion(hash)].containsKey(hash)) {
+                        encontrados.add(objeto);
+                    }
+                }
+            } else {
+                long medio = (desde + hasta) >>> 1;
+                Detalle derecha = new Detalle(medio, hasta);
+                derecha.fork();
+                encontrados = new Detalle(desde, medio).compute();
+                encontrados.addAll(derecha.join());
+            }
+            return encontrados;
+        }
+    }
+
+    /**
+     * Resultado de una búsqueda de colisiones.
+     *
+     * @param <T> el tipo de los objetos analizados.
+     */
+    public static final class Resultado<T> {
+
+        /**
+         * Cantidad de objetos analizados.
+         */
+        private final int objetos;
+        /**
+         * Cantidad de hashes distintos.
+         */
+        private final long hashesUnicos;
+        /**
+         * Los objetos de cada hash repetido.
+         */
+        private final Map<Integer, List<T>> grupos;
+
+        /**
+         * Construye un resultado.
+         *
+         * @param objetos      la cantidad de objetos analizados.
+         * @param hashesUnicos la cantidad de hashes distintos.
+         * @param grupos       los objetos de cada hash repetido.
+         */
+        Resultado(int objetos, long hashesUnicos, Map<Integer, List<T>> grupos) {
+            this.objetos = objetos;
+            this.hashesUnicos = hashesUnicos;
+            this.grupos = Collections.unmodifiableMap(grupos);
+        }
+
+        /**
+         * Devuelve la cantidad de objetos analizados.
+         *
+         * @return la cantidad de objetos.
+         */
+        public int objetos() {
+            return objetos;
+        }
+
+        /**
+         * Devuelve la cantidad de hashes distintos entre todos los objetos.
+         *
+         * @return la cantidad de hashes únicos.
+         */
+        public long hashesUnicos() {
+            return hashesUnicos;
+        }
+
+        /**
+         * Devuelve la cantidad de hashes compartidos por más de un objeto.
+         *
+         * @return la cantidad de colisiones.
+         */
+        public int colisiones() {
+            return grupos.size();
+        }
+
+        /**
+         * Devuelve los objetos de cada hash repetido, ordenados por el ID del
+         * primero de cada grupo y, dentro de cada grupo, por ID.
+         *
+         * @return un mapa no modificable de hash a objetos.
+         */
+        public Map<Integer, List<T>> grupos() {
+            return grupos;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package ar.unrn;
+
+import ar.unrn.diccionario.IntIntDiccionario;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * Busca colisiones de {@code hashCode()} entre los objetos que una fábrica crea
+ * para los IDs {@code 1..cantidad} con memoria acotada, sin guardar los objetos
+ * ni contar cada hash.
+ * <p>
+ * El espacio de 2^32 hashes se divide en {@code 2^bitsDePasada} particiones
+ * según sus bits altos, y los IDs se recorren una vez por partición. En cada
+ * pasada, un mapa de bits de {@code 2^(32 - bitsDePasada)} bits marca los
+ * hashes de la partición ya vistos; un hash que aparece marcado es una
+ * colisión y se anota aparte. En la pasada siguiente, mientras se marca la
+ * partición que sigue, se guardan solo los objetos cuyo hash quedó anotado en
+ * la anterior, y cada grupo se entrega a quien llamó en cuanto se completa.
+ * Así, con {@code n} pasadas se recorren los IDs {@code n + 1} veces.
+ * </p>
+ * <p>
+ * La memoria es la del mapa de bits (512 MB con {@code bitsDePasada = 0},
+ * 64 MB con el valor por defecto) más los objetos que colisionan en una
+ * partición, y no depende de la cantidad de objetos analizados.
+ * </p>
+ */
+public final class BuscadorDeColisionesEnFlujo {
+
+    /**
+     * Bits de partición por defecto: 8 pasadas con un mapa de bits de 64 MB.
+     */
+    public static final int BITS_POR_DEFECTO = 3;
+    /**
+     * Cantidad máxima de bits de partición.
+     */
+    public static final int BITS_MAXIMOS = 16;
+    /**
+     * Logaritmo en base 2 de la cantidad de bits de un {@code long}.
+     */
+    private static final int BITS_DEL_INDICE_DE_BIT = 6;
+
+    /**
+     * Clase de utilidad, no se instancia.
+     */
+    private BuscadorDeColisionesEnFlujo() {
+    }
+
+    /**
+     * Busca las colisiones entre los objetos de los IDs {@code 1..cantidad},
+     * entregando cada grupo de objetos con el mismo hash en cuanto se completa.
+     * <p>
+     * Los grupos se entregan ordenados por partición y, dentro de cada
+     * partición, por el ID del primer objeto; los objetos de cada grupo, por ID.
+     * </p>
+     *
+     * @param cantidad     la cantidad de objetos.
+     * @param fabrica      crea el objeto de cada ID; se invoca una vez por ID en
+     *                     cada pasada, así que debe crear siempre objetos con el
+     *                     mismo hash para el mismo ID.
+     * @param bitsDePasada los bits altos del hash que eligen la partición, entre
+     *                     0 y {@link #BITS_MAXIMOS}; cada bit más divide por dos
+     *                     la memoria y duplica las pasadas.
+     * @param accion       recibe el hash y los objetos de cada colisión.
+     * @param <T>          el tipo de los objetos.
+     * @return el resumen de la búsqueda.
+     * @throws IllegalArgumentException si la cantidad es negativa o los bits
+     *                                  están fuera de rango.
+     */
+    public static <T> Resumen buscar(int cantidad, IntFunction<? extends T> fabrica,
+                                     int bitsDePasada,
+                                     BiConsumer<Integer, List<T>> accion) {
+        if (cantidad < 0) {
+            throw new IllegalArgumentException(
+                    "La cantidad no puede ser negativa: " + cantidad);
+        }
+        if (bitsDePasada < 0 || bitsDePasada > BITS_MAXIMOS) {
+            throw new IllegalArgumentException("Los bits de pasada deben estar entre 0 y "
+                    + BITS_MAXIMOS + ": " + bitsDePasada);
+        }
+        Objects.requireNonNull(fabrica, "La fábrica no puede ser nula.");
+        Objects.requireNonNull(accion, "La acción no puede ser nula.");
+
+        int pasadas = 1 << bitsDePasada;
+        int desplazamiento = Integer.SIZE - bitsDePasada;
+        long mascara = (1L << desplazamiento) - 1;
+        long[] vistos = new long[(int) ((mascara >>> BITS_DEL_INDICE_DE_BIT) + 1)];
+        IntIntDiccionario repetidos = new IntIntDiccionario();
+        IntIntDiccionario anteriores = new IntIntDiccionario();
+        long hashesUnicos = 0;
+        long colisiones = 0;
+        long objetosEnColision = 0;
+
+        // La última vuelta solo hace falta si la última partición tuvo colisiones.
+        for (int pasada = 0; pasada < pasadas || !anteriores.isEmpty(); pasada++) {
+            Map<Integer, List<T>> grupos = new LinkedHashMap<>();
+            for (long id = 1; id <= cantidad; id++) {
+                T objeto = fabrica.apply((int) id);
+                int hash = objeto.hashCode();
+                long sinSigno = Integer.toUnsignedLong(hash);
+                long particion = sinSigno >>> desplazamiento;
+                if (particion == pasada) {
+                    long indice = sinSigno & mascara;
+                    int palabra = (int) (indice >>> BITS_DEL_INDICE_DE_BIT);
+                    long bit = 1L << indice;
+                    if ((vistos[palabra] & bit) == 0) {
+                        vistos[palabra] = vistos[palabra] | bit;
+                        hashesUnicos++;
+                    } else {
+                        repetidos.put(hash, 1);
+                    }
+                } else if (particion == pasada - 1 && anteriores.containsKey(hash)) {
+                    grupos.computeIfAbsent(hash, h -> new ArrayList<>()).add(objeto);
+                }
+            }
+            for (Map.Entry<Integer, List<T>> grupo : grupos.entrySet()) {
+                colisiones++;
+                objetosEnColision = objetosEnColision + grupo.getValue().size();
+                accion.accept(grupo.getKey(), grupo.getValue());
+            }
+            anteriores = repetidos;
+            repetidos = new IntIntDiccionario();
+            Arrays.fill(vistos, 0L);
+        }
+        return new Resumen(cantidad, hashesUnicos, colisiones, objetosEnColision);
+    }
+
+    /**
+     * Resumen de una búsqueda en flujo; los grupos ya se entregaron.
+     */
+    public static final class Resumen {
+
+        /**
+         * Cantidad de objetos analizados.
+         */
+        private final int objetos;
+        /**
+         * Cantidad de hashes distintos.
+         */
+        private final long hashesUnicos;
+        /**
+         * Cantidad de hashes compartidos por más de un objeto.
+         */
+        private final long colisiones;
+        /**
+         * Cantidad de objetos cuyo hash comparte otro objeto.
+         */
+        private final long objetosEnColision;
+
+        /**
+         * Construye un resumen.
+         *
+         * @param objetos           la cantidad de objetos analizados.
+         * @param hashesUnicos      la cantidad de hashes distintos.
+         * @param colisiones        la cantidad de hashes repetidos.
+         * @param objetosEnColision la cantidad de objetos con hash repetido.
+         */
+        Resumen(int objetos, long hashesUnicos, long colisiones, long objetosEnColision) {
+            this.objetos = objetos;
+            this.hashesUnicos = hashesUnicos;
+            this.colisiones = colisiones;
+            this.objetosEnColision = objetosEnColision;
+        }
+
+        /**
+         * Devuelve la cantidad de objetos analizados.
+         *
+         * @return la cantidad de objetos.
+         */
+        public int objetos() {
+            return objetos;
+        }
+
+        /**
+         * Devuelve la cantidad de hashes distintos entre todos los objetos.
+         *
+         * @return la cantidad de hashes únicos.
+         */
+        public long hashesUnicos() {
+            return hashesUnicos;
+        }
+
+        /**
+         * Devuelve la cantidad de hashes compartidos por más de un objeto.
+         *
+         * @return la cantidad de colisiones.
+         */
+        public long colisiones() {
+            return colisiones;
+        }
+
+        /**
+         * Devuelve la cantidad de objetos cuyo hash comparte otro objeto, que
+         * es la cantidad de objetos entregados.
+         *
+         * @return la cantidad de objetos en colisión.
+         */
+        public long objetosEnColision() {
+            return objetosEnColision;
+        }
+    }
+}
@@ -8,12 +8,44 @@ import java.util.Map;
 public class ColisionApp {
     private static final int NUM_OBJETOS_A_GENERAR = 500_000;
 
+    /**
+     * Busca colisiones de {@code hashCode} entre objetos {@link ObjetoSimple}.
+     * <p>
+     * El primer argumento elige el modo: {@code secuencial} (por defecto) genera
+     * los objetos uno por uno y los agrupa en un {@link HashMap};
+     * {@code paralelo} reparte los IDs entre los núcleos con
+     * {@link BuscadorDeColisiones}; {@code flujo} usa
+     * {@link BuscadorDeColisionesEnFlujo}, con memoria acotada, y acepta como
+     * tercer argumento los bits de partición. El segundo argumento, opcional,
+     * es la cantidad de objetos.
+     * </p>
+     *
+     * @param args el modo, la cantidad de objetos y los bits de partición,
+     *             todos opcionales.
+     */
     public static void main(String[] args) {
-        System.out.println("Iniciando búsqueda de colisiones de hashCode para " + NUM_OBJETOS_A_GENERAR + " objetos...");
+        String modo = args.length > 0 ? args[0] : "secuencial";
+        int cantidad = args.length > 1
+                ? Integer.parseInt(args[1]) : NUM_OBJETOS_A_GENERAR;
+        System.out.println("Iniciando búsqueda " + modo
+                + " de colisiones de hashCode para " + cantidad + " objetos...");
 
+        long inicio = System.nanoTime();
+        switch (modo) {
+            case "secuencial" -> secuencial(cantidad);
+            case "paralelo" -> paralelo(cantidad);
+            case "flujo" -> enFlujo(cantidad, args.length > 2 ? Integer.parseInt(args[2])
+                    : BuscadorDeColisionesEnFlujo.BITS_POR_DEFECTO);
+            default -> throw new IllegalArgumentException("Modo desconocido: " + modo
+                    + " (se espera secuencial, paralelo o flujo)");
+        }
+        System.out.println("Tiempo: " + (System.nanoTime() - inicio) / 1_000_000 + " ms");
+    }
+
+    private static void secuencial(int cantidad) {
         Map<Integer, List<ObjetoSimple>> objetosPorHashCode = new HashMap<>();
 
-        for (int i = 0; i < NUM_OBJETOS_A_GENERAR; i++) {
+        for (int i = 0; i < cantidad; i++) {
             ObjetoSimple obj = ObjetoSimple.crearSiguiente();
             int hashCode = obj.hashCode();
 
@@ -26,29 +58,56 @@ public class ColisionApp {
         }
 
         System.out.println("\nGeneración y agrupación completada.");
-        System.out.println("Número total de objetos generados: " + NUM_OBJETOS_A_GENERAR);
+        System.out.println("Número total de objetos generados: " + cantidad);
         System.out.println("Número de hashCodes únicos encontrados: " + objetosPorHashCode.size());
 
-        int colisionesEncontradas = 0;
+        Map<Integer, List<ObjetoSimple>> colisiones = new HashMap<>();
+        for (Map.Entry<Integer, List<ObjetoSimple>> entry : objetosPorHashCode.entrySet()) {
+            if (entry.getValue().size() > 1) {
+                colisiones.put(entry.getKey(), entry.getValue());
+            }
+        }
+        reportar(cantidad, colisiones);
+    }
+
+    private static void paralelo(int cantidad) {
+        BuscadorDeColisiones.Resultado<ObjetoSimple> resultado =
+                BuscadorDeColisiones.buscar(cantidad, ObjetoSimple::conId);
+
+        System.out.println("\nGeneración y agrupación completada.");
+        System.out.println("Número total de objetos generados: " + resultado.objetos());
+        System.out.println("Número de hashCodes únicos encontrados: " + resultado.hashesUnicos());
+        reportar(cantidad, resultado.grupos());
+    }
+
+    private static void enFlujo(int cantidad, int bitsDePasada) {
         System.out.println("\n--- Colisiones Encontradas (hashCodes con más de un objeto) ---");
+        BuscadorDeColisionesEnFlujo.Resumen resumen = BuscadorDeColisionesEnFlujo.buscar(
+                cantidad, ObjetoSimple::conId, bitsDePasada, ColisionApp::imprimirGrupo);
 
-        for (Map.Entry<Integer, List<ObjetoSimple>> entry : objetosPorHashCode.entrySet()) {
-            List<ObjetoSimple> listaObjetos = entry.getValue();
+        System.out.println("\nResumen:");
+        System.out.println("Total de objetos generados: " + resumen.objetos());
+        System.out.println("Número de hashCodes únicos encontrados: " + resumen.hashesUnicos());
+        System.out.println("Total de colisiones de hashCode encontradas: " + resumen.colisiones());
+    }
 
-            if (listaObjetos.size() > 1) {
-                colisionesEncontradas++;
-                Integer hashCode = entry.getKey();
+    private static void reportar(int cantidad, Map<Integer, List<ObjetoSimple>> colisiones) {
+        System.out.println("\n--- Colisiones Encontradas (hashCodes con más de un objeto) ---");
 
-                System.out.println("HashCode: " + hashCode + " (Número de objetos: " + listaObjetos.size() + ")");
-                for (ObjetoSimple obj : listaObjetos) {
-                    System.out.println("  - " + obj);
-                }
-                System.out.println("---");
-            }
+        for (Map.Entry<Integer, List<ObjetoSimple>> entry : colisiones.entrySet()) {
+            imprimirGrupo(entry.getKey(), entry.getValue());
         }
 
         System.out.println("\nResumen:");
-        System.out.println("Total de objetos generados: " + NUM_OBJETOS_A_GENERAR);
-        System.out.println("Total de colisiones de hashCode encontradas: " + colisionesEncontradas);
+        System.out.println("Total de objetos generados: " + cantidad);
+        System.out.println("Total de colisiones de hashCode encontradas: " + colisiones.size());
+    }
+
+    private static void imprimirGrupo(Integer hashCode, List<ObjetoSimple> listaObjetos) {
+        System.out.println("HashCode: " + hashCode + " (Número de objetos: " + listaObjetos.size() + ")");
+        for (ObjetoSimple obj : listaObjetos) {
+            System.out.println("  - " + obj);
+        }
+        System.out.println("---");
     }
-}
\ No newline at end of file
+}
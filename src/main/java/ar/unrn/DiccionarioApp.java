@@ -20,15 +20,15 @@ public class DiccionarioApp {
         // Inserciones exitosas
         try {
             System.out.println("\nIntentando insertar 'manzana':");
-            if (diccionario.put("manzana", 10)) {
+            if (diccionario.put("manzana", 10) == null) {
                 System.out.println("  'manzana' insertada correctamente.");
             }
             System.out.println("Intentando insertar 'banana':");
-            if (diccionario.put("banana", 20)) {
+            if (diccionario.put("banana", 20) == null) {
                 System.out.println("  'banana' insertada correctamente.");
             }
             System.out.println("Intentando insertar 'cereza':");
-            if (diccionario.put("cereza", 30)) {
+            if (diccionario.put("cereza", 30) == null) {
                 System.out.println("  'cereza' insertada correctamente.");
             }
         } catch (ColisionException | LlaveNulaException e) {
@@ -75,14 +75,14 @@ public class DiccionarioApp {
 
         System.out.println("\n--- Prueba de Colisiones ---");
         // Estas claves están diseñadas para colisionar si NUM_BUCKETS = 256
-        // "clave_colision_1".hashCode() = -2110849689 -> Math.floorMod(..., 256) = 103
-        // "otra_clave_muy_diferente_para_colision".hashCode() = 1300600423 -> Math.floorMod(..., 256) = 103
+        // Math.floorMod("clave_colision_1".hashCode(), 256) = 200
+        // Math.floorMod("otra_clave_colision_1308".hashCode(), 256) = 200
         String claveColision1 = "clave_colision_1";
-        String claveColision2 = "otra_clave_muy_diferente_para_colision";
+        String claveColision2 = "otra_clave_colision_1308";
 
         try {
             System.out.println("Intentando insertar '" + claveColision1 + "':");
-            if (diccionario.put(claveColision1, 100)) {
+            if (diccionario.put(claveColision1, 100) == null) {
                 System.out.println("  '" + claveColision1 + "' insertada correctamente.");
             }
         } catch (ColisionException e) {
@@ -105,15 +105,17 @@ public class DiccionarioApp {
         System.out.println("¿Contiene '" + claveColision2 + "'? " + diccionario.containsKey(claveColision2)); // false
         System.out.println("Tamaño final (después de intento de colisión): " + diccionario.size()); // Debería ser 4 (manzana, banana, cereza, claveColision1)
 
-        System.out.println("\n--- Prueba de re-inserción de la misma clave (debería colisionar) ---");
-        try {
-            System.out.println("Intentando re-insertar 'manzana' con un nuevo valor:");
-            diccionario.put("manzana", 101); // 'manzana' ya existe, el bucket está ocupado por ella misma
-            System.out.println("  'manzana' se re-insertó (inesperado bajo la política actual).");
-        } catch (ColisionException e) {
-            System.out.println("  Excepción de colisión capturada (esperado al re-insertar): " + e.getMessage());
+        System.out.println("\n--- Prueba de re-inserción de la misma clave (reemplaza el valor) ---");
+        System.out.println("Re-insertando 'manzana' con un nuevo valor, valor anterior: "
+                + diccionario.put("manzana", 101)); // 10
+        System.out.println("Valor de 'manzana' después de la re-inserción: " + diccionario.get("manzana")); // 101
+
+        System.out.println("\n--- Actualización en el lugar con merge ---");
+        for (String fruta : new String[]{"banana", "banana", "cereza"}) {
+            diccionario.merge(fruta, 1, Integer::sum);
         }
-        System.out.println("Valor de 'manzana' después del intento de re-inserción: " + diccionario.get("manzana")); // Debería seguir siendo 10
+        System.out.println("Valor de 'banana' después de sumarle 2: " + diccionario.get("banana")); // 22
+        System.out.println("Valor de 'cereza' después de sumarle 1: " + diccionario.get("cereza")); // 31
 
 
         System.out.println("\n--- Pruebas de Eliminación ---");
@@ -58,9 +58,25 @@ public class ObjetoSimple {
      */
     public static ObjetoSimple crearSiguiente() {
         int siguienteId = ++contador; // Incrementa primero, luego asigna
-        String nombreBase36 = Integer.toString(siguienteId, 36); // 0-9 y a-z
+        return conId(siguienteId);
+    }
+
+    /**
+     * Método fábrica estático que crea la instancia que {@link #crearSiguiente()}
+     * produce para el ID indicado, sin usar ni modificar el contador interno.
+     * <p>
+     * Como no comparte estado, puede invocarse desde varios hilos a la vez; así
+     * se reparte el espacio de IDs entre hilos sin generar los objetos en orden.
+     * </p>
+     *
+     * @param id El identificador del objeto.
+     * @return Una nueva instancia de {@code ObjetoSimple} con ese {@code id} y
+     *         su representación en base 36 como nombre.
+     */
+    public static ObjetoSimple conId(int id) {
+        String nombreBase36 = Integer.toString(id, 36); // 0-9 y a-z
         String nombreGenerado = nombreBase36.toUpperCase(); // 0-9 y A-Z
-        return new ObjetoSimple(siguienteId, nombreGenerado);
+        return new ObjetoSimple(id, nombreGenerado);
     }
 
     /**
@@ -0,0 +1,67 @@
+package ar.unrn.diccionario;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Convierte claves o valores de un tipo a bytes y de vuelta, para guardar un
+ * diccionario con {@link Instantanea}.
+ * <p>
+ * Un codec escribe cada elemento de forma que {@link #leer(DataInput)} sepa
+ * dónde termina sin información adicional: los tipos de tamaño fijo escriben
+ * siempre la misma cantidad de bytes y los de tamaño variable anteponen su
+ * longitud. Nunca recibe {@code null}; {@link Instantanea} se ocupa de los
+ * valores nulos.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos.
+ */
+public interface Codec<T> {
+
+    /**
+     * Escribe un elemento.
+     *
+     * @param salida   dónde escribir.
+     * @param elemento el elemento; nunca {@code null}.
+     * @throws IOException si falla la escritura.
+     */
+    void escribir(DataOutput salida, T elemento) throws IOException;
+
+    /**
+     * Lee un elemento escrito con {@link #escribir(DataOutput, Object)}.
+     *
+     * @param entrada de dónde leer.
+     * @return el elemento leído.
+     * @throws IOException si falla la lectura o los datos terminan antes de
+     *                     tiempo.
+     */
+    T leer(DataInput entrada) throws IOException;
+
+    /**
+     * Codec de {@link Integer}, en 4 bytes.
+     *
+     * @return el codec.
+     */
+    static Codec<Integer> enteros() {
+        return Codecs.ENTEROS;
+    }
+
+    /**
+     * Codec de {@link Long}, en 8 bytes.
+     *
+     * @return el codec.
+     */
+    static Codec<Long> largos() {
+        return Codecs.LARGOS;
+    }
+
+    /**
+     * Codec de {@link String}, en UTF-8 precedido por su longitud en bytes.
+     *
+     * @return el codec.
+     */
+    static Codec<String> textos() {
+        return Codecs.TEXTOS;
+    }
+}
@@ -0,0 +1,73 @@
+package ar.unrn.diccionario;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Codecs predefinidos, expuestos mediante {@link Codec#enteros()},
+ * {@link Codec#largos()} y {@link Codec#textos()}.
+ */
+final class Codecs {
+
+    /**
+     * Codec de {@link Integer}.
+     */
+    static final Codec<Integer> ENTEROS = new Codec<>() {
+        @Override
+        public void escribir(DataOutput salida, Integer elemento) throws IOException {
+            salida.writeInt(elemento);
+        }
+
+        @Override
+        public Integer leer(DataInput entrada) throws IOException {
+            return entrada.readInt();
+        }
+    };
+
+    /**
+     * Codec de {@link Long}.
+     */
+    static final Codec<Long> LARGOS = new Codec<>() {
+        @Override
+        public void escribir(DataOutput salida, Long elemento) throws IOException {
+            salida.writeLong(elemento);
+        }
+
+        @Override
+        public Long leer(DataInput entrada) throws IOException {
+            return entrada.readLong();
+        }
+    };
+
+    /**
+     * Codec de {@link String}. No usa {@link DataOutput#writeUTF(String)}
+     * porque limita los textos a 64 KiB.
+     */
+    static final Codec<String> TEXTOS = new Codec<>() {
+        @Override
+        public void escribir(DataOutput salida, String elemento) throws IOException {
+            byte[] bytes = elemento.getBytes(StandardCharsets.UTF_8);
+            salida.writeInt(bytes.length);
+            salida.write(bytes);
+        }
+
+        @Override
+        public String leer(DataInput entrada) throws IOException {
+            int longitud = entrada.readInt();
+            if (longitud < 0) {
+                throw new IOException("Longitud de texto inválida: " + longitud);
+            }
+            byte[] bytes = new byte[longitud];
+            entrada.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    /**
+     * Clase de utilidad, no se instancia.
+     */
+    private Codecs() {
+    }
+}
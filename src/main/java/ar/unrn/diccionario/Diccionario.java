@@ -4,22 +4,44 @@ import ar.unrn.diccionario.excepciones.ColisionException;
 import ar.unrn.diccionario.excepciones.LlaveNulaException;
 
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
- * Implementación de un diccionario simple (o mapa hash) con un número fijo de
+ * Implementación de un diccionario simple (o mapa hash) basado en un arreglo de
  * "baldes" (buckets).
  * <p>
  * Este diccionario utiliza una estrategia de direccionamiento directo basada en el
- * {@code hashCode} de la clave. Las colisiones se manejan de una manera muy
- * simple: si un balde calculado para una nueva clave ya está ocupado por otra
- * entrada, la nueva inserción es rechazada. No implementa encadenamiento ni
- * sondeo lineal/cuadrático para resolver colisiones más allá de esta política
- * de rechazo.
+ * {@code hashCode} de la clave. La forma de manejar las colisiones depende de la
+ * {@link PoliticaColision} elegida:
+ * </p>
+ * <ul>
+ *   <li>{@link PoliticaColision#RECHAZO} (por defecto): si un balde calculado para
+ *       una nueva clave ya está ocupado por otra clave, la nueva inserción es
+ *       rechazada.</li>
+ *   <li>{@link PoliticaColision#ENCADENAMIENTO}: cada balde guarda una lista
+ *       enlazada de entradas. Cuando una lista supera {@code UMBRAL_ARBOL}
+ *       elementos se convierte en un árbol balanceado, de forma similar a
+ *       {@link java.util.HashMap}, para que las búsquedas en baldes muy cargados
+ *       sean logarítmicas en lugar de lineales.</li>
+ * </ul>
+ * <p>
+ * Por defecto la cantidad de baldes es fija ({@code NUM_BUCKETS}). Los
+ * constructores que reciben una capacidad inicial crean un diccionario
+ * <em>redimensionable</em>: cuando la cantidad de elementos supera
+ * {@code capacidad * factorDeCarga}, el arreglo de baldes duplica su tamaño y
+ * las entradas se redistribuyen, de forma que las inserciones tienen un costo
+ * amortizado constante.
  * </p>
  * <p>
  * Las claves utilizadas en este diccionario deben tener implementaciones
- * consistentes de {@code equals()} y {@code hashCode()}. Se recomienda que las
+ * consistentes de {@code equals()} y {@code hashCode()}, salvo que se indique
+ * una {@link EstrategiaHash} que los reemplace. Se recomienda que las
  * claves sean inmutables para evitar comportamientos inesperados si su estado
  * cambia después de ser insertadas.
  * </p>
@@ -31,41 +53,236 @@ import java.util.Objects;
  * @param <K> el tipo de las claves mantenidas por este diccionario.
  * @param <V> el tipo de los valores mapeados.
  */
-public class Diccionario<K, V> {
+public class Diccionario<K, V> implements TablaHash<K, V> {
 
     /**
-     * Número fijo de baldes (buckets) del diccionario.
-     * Elegido como 256 (2^8) para permitir potencialmente el uso de operaciones
-     * de bit (bitwise) si se cambiara la estrategia de cálculo de índice, aunque
-     * actualmente se usa {@link Math#floorMod(int, int)}.
+     * Número de baldes (buckets) del diccionario de tamaño fijo.
+     * Elegido como 256 (2^8) para permitir el uso de operaciones de bit
+     * (bitwise) en el cálculo del índice; ver {@link FuncionIndice}.
      */
     private static final int NUM_BUCKETS = 256; // 2^8 buckets
+    /**
+     * Factor de carga utilizado cuando no se indica uno explícitamente.
+     * Es el mismo valor que usa {@link java.util.HashMap}.
+     */
+    private static final float FACTOR_DE_CARGA_POR_DEFECTO = 0.75f;
+    /**
+     * Largo de la lista de un balde a partir del cual se convierte en árbol
+     * (solo con {@link PoliticaColision#ENCADENAMIENTO}).
+     */
+    private static final int UMBRAL_ARBOL = 8;
+    /**
+     * Tamaño de un árbol a partir del cual vuelve a ser una lista enlazada
+     * al eliminar entradas. Es menor que {@code UMBRAL_ARBOL} para evitar
+     * conversiones continuas cuando el balde oscila alrededor del umbral.
+     */
+    private static final int UMBRAL_LISTA = 6;
     /**
      * El array de baldes que almacena las entradas del diccionario.
      * Cada elemento del array puede contener una instancia de {@link Balde} o ser
      * {@code null} si el balde está vacío.
+     * Su longitud es siempre una potencia de dos.
+     */
+    private Balde<K, V>[] buckets;
+    /**
+     * Proporción de baldes ocupados a partir de la cual el diccionario crece.
+     */
+    private final float factorDeCarga;
+    /**
+     * Indica si el arreglo de baldes crece al superar el factor de carga o si
+     * mantiene su tamaño inicial.
+     */
+    private final boolean redimensionable;
+    /**
+     * Cómo se resuelven las inserciones en un balde ocupado.
      */
-    private final Balde<K, V>[] buckets;
+    private final PoliticaColision politica;
+    /**
+     * Cómo se transforma el hash de una clave en el índice de su balde.
+     */
+    private final FuncionIndice funcionIndice;
+    /**
+     * Cómo se calcula el hash de las claves y cómo se comparan entre sí.
+     */
+    private final EstrategiaHash<? super K> estrategia;
+    /**
+     * Cantidad de asociaciones clave-valor almacenadas.
+     */
+    private int cantidad;
+    /**
+     * Cantidad de elementos a partir de la cual se duplica el arreglo de baldes
+     * ({@code capacidad * factorDeCarga}).
+     */
+    private int umbral;
+    /**
+     * Contadores de consultas e inserciones rechazadas, o {@code null} si las
+     * estadísticas están desactivadas. Las operaciones solo pagan la
+     * comparación con {@code null}. Es {@code volatile} porque el monitor JMX
+     * lo reemplaza y lo lee desde otros hilos.
+     */
+    private volatile Contadores contadores;
 
     /**
      * Construye un nuevo diccionario vacío con un número predeterminado de baldes.
      * <p>
+     * El diccionario resultante es de tamaño fijo: nunca cambia su cantidad de
+     * baldes.
+     * </p>
+     */
+    public Diccionario() {
+        this(NUM_BUCKETS, FACTOR_DE_CARGA_POR_DEFECTO, false, PoliticaColision.RECHAZO,
+                FuncionIndice.MASCARA, EstrategiaHash.natural());
+    }
+
+    /**
+     * Construye un nuevo diccionario redimensionable vacío, con la capacidad
+     * inicial indicada y el factor de carga por defecto (0,75).
+     *
+     * @param capacidadInicial la cantidad de baldes con la que comienza el
+     *                         diccionario. Se redondea a la siguiente potencia
+     *                         de dos.
+     * @throws IllegalArgumentException si la capacidad no es positiva.
+     */
+    public Diccionario(int capacidadInicial) {
+        this(capacidadInicial, FACTOR_DE_CARGA_POR_DEFECTO, true,
+                PoliticaColision.RECHAZO, FuncionIndice.MASCARA,
+                EstrategiaHash.natural());
+    }
+
+    /**
+     * Construye un nuevo diccionario redimensionable vacío, con la capacidad
+     * inicial y el factor de carga indicados.
+     *
+     * @param capacidadInicial la cantidad de baldes con la que comienza el
+     *                         diccionario. Se redondea a la siguiente potencia
+     *                         de dos.
+     * @param factorDeCarga    la proporción de ocupación a partir de la cual el
+     *                         arreglo de baldes duplica su tamaño.
+     * @throws IllegalArgumentException si la capacidad o el factor de carga no
+     *                                  son positivos.
+     */
+    public Diccionario(int capacidadInicial, float factorDeCarga) {
+        this(capacidadInicial, factorDeCarga, true, PoliticaColision.RECHAZO,
+                FuncionIndice.MASCARA, EstrategiaHash.natural());
+    }
+
+    /**
+     * Construye un nuevo diccionario redimensionable vacío, con la capacidad
+     * inicial, el factor de carga y la política de colisiones indicados.
+     * <p>
+     * Con {@link PoliticaColision#ENCADENAMIENTO} el factor de carga puede ser
+     * mayor a 1, ya que cada balde admite varias entradas.
+     * </p>
+     *
+     * @param capacidadInicial la cantidad de baldes con la que comienza el
+     *                         diccionario. Se redondea a la siguiente potencia
+     *                         de dos.
+     * @param factorDeCarga    la proporción de ocupación a partir de la cual el
+     *                         arreglo de baldes duplica su tamaño.
+     * @param politica         cómo se resuelven las inserciones en un balde
+     *                         ocupado.
+     * @throws IllegalArgumentException si la capacidad o el factor de carga no
+     *                                  son positivos.
+     */
+    public Diccionario(int capacidadInicial, float factorDeCarga,
+                       PoliticaColision politica) {
+        this(capacidadInicial, factorDeCarga, true, politica, FuncionIndice.MASCARA,
+                EstrategiaHash.natural());
+    }
+
+    /**
+     * Construye un nuevo diccionario redimensionable vacío, con la capacidad
+     * inicial, el factor de carga, la política de colisiones y la función de
+     * índice indicados.
+     * <p>
+     * Las funciones que mezclan el hash ({@link FuncionIndice#DISPERSION},
+     * {@link FuncionIndice#MURMUR3}, {@link FuncionIndice#FIBONACCI}) evitan que
+     * claves con {@code hashCode()} mal distribuidos se agrupen en pocos baldes.
+     * </p>
+     *
+     * @param capacidadInicial la cantidad de baldes con la que comienza el
+     *                         diccionario. Se redondea a la siguiente potencia
+     *                         de dos.
+     * @param factorDeCarga    la proporción de ocupación a partir de la cual el
+     *                         arreglo de baldes duplica su tamaño.
+     * @param politica         cómo se resuelven las inserciones en un balde
+     *                         ocupado.
+     * @param funcionIndice    cómo se transforma el hash de una clave en el
+     *                         índice de su balde.
+     * @throws IllegalArgumentException si la capacidad o el factor de carga no
+     *                                  son positivos.
+     */
+    public Diccionario(int capacidadInicial, float factorDeCarga,
+                       PoliticaColision politica, FuncionIndice funcionIndice) {
+        this(capacidadInicial, factorDeCarga, true, politica, funcionIndice,
+                EstrategiaHash.natural());
+    }
+
+    /**
+     * Construye un nuevo diccionario redimensionable vacío que calcula el hash
+     * de las claves y las compara con la {@link EstrategiaHash} indicada, en
+     * lugar de usar sus métodos {@code hashCode()} y {@code equals()}.
+     *
+     * @param capacidadInicial la cantidad de baldes con la que comienza el
+     *                         diccionario. Se redondea a la siguiente potencia
+     *                         de dos.
+     * @param factorDeCarga    la proporción de ocupación a partir de la cual el
+     *                         arreglo de baldes duplica su tamaño.
+     * @param politica         cómo se resuelven las inserciones en un balde
+     *                         ocupado.
+     * @param funcionIndice    cómo se transforma el hash de una clave en el
+     *                         índice de su balde.
+     * @param estrategia       cómo se calcula el hash de las claves y cómo se
+     *                         comparan entre sí.
+     * @throws IllegalArgumentException si la capacidad o el factor de carga no
+     *                                  son positivos.
+     */
+    public Diccionario(int capacidadInicial, float factorDeCarga,
+                       PoliticaColision politica, FuncionIndice funcionIndice,
+                       EstrategiaHash<? super K> estrategia) {
+        this(capacidadInicial, factorDeCarga, true, politica, funcionIndice, estrategia);
+    }
+
+    /**
+     * Constructor común a todos los modos del diccionario.
+     * <p>
      * La creación del array de genéricos {@code Balde<K, V>[]} requiere un cast
      * desde {@code Balde[]} y suprime la advertencia "unchecked" debido a las
-     * limitaciones de Java con arrays de tipos genéricos.
+     * limitaciones de Java con arrays de tipos genéricos (ver
+     * {@link #nuevosBaldes(int)}).
      * </p>
+     *
+     * @param capacidadInicial la cantidad de baldes inicial.
+     * @param factorDeCarga    la proporción de ocupación que dispara el crecimiento.
+     * @param redimensionable  si el diccionario crece o mantiene su tamaño.
+     * @param politica         cómo se resuelven las inserciones en un balde ocupado.
+     * @param funcionIndice    cómo se calcula el índice del balde de una clave.
+     * @param estrategia       cómo se calcula el hash de las claves y cómo se
+     *                         comparan.
      */
-    @SuppressWarnings("unchecked")
-    public Diccionario() {
-        buckets = (Balde<K, V>[]) new Balde[NUM_BUCKETS];
+    private Diccionario(int capacidadInicial, float factorDeCarga,
+                        boolean redimensionable, PoliticaColision politica,
+                        FuncionIndice funcionIndice,
+                        EstrategiaHash<? super K> estrategia) {
+        Tablas.validar(capacidadInicial, factorDeCarga);
+        this.factorDeCarga = factorDeCarga;
+        this.redimensionable = redimensionable;
+        this.politica = Objects.requireNonNull(politica,
+                "La política no puede ser nula.");
+        this.funcionIndice = Objects.requireNonNull(funcionIndice,
+                "La función de índice no puede ser nula.");
+        this.estrategia = Objects.requireNonNull(estrategia,
+                "La estrategia no puede ser nula.");
+        this.buckets = nuevosBaldes(Tablas.potenciaDeDos(capacidadInicial));
+        this.umbral = Tablas.umbral(buckets.length, factorDeCarga);
     }
 
     /**
      * Calcula el índice del balde para una clave dada.
      * <p>
-     * Utiliza el {@code hashCode()} de la clave y aplica la operación de módulo
-     * matemático ({@link Math#floorMod(int, int)}) para asegurar que el índice
-     * resultante esté dentro del rango {@code [0, NUM_BUCKETS - 1]}.
+     * Utiliza el {@code hashCode()} de la clave y le aplica la
+     * {@link FuncionIndice} del diccionario para asegurar que el índice
+     * resultante esté dentro del rango {@code [0, capacidad - 1]}.
      * Este método maneja correctamente tanto hashCodes positivos como negativos.
      * </p>
      * Nota: debiera de ser privado, pero lo dejamos público para buscar
@@ -74,32 +291,52 @@ public class Diccionario<K, V> {
      * @param key la clave para la que se desea calcular el índice del balde.
      *            No puede ser {@code null}.
      * @return el índice del balde, un valor entero entre 0 (inclusivo) y
-     * {@code NUM_BUCKETS} (exclusivo).
+     * la capacidad actual (exclusivo).
      * @throws LlaveNulaException si la {@code key} proporcionada es {@code null}.
      */
     public int obtienePosicion(K key) {
-        if (key == null) {
-            throw new LlaveNulaException("La clave no puede ser nula.");
-        }
-        // El hashCode de la clave puede ser cualquier entero.
-        // Queremos mapearlo a un valor entre 0 y NUM_BUCKETS - 1.
-        // Math.floorMod(a, b) calcula el módulo de 'a' con respecto a 'b',
-        // y el resultado siempre tiene el mismo signo que el divisor 'b'.
-        // Dado que NUM_BUCKETS es positivo, el resultado estará en [0, NUM_BUCKETS - 1].
-        // Esto maneja correctamente tanto hashCodes positivos como negativos.
-        // https://docs.oracle.com/en/java/javase/21/docs/api/java.base/java/lang/Math.html#floorMod(int,int)
-        return Math.floorMod(key.hashCode(), NUM_BUCKETS);
+        return indice(hashDe(key), buckets.length);
+    }
+
+    /**
+     * Calcula el hash de una clave según la estrategia del diccionario.
+     *
+     * @param key la clave. No puede ser {@code null}.
+     * @return el código hash de la clave.
+     * @throws LlaveNulaException si la {@code key} proporcionada es {@code null}.
+     */
+    private int hashDe(K key) {
+        return Tablas.hashDe(key, estrategia);
+    }
+
+    /**
+     * Transforma un código hash en un índice de balde válido.
+     *
+     * @param hash      el código hash de la clave.
+     * @param capacidad la cantidad de baldes.
+     * @return un índice en {@code [0, capacidad - 1]}.
+     */
+    private int indice(int hash, int capacidad) {
+        return funcionIndice.indice(hash, capacidad);
     }
 
 
     /**
-     * Inserta una asociación de clave-valor en el diccionario.
+     * Asocia un valor a una clave en el diccionario.
+     * <p>
+     * Si el diccionario ya contiene una clave igual, su valor se reemplaza en el
+     * lugar y se devuelve el valor anterior; la búsqueda y el reemplazo comparten
+     * un único cálculo de {@code hashCode()}.
+     * </p>
+     * <p>
+     * Si la clave es nueva y el balde calculado está vacío, la entrada se almacena
+     * allí. Si el balde ya está ocupado por otra clave, con
+     * {@link PoliticaColision#RECHAZO} se lanza una {@link ColisionException} y
+     * con {@link PoliticaColision#ENCADENAMIENTO} la entrada se agrega al balde.
+     * </p>
      * <p>
-     * Si el balde calculado para la clave especificada ya está ocupado por otra
-     * entrada (independientemente de si la clave existente es la misma o diferente),
-     * se lanza una {@link ColisionException}.
-     * Si el balde está vacío, la nueva entrada se almacena y el método devuelve
-     * {@code true}.
+     * En un diccionario redimensionable, si luego de la inserción se supera el
+     * umbral dado por el factor de carga, el arreglo de baldes se duplica.
      * </p>
      *
      * @param key   la clave con la que se asociará el valor especificado.
@@ -107,24 +344,273 @@ public class Diccionario<K, V> {
      *              {@code equals()} no debe cambiar mientras esté en el diccionario.
      *              No puede ser {@code null}.
      * @param value el valor que se asociará con la clave especificada.
-     * @return {@code true} si la inserción fue exitosa (el balde estaba vacío).
+     * @return el valor que tenía la clave, o {@code null} si no estaba.
      * @throws LlaveNulaException si la {@code key} proporcionada es {@code null}.
-     * @throws ColisionException  si el balde calculado para la clave ya está ocupado.
+     * @throws ColisionException  si la clave es nueva y el balde calculado para
+     *                            ella ya está ocupado por otra clave (solo con
+     *                            {@link PoliticaColision#RECHAZO}).
      */
-    public boolean put(K key, V value) {
-        int index = obtienePosicion(key); // Puede lanzar LlaveNulaException
+    @Override
+    public V put(K key, V value) {
+        int hash = hashDe(key); // Puede lanzar LlaveNulaException
+        Balde<K, V> entry = buscar(hash, key);
+        V anterior = null;
+
+        if (entry == null) {
+            agregar(new Balde<>(hash, key, value));
+        } else {
+            // La clave ya está: se reemplaza el valor sin tocar la estructura.
+            anterior = entry.valor;
+            entry.valor = value;
+        }
+        return anterior;
+    }
+
+    /**
+     * Asocia un valor a una clave como {@link #put(Object, Object)}, pero
+     * informa una colisión con el resultado en lugar de lanzar una excepción.
+     * <p>
+     * Con {@link PoliticaColision#RECHAZO}, una clave nueva cuyo balde está
+     * ocupado por otra clave no se inserta y se devuelve
+     * {@link ResultadoInsercion#COLISION}, sin crear ningún objeto. Con
+     * {@link PoliticaColision#ENCADENAMIENTO} nunca hay colisiones.
+     * </p>
+     *
+     * @param key   la clave. No puede ser {@code null}.
+     * @param value el valor a asociar.
+     * @return si la entrada se agregó, reemplazó el valor de una clave existente
+     *         o fue rechazada por una colisión.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    public ResultadoInsercion tryPut(K key, V value) {
+        int hash = hashDe(key);
+        Balde<K, V> entry = buscar(hash, key);
+        ResultadoInsercion resultado = ResultadoInsercion.REEMPLAZADA;
+
+        if (entry != null) {
+            entry.valor = value;
+        } else if (politica == PoliticaColision.RECHAZO
+                && buckets[indice(hash, buckets.length)] != null) {
+            resultado = ResultadoInsercion.COLISION;
+            contarRechazo();
+        } else {
+            agregar(new Balde<>(hash, key, value));
+            resultado = ResultadoInsercion.AGREGADA;
+        }
+        return resultado;
+    }
+
+    /**
+     * Asocia un valor a una clave solo si la clave no está (o está asociada a
+     * {@code null}), buscándola una única vez.
+     *
+     * @param key   la clave. No puede ser {@code null}.
+     * @param value el valor a asociar.
+     * @return el valor que ya tenía la clave, o {@code null} si se asoció
+     * {@code value}.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     * @throws ColisionException  si la clave es nueva y su balde está ocupado por
+     *                            otra clave (solo con {@link PoliticaColision#RECHAZO}).
+     */
+    @Override
+    public V putIfAbsent(K key, V value) {
+        int hash = hashDe(key);
+        Balde<K, V> entry = buscar(hash, key);
+        V actual = null;
+
+        if (entry == null) {
+            agregar(new Balde<>(hash, key, value));
+        } else if (entry.valor == null) {
+            entry.valor = value;
+        } else {
+            actual = entry.valor;
+        }
+        return actual;
+    }
+
+    /**
+     * Si la clave no está (o está asociada a {@code null}), calcula su valor y
+     * lo asocia, buscándola una única vez.
+     * <p>
+     * La función no debe modificar el diccionario.
+     * </p>
+     *
+     * @param key     la clave. No puede ser {@code null}.
+     * @param funcion calcula el valor a partir de la clave.
+     * @return el valor asociado a la clave luego de la operación, o {@code null}
+     * si la función devolvió {@code null}.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     * @throws ColisionException  si la clave es nueva y su balde está ocupado por
+     *                            otra clave (solo con {@link PoliticaColision#RECHAZO}).
+     */
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> funcion) {
+        Objects.requireNonNull(funcion);
+        int hash = hashDe(key);
+        Balde<K, V> entry = buscar(hash, key);
+        V resultado = entry == null ? null : entry.valor;
+
+        if (resultado == null) {
+            resultado = funcion.apply(key);
+            if (resultado != null) {
+                asignar(entry, hash, key, resultado);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Calcula un nuevo valor para la clave a partir del actual, buscándola una
+     * única vez. Si el resultado es {@code null}, la clave se elimina.
+     * <p>
+     * La función no debe modificar el diccionario.
+     * </p>
+     *
+     * @param key     la clave. No puede ser {@code null}.
+     * @param funcion recibe la clave y su valor actual (o {@code null}), y
+     *                devuelve el nuevo valor.
+     * @return el nuevo valor, o {@code null} si la clave quedó sin asociar.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     * @throws ColisionException  si la clave es nueva y su balde está ocupado por
+     *                            otra clave (solo con {@link PoliticaColision#RECHAZO}).
+     */
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> funcion) {
+        Objects.requireNonNull(funcion);
+        int hash = hashDe(key);
+        Balde<K, V> entry = buscar(hash, key);
+        V resultado = funcion.apply(key, entry == null ? null : entry.valor);
+
+        if (resultado != null) {
+            asignar(entry, hash, key, resultado);
+        } else if (entry != null) {
+            quitar(hash, key);
+        }
+        return resultado;
+    }
+
+    /**
+     * Combina un valor con el que ya tiene la clave, buscándola una única vez.
+     * Si la clave no está (o está asociada a {@code null}) se le asocia
+     * {@code value}; si no, el resultado de la función, o se elimina si ese
+     * resultado es {@code null}.
+     *
+     * @param key     la clave. No puede ser {@code null}.
+     * @param value   el valor a asociar o combinar. No puede ser {@code null}.
+     * @param funcion combina el valor actual con {@code value}.
+     * @return el nuevo valor, o {@code null} si la clave quedó sin asociar.
+     * @throws LlaveNulaException   si la clave es {@code null}.
+     * @throws NullPointerException si {@code value} o la función son {@code null}.
+     * @throws ColisionException    si la clave es nueva y su balde está ocupado
+     *                              por otra clave (solo con
+     *                              {@link PoliticaColision#RECHAZO}).
+     */
+    @Override
+    public V merge(K key, V value,
+                   BiFunction<? super V, ? super V, ? extends V> funcion) {
+        Objects.requireNonNull(value);
+        Objects.requireNonNull(funcion);
+        int hash = hashDe(key);
+        Balde<K, V> entry = buscar(hash, key);
+        V actual = entry == null ? null : entry.valor;
+        V resultado = actual == null ? value : funcion.apply(actual, value);
+
+        if (resultado != null) {
+            asignar(entry, hash, key, resultado);
+        } else if (entry != null) {
+            quitar(hash, key);
+        }
+        return resultado;
+    }
+
+    /**
+     * Asigna un valor a una clave cuya entrada ya fue buscada: la reemplaza en
+     * el lugar si existe o agrega una entrada nueva si no.
+     *
+     * @param entry la entrada de la clave, o {@code null} si no está.
+     * @param hash  el hash de la clave.
+     * @param key   la clave.
+     * @param valor el valor a asignar.
+     */
+    private void asignar(Balde<K, V> entry, int hash, K key, V valor) {
+        if (entry == null) {
+            agregar(new Balde<>(hash, key, valor));
+        } else {
+            entry.valor = valor;
+        }
+    }
+
+    /**
+     * Agrega una entrada cuya clave no está en el diccionario.
+     * <p>
+     * El balde se calcula a partir del hash guardado en la entrada, sin volver a
+     * invocar {@code hashCode()}.
+     * </p>
+     *
+     * @param nuevo la entrada a agregar.
+     * @throws ColisionException si el balde está ocupado y la política es
+     *                           {@link PoliticaColision#RECHAZO}.
+     */
+    private void agregar(Balde<K, V> nuevo) {
+        int index = indice(nuevo.hash, buckets.length);
 
         if (buckets[index] == null) {
-            buckets[index] = new Balde<>(key, value);
-            return true; // Inserción exitosa
+            buckets[index] = nuevo;
+        } else if (politica == PoliticaColision.RECHAZO) {
+            // El bucket ya está ocupado por otra clave. Lanzar ColisionException.
+            contarRechazo();
+            throw colision(index, nuevo.llave, buckets[index].llave);
         } else {
-            // El bucket ya está ocupado. Lanzar ColisionException.
-            throw new ColisionException(
-                    "Colisión en el bucket " + index + " al intentar insertar la clave: " + key +
-                            ". El bucket ya está ocupado por la clave: " + buckets[index].llave);
+            encadenar(index, nuevo);
+        }
+        cantidad++;
+        if (redimensionable && cantidad > umbral) {
+            redimensionar();
         }
     }
 
+    /**
+     * Agrega una entrada nueva a un balde ocupado, ya sea al final de su lista
+     * o dentro de su árbol. La clave de la entrada no debe estar en el balde.
+     * <p>
+     * Si la lista supera {@code UMBRAL_ARBOL} entradas, se convierte en árbol.
+     * </p>
+     *
+     * @param index el balde en el que se agrega la entrada.
+     * @param nuevo la entrada a agregar.
+     */
+    private void encadenar(int index, Balde<K, V> nuevo) {
+        Balde<K, V> primero = buckets[index];
+        if (primero instanceof BaldeArbol<K, V> arbol) {
+            arbol.agregar(nuevo);
+        } else {
+            int largo = 1;
+            Balde<K, V> ultimo = primero;
+            while (ultimo.siguiente != null) {
+                ultimo = ultimo.siguiente;
+                largo++;
+            }
+            ultimo.siguiente = nuevo;
+            if (largo >= UMBRAL_ARBOL) {
+                buckets[index] = BaldeArbol.desde(primero, estrategia);
+            }
+        }
+    }
+
+    /**
+     * Construye la excepción que informa una inserción rechazada.
+     *
+     * @param index    el balde en el que se intentó insertar.
+     * @param llave    la clave que se intentó insertar.
+     * @param ocupante la clave que ya ocupaba el balde.
+     * @return la excepción lista para ser lanzada.
+     */
+    private static ColisionException colision(int index, Object llave, Object ocupante) {
+        // Sin traza y con el mensaje diferido: rechazar una clave no recorre la pila
+        // ni invoca toString() sobre las claves.
+        return new ColisionException(index, llave, ocupante);
+    }
+
 
     /**
      * Recupera el valor al que está mapeada la clave especificada, o {@code null}
@@ -147,23 +633,48 @@ public class Diccionario<K, V> {
      * no se encuentra en su balde correspondiente o el balde está vacío.
      * @throws LlaveNulaException si la {@code key} proporcionada es {@code null}.
      */
+    @Override
     public V get(K key) {
         V valorRecuperado = null;
-        int index = obtienePosicion(key);
-        Balde<K, V> entry = buckets[index];
+        Balde<K, V> entry = buscar(hashDe(key), key);
 
-        if (entry != null && entry.llave.equals(key)) {
+        if (entry != null) {
             // Importante: aunque el bucket esté ocupado, debemos asegurarnos de que
             // la clave sea la misma.
             // Esto es crucial para manejar el caso donde un hashCode diferente
             // (pero que mapea al mismo bucket) haya ocupado el espacio.
             valorRecuperado = entry.valor;
         }
+        Contadores actuales = contadores;
+        if (actuales != null) {
+            actuales.consulta(entry != null);
+        }
         // Si la clave no se encuentra o el bucket está ocupado por otra entrada,
         // valorRecuperado permanece null.
         return valorRecuperado;
     }
 
+    /**
+     * Busca la entrada correspondiente a una clave, recorriendo la lista o el
+     * árbol de su balde.
+     *
+     * @param hash el hash de la clave, ya calculado.
+     * @param key  la clave buscada.
+     * @return la entrada con una clave igual a {@code key}, o {@code null} si no
+     * existe.
+     */
+    private Balde<K, V> buscar(int hash, K key) {
+        Balde<K, V> entry = buckets[indice(hash, buckets.length)];
+        if (entry instanceof BaldeArbol<K, V> arbol) {
+            entry = arbol.buscar(hash, key);
+        } else {
+            while (entry != null && !entry.coincide(hash, key, estrategia)) {
+                entry = entry.siguiente;
+            }
+        }
+        return entry;
+    }
+
     /**
      * Elimina el mapeo para una clave de este diccionario si está presente.
      * <p>
@@ -180,14 +691,46 @@ public class Diccionario<K, V> {
      * correspondiente o el balde estaba vacío.
      * @throws LlaveNulaException si la {@code key} proporcionada es {@code null}.
      */
+    @Override
     public boolean remove(K key) {
+        return quitar(hashDe(key), key);
+    }
+
+    /**
+     * Quita la entrada de una clave de la lista o el árbol de su balde.
+     *
+     * @param hash el hash de la clave, ya calculado.
+     * @param key  la clave a quitar.
+     * @return {@code true} si la entrada existía y fue quitada.
+     */
+    private boolean quitar(int hash, K key) {
         boolean removidoConExito = false;
-        int index = obtienePosicion(key);
+        int index = indice(hash, buckets.length);
         Balde<K, V> entry = buckets[index];
 
-        if (entry != null && entry.llave.equals(key)) {
-            buckets[index] = null; // Eliminar la entrada
-            removidoConExito = true;
+        if (entry instanceof BaldeArbol<K, V> arbol) {
+            removidoConExito = arbol.quitar(hash, key);
+            if (arbol.tamanio <= UMBRAL_LISTA) {
+                buckets[index] = arbol.aLista();
+            }
+        } else {
+            Balde<K, V> anterior = null;
+            while (entry != null && !entry.coincide(hash, key, estrategia)) {
+                anterior = entry;
+                entry = entry.siguiente;
+            }
+            if (entry != null) {
+                // Eliminar la entrada, desenganchándola de la lista del balde
+                if (anterior == null) {
+                    buckets[index] = entry.siguiente;
+                } else {
+                    anterior.siguiente = entry.siguiente;
+                }
+                removidoConExito = true;
+            }
+        }
+        if (removidoConExito) {
+            cantidad--;
         }
         // Si la clave no se encuentra en este bucket o el bucket está vacío,
         // removidoConExito permanece false.
@@ -205,31 +748,46 @@ public class Diccionario<K, V> {
      * @throws LlaveNulaException si la {@code key} proporcionada es {@code null}
      *                            (lanzada indirectamente por {@code getBucketIndex}).
      */
+    @Override
     public boolean containsKey(K key) {
-        int index = obtienePosicion(key);
-        Balde<K, V> entry = buckets[index];
-        return entry != null && entry.llave.equals(key);
+        boolean encontrada = buscar(hashDe(key), key) != null;
+        Contadores actuales = contadores;
+        if (actuales != null) {
+            actuales.consulta(encontrada);
+        }
+        return encontrada;
     }
 
 
     /**
      * Devuelve el número de asociaciones clave-valor en este diccionario.
      * <p>
-     * Esto es equivalente al número de baldes que actualmente no son {@code null}
-     * (es decir, que contienen un {@link Balde}).
+     * La cantidad se mantiene en un contador que solo cambia cuando se agrega o
+     * se quita una entrada (no al reemplazar un valor ni ante una inserción
+     * rechazada), por lo que no hace falta recorrer los baldes: la operación es
+     * de tiempo constante sin importar la capacidad.
      * </p>
      *
      * @return el número de elementos (asociaciones clave-valor) en este
      * diccionario.
      */
+    @Override
     public int size() {
-        int baldes = 0;
-        for (Balde<K, V> entry : buckets) {
-            if (entry != null) {
-                baldes++;
-            }
-        }
-        return baldes;
+        return cantidad;
+    }
+
+    /**
+     * Devuelve la cantidad actual de baldes del diccionario.
+     * <p>
+     * En un diccionario de tamaño fijo es siempre {@code NUM_BUCKETS}; en uno
+     * redimensionable es una potencia de dos que se duplica a medida que crece.
+     * </p>
+     *
+     * @return la longitud del arreglo de baldes.
+     */
+    @Override
+    public int capacidad() {
+        return buckets.length;
     }
 
 
@@ -237,12 +795,340 @@ public class Diccionario<K, V> {
      * Comprueba si este diccionario no contiene ninguna asociación clave-valor.
      *
      * @return {@code true} si este diccionario está vacío (es decir, {@code size()}
-     * es 0), {@code false} en caso contrario.
+     * es 0), {@code false} en caso contrario. Es de tiempo constante.
      */
+    @Override
     public boolean isEmpty() {
         return size() == 0;
     }
 
+    /**
+     * Duplica la cantidad de baldes y redistribuye las entradas existentes.
+     * <p>
+     * Como la capacidad es siempre una potencia de dos, una entrada que estaba en
+     * el balde {@code i} pasa a uno de dos baldes del nuevo arreglo ({@code i} o
+     * {@code i + capacidadAnterior} con las funciones de máscara, {@code 2i} o
+     * {@code 2i + 1} con {@link FuncionIndice#FIBONACCI}). Dos entradas que
+     * ocupaban baldes distintos no pueden caer en el mismo balde nuevo, por lo
+     * que con {@link PoliticaColision#RECHAZO} la redistribución nunca produce
+     * colisiones. Con
+     * {@link PoliticaColision#ENCADENAMIENTO} las listas se reparten entre los dos
+     * baldes nuevos y las que sigan siendo largas se convierten en árbol.
+     * </p>
+     */
+    private void redimensionar() {
+        Balde<K, V>[] anteriores = buckets;
+        if (anteriores.length < Tablas.CAPACIDAD_MAXIMA) {
+            Balde<K, V>[] nuevos = nuevosBaldes(anteriores.length * 2);
+            for (Balde<K, V> entry : anteriores) {
+                if (entry instanceof BaldeArbol<K, V> arbol) {
+                    for (Balde<K, V> cabeza : arbol.arbol.values()) {
+                        reubicar(cabeza, nuevos);
+                    }
+                } else {
+                    reubicar(entry, nuevos);
+                }
+            }
+            if (politica == PoliticaColision.ENCADENAMIENTO) {
+                convertirListasLargas(nuevos);
+            }
+            buckets = nuevos;
+            umbral = Tablas.umbral(nuevos.length, factorDeCarga);
+        } else {
+            umbral = Integer.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Mueve todas las entradas de una lista a su balde en el nuevo arreglo.
+     * <p>
+     * Cada entrada se agrega al principio de la lista de su nuevo balde usando el
+     * hash que tiene guardado, por lo que no se vuelve a invocar
+     * {@code hashCode()} sobre las claves.
+     * </p>
+     *
+     * @param lista  la primera entrada de la lista a mover, o {@code null}.
+     * @param nuevos el arreglo de baldes de destino.
+     */
+    private void reubicar(Balde<K, V> lista, Balde<K, V>[] nuevos) {
+        Balde<K, V> entry = lista;
+        while (entry != null) {
+            Balde<K, V> siguiente = entry.siguiente;
+            int index = indice(entry.hash, nuevos.length);
+            entry.siguiente = nuevos[index];
+            nuevos[index] = entry;
+            entry = siguiente;
+        }
+    }
+
+    /**
+     * Convierte en árbol las listas que superan {@code UMBRAL_ARBOL} entradas.
+     *
+     * @param baldes el arreglo de baldes a revisar.
+     */
+    private void convertirListasLargas(Balde<K, V>[] baldes) {
+        for (int i = 0; i < baldes.length; i++) {
+            int largo = 0;
+            for (Balde<K, V> entry = baldes[i]; entry != null; entry = entry.siguiente) {
+                largo++;
+            }
+            if (largo > UMBRAL_ARBOL) {
+                baldes[i] = BaldeArbol.desde(baldes[i], estrategia);
+            }
+        }
+    }
+
+    /**
+     * Compara dos entradas para ordenarlas dentro de un {@link BaldeArbol}.
+     * <p>
+     * Primero se ordena por hash. A igual hash, las claves de clases distintas
+     * se ordenan por el nombre de la clase (y, si dos clases cargadas por
+     * distintos cargadores se llaman igual, por su hash de identidad), y las de
+     * una misma clase {@link Comparable}, por su orden natural. Así el orden es
+     * total y transitivo, como el de {@code HashMap.tieBreakOrder}: solo quedan
+     * empatadas, compartiendo un nodo del árbol, las claves de una misma clase
+     * que no son comparables o cuyo {@code compareTo} no distingue.
+     * </p>
+     * <p>
+     * Una entrada con clave {@code null}, que el diccionario nunca guarda, va
+     * antes que todas las de su hash; sirve como límite para recorrerlas.
+     * </p>
+     * <p>
+     * Solo se usa con la estrategia natural: con otra {@link EstrategiaHash}, el
+     * orden natural de las claves podría separar claves que la estrategia
+     * considera iguales, así que se ordena únicamente por hash
+     * ({@link #compararHashes(Balde, Balde)}).
+     * </p>
+     *
+     * @param primero una entrada.
+     * @param segundo otra entrada.
+     * @return un valor negativo, cero o positivo según el orden de las entradas.
+     */
+    @SuppressWarnings("unchecked")
+    private static int compararBaldes(Balde<?, ?> primero, Balde<?, ?> segundo) {
+        int resultado = Integer.compare(primero.hash, segundo.hash);
+        if (resultado == 0 && (primero.llave == null || segundo.llave == null)) {
+            resultado = Boolean.compare(primero.llave != null, segundo.llave != null);
+        } else if (resultado == 0) {
+            Class<?> clase = primero.llave.getClass();
+            Class<?> otraClase = segundo.llave.getClass();
+            if (clase != otraClase) {
+                resultado = clase.getName().compareTo(otraClase.getName());
+                if (resultado == 0) {
+                    resultado = Integer.compare(System.identityHashCode(clase),
+                            System.identityHashCode(otraClase));
+                }
+            } else if (primero.llave instanceof Comparable) {
+                resultado = ((Comparable<Object>) primero.llave).compareTo(segundo.llave);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Compara dos entradas solo por su hash, para ordenarlas dentro de un
+     * {@link BaldeArbol} cuando se usa una estrategia distinta de la natural.
+     *
+     * @param primero una entrada.
+     * @param segundo otra entrada.
+     * @return un valor negativo, cero o positivo según el orden de los hashes.
+     */
+    private static int compararHashes(Balde<?, ?> primero, Balde<?, ?> segundo) {
+        return Integer.compare(primero.hash, segundo.hash);
+    }
+
+    /**
+     * Crea un arreglo de baldes vacío.
+     *
+     * @param capacidad la longitud del arreglo.
+     * @param <K>       el tipo de las claves.
+     * @param <V>       el tipo de los valores.
+     * @return un arreglo de {@code capacidad} baldes vacíos.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K, V> Balde<K, V>[] nuevosBaldes(int capacidad) {
+        return (Balde<K, V>[]) new Balde<?, ?>[capacidad];
+    }
+
+    /**
+     * Recorre todas las asociaciones del diccionario, balde por balde.
+     *
+     * @param accion recibe cada clave y su valor.
+     * @throws NullPointerException si la acción es {@code null}.
+     */
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> accion) {
+        Objects.requireNonNull(accion);
+        for (Balde<K, V> entry : buckets) {
+            if (entry instanceof BaldeArbol<K, V> arbol) {
+                for (Balde<K, V> cabeza : arbol.arbol.values()) {
+                    recorrer(cabeza, accion);
+                }
+            } else {
+                recorrer(entry, accion);
+            }
+        }
+    }
+
+    /**
+     * Crea una copia inmutable del diccionario que conserva su
+     * {@link EstrategiaHash}.
+     *
+     * @return la copia inmutable.
+     */
+    @Override
+    public DiccionarioInmutable<K, V> congelar() {
+        return DiccionarioInmutable.copiaDe(this, estrategia);
+    }
+
+    /**
+     * Empieza a contar las consultas ({@code get} y {@code containsKey}) y las
+     * inserciones rechazadas por colisión, que informa
+     * {@link #estadisticas()}. Si ya se estaban contando, no tiene efecto.
+     * <p>
+     * Mientras están desactivadas, que es lo habitual, cada operación solo
+     * agrega una comparación con {@code null}.
+     * </p>
+     */
+    public void activarEstadisticas() {
+        if (contadores == null) {
+            contadores = new Contadores();
+        }
+    }
+
+    /**
+     * Deja de contar consultas e inserciones rechazadas y descarta los valores
+     * contados.
+     */
+    public void desactivarEstadisticas() {
+        contadores = null;
+    }
+
+    /**
+     * Vuelve a cero los contadores, si las estadísticas están activadas.
+     */
+    public void reiniciarEstadisticas() {
+        if (contadores != null) {
+            contadores = new Contadores();
+        }
+    }
+
+    /**
+     * Indica si se están contando consultas e inserciones rechazadas.
+     *
+     * @return {@code true} si las estadísticas están activadas.
+     */
+    public boolean estadisticasActivas() {
+        return contadores != null;
+    }
+
+    /**
+     * Toma una foto del estado del diccionario: cuántas entradas tiene cada
+     * balde, las colisiones, el largo de las listas y, si las estadísticas están
+     * activadas, los contadores de consultas y rechazos (si no, valen cero).
+     * <p>
+     * Recorre todos los baldes, así que su costo es proporcional a la
+     * capacidad; las demás operaciones no pagan nada por la parte estructural.
+     * </p>
+     *
+     * @return las estadísticas actuales.
+     */
+    public EstadisticasDiccionario estadisticas() {
+        Balde<K, V>[] baldes = buckets;
+        int[] entradas = new int[baldes.length];
+        long sondeos = 0;
+        for (int i = 0; i < baldes.length; i++) {
+            Balde<K, V> entry = baldes[i];
+            int largo = 0;
+            if (entry instanceof BaldeArbol<K, V> arbol) {
+                largo = arbol.tamanio;
+                // En un árbol, encontrar una clave recorre su altura.
+                sondeos = sondeos + (long) largo
+                        * (Integer.SIZE - Integer.numberOfLeadingZeros(largo));
+            } else {
+                while (entry != null) {
+                    largo++;
+                    sondeos = sondeos + largo;
+                    entry = entry.siguiente;
+                }
+            }
+            entradas[i] = largo;
+        }
+        Contadores actuales = contadores;
+        return actuales == null
+                ? new EstadisticasDiccionario(entradas, sondeos, 0, 0, 0)
+                : new EstadisticasDiccionario(entradas, sondeos,
+                        actuales.aciertos.getOpaque(), actuales.fallos.getOpaque(),
+                        actuales.rechazos.getOpaque());
+    }
+
+    /**
+     * Cuenta una inserción rechazada, si las estadísticas están activadas.
+     */
+    private void contarRechazo() {
+        Contadores actuales = contadores;
+        if (actuales != null) {
+            Contadores.incrementar(actuales.rechazos);
+        }
+    }
+
+    /**
+     * Agrega una entrada durante una carga en bloque, sin buscar si la clave ya
+     * está ni recorrer la lista del balde: la entrada se pone al principio de
+     * la lista. Quien llama garantiza que las claves no se repiten y termina la
+     * carga con {@link #terminarCarga()}, que hace crecer la tabla si hace falta
+     * y convierte en árbol las listas largas.
+     *
+     * @param key   la clave. No puede ser {@code null}.
+     * @param value el valor.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     * @throws ColisionException  si el balde está ocupado y la política es
+     *                            {@link PoliticaColision#RECHAZO}.
+     */
+    void cargarSinVerificar(K key, V value) {
+        int hash = hashDe(key);
+        int index = indice(hash, buckets.length);
+        Balde<K, V> primero = buckets[index];
+        Balde<K, V> nuevo = new Balde<>(hash, key, value);
+        if (primero == null) {
+            buckets[index] = nuevo;
+        } else if (politica == PoliticaColision.RECHAZO) {
+            contarRechazo();
+            throw colision(index, key, primero.llave);
+        } else if (primero instanceof BaldeArbol<K, V> arbol) {
+            arbol.agregar(nuevo);
+        } else {
+            nuevo.siguiente = primero;
+            buckets[index] = nuevo;
+        }
+        cantidad++;
+    }
+
+    /**
+     * Termina una carga hecha con {@link #cargarSinVerificar(Object, Object)}.
+     */
+    void terminarCarga() {
+        while (redimensionable && cantidad > umbral) {
+            redimensionar();
+        }
+        if (politica == PoliticaColision.ENCADENAMIENTO) {
+            convertirListasLargas(buckets);
+        }
+    }
+
+    /**
+     * Aplica una acción a cada entrada de una lista.
+     *
+     * @param lista  la primera entrada de la lista, o {@code null}.
+     * @param accion recibe cada clave y su valor.
+     */
+    private static <K, V> void recorrer(Balde<K, V> lista,
+                                        BiConsumer<? super K, ? super V> accion) {
+        for (Balde<K, V> entry = lista; entry != null; entry = entry.siguiente) {
+            accion.accept(entry.llave, entry.valor);
+        }
+    }
+
     @Override
     public String toString() {
         return "Diccionario{" +
@@ -250,13 +1136,60 @@ public class Diccionario<K, V> {
                 '}';
     }
 
+    /**
+     * Contadores de las estadísticas opcionales del diccionario.
+     * <p>
+     * Solo el hilo que usa el diccionario los incrementa, así que alcanza con
+     * escrituras <em>opacas</em>: no necesitan una operación atómica, pero
+     * otros hilos (el monitor JMX) siempre leen un valor completo y reciente.
+     * Reiniciarlos reemplaza el objeto entero; un incremento que ocurra
+     * durante el reemplazo puede quedar en el objeto descartado.
+     * </p>
+     */
+    private static final class Contadores {
+        /**
+         * Consultas que encontraron la clave.
+         */
+        final AtomicLong aciertos = new AtomicLong();
+        /**
+         * Consultas que no encontraron la clave.
+         */
+        final AtomicLong fallos = new AtomicLong();
+        /**
+         * Inserciones rechazadas por colisión.
+         */
+        final AtomicLong rechazos = new AtomicLong();
+
+        /**
+         * Cuenta una consulta.
+         *
+         * @param encontrada si la consulta encontró la clave.
+         */
+        void consulta(boolean encontrada) {
+            incrementar(encontrada ? aciertos : fallos);
+        }
+
+        /**
+         * Incrementa un contador que solo escribe el hilo dueño del
+         * diccionario.
+         *
+         * @param contador el contador.
+         */
+        static void incrementar(AtomicLong contador) {
+            contador.setOpaque(contador.getPlain() + 1);
+        }
+    }
+
     /**
      * Clase interna estática que representa una entrada (un "balde" o bucket)
      * en el diccionario.
      * <p>
      * Cada instancia de {@code Balde} almacena una única asociación clave-valor.
-     * La clave y el valor son finales, lo que significa que una vez que se crea
-     * un {@code Balde}, su clave y valor no pueden cambiar.
+     * La clave es final, lo que significa que una vez que se crea un
+     * {@code Balde} su clave no puede cambiar; el valor, en cambio, se reemplaza
+     * en el lugar cuando se vuelve a asociar la misma clave. También guarda el
+     * hash de la clave, para no recalcularlo al redimensionar, y una referencia
+     * a la siguiente entrada del mismo balde cuando se usa encadenamiento.
      * </p>
      * <p>
      * La igualdad de dos instancias de {@code Balde} se basa únicamente en la
@@ -268,6 +1201,10 @@ public class Diccionario<K, V> {
      * @param <V> el tipo del valor en esta entrada.
      */
     private static class Balde<K, V> {
+        /**
+         * El {@code hashCode()} de la clave, calculado al crear la entrada.
+         */
+        final int hash;
         /**
          * La clave para esta entrada. No puede ser {@code null}.
          */
@@ -275,19 +1212,39 @@ public class Diccionario<K, V> {
         /**
          * El valor asociado con la clave en esta entrada. Puede ser {@code null}.
          */
-        final V valor;
+        V valor;
+        /**
+         * La siguiente entrada del mismo balde, o {@code null} si es la última.
+         */
+        Balde<K, V> siguiente;
 
         /**
          * Construye una nueva entrada (balde) con la clave y el valor especificados.
          *
+         * @param hash  el código hash de la clave.
          * @param llave la clave para esta entrada.
          * @param valor el valor para esta entrada.
          */
-        public Balde(K llave, V valor) {
+        Balde(int hash, K llave, V valor) {
+            this.hash = hash;
             this.llave = llave;
             this.valor = valor;
         }
 
+        /**
+         * Indica si esta entrada corresponde a la clave dada. Compara primero los
+         * hashes para evitar comparar las claves en la mayoría de los casos.
+         *
+         * @param otroHash   el hash de la clave buscada.
+         * @param otraLlave  la clave buscada.
+         * @param estrategia decide si las claves son iguales.
+         * @return {@code true} si la clave de esta entrada es igual a la buscada.
+         */
+        boolean coincide(int otroHash, K otraLlave,
+                         EstrategiaHash<? super K> estrategia) {
+            return hash == otroHash && estrategia.iguales(llave, otraLlave);
+        }
+
         /**
          * Compara este balde con el objeto especificado para determinar la igualdad.
          * <p>
@@ -342,6 +1299,269 @@ public class Diccionario<K, V> {
             return "Balde{" +
                     "llave=" + llave +
                     ", valor=" + valor +
+                    (siguiente == null ? "" : ", siguiente=" + siguiente) +
+                    '}';
+        }
+    }
+
+    /**
+     * Balde cuyas entradas se organizan en un árbol balanceado en lugar de una
+     * lista enlazada.
+     * <p>
+     * Ocupa la posición del arreglo de baldes como si fuera una entrada más (sin
+     * clave ni valor propios), de forma similar a los {@code TreeBin} de
+     * {@link java.util.concurrent.ConcurrentHashMap}. El árbol es un
+     * {@link TreeMap} ordenado por {@link #compararBaldes(Balde, Balde)} (o por
+     * {@link #compararHashes(Balde, Balde)} con una {@link EstrategiaHash} propia);
+     * como dos claves distintas pueden quedar empatadas (mismo hash y no
+     * comparables), cada nodo del árbol guarda una pequeña lista de entradas
+     * empatadas.
+     * </p>
+     * <p>
+     * Con la estrategia natural, claves de clases distintas pueden ser iguales
+     * (por ejemplo, dos implementaciones de {@link java.util.List} con los
+     * mismos elementos) aunque el orden las separe. Por eso, si el árbol llegó a
+     * tener claves de clases distintas con el mismo hash, o si la clave buscada
+     * es de una clase que no está entre las de su hash, una búsqueda que no la
+     * encuentra en su nodo recorre las demás entradas de ese hash, como hace
+     * {@link java.util.HashMap} en sus árboles.
+     * </p>
+     * <p>
+     * Para claves con hashes distintos que caen en el mismo balde, o con el mismo
+     * hash pero {@link Comparable}, las operaciones son {@code O(log n)}.
+     * </p>
+     *
+     * @param <K> el tipo de las claves.
+     * @param <V> el tipo de los valores.
+     */
+    private static final class BaldeArbol<K, V> extends Balde<K, V> {
+        /**
+         * Las entradas del balde. La clave y el valor de cada nodo del árbol son
+         * la primera entrada de la lista de entradas empatadas.
+         */
+        final TreeMap<Balde<K, V>, Balde<K, V>> arbol;
+        /**
+         * Decide si dos claves del árbol son iguales.
+         */
+        final EstrategiaHash<? super K> estrategia;
+        /**
+         * Cantidad de entradas almacenadas en el árbol.
+         */
+        int tamanio;
+        /**
+         * Si alguna vez hubo en el árbol claves de clases distintas con el
+         * mismo hash; solo entonces una búsqueda fallida recorre el hash entero.
+         */
+        boolean clasesMezcladas;
+
+        /**
+         * Construye un balde árbol vacío.
+         *
+         * @param estrategia la estrategia del diccionario.
+         */
+        BaldeArbol(EstrategiaHash<? super K> estrategia) {
+            super(0, null, null);
+            this.estrategia = estrategia;
+            if (estrategia == Estrategias.NATURAL) {
+                this.arbol = new TreeMap<>(Diccionario::compararBaldes);
+            } else {
+                this.arbol = new TreeMap<>(Diccionario::compararHashes);
+            }
+        }
+
+        /**
+         * Construye un balde árbol con todas las entradas de una lista.
+         *
+         * @param lista      la primera entrada de la lista.
+         * @param estrategia la estrategia del diccionario.
+         * @param <K>        el tipo de las claves.
+         * @param <V>        el tipo de los valores.
+         * @return el balde árbol equivalente.
+         */
+        static <K, V> BaldeArbol<K, V> desde(Balde<K, V> lista,
+                                             EstrategiaHash<? super K> estrategia) {
+            BaldeArbol<K, V> resultado = new BaldeArbol<>(estrategia);
+            Balde<K, V> entry = lista;
+            while (entry != null) {
+                Balde<K, V> siguiente = entry.siguiente;
+                resultado.agregar(entry);
+                entry = siguiente;
+            }
+            return resultado;
+        }
+
+        /**
+         * Busca la entrada de una clave.
+         *
+         * @param hashBuscado  el hash de la clave.
+         * @param llaveBuscada la clave.
+         * @return la entrada con esa clave, o {@code null} si no está.
+         */
+        Balde<K, V> buscar(int hashBuscado, K llaveBuscada) {
+            return enLista(cabezaDe(hashBuscado, llaveBuscada), hashBuscado,
+                    llaveBuscada);
+        }
+
+        /**
+         * Busca el nodo del árbol cuya lista de entradas empatadas contiene una
+         * clave.
+         *
+         * @param hashBuscado  el hash de la clave.
+         * @param llaveBuscada la clave.
+         * @return la primera entrada de esa lista, o {@code null} si la clave no
+         * está.
+         */
+        private Balde<K, V> cabezaDe(int hashBuscado, K llaveBuscada) {
+            Balde<K, V> sonda = new Balde<>(hashBuscado, llaveBuscada, null);
+            Balde<K, V> cabeza = arbol.get(sonda);
+            if (enLista(cabeza, hashBuscado, llaveBuscada) == null) {
+                cabeza = null;
+                // Si la clase de la clave buscada no está en el árbol, su lugar
+                // queda junto a las entradas de otra clase con el mismo hash.
+                if (clasesMezcladas || deOtraClase(arbol.lowerKey(sonda), sonda)
+                        || deOtraClase(arbol.higherKey(sonda), sonda)) {
+                    Iterator<Balde<K, V>> cabezas = arbol.tailMap(
+                            new Balde<>(hashBuscado, null, null)).keySet().iterator();
+                    Balde<K, V> candidata = cabezas.hasNext() ? cabezas.next() : null;
+                    while (cabeza == null && candidata != null
+                            && candidata.hash == hashBuscado) {
+                        if (enLista(candidata, hashBuscado, llaveBuscada) != null) {
+                            cabeza = candidata;
+                        }
+                        candidata = cabezas.hasNext() ? cabezas.next() : null;
+                    }
+                }
+            }
+            return cabeza;
+        }
+
+        /**
+         * Busca una clave en una lista de entradas empatadas.
+         *
+         * @param cabeza       la primera entrada de la lista, o {@code null}.
+         * @param hashBuscado  el hash de la clave.
+         * @param llaveBuscada la clave.
+         * @return la entrada con esa clave, o {@code null} si no está.
+         */
+        private Balde<K, V> enLista(Balde<K, V> cabeza, int hashBuscado, K llaveBuscada) {
+            Balde<K, V> entry = cabeza;
+            while (entry != null
+                    && !entry.coincide(hashBuscado, llaveBuscada, estrategia)) {
+                entry = entry.siguiente;
+            }
+            return entry;
+        }
+
+        /**
+         * Indica si una entrada vecina en el árbol tiene el mismo hash que otra
+         * pero una clave de otra clase.
+         *
+         * @param vecina     la entrada vecina, o {@code null}.
+         * @param referencia la entrada con la que se compara.
+         * @return {@code true} si las claves del mismo hash son de clases
+         * distintas.
+         */
+        private static boolean deOtraClase(Balde<?, ?> vecina, Balde<?, ?> referencia) {
+            return vecina != null && vecina.hash == referencia.hash
+                    && vecina.llave.getClass() != referencia.llave.getClass();
+        }
+
+        /**
+         * Agrega una entrada cuya clave no está en el árbol.
+         *
+         * @param nuevo la entrada a agregar.
+         */
+        void agregar(Balde<K, V> nuevo) {
+            Balde<K, V> cabeza = arbol.get(nuevo);
+            if (cabeza == null) {
+                nuevo.siguiente = null;
+                arbol.put(nuevo, nuevo);
+                // Los grupos de cada clase quedan contiguos, así que la primera
+                // clave de otra clase con el mismo hash queda junto a uno de ellos.
+                if (!clasesMezcladas && estrategia == Estrategias.NATURAL) {
+                    clasesMezcladas = deOtraClase(arbol.lowerKey(nuevo), nuevo)
+                            || deOtraClase(arbol.higherKey(nuevo), nuevo);
+                }
+            } else {
+                nuevo.siguiente = cabeza.siguiente;
+                cabeza.siguiente = nuevo;
+            }
+            tamanio++;
+        }
+
+        /**
+         * Quita la entrada de una clave, si está.
+         *
+         * @param hashBuscado  el hash de la clave.
+         * @param llaveBuscada la clave.
+         * @return {@code true} si la entrada existía y fue quitada.
+         */
+        boolean quitar(int hashBuscado, K llaveBuscada) {
+            boolean quitado = false;
+            Balde<K, V> cabeza = cabezaDe(hashBuscado, llaveBuscada);
+            if (cabeza != null
+                    && cabeza.coincide(hashBuscado, llaveBuscada, estrategia)) {
+                // El nodo del árbol tiene a la cabeza como clave: hay que
+                // reemplazarlo por la siguiente entrada empatada, si existe.
+                arbol.remove(cabeza);
+                if (cabeza.siguiente != null) {
+                    arbol.put(cabeza.siguiente, cabeza.siguiente);
+                }
+                quitado = true;
+            } else if (cabeza != null) {
+                Balde<K, V> anterior = cabeza;
+                while (anterior.siguiente != null && !anterior.siguiente
+                        .coincide(hashBuscado, llaveBuscada, estrategia)) {
+                    anterior = anterior.siguiente;
+                }
+                if (anterior.siguiente != null) {
+                    anterior.siguiente = anterior.siguiente.siguiente;
+                    quitado = true;
+                }
+            }
+            if (quitado) {
+                tamanio--;
+            }
+            return quitado;
+        }
+
+        /**
+         * Convierte el árbol en una lista enlazada con las mismas entradas.
+         *
+         * @return la primera entrada de la lista, o {@code null} si el árbol
+         * está vacío.
+         */
+        Balde<K, V> aLista() {
+            Balde<K, V> primero = null;
+            Balde<K, V> ultimo = null;
+            for (Balde<K, V> cabeza : arbol.values()) {
+                if (ultimo == null) {
+                    primero = cabeza;
+                } else {
+                    ultimo.siguiente = cabeza;
+                }
+                ultimo = cabeza;
+                while (ultimo.siguiente != null) {
+                    ultimo = ultimo.siguiente;
+                }
+            }
+            return primero;
+        }
+
+        @Override
+        public boolean equals(Object objeto) {
+            return this == objeto;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+
+        @Override
+        public String toString() {
+            return "BaldeArbol{" +
+                    "entradas=" + arbol.values() +
                     '}';
         }
     }
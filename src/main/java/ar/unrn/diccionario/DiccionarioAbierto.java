@@ -0,0 +1,378 @@
+package ar.unrn.diccionario;
+
+import ar.unrn.diccionario.excepciones.ColisionException;
+import ar.unrn.diccionario.excepciones.LlaveNulaException;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Diccionario con direccionamiento abierto: las claves y los valores se
+ * almacenan directamente en dos arreglos paralelos, sin crear un objeto por
+ * entrada.
+ * <p>
+ * Cuando la posición inicial de una clave está ocupada por otra, se prueban
+ * otras posiciones siguiendo la secuencia de {@link Sondeo} elegida hasta
+ * encontrar la clave o una posición vacía. Al no haber nodos intermedios, una
+ * búsqueda exitosa solo lee los dos arreglos, lo que reduce los fallos de caché
+ * frente a {@link Diccionario}.
+ * </p>
+ * <p>
+ * Las eliminaciones dejan una marca ("lápida") en la posición, para no cortar
+ * las secuencias de sondeo de otras claves. Las lápidas se reutilizan en
+ * inserciones posteriores y se descartan al reconstruir la tabla, que ocurre
+ * cuando la suma de entradas y lápidas supera el factor de carga.
+ * </p>
+ * <p>
+ * Esta implementación no permite claves nulas, y lanzará una
+ * {@link LlaveNulaException} si se intenta usar una.
+ * </p>
+ *
+ * @param <K> el tipo de las claves mantenidas por este diccionario.
+ * @param <V> el tipo de los valores mapeados.
+ */
+public class DiccionarioAbierto<K, V> implements TablaHash<K, V> {
+
+    /**
+     * Cantidad de posiciones con la que comienza el diccionario por defecto.
+     */
+    private static final int CAPACIDAD_POR_DEFECTO = 16;
+    /**
+     * Factor de carga por defecto. Con direccionamiento abierto la longitud de
+     * las secuencias de sondeo crece rápidamente por encima de este valor.
+     */
+    private static final float FACTOR_DE_CARGA_POR_DEFECTO = 0.5f;
+    /**
+     * Marca que ocupa la posición de una clave eliminada.
+     */
+    private static final Object BORRADO = new Object();
+
+    /**
+     * Las claves almacenadas; {@code null} indica una posición libre y
+     * {@link #BORRADO} una posición liberada. Su longitud es siempre una
+     * potencia de dos.
+     */
+    private Object[] llaves;
+    /**
+     * Los valores almacenados, en la misma posición que su clave.
+     */
+    private Object[] valores;
+    /**
+     * Proporción de posiciones ocupadas (incluyendo lápidas) a partir de la cual
+     * se reconstruye la tabla.
+     */
+    private final float factorDeCarga;
+    /**
+     * La secuencia de posiciones que se recorre ante una colisión.
+     */
+    private final Sondeo sondeo;
+    /**
+     * Cantidad de asociaciones clave-valor almacenadas.
+     */
+    private int cantidad;
+    /**
+     * Cantidad de lápidas en la tabla.
+     */
+    private int borrados;
+    /**
+     * Cantidad de posiciones ocupadas (entradas más lápidas) que dispara la
+     * reconstrucción de la tabla.
+     */
+    private int umbral;
+
+    /**
+     * Construye un diccionario vacío con sondeo lineal, la capacidad y el
+     * factor de carga por defecto.
+     */
+    public DiccionarioAbierto() {
+        this(CAPACIDAD_POR_DEFECTO, FACTOR_DE_CARGA_POR_DEFECTO, Sondeo.LINEAL);
+    }
+
+    /**
+     * Construye un diccionario vacío con la secuencia de sondeo indicada, la
+     * capacidad y el factor de carga por defecto.
+     *
+     * @param sondeo la secuencia de posiciones a recorrer ante una colisión.
+     */
+    public DiccionarioAbierto(Sondeo sondeo) {
+        this(CAPACIDAD_POR_DEFECTO, FACTOR_DE_CARGA_POR_DEFECTO, sondeo);
+    }
+
+    /**
+     * Construye un diccionario vacío con la capacidad, el factor de carga y la
+     * secuencia de sondeo indicados.
+     *
+     * @param capacidadInicial la cantidad de posiciones con la que comienza el
+     *                         diccionario. Se redondea a la siguiente potencia
+     *                         de dos.
+     * @param factorDeCarga    la proporción de posiciones ocupadas a partir de la
+     *                         cual la tabla se reconstruye; debe ser menor a 1.
+     * @param sondeo           la secuencia de posiciones a recorrer ante una
+     *                         colisión.
+     * @throws IllegalArgumentException si la capacidad no es positiva o el factor
+     *                                  de carga no está en el intervalo (0, 1).
+     */
+    public DiccionarioAbierto(int capacidadInicial, float factorDeCarga, Sondeo sondeo) {
+        Tablas.validar(capacidadInicial, factorDeCarga);
+        if (factorDeCarga >= 1) {
+            throw new IllegalArgumentException(
+                    "El factor de carga debe ser menor a 1: " + factorDeCarga);
+        }
+        if (sondeo == null) {
+            throw new IllegalArgumentException("El sondeo no puede ser nulo.");
+        }
+        this.factorDeCarga = factorDeCarga;
+        this.sondeo = sondeo;
+        inicializar(Tablas.potenciaDeDos(capacidadInicial));
+    }
+
+    /**
+     * Asocia un valor a una clave en el diccionario.
+     * <p>
+     * Si la clave ya está, su valor se reemplaza en el lugar. Si no, y en el
+     * recorrido se encontró alguna lápida, la nueva entrada ocupa la primera de
+     * ellas.
+     * </p>
+     *
+     * @param key   la clave con la que se asociará el valor. No puede ser
+     *              {@code null}.
+     * @param value el valor que se asociará con la clave.
+     * @return el valor que tenía la clave, o {@code null} si no estaba.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     * @throws ColisionException  si la tabla alcanzó su capacidad máxima.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        int hash = Tablas.hashDe(key);
+        int mascara = llaves.length - 1;
+        int crecimiento = sondeo.crecimiento();
+        int paso = sondeo.pasoInicial(hash);
+        int posicion = Tablas.dispersar(hash) & mascara;
+        int libre = -1;
+        V anterior = null;
+        boolean encontrada = false;
+        Object actual = llaves[posicion];
+        while (actual != null && !encontrada) {
+            if (actual == BORRADO) {
+                if (libre < 0) {
+                    libre = posicion;
+                }
+            } else if (actual == key || actual.equals(key)) {
+                encontrada = true;
+            }
+            if (!encontrada) {
+                posicion = (posicion + paso) & mascara;
+                paso = paso + crecimiento;
+                actual = llaves[posicion];
+            }
+        }
+        if (encontrada) {
+            anterior = (V) valores[posicion];
+            valores[posicion] = value;
+        } else {
+            if (libre < 0) {
+                libre = posicion;
+            } else {
+                borrados--;
+            }
+            llaves[libre] = key;
+            valores[libre] = value;
+            cantidad++;
+            if (cantidad + borrados > umbral) {
+                reconstruir();
+            }
+        }
+        return anterior;
+    }
+
+    /**
+     * Recupera el valor al que está mapeada la clave especificada.
+     *
+     * @param key la clave buscada. No puede ser {@code null}.
+     * @return el valor asociado, o {@code null} si la clave no está.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        V valorRecuperado = null;
+        int posicion = posicionDe(key);
+        if (posicion >= 0) {
+            valorRecuperado = (V) valores[posicion];
+        }
+        return valorRecuperado;
+    }
+
+    /**
+     * Elimina el mapeo para una clave si está presente, dejando una lápida en su
+     * posición.
+     *
+     * @param key la clave a eliminar. No puede ser {@code null}.
+     * @return {@code true} si la clave estaba y fue eliminada.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    @Override
+    public boolean remove(K key) {
+        int posicion = posicionDe(key);
+        boolean removidoConExito = posicion >= 0;
+        if (removidoConExito) {
+            llaves[posicion] = BORRADO;
+            valores[posicion] = null;
+            cantidad--;
+            borrados++;
+        }
+        return removidoConExito;
+    }
+
+    /**
+     * Comprueba si el diccionario contiene un mapeo para la clave especificada.
+     *
+     * @param key la clave buscada. No puede ser {@code null}.
+     * @return {@code true} si la clave está en el diccionario.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return posicionDe(key) >= 0;
+    }
+
+    /**
+     * Devuelve el número de asociaciones clave-valor en el diccionario.
+     *
+     * @return la cantidad de elementos.
+     */
+    @Override
+    public int size() {
+        return cantidad;
+    }
+
+    /**
+     * Devuelve la cantidad actual de posiciones de la tabla.
+     *
+     * @return la longitud de los arreglos de claves y valores.
+     */
+    @Override
+    public int capacidad() {
+        return llaves.length;
+    }
+
+    /**
+     * Busca la posición que ocupa una clave, salteando las lápidas.
+     *
+     * @param key la clave buscada. No puede ser {@code null}.
+     * @return la posición de la clave, o {@code -1} si no está.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    private int posicionDe(Object key) {
+        int hash = Tablas.hashDe(key);
+        int mascara = llaves.length - 1;
+        int crecimiento = sondeo.crecimiento();
+        int paso = sondeo.pasoInicial(hash);
+        int posicion = Tablas.dispersar(hash) & mascara;
+        Object actual = llaves[posicion];
+        while (actual != null && actual != key && (actual == BORRADO || !actual.equals(key))) {
+            posicion = (posicion + paso) & mascara;
+            paso = paso + crecimiento;
+            actual = llaves[posicion];
+        }
+        int resultado = -1;
+        if (actual != null) {
+            resultado = posicion;
+        }
+        return resultado;
+    }
+
+    /**
+     * Reconstruye la tabla descartando las lápidas. Si las entradas ocupan más de
+     * la mitad del umbral, además duplica la capacidad; si no, la mayor parte de
+     * la ocupación eran lápidas y alcanza con reubicar las entradas.
+     *
+     * @throws ColisionException si la tabla alcanzó su capacidad máxima.
+     */
+    private void reconstruir() {
+        Object[] llavesAnteriores = llaves;
+        Object[] valoresAnteriores = valores;
+        int capacidad = llavesAnteriores.length;
+        if (cantidad > umbral / 2) {
+            if (capacidad == Tablas.CAPACIDAD_MAXIMA) {
+                throw new ColisionException("El diccionario alcanzó su capacidad máxima.");
+            }
+            capacidad = capacidad * 2;
+        }
+        inicializar(capacidad);
+        for (int i = 0; i < llavesAnteriores.length; i++) {
+            Object llave = llavesAnteriores[i];
+            if (llave != null && llave != BORRADO) {
+                colocar(llave, valoresAnteriores[i]);
+                cantidad++;
+            }
+        }
+    }
+
+    /**
+     * Crea arreglos vacíos de la capacidad indicada y calcula su umbral. Siempre
+     * queda al menos una posición libre, para que todo recorrido termine.
+     *
+     * @param capacidad la cantidad de posiciones; una potencia de dos.
+     */
+    private void inicializar(int capacidad) {
+        llaves = new Object[capacidad];
+        valores = new Object[capacidad];
+        cantidad = 0;
+        borrados = 0;
+        umbral = Math.min(Tablas.umbral(capacidad, factorDeCarga), capacidad - 1);
+    }
+
+    /**
+     * Ubica una entrada en la primera posición libre de su recorrido, sin
+     * verificar si la clave ya existe. Solo se usa al reconstruir la tabla.
+     *
+     * @param llave la clave.
+     * @param valor el valor.
+     */
+    private void colocar(Object llave, Object valor) {
+        int hash = llave.hashCode();
+        int mascara = llaves.length - 1;
+        int crecimiento = sondeo.crecimiento();
+        int paso = sondeo.pasoInicial(hash);
+        int posicion = Tablas.dispersar(hash) & mascara;
+        while (llaves[posicion] != null) {
+            posicion = (posicion + paso) & mascara;
+            paso = paso + crecimiento;
+        }
+        llaves[posicion] = llave;
+        valores[posicion] = valor;
+    }
+
+    /**
+     * Recorre todas las asociaciones del diccionario, en el orden en que están
+     * guardadas.
+     *
+     * @param accion recibe cada clave y su valor.
+     * @throws NullPointerException si la acción es {@code null}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> accion) {
+        Objects.requireNonNull(accion);
+        for (int i = 0; i < llaves.length; i++) {
+            if (llaves[i] != null && llaves[i] != BORRADO) {
+                accion.accept((K) llaves[i], (V) valores[i]);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder("DiccionarioAbierto{");
+        String separador = "";
+        for (int i = 0; i < llaves.length; i++) {
+            if (llaves[i] != null && llaves[i] != BORRADO) {
+                texto.append(separador).append(llaves[i]).append('=').append(valores[i]);
+                separador = ", ";
+            }
+        }
+        return texto.append('}').toString();
+    }
+}
@@ -0,0 +1,485 @@
+package ar.unrn.diccionario;
+
+import ar.unrn.diccionario.excepciones.LlaveNulaException;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Diccionario con encadenamiento que puede compartirse entre varios hilos.
+ * <p>
+ * Las escrituras usan <em>candados por franjas</em> (lock striping): hay una
+ * cantidad fija de candados y cada balde queda protegido por el candado que
+ * corresponde a los bits bajos de su hash, así que dos hilos solo compiten si
+ * modifican baldes de la misma franja. Las lecturas ({@link #get(Object)} y
+ * {@link #containsKey(Object)}) no toman ningún candado: los baldes se leen
+ * con semántica {@code volatile} desde un {@link AtomicReferenceArray} y cada
+ * entrada se publica completa antes de enlazarla, de modo que un lector nunca
+ * ve una cadena a medio armar.
+ * </p>
+ * <p>
+ * La cantidad de elementos se lleva en un {@link LongAdder}, que reparte los
+ * incrementos de hilos distintos en celdas separadas en lugar de hacerlos
+ * competir por un único contador. Para crecer, un hilo toma todos los
+ * candados y copia las entradas a una tabla nueva; los lectores que todavía
+ * recorren la tabla anterior la ven intacta, ya que nunca se modifica después
+ * de reemplazarla.
+ * </p>
+ * <p>
+ * Las operaciones compuestas ({@link #putIfAbsent(Object, Object)},
+ * {@link #computeIfAbsent(Object, Function)},
+ * {@link #compute(Object, BiFunction)} y
+ * {@link #merge(Object, Object, BiFunction)}) son atómicas: las funciones se
+ * evalúan mientras se tiene el candado de la franja, por lo que deben ser
+ * breves y no pueden modificar este diccionario. Como en
+ * {@link java.util.concurrent.ConcurrentHashMap}, no se admiten claves ni
+ * valores {@code null}.
+ * </p>
+ *
+ * @param <K> el tipo de las claves mantenidas por este diccionario.
+ * @param <V> el tipo de los valores mapeados.
+ */
+public class DiccionarioConcurrente<K, V> implements TablaHash<K, V> {
+
+    /**
+     * Cantidad de baldes con la que comienza el diccionario por defecto.
+     */
+    private static final int CAPACIDAD_POR_DEFECTO = 16;
+    /**
+     * Factor de carga por defecto.
+     */
+    private static final float FACTOR_DE_CARGA_POR_DEFECTO = 0.75f;
+    /**
+     * Cantidad de candados por defecto.
+     */
+    private static final int NIVEL_DE_CONCURRENCIA_POR_DEFECTO = 16;
+
+    /**
+     * Los baldes de la tabla. Se reemplaza por una tabla nueva al crecer; una
+     * tabla reemplazada no vuelve a modificarse.
+     */
+    private volatile AtomicReferenceArray<Nodo<K, V>> tabla;
+    /**
+     * Los candados de escritura. Su cantidad es una potencia de dos que no
+     * supera la cantidad de baldes, así que cada balde pertenece siempre a la
+     * misma franja aunque la tabla crezca.
+     */
+    private final ReentrantLock[] candados;
+    /**
+     * Proporción entre elementos y baldes a partir de la cual la tabla se
+     * duplica.
+     */
+    private final float factorDeCarga;
+    /**
+     * Cantidad de asociaciones clave-valor almacenadas.
+     */
+    private final LongAdder cantidad = new LongAdder();
+    /**
+     * Cantidad de elementos que dispara el crecimiento de la tabla.
+     */
+    private volatile int umbral;
+
+    /**
+     * Construye un diccionario vacío con la capacidad, el factor de carga y la
+     * cantidad de candados por defecto.
+     */
+    public DiccionarioConcurrente() {
+        this(CAPACIDAD_POR_DEFECTO, FACTOR_DE_CARGA_POR_DEFECTO,
+                NIVEL_DE_CONCURRENCIA_POR_DEFECTO);
+    }
+
+    /**
+     * Construye un diccionario vacío con la capacidad, el factor de carga y la
+     * cantidad de candados indicados.
+     *
+     * @param capacidadInicial     la cantidad de baldes con la que comienza el
+     *                             diccionario. Se redondea a la siguiente
+     *                             potencia de dos, y nunca es menor a la
+     *                             cantidad de candados.
+     * @param factorDeCarga        la proporción entre elementos y baldes a partir
+     *                             de la cual la tabla se duplica.
+     * @param nivelDeConcurrencia  la cantidad estimada de hilos que escriben a la
+     *                             vez; se usa como cantidad de candados,
+     *                             redondeada a la siguiente potencia de dos.
+     * @throws IllegalArgumentException si alguno de los parámetros no es
+     *                                  positivo.
+     */
+    public DiccionarioConcurrente(int capacidadInicial, float factorDeCarga,
+                                  int nivelDeConcurrencia) {
+        Tablas.validar(capacidadInicial, factorDeCarga);
+        if (nivelDeConcurrencia <= 0) {
+            throw new IllegalArgumentException(
+                    "El nivel de concurrencia debe ser positivo: " + nivelDeConcurrencia);
+        }
+        this.factorDeCarga = factorDeCarga;
+        this.candados = new ReentrantLock[Tablas.potenciaDeDos(nivelDeConcurrencia)];
+        for (int i = 0; i < candados.length; i++) {
+            candados[i] = new ReentrantLock();
+        }
+        int capacidad = Tablas.potenciaDeDos(Math.max(capacidadInicial, candados.length));
+        this.tabla = new AtomicReferenceArray<>(capacidad);
+        this.umbral = Tablas.umbral(capacidad, factorDeCarga);
+    }
+
+    /**
+     * Asocia un valor a una clave, reemplazando el valor anterior si la clave ya
+     * estaba.
+     *
+     * @param key   la clave. No puede ser {@code null}.
+     * @param value el valor. No puede ser {@code null}.
+     * @return el valor que tenía la clave, o {@code null} si no estaba.
+     * @throws LlaveNulaException   si la clave es {@code null}.
+     * @throws NullPointerException si el valor es {@code null}.
+     */
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(value, "El valor no puede ser nulo.");
+        return actualizar(key, (llave, actual) -> value, true);
+    }
+
+    /**
+     * Recupera el valor al que está mapeada una clave, sin tomar ningún candado.
+     *
+     * @param key la clave buscada. No puede ser {@code null}.
+     * @return el valor asociado, o {@code null} si la clave no está.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    @Override
+    public V get(K key) {
+        Nodo<K, V> nodo = buscar(tabla, hashDe(key), key);
+        return nodo == null ? null : nodo.valor;
+    }
+
+    /**
+     * Elimina el mapeo de una clave si está presente.
+     *
+     * @param key la clave a eliminar. No puede ser {@code null}.
+     * @return {@code true} si la clave estaba y fue eliminada.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    @Override
+    public boolean remove(K key) {
+        return actualizar(key, (llave, actual) -> null, true) != null;
+    }
+
+    /**
+     * Comprueba si el diccionario contiene una clave, sin tomar ningún candado.
+     *
+     * @param key la clave buscada. No puede ser {@code null}.
+     * @return {@code true} si la clave está en el diccionario.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return buscar(tabla, hashDe(key), key) != null;
+    }
+
+    /**
+     * Devuelve el número de asociaciones clave-valor en el diccionario. Si otros
+     * hilos están modificando el diccionario, el resultado es aproximado.
+     *
+     * @return la cantidad de elementos.
+     */
+    @Override
+    public int size() {
+        return (int) Math.min(cantidad.sum(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Devuelve la cantidad actual de baldes de la tabla.
+     *
+     * @return la longitud de la tabla de baldes.
+     */
+    @Override
+    public int capacidad() {
+        return tabla.length();
+    }
+
+    /**
+     * Asocia un valor a una clave solo si la clave no estaba, de forma atómica.
+     *
+     * @param key   la clave. No puede ser {@code null}.
+     * @param value el valor. No puede ser {@code null}.
+     * @return el valor que ya tenía la clave, o {@code null} si no estaba.
+     * @throws LlaveNulaException   si la clave es {@code null}.
+     * @throws NullPointerException si el valor es {@code null}.
+     */
+    @Override
+    public V putIfAbsent(K key, V value) {
+        Objects.requireNonNull(value, "El valor no puede ser nulo.");
+        return actualizar(key, (llave, actual) -> actual == null ? value : actual, true);
+    }
+
+    /**
+     * Devuelve el valor de una clave, calculándolo y agregándolo de forma
+     * atómica si la clave no estaba.
+     *
+     * @param key     la clave. No puede ser {@code null}.
+     * @param funcion calcula el valor a partir de la clave; se evalúa con el
+     *                candado de la franja tomado.
+     * @return el valor asociado a la clave, o {@code null} si no estaba y la
+     *         función devolvió {@code null}.
+     * @throws LlaveNulaException   si la clave es {@code null}.
+     * @throws NullPointerException si la función es {@code null}.
+     */
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> funcion) {
+        Objects.requireNonNull(funcion);
+        return actualizar(key,
+                (llave, actual) -> actual == null ? funcion.apply(llave) : actual, false);
+    }
+
+    /**
+     * Calcula de forma atómica un nuevo valor para una clave a partir de su
+     * valor actual. Si la función devuelve {@code null}, la clave se elimina.
+     *
+     * @param key     la clave. No puede ser {@code null}.
+     * @param funcion recibe la clave y su valor actual ({@code null} si no
+     *                estaba); se evalúa con el candado de la franja tomado.
+     * @return el nuevo valor de la clave, o {@code null} si quedó sin valor.
+     * @throws LlaveNulaException   si la clave es {@code null}.
+     * @throws NullPointerException si la función es {@code null}.
+     */
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> funcion) {
+        Objects.requireNonNull(funcion);
+        return actualizar(key, funcion, false);
+    }
+
+    /**
+     * Combina de forma atómica un valor con el valor actual de una clave. Si la
+     * clave no estaba, se agrega con el valor dado; si la función devuelve
+     * {@code null}, la clave se elimina.
+     *
+     * @param key     la clave. No puede ser {@code null}.
+     * @param value   el valor a combinar. No puede ser {@code null}.
+     * @param funcion recibe el valor actual y {@code value}; se evalúa con el
+     *                candado de la franja tomado.
+     * @return el nuevo valor de la clave, o {@code null} si quedó sin valor.
+     * @throws LlaveNulaException   si la clave es {@code null}.
+     * @throws NullPointerException si el valor o la función son {@code null}.
+     */
+    @Override
+    public V merge(K key, V value,
+                   BiFunction<? super V, ? super V, ? extends V> funcion) {
+        Objects.requireNonNull(value, "El valor no puede ser nulo.");
+        Objects.requireNonNull(funcion);
+        return actualizar(key,
+                (llave, actual) -> actual == null ? value : funcion.apply(actual, value),
+                false);
+    }
+
+    /**
+     * Operación de escritura común: con el candado de la franja de la clave
+     * tomado, calcula el nuevo valor a partir del actual y lo guarda, agrega la
+     * entrada o la quita según corresponda.
+     *
+     * @param key              la clave.
+     * @param funcion          calcula el nuevo valor a partir de la clave y del
+     *                         valor actual; {@code null} indica quitar la clave.
+     * @param devolverAnterior si se devuelve el valor anterior en lugar del
+     *                         nuevo.
+     * @return el valor anterior o el nuevo, según {@code devolverAnterior}.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    private V actualizar(K key, BiFunction<? super K, ? super V, ? extends V> funcion,
+                         boolean devolverAnterior) {
+        int hash = hashDe(key);
+        ReentrantLock candado = candados[hash & (candados.length - 1)];
+        V anterior;
+        V nuevo;
+        boolean agregado = false;
+        candado.lock();
+        try {
+            // Con el candado tomado la tabla no puede reemplazarse: crecer
+            // requiere todos los candados.
+            AtomicReferenceArray<Nodo<K, V>> actual = tabla;
+            int indice = hash & (actual.length() - 1);
+            Nodo<K, V> primero = actual.get(indice);
+            Nodo<K, V> previo = null;
+            Nodo<K, V> nodo = primero;
+            while (nodo != null && !nodo.coincide(hash, key)) {
+                previo = nodo;
+                nodo = nodo.siguiente;
+            }
+            anterior = nodo == null ? null : nodo.valor;
+            nuevo = funcion.apply(key, anterior);
+            if (nuevo != null && nodo != null) {
+                nodo.valor = nuevo;
+            } else if (nuevo != null) {
+                // La entrada queda completa antes de publicarla en el balde.
+                actual.set(indice, new Nodo<>(hash, key, nuevo, primero));
+                cantidad.increment();
+                agregado = true;
+            } else if (nodo != null) {
+                // Los lectores que ya estén sobre el nodo quitado siguen
+                // viendo el resto de la cadena a través de su siguiente.
+                if (previo == null) {
+                    actual.set(indice, nodo.siguiente);
+                } else {
+                    previo.siguiente = nodo.siguiente;
+                }
+                cantidad.decrement();
+            }
+        } finally {
+            candado.unlock();
+        }
+        if (agregado && cantidad.sum() > umbral) {
+            crecer();
+        }
+        return devolverAnterior ? anterior : nuevo;
+    }
+
+    /**
+     * Busca el nodo de una clave en una tabla sin tomar candados.
+     *
+     * @param actual la tabla en la que buscar.
+     * @param hash   el hash dispersado de la clave.
+     * @param key    la clave.
+     * @return el nodo de la clave, o {@code null} si no está.
+     */
+    private Nodo<K, V> buscar(AtomicReferenceArray<Nodo<K, V>> actual, int hash, K key) {
+        Nodo<K, V> nodo = actual.get(hash & (actual.length() - 1));
+        while (nodo != null && !nodo.coincide(hash, key)) {
+            nodo = nodo.siguiente;
+        }
+        return nodo;
+    }
+
+    /**
+     * Duplica la cantidad de baldes tomando todos los candados. Las entradas se
+     * copian a nodos nuevos, de modo que la tabla anterior sigue siendo válida
+     * para los lectores que la estén recorriendo.
+     */
+    private void crecer() {
+        for (ReentrantLock candado : candados) {
+            candado.lock();
+        }
+        try {
+            AtomicReferenceArray<Nodo<K, V>> anterior = tabla;
+            // Otro hilo pudo haber crecido la tabla mientras se esperaban los
+            // candados.
+            if (cantidad.sum() > umbral && anterior.length() < Tablas.CAPACIDAD_MAXIMA) {
+                int capacidad = anterior.length() * 2;
+                AtomicReferenceArray<Nodo<K, V>> nueva =
+                        new AtomicReferenceArray<>(capacidad);
+                for (int i = 0; i < anterior.length(); i++) {
+                    Nodo<K, V> nodo = anterior.get(i);
+                    while (nodo != null) {
+                        int indice = nodo.hash & (capacidad - 1);
+                        nueva.set(indice, new Nodo<>(nodo.hash, nodo.llave, nodo.valor,
+                                nueva.get(indice)));
+                        nodo = nodo.siguiente;
+                    }
+                }
+                umbral = Tablas.umbral(capacidad, factorDeCarga);
+                tabla = nueva;
+            }
+        } finally {
+            for (int i = candados.length - 1; i >= 0; i--) {
+                candados[i].unlock();
+            }
+        }
+    }
+
+    /**
+     * Obtiene el hash dispersado de una clave.
+     *
+     * @param key la clave.
+     * @return el hash con los bits altos mezclados en los bajos.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    private static int hashDe(Object key) {
+        return Tablas.dispersar(Tablas.hashDe(key));
+    }
+
+    /**
+     * Recorre las asociaciones del diccionario sin tomar ningún candado. Si otros
+     * hilos lo modifican durante el recorrido, algunos de esos cambios pueden no
+     * verse, pero ninguna clave se recorre dos veces.
+     *
+     * @param accion recibe cada clave y su valor.
+     * @throws NullPointerException si la acción es {@code null}.
+     */
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> accion) {
+        Objects.requireNonNull(accion);
+        AtomicReferenceArray<Nodo<K, V>> actual = tabla;
+        for (int i = 0; i < actual.length(); i++) {
+            for (Nodo<K, V> nodo = actual.get(i); nodo != null; nodo = nodo.siguiente) {
+                accion.accept(nodo.llave, nodo.valor);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder("DiccionarioConcurrente{");
+        int inicio = texto.length();
+        forEach((llave, valor) -> {
+            if (texto.length() > inicio) {
+                texto.append(", ");
+            }
+            texto.append(llave).append('=').append(valor);
+        });
+        return texto.append('}').toString();
+    }
+
+    /**
+     * Entrada de una cadena. La clave y su hash no cambian; el valor y el
+     * enlace son {@code volatile} para que los lectores sin candado vean las
+     * modificaciones hechas bajo el candado de la franja.
+     *
+     * @param <K> el tipo de la clave.
+     * @param <V> el tipo del valor.
+     */
+    private static final class Nodo<K, V> {
+        /**
+         * El hash dispersado de la clave.
+         */
+        final int hash;
+        /**
+         * La clave.
+         */
+        final K llave;
+        /**
+         * El valor asociado; nunca {@code null}.
+         */
+        volatile V valor;
+        /**
+         * La entrada siguiente de la cadena.
+         */
+        volatile Nodo<K, V> siguiente;
+
+        /**
+         * Crea una entrada.
+         *
+         * @param hash      el hash dispersado de la clave.
+         * @param llave     la clave.
+         * @param valor     el valor.
+         * @param siguiente la entrada siguiente de la cadena.
+         */
+        Nodo(int hash, K llave, V valor, Nodo<K, V> siguiente) {
+            this.hash = hash;
+            this.llave = llave;
+            this.valor = valor;
+            this.siguiente = siguiente;
+        }
+
+        /**
+         * Indica si esta entrada corresponde a una clave.
+         *
+         * @param otroHash  el hash dispersado de la clave buscada.
+         * @param otraLlave la clave buscada.
+         * @return {@code true} si es la entrada de esa clave.
+         */
+        boolean coincide(int otroHash, Object otraLlave) {
+            return hash == otroHash && (llave == otraLlave || llave.equals(otraLlave));
+        }
+    }
+}
@@ -0,0 +1,534 @@
+package ar.unrn.diccionario;
+
+import ar.unrn.diccionario.excepciones.LlaveNulaException;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Diccionario basado en "cuckoo hashing".
+ * <p>
+ * Las entradas se reparten entre {@code NUM_TABLAS} tablas, cada una con su
+ * propia función de hash derivada del {@code hashCode()} de la clave. Una clave
+ * solo puede estar en una posición de cada tabla, por lo que
+ * {@link #get(Object)} y {@link #containsKey(Object)} revisan a lo sumo una
+ * posición por tabla, sin importar cuán cargado esté el diccionario.
+ * </p>
+ * <p>
+ * Al insertar, si todas las posiciones posibles están ocupadas, la nueva
+ * entrada expulsa a la que ocupa una de ellas (como el pichón de cuco), y la
+ * expulsada se reubica en su posición de otra tabla, repitiendo el proceso
+ * hasta {@code MAX_DESPLAZAMIENTOS} veces. Si la cadena de expulsiones no
+ * termina, la última entrada expulsada se guarda en un pequeño "escondite"
+ * (stash) que se revisa solo cuando no está vacío. Cuando el escondite supera
+ * su límite, las tablas se reconstruyen con funciones de hash nuevas.
+ * </p>
+ * <p>
+ * Las funciones de hash se derivan del {@code hashCode()}, así que claves con
+ * exactamente el mismo {@code hashCode()} siempre compiten por las mismas
+ * posiciones: las que no entran terminan en el escondite, cuya búsqueda es
+ * lineal.
+ * </p>
+ * <p>
+ * Esta implementación no permite claves nulas, y lanzará una
+ * {@link LlaveNulaException} si se intenta usar una.
+ * </p>
+ *
+ * @param <K> el tipo de las claves mantenidas por este diccionario.
+ * @param <V> el tipo de los valores mapeados.
+ */
+public class DiccionarioCuckoo<K, V> implements TablaHash<K, V> {
+
+    /**
+     * Cantidad de tablas (y de funciones de hash) del diccionario.
+     */
+    private static final int NUM_TABLAS = 2;
+    /**
+     * Cantidad de posiciones por tabla con la que comienza el diccionario por
+     * defecto.
+     */
+    private static final int CAPACIDAD_POR_DEFECTO = 16;
+    /**
+     * Factor de carga por defecto, sobre el total de posiciones de todas las
+     * tablas. Con dos tablas, las cadenas de expulsiones se alargan
+     * rápidamente por encima del 50%.
+     */
+    private static final float FACTOR_DE_CARGA_POR_DEFECTO = 0.45f;
+    /**
+     * Largo máximo de una cadena de expulsiones antes de recurrir al escondite.
+     */
+    private static final int MAX_DESPLAZAMIENTOS = 64;
+    /**
+     * Cantidad de entradas que puede tener el escondite antes de reconstruir
+     * las tablas.
+     */
+    private static final int LIMITE_ESCONDITE = 4;
+    /**
+     * Cantidad de veces que se intenta reconstruir las tablas con funciones de
+     * hash nuevas hasta que el escondite vuelva a estar dentro de su límite.
+     */
+    private static final int MAX_RECONSTRUCCIONES = 4;
+
+    /**
+     * Las claves de cada tabla; {@code null} indica una posición libre.
+     */
+    private final Object[][] llaves = new Object[NUM_TABLAS][];
+    /**
+     * Los valores de cada tabla, en la misma posición que su clave.
+     */
+    private final Object[][] valores = new Object[NUM_TABLAS][];
+    /**
+     * El {@code hashCode()} de cada clave, para reubicarla sin recalcularlo.
+     */
+    private final int[][] hashes = new int[NUM_TABLAS][];
+    /**
+     * La semilla de la función de hash de cada tabla.
+     */
+    private final int[] semillas = new int[NUM_TABLAS];
+    /**
+     * Claves que no pudieron ubicarse en ninguna tabla.
+     */
+    private Object[] esconditeLlaves;
+    /**
+     * Valores de las claves del escondite.
+     */
+    private Object[] esconditeValores;
+    /**
+     * Códigos hash de las claves del escondite.
+     */
+    private int[] esconditeHashes;
+    /**
+     * Cantidad de entradas en el escondite.
+     */
+    private int enEscondite;
+    /**
+     * Cantidad de entradas del escondite que dispara una reconstrucción. Crece
+     * si las reconstrucciones no logran vaciarlo, lo que ocurre cuando hay
+     * muchas claves con el mismo {@code hashCode()}.
+     */
+    private int limiteEscondite = LIMITE_ESCONDITE;
+    /**
+     * Cantidad de semillas generadas, para que cada reconstrucción use funciones
+     * de hash distintas.
+     */
+    private int generacion;
+    /**
+     * Indica si se está reconstruyendo la tabla, para no disparar una
+     * reconstrucción dentro de otra.
+     */
+    private boolean reconstruyendo;
+    /**
+     * Proporción de posiciones ocupadas a partir de la cual las tablas se
+     * duplican.
+     */
+    private final float factorDeCarga;
+    /**
+     * Cantidad de asociaciones clave-valor almacenadas.
+     */
+    private int cantidad;
+    /**
+     * Cantidad de entradas que dispara el crecimiento de las tablas.
+     */
+    private int umbral;
+
+    /**
+     * Construye un diccionario vacío con la capacidad y el factor de carga por
+     * defecto.
+     */
+    public DiccionarioCuckoo() {
+        this(CAPACIDAD_POR_DEFECTO, FACTOR_DE_CARGA_POR_DEFECTO);
+    }
+
+    /**
+     * Construye un diccionario vacío con la capacidad y el factor de carga
+     * indicados.
+     *
+     * @param capacidadInicial la cantidad de posiciones de cada tabla. Se
+     *                         redondea a la siguiente potencia de dos.
+     * @param factorDeCarga    la proporción del total de posiciones ocupadas a
+     *                         partir de la cual las tablas se duplican; debe ser
+     *                         menor a 1.
+     * @throws IllegalArgumentException si la capacidad no es positiva o el factor
+     *                                  de carga no está en el intervalo (0, 1).
+     */
+    public DiccionarioCuckoo(int capacidadInicial, float factorDeCarga) {
+        Tablas.validar(capacidadInicial, factorDeCarga);
+        if (factorDeCarga >= 1) {
+            throw new IllegalArgumentException(
+                    "El factor de carga debe ser menor a 1: " + factorDeCarga);
+        }
+        this.factorDeCarga = factorDeCarga;
+        inicializar(Tablas.potenciaDeDos(capacidadInicial));
+    }
+
+    /**
+     * Asocia un valor a una clave en el diccionario. Si la clave ya está, su
+     * valor se reemplaza en el lugar sin expulsar a ninguna entrada.
+     *
+     * @param key   la clave con la que se asociará el valor. No puede ser
+     *              {@code null}.
+     * @param value el valor que se asociará con la clave.
+     * @return el valor que tenía la clave, o {@code null} si no estaba.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        int hash = Tablas.hashDe(key);
+        int tabla = tablaDe(key, hash);
+        V anterior = null;
+        if (tabla == NUM_TABLAS) {
+            int posicion = posicionEnEscondite(key, hash);
+            anterior = (V) esconditeValores[posicion];
+            esconditeValores[posicion] = value;
+        } else if (tabla >= 0) {
+            int posicion = indice(hash, tabla);
+            anterior = (V) valores[tabla][posicion];
+            valores[tabla][posicion] = value;
+        } else {
+            if (cantidad >= umbral && largoDeTabla() < Tablas.CAPACIDAD_MAXIMA) {
+                reconstruir(largoDeTabla() * 2);
+            }
+            cantidad++;
+            ubicar(key, value, hash);
+        }
+        return anterior;
+    }
+
+    /**
+     * Recupera el valor al que está mapeada la clave especificada, revisando
+     * una posición por tabla y, solo si no está vacío, el escondite.
+     *
+     * @param key la clave buscada. No puede ser {@code null}.
+     * @return el valor asociado, o {@code null} si la clave no está.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        V valorRecuperado = null;
+        int hash = Tablas.hashDe(key);
+        int tabla = tablaDe(key, hash);
+        if (tabla == NUM_TABLAS) {
+            valorRecuperado = (V) esconditeValores[posicionEnEscondite(key, hash)];
+        } else if (tabla >= 0) {
+            valorRecuperado = (V) valores[tabla][indice(hash, tabla)];
+        }
+        return valorRecuperado;
+    }
+
+    /**
+     * Elimina el mapeo para una clave si está presente.
+     *
+     * @param key la clave a eliminar. No puede ser {@code null}.
+     * @return {@code true} si la clave estaba y fue eliminada.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    @Override
+    public boolean remove(K key) {
+        int hash = Tablas.hashDe(key);
+        int tabla = tablaDe(key, hash);
+        boolean removidoConExito = tabla >= 0;
+        if (tabla == NUM_TABLAS) {
+            // El hueco del escondite se completa con su última entrada.
+            int posicion = posicionEnEscondite(key, hash);
+            int ultimo = enEscondite - 1;
+            esconditeLlaves[posicion] = esconditeLlaves[ultimo];
+            esconditeValores[posicion] = esconditeValores[ultimo];
+            esconditeHashes[posicion] = esconditeHashes[ultimo];
+            esconditeLlaves[ultimo] = null;
+            esconditeValores[ultimo] = null;
+            enEscondite--;
+        } else if (removidoConExito) {
+            int posicion = indice(hash, tabla);
+            llaves[tabla][posicion] = null;
+            valores[tabla][posicion] = null;
+        }
+        if (removidoConExito) {
+            cantidad--;
+        }
+        return removidoConExito;
+    }
+
+    /**
+     * Comprueba si el diccionario contiene un mapeo para la clave especificada.
+     *
+     * @param key la clave buscada. No puede ser {@code null}.
+     * @return {@code true} si la clave está en el diccionario.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return tablaDe(key, Tablas.hashDe(key)) >= 0;
+    }
+
+    /**
+     * Devuelve el número de asociaciones clave-valor en el diccionario.
+     *
+     * @return la cantidad de elementos.
+     */
+    @Override
+    public int size() {
+        return cantidad;
+    }
+
+    /**
+     * Devuelve la cantidad total de posiciones, sumando las de todas las tablas
+     * (sin contar el escondite).
+     *
+     * @return la cantidad de tablas por la longitud de cada una.
+     */
+    @Override
+    public int capacidad() {
+        return NUM_TABLAS * largoDeTabla();
+    }
+
+    /**
+     * Devuelve la cantidad de posiciones de cada tabla.
+     *
+     * @return la longitud de cada tabla.
+     */
+    private int largoDeTabla() {
+        return llaves[0].length;
+    }
+
+    /**
+     * Devuelve la cantidad de entradas que no pudieron ubicarse en las tablas.
+     *
+     * @return la cantidad de entradas en el escondite.
+     */
+    public int enEscondite() {
+        return enEscondite;
+    }
+
+    /**
+     * Busca una clave en su posición de cada tabla y, si no está en ninguna y el
+     * escondite no está vacío, en el escondite.
+     *
+     * @param key  la clave buscada.
+     * @param hash el {@code hashCode()} de la clave.
+     * @return el número de tabla que contiene la clave, {@code NUM_TABLAS} si
+     * está en el escondite, o {@code -1} si no está.
+     */
+    private int tablaDe(Object key, int hash) {
+        int resultado = -1;
+        for (int tabla = 0; tabla < NUM_TABLAS && resultado < 0; tabla++) {
+            int posicion = indice(hash, tabla);
+            Object llave = llaves[tabla][posicion];
+            if (llave != null && hashes[tabla][posicion] == hash && llave.equals(key)) {
+                resultado = tabla;
+            }
+        }
+        if (resultado < 0 && enEscondite > 0 && posicionEnEscondite(key, hash) >= 0) {
+            resultado = NUM_TABLAS;
+        }
+        return resultado;
+    }
+
+    /**
+     * Busca una clave en el escondite.
+     *
+     * @param key  la clave buscada.
+     * @param hash el {@code hashCode()} de la clave.
+     * @return la posición de la clave en el escondite, o {@code -1} si no está.
+     */
+    private int posicionEnEscondite(Object key, int hash) {
+        int resultado = -1;
+        for (int i = 0; i < enEscondite && resultado < 0; i++) {
+            if (esconditeHashes[i] == hash && esconditeLlaves[i].equals(key)) {
+                resultado = i;
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Ubica una entrada nueva, expulsando entradas existentes si es necesario.
+     * Si la cadena de expulsiones supera {@code MAX_DESPLAZAMIENTOS}, la entrada
+     * que quedó sin lugar va al escondite.
+     *
+     * @param llave la clave.
+     * @param valor el valor.
+     * @param hash  el {@code hashCode()} de la clave.
+     */
+    private void ubicar(Object llave, Object valor, int hash) {
+        Object llaveActual = llave;
+        Object valorActual = valor;
+        int hashActual = hash;
+        int tablaExpulsion = 0;
+        for (int intento = 0; intento < MAX_DESPLAZAMIENTOS && llaveActual != null; intento++) {
+            for (int tabla = 0; tabla < NUM_TABLAS && llaveActual != null; tabla++) {
+                int posicion = indice(hashActual, tabla);
+                if (llaves[tabla][posicion] == null) {
+                    llaves[tabla][posicion] = llaveActual;
+                    valores[tabla][posicion] = valorActual;
+                    hashes[tabla][posicion] = hashActual;
+                    llaveActual = null;
+                }
+            }
+            if (llaveActual != null) {
+                int posicion = indice(hashActual, tablaExpulsion);
+                Object llaveExpulsada = llaves[tablaExpulsion][posicion];
+                Object valorExpulsado = valores[tablaExpulsion][posicion];
+                int hashExpulsado = hashes[tablaExpulsion][posicion];
+                llaves[tablaExpulsion][posicion] = llaveActual;
+                valores[tablaExpulsion][posicion] = valorActual;
+                hashes[tablaExpulsion][posicion] = hashActual;
+                llaveActual = llaveExpulsada;
+                valorActual = valorExpulsado;
+                hashActual = hashExpulsado;
+                tablaExpulsion = (tablaExpulsion + 1) % NUM_TABLAS;
+            }
+        }
+        if (llaveActual != null) {
+            esconder(llaveActual, valorActual, hashActual);
+        }
+    }
+
+    /**
+     * Guarda una entrada en el escondite. Si el escondite supera su límite, se
+     * reconstruyen las tablas con funciones de hash nuevas.
+     *
+     * @param llave la clave.
+     * @param valor el valor.
+     * @param hash  el {@code hashCode()} de la clave.
+     */
+    private void esconder(Object llave, Object valor, int hash) {
+        if (enEscondite == esconditeLlaves.length) {
+            int nuevaLongitud = esconditeLlaves.length * 2;
+            esconditeLlaves = Arrays.copyOf(esconditeLlaves, nuevaLongitud);
+            esconditeValores = Arrays.copyOf(esconditeValores, nuevaLongitud);
+            esconditeHashes = Arrays.copyOf(esconditeHashes, nuevaLongitud);
+        }
+        esconditeLlaves[enEscondite] = llave;
+        esconditeValores[enEscondite] = valor;
+        esconditeHashes[enEscondite] = hash;
+        enEscondite++;
+        if (!reconstruyendo && enEscondite > limiteEscondite) {
+            reconstruir(largoDeTabla());
+        }
+    }
+
+    /**
+     * Vuelve a ubicar todas las entradas en tablas nuevas, con funciones de hash
+     * nuevas. Se reintenta hasta {@code MAX_RECONSTRUCCIONES} veces mientras el
+     * escondite quede por encima de su límite; si aun así no se logra, se
+     * acepta el escondite y se duplica su límite.
+     *
+     * @param capacidad la cantidad de posiciones de cada tabla nueva.
+     */
+    private void reconstruir(int capacidad) {
+        Object[] todasLasLlaves = new Object[cantidad];
+        Object[] todosLosValores = new Object[cantidad];
+        int[] todosLosHashes = new int[cantidad];
+        int total = 0;
+        for (int tabla = 0; tabla < NUM_TABLAS; tabla++) {
+            for (int i = 0; i < llaves[tabla].length; i++) {
+                if (llaves[tabla][i] != null) {
+                    todasLasLlaves[total] = llaves[tabla][i];
+                    todosLosValores[total] = valores[tabla][i];
+                    todosLosHashes[total] = hashes[tabla][i];
+                    total++;
+                }
+            }
+        }
+        for (int i = 0; i < enEscondite; i++) {
+            todasLasLlaves[total] = esconditeLlaves[i];
+            todosLosValores[total] = esconditeValores[i];
+            todosLosHashes[total] = esconditeHashes[i];
+            total++;
+        }
+        reconstruyendo = true;
+        int reconstrucciones = 0;
+        do {
+            inicializar(capacidad);
+            for (int i = 0; i < total; i++) {
+                ubicar(todasLasLlaves[i], todosLosValores[i], todosLosHashes[i]);
+            }
+            reconstrucciones++;
+        } while (enEscondite > limiteEscondite && reconstrucciones < MAX_RECONSTRUCCIONES);
+        if (enEscondite > limiteEscondite) {
+            limiteEscondite = enEscondite * 2;
+        }
+        reconstruyendo = false;
+    }
+
+    /**
+     * Calcula la posición de un hash en una tabla, usando la semilla de esa
+     * tabla.
+     *
+     * @param hash  el {@code hashCode()} de la clave.
+     * @param tabla el número de tabla.
+     * @return la posición en esa tabla.
+     */
+    private int indice(int hash, int tabla) {
+        return Tablas.mezclar(hash ^ semillas[tabla]) & (llaves[tabla].length - 1);
+    }
+
+    /**
+     * Crea tablas y escondite vacíos, elige semillas nuevas y calcula el umbral
+     * de crecimiento.
+     *
+     * @param capacidad la cantidad de posiciones de cada tabla; una potencia de
+     *                  dos.
+     */
+    private void inicializar(int capacidad) {
+        for (int tabla = 0; tabla < NUM_TABLAS; tabla++) {
+            llaves[tabla] = new Object[capacidad];
+            valores[tabla] = new Object[capacidad];
+            hashes[tabla] = new int[capacidad];
+            generacion++;
+            semillas[tabla] = Tablas.mezclar(generacion * Tablas.FIBONACCI);
+        }
+        esconditeLlaves = new Object[LIMITE_ESCONDITE];
+        esconditeValores = new Object[LIMITE_ESCONDITE];
+        esconditeHashes = new int[LIMITE_ESCONDITE];
+        enEscondite = 0;
+        umbral = Tablas.umbral(capacidad * NUM_TABLAS, factorDeCarga);
+    }
+
+    /**
+     * Recorre todas las asociaciones del diccionario, en el orden en que están
+     * guardadas.
+     *
+     * @param accion recibe cada clave y su valor.
+     * @throws NullPointerException si la acción es {@code null}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> accion) {
+        Objects.requireNonNull(accion);
+        for (int tabla = 0; tabla < NUM_TABLAS; tabla++) {
+            for (int i = 0; i < llaves[tabla].length; i++) {
+                if (llaves[tabla][i] != null) {
+                    accion.accept((K) llaves[tabla][i], (V) valores[tabla][i]);
+                }
+            }
+        }
+        for (int i = 0; i < enEscondite; i++) {
+            accion.accept((K) esconditeLlaves[i], (V) esconditeValores[i]);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder("DiccionarioCuckoo{");
+        String separador = "";
+        for (int tabla = 0; tabla < NUM_TABLAS; tabla++) {
+            for (int i = 0; i < llaves[tabla].length; i++) {
+                if (llaves[tabla][i] != null) {
+                    texto.append(separador).append(llaves[tabla][i])
+                            .append('=').append(valores[tabla][i]);
+                    separador = ", ";
+                }
+            }
+        }
+        for (int i = 0; i < enEscondite; i++) {
+            texto.append(separador).append(esconditeLlaves[i])
+                    .append('=').append(esconditeValores[i]);
+            separador = ", ";
+        }
+        return texto.append('}').toString();
+    }
+}
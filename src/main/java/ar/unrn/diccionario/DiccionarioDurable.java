@@ -0,0 +1,652 @@
+package ar.unrn.diccionario;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32;
+
+/**
+ * Diccionario que conserva su contenido en disco mediante un registro de
+ * escritura anticipada (<i>write-ahead log</i>).
+ * <p>
+ * Las entradas viven en memoria, en un {@link Diccionario} con
+ * {@link PoliticaColision#ENCADENAMIENTO}, y cada {@code put} o {@code remove}
+ * agrega además un registro al final del archivo {@value #REGISTRO} del
+ * directorio del diccionario. Cada registro lleva su longitud y una suma de
+ * verificación CRC-32 que cubre el tipo, la longitud y los datos, así que un
+ * registro escrito a medias o alterado se detecta.
+ * </p>
+ * <p>
+ * Los registros no se fuerzan a disco uno por uno: se acumulan en memoria y se
+ * escriben y sincronizan juntos, con una única llamada a
+ * {@link FileChannel#force(boolean)}, cada vez que se juntan
+ * {@code operacionesPorLote} o cuando se llama a {@link #sincronizar()} o a
+ * {@link #close()} (<i>group commit</i>). Una caída puede perder las
+ * operaciones del último lote sin sincronizar, pero nunca deja el diccionario
+ * en un estado que no haya existido.
+ * </p>
+ * <p>
+ * Cuando el registro supera {@code bytesParaCompactar}, el contenido completo
+ * se guarda como una {@link Instantanea} en {@value #INSTANTANEA} y el registro
+ * vuelve a empezar. La instantánea se escribe en un archivo aparte que
+ * reemplaza al anterior con un movimiento atómico; el directorio se fuerza a
+ * disco para que el reemplazo sea permanente, y recién después se vacía el
+ * registro; si una caída ocurre entre ambos pasos, al abrir se vuelven a
+ * aplicar sobre la instantánea operaciones que ya contiene, lo que no cambia
+ * el resultado porque cada una solo fija el estado final de su clave.
+ * </p>
+ * <p>
+ * {@link #abrir(Path, Codec, Codec)} recupera el diccionario: carga la última
+ * instantánea, aplica en orden los registros válidos y descarta lo que haya
+ * después del primero incompleto o dañado. No es seguro usarlo desde varios
+ * hilos.
+ * </p>
+ *
+ * @param <K> el tipo de las claves mantenidas por el diccionario.
+ * @param <V> el tipo de los valores mapeados.
+ */
+public final class DiccionarioDurable<K, V> implements TablaHash<K, V>, AutoCloseable {
+
+    /**
+     * Nombre del archivo del registro de operaciones, dentro del directorio.
+     */
+    public static final String REGISTRO = "registro.wal";
+    /**
+     * Nombre del archivo de la última instantánea, dentro del directorio.
+     */
+    public static final String INSTANTANEA = "instantanea.bin";
+    /**
+     * Cantidad de operaciones que se sincronizan juntas por defecto.
+     */
+    public static final int OPERACIONES_POR_LOTE_POR_DEFECTO = 64;
+    /**
+     * Tamaño del registro que dispara la compactación por defecto (64 MiB).
+     */
+    public static final long BYTES_PARA_COMPACTAR_POR_DEFECTO = 64L << 20;
+    /**
+     * Marca con la que comienza el registro, {@code "DWAL"} en ASCII.
+     */
+    static final int MARCA = 0x4457414C;
+    /**
+     * Versión del formato del registro. La 2 extiende el CRC al tipo y la
+     * longitud de cada registro.
+     */
+    static final int VERSION = 2;
+    /**
+     * Tamaño de la cabecera del registro: la marca y la versión.
+     */
+    static final int CABECERA = 2 * Integer.BYTES;
+    /**
+     * Tipo de registro: asociación con un valor.
+     */
+    private static final byte PUT = 1;
+    /**
+     * Tipo de registro: asociación con {@code null}.
+     */
+    private static final byte PUT_NULO = 2;
+    /**
+     * Tipo de registro: eliminación.
+     */
+    private static final byte REMOVE = 3;
+    /**
+     * Bytes que preceden a los datos de cada registro: tipo, longitud y CRC.
+     */
+    private static final int ENCABEZADO_DE_REGISTRO = 1 + 2 * Integer.BYTES;
+    /**
+     * Capacidad inicial del diccionario cuando no hay instantánea.
+     */
+    private static final int CAPACIDAD_INICIAL = 16;
+    /**
+     * Factor de carga del diccionario cuando no hay instantánea.
+     */
+    private static final float FACTOR_DE_CARGA = 0.75f;
+
+    /**
+     * Las entradas del diccionario.
+     */
+    private final Diccionario<K, V> diccionario;
+    /**
+     * El directorio con el registro y la instantánea.
+     */
+    private final Path directorio;
+    /**
+     * Cómo se escriben y leen las claves.
+     */
+    private final Codec<K> codecDeLlaves;
+    /**
+     * Cómo se escriben y leen los valores.
+     */
+    private final Codec<V> codecDeValores;
+    /**
+     * Cantidad de operaciones pendientes que dispara la sincronización.
+     */
+    private final int operacionesPorLote;
+    /**
+     * Tamaño del registro que dispara la compactación.
+     */
+    private final long bytesParaCompactar;
+    /**
+     * Canal del archivo del registro, posicionado al final.
+     */
+    private final FileChannel registro;
+    /**
+     * Registros pendientes de escribir en el archivo.
+     */
+    private final ByteArrayOutputStream lote = new ByteArrayOutputStream();
+    /**
+     * Flujo con el que se escriben los registros en {@link #lote}.
+     */
+    private final DataOutputStream salidaDelLote = new DataOutputStream(lote);
+    /**
+     * Datos del registro que se está codificando, antes de calcular su CRC.
+     */
+    private final ByteArrayOutputStream datos = new ByteArrayOutputStream();
+    /**
+     * Flujo con el que los codecs escriben en {@link #datos}.
+     */
+    private final DataOutputStream salidaDeDatos = new DataOutputStream(datos);
+    /**
+     * Calcula la suma de verificación de cada registro.
+     */
+    private final CRC32 crc = new CRC32();
+    /**
+     * Cantidad de operaciones en {@link #lote}.
+     */
+    private int pendientes;
+    /**
+     * Tamaño del archivo del registro, sin contar el lote pendiente.
+     */
+    private long tamanioDelRegistro;
+    /**
+     * Si el diccionario fue cerrado.
+     */
+    private boolean cerrado;
+
+    /**
+     * Construye el diccionario sobre un registro ya abierto y recuperado.
+     *
+     * @param directorio         el directorio del diccionario.
+     * @param diccionario        las entradas recuperadas.
+     * @param registro           el canal del registro, al final de los datos
+     *                           válidos.
+     * @param codecDeLlaves      cómo se escriben las claves.
+     * @param codecDeValores     cómo se escriben los valores.
+     * @param operacionesPorLote operaciones que se sincronizan juntas.
+     * @param bytesParaCompactar tamaño del registro que dispara la compactación.
+     * @throws IOException si no puede leerse el tamaño del registro.
+     */
+    private DiccionarioDurable(Path directorio, Diccionario<K, V> diccionario,
+                               FileChannel registro, Codec<K> codecDeLlaves,
+                               Codec<V> codecDeValores, int operacionesPorLote,
+                               long bytesParaCompactar) throws IOException {
+        this.directorio = directorio;
+        this.diccionario = diccionario;
+        this.registro = registro;
+        this.codecDeLlaves = codecDeLlaves;
+        this.codecDeValores = codecDeValores;
+        this.operacionesPorLote = operacionesPorLote;
+        this.bytesParaCompactar = bytesParaCompactar;
+        this.tamanioDelRegistro = registro.size();
+    }
+
+    /**
+     * Abre o crea un diccionario durable en el directorio indicado, con el
+     * tamaño de lote y el umbral de compactación por defecto.
+     *
+     * @param directorio     el directorio del diccionario; se crea si no existe.
+     * @param codecDeLlaves  cómo se escriben y leen las claves.
+     * @param codecDeValores cómo se escriben y leen los valores.
+     * @param <K>            el tipo de las claves.
+     * @param <V>            el tipo de los valores.
+     * @return el diccionario, con el contenido recuperado.
+     * @throws IOException si los archivos no pueden leerse o crearse, o no
+     *                     tienen el formato esperado.
+     */
+    public static <K, V> DiccionarioDurable<K, V> abrir(Path directorio,
+                                                        Codec<K> codecDeLlaves,
+                                                        Codec<V> codecDeValores)
+            throws IOException {
+        return abrir(directorio, codecDeLlaves, codecDeValores,
+                OPERACIONES_POR_LOTE_POR_DEFECTO, BYTES_PARA_COMPACTAR_POR_DEFECTO);
+    }
+
+    /**
+     * Abre o crea un diccionario durable en el directorio indicado.
+     *
+     * @param directorio         el directorio del diccionario; se crea si no
+     *                           existe.
+     * @param codecDeLlaves      cómo se escriben y leen las claves.
+     * @param codecDeValores     cómo se escriben y leen los valores.
+     * @param operacionesPorLote cantidad de operaciones que se sincronizan
+     *                           juntas; con 1, cada operación se sincroniza
+     *                           antes de volver.
+     * @param bytesParaCompactar tamaño del registro a partir del cual se
+     *                           reemplaza por una instantánea.
+     * @param <K>                el tipo de las claves.
+     * @param <V>                el tipo de los valores.
+     * @return el diccionario, con el contenido recuperado.
+     * @throws IOException              si los archivos no pueden leerse o
+     *                                  crearse, o no tienen el formato esperado.
+     * @throws IllegalArgumentException si el tamaño de lote o el umbral de
+     *                                  compactación no son positivos.
+     */
+    public static <K, V> DiccionarioDurable<K, V> abrir(Path directorio,
+                                                        Codec<K> codecDeLlaves,
+                                                        Codec<V> codecDeValores,
+                                                        int operacionesPorLote,
+                                                        long bytesParaCompactar)
+            throws IOException {
+        Objects.requireNonNull(directorio, "El directorio no puede ser nulo.");
+        Objects.requireNonNull(codecDeLlaves, "El codec de claves no puede ser nulo.");
+        Objects.requireNonNull(codecDeValores, "El codec de valores no puede ser nulo.");
+        if (operacionesPorLote <= 0) {
+            throw new IllegalArgumentException(
+                    "Las operaciones por lote deben ser positivas: "
+                            + operacionesPorLote);
+        }
+        if (bytesParaCompactar <= 0) {
+            throw new IllegalArgumentException(
+                    "El umbral de compactación debe ser positivo: " + bytesParaCompactar);
+        }
+        Files.createDirectories(directorio);
+        Diccionario<K, V> diccionario = cargarInstantanea(directorio.resolve(INSTANTANEA),
+                codecDeLlaves, codecDeValores);
+        FileChannel registro = FileChannel.open(directorio.resolve(REGISTRO),
+                StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            long validos = CABECERA;
+            if (registro.size() == 0) {
+                escribirCabecera(registro);
+            } else {
+                validos = reproducir(registro, diccionario, codecDeLlaves,
+                        codecDeValores);
+            }
+            // Descarta el registro incompleto o dañado que dejó una caída.
+            registro.truncate(validos);
+            registro.position(validos);
+            return new DiccionarioDurable<>(directorio, diccionario, registro,
+                    codecDeLlaves, codecDeValores, operacionesPorLote,
+                    bytesParaCompactar);
+        } catch (IOException | RuntimeException e) {
+            registro.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public V put(K key, V value) {
+        verificarAbierto();
+        V anterior = diccionario.put(key, value);
+        registrar(value == null ? PUT_NULO : PUT, key, value);
+        return anterior;
+    }
+
+    @Override
+    public boolean remove(K key) {
+        verificarAbierto();
+        boolean eliminada = diccionario.remove(key);
+        if (eliminada) {
+            registrar(REMOVE, key, null);
+        }
+        return eliminada;
+    }
+
+    @Override
+    public V get(K key) {
+        verificarAbierto();
+        return diccionario.get(key);
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        verificarAbierto();
+        return diccionario.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return diccionario.size();
+    }
+
+    @Override
+    public int capacidad() {
+        return diccionario.capacidad();
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> accion) {
+        verificarAbierto();
+        diccionario.forEach(accion);
+    }
+
+    /**
+     * Escribe los registros pendientes y los fuerza a disco. Al volver, todas
+     * las operaciones hechas hasta el momento sobreviven a una caída.
+     *
+     * @throws UncheckedIOException  si falla la escritura.
+     * @throws IllegalStateException si el diccionario está cerrado.
+     */
+    public void sincronizar() {
+        verificarAbierto();
+        try {
+            escribirLote();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Guarda el contenido completo como instantánea y vacía el registro.
+     *
+     * @throws UncheckedIOException  si falla la escritura.
+     * @throws IllegalStateException si el diccionario está cerrado.
+     */
+    public void compactar() {
+        verificarAbierto();
+        try {
+            escribirLote();
+            Path instantanea = directorio.resolve(INSTANTANEA);
+            Path temporal = directorio.resolve(INSTANTANEA + ".tmp");
+            try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                Instantanea.guardar(diccionario, Channels.newOutputStream(canal),
+                        codecDeLlaves, codecDeValores);
+                canal.force(true);
+            }
+            Files.move(temporal, instantanea, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            // Si el vaciado del registro llegara al disco antes que el
+            // reemplazo, se perderían operaciones ya sincronizadas.
+            try (FileChannel carpeta =
+                         FileChannel.open(directorio, StandardOpenOption.READ)) {
+                carpeta.force(true);
+            }
+            registro.truncate(CABECERA);
+            registro.position(CABECERA);
+            registro.force(true);
+            tamanioDelRegistro = CABECERA;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Devuelve el directorio del diccionario.
+     *
+     * @return la ruta del directorio.
+     */
+    public Path directorio() {
+        return directorio;
+    }
+
+    /**
+     * Sincroniza los registros pendientes y cierra el registro. Llamarlo más de
+     * una vez no tiene efecto.
+     *
+     * @throws UncheckedIOException si falla la escritura o el cierre.
+     */
+    @Override
+    public void close() {
+        if (!cerrado) {
+            try {
+                escribirLote();
+                registro.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                cerrado = true;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return cerrado ? "DiccionarioDurable{cerrado}"
+                : "DiccionarioDurable{" + directorio + ", " + diccionario + '}';
+    }
+
+    /**
+     * Agrega un registro al lote y, si el lote está completo, lo sincroniza.
+     *
+     * @param tipo  el tipo de registro.
+     * @param llave la clave de la operación.
+     * @param valor el valor asociado, o {@code null}.
+     * @throws UncheckedIOException si falla la escritura.
+     */
+    private void registrar(byte tipo, K llave, V valor) {
+        try {
+            datos.reset();
+            codecDeLlaves.escribir(salidaDeDatos, llave);
+            if (tipo == PUT) {
+                codecDeValores.escribir(salidaDeDatos, valor);
+            }
+            salidaDelLote.writeByte(tipo);
+            salidaDelLote.writeInt(datos.size());
+            salidaDelLote.writeInt(sumaDeVerificacion(crc, tipo, datos.toByteArray(), 0,
+                    datos.size()));
+            datos.writeTo(lote);
+            pendientes++;
+            if (pendientes >= operacionesPorLote) {
+                escribirLote();
+                if (tamanioDelRegistro >= bytesParaCompactar) {
+                    compactar();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Escribe el lote pendiente al final del registro y lo fuerza a disco con
+     * una única sincronización.
+     *
+     * @throws IOException si falla la escritura.
+     */
+    private void escribirLote() throws IOException {
+        if (pendientes > 0) {
+            ByteBuffer buffer = ByteBuffer.wrap(lote.toByteArray());
+            while (buffer.hasRemaining()) {
+                registro.write(buffer);
+            }
+            registro.force(false);
+            tamanioDelRegistro = tamanioDelRegistro + lote.size();
+            lote.reset();
+            pendientes = 0;
+        }
+    }
+
+    /**
+     * Lanza una excepción si el diccionario está cerrado.
+     *
+     * @throws IllegalStateException si el diccionario está cerrado.
+     */
+    private void verificarAbierto() {
+        if (cerrado) {
+            throw new IllegalStateException("El diccionario está cerrado.");
+        }
+    }
+
+    /**
+     * Carga la instantánea, o devuelve un diccionario vacío si no existe.
+     *
+     * @param archivo        el archivo de la instantánea.
+     * @param codecDeLlaves  cómo se leen las claves.
+     * @param codecDeValores cómo se leen los valores.
+     * @param <K>            el tipo de las claves.
+     * @param <V>            el tipo de los valores.
+     * @return el contenido de la instantánea.
+     * @throws IOException si la instantánea no puede leerse.
+     */
+    private static <K, V> Diccionario<K, V> cargarInstantanea(Path archivo,
+                                                              Codec<K> codecDeLlaves,
+                                                              Codec<V> codecDeValores)
+            throws IOException {
+        Diccionario<K, V> diccionario;
+        if (Files.exists(archivo)) {
+            try (InputStream entrada =
+                         new BufferedInputStream(Files.newInputStream(archivo))) {
+                diccionario = Instantanea.cargar(entrada, codecDeLlaves, codecDeValores);
+            }
+        } else {
+            diccionario = new Diccionario<>(CAPACIDAD_INICIAL, FACTOR_DE_CARGA,
+                    PoliticaColision.ENCADENAMIENTO, FuncionIndice.DISPERSION,
+                    EstrategiaHash.natural());
+        }
+        return diccionario;
+    }
+
+    /**
+     * Escribe la cabecera de un registro vacío.
+     *
+     * @param registro el canal del registro.
+     * @throws IOException si falla la escritura.
+     */
+    private static void escribirCabecera(FileChannel registro) throws IOException {
+        ByteBuffer cabecera = ByteBuffer.allocate(CABECERA).putInt(MARCA).putInt(VERSION);
+        cabecera.flip();
+        while (cabecera.hasRemaining()) {
+            registro.write(cabecera, CABECERA - cabecera.remaining());
+        }
+        registro.force(true);
+    }
+
+    /**
+     * Aplica al diccionario los registros válidos del archivo, en orden.
+     *
+     * @param registro       el canal del registro.
+     * @param diccionario    dónde aplicar las operaciones.
+     * @param codecDeLlaves  cómo se leen las claves.
+     * @param codecDeValores cómo se leen los valores.
+     * @param <K>            el tipo de las claves.
+     * @param <V>            el tipo de los valores.
+     * @return la posición que sigue al último registro válido.
+     * @throws IOException si el archivo no es un registro o es de otra versión.
+     */
+    private static <K, V> long reproducir(FileChannel registro,
+                                          Diccionario<K, V> diccionario,
+                                          Codec<K> codecDeLlaves,
+                                          Codec<V> codecDeValores)
+            throws IOException {
+        long tamanio = registro.size();
+        registro.position(0);
+        // El flujo no se cierra: cerrarlo cerraría también el canal.
+        DataInputStream entrada = new DataInputStream(new BufferedInputStream(
+                Channels.newInputStream(registro)));
+        if (tamanio < CABECERA || entrada.readInt() != MARCA) {
+            throw new IOException("El archivo no es un registro de operaciones.");
+        }
+        int version = entrada.readInt();
+        if (version != VERSION) {
+            throw new IOException("Versión de registro desconocida: " + version);
+        }
+        long validos = CABECERA;
+        boolean seguir = true;
+        while (seguir) {
+            byte[] carga = leerRegistro(entrada, tamanio - validos);
+            seguir = carga != null;
+            if (seguir) {
+                aplicar(carga, diccionario, codecDeLlaves, codecDeValores);
+                validos = validos + ENCABEZADO_DE_REGISTRO + carga.length - 1;
+            }
+        }
+        return validos;
+    }
+
+    /**
+     * Lee el siguiente registro completo y verifica su CRC.
+     *
+     * @param entrada   el flujo del registro.
+     * @param restantes los bytes que quedan en el archivo.
+     * @return el tipo seguido de los datos del registro, o {@code null} si no
+     *         quedan registros válidos.
+     * @throws IOException si falla la lectura.
+     */
+    private static byte[] leerRegistro(DataInputStream entrada, long restantes)
+            throws IOException {
+        byte[] carga = null;
+        if (restantes >= ENCABEZADO_DE_REGISTRO) {
+            byte tipo = entrada.readByte();
+            int longitud = entrada.readInt();
+            int suma = entrada.readInt();
+            if (tipo >= PUT && tipo <= REMOVE && longitud >= 0
+                    && longitud <= restantes - ENCABEZADO_DE_REGISTRO) {
+                byte[] leida = new byte[longitud + 1];
+                leida[0] = tipo;
+                try {
+                    entrada.readFully(leida, 1, longitud);
+                    int calculada = sumaDeVerificacion(new CRC32(), tipo, leida, 1, longitud);
+                    if (calculada == suma) {
+                        carga = leida;
+                    }
+                } catch (EOFException e) {
+                    carga = null;
+                }
+            }
+        }
+        return carga;
+    }
+
+    /**
+     * Calcula la suma de verificación de un registro, que cubre el tipo, la
+     * longitud y los datos.
+     *
+     * @param crc      el acumulador a usar; se reinicia antes de calcular.
+     * @param tipo     el tipo de registro.
+     * @param datos    el arreglo con los datos del registro.
+     * @param desde    la posición de los datos en el arreglo.
+     * @param longitud la cantidad de bytes de datos.
+     * @return el CRC-32 del registro.
+     */
+    private static int sumaDeVerificacion(CRC32 crc, byte tipo, byte[] datos, int desde,
+                                          int longitud) {
+        crc.reset();
+        crc.update(tipo);
+        for (int desplazamiento = Integer.SIZE - Byte.SIZE; desplazamiento >= 0;
+             desplazamiento = desplazamiento - Byte.SIZE) {
+            crc.update(longitud >>> desplazamiento);
+        }
+        crc.update(datos, desde, longitud);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Aplica la operación de un registro al diccionario.
+     *
+     * @param carga          el tipo seguido de los datos del registro.
+     * @param diccionario    dónde aplicar la operación.
+     * @param codecDeLlaves  cómo se leen las claves.
+     * @param codecDeValores cómo se leen los valores.
+     * @param <K>            el tipo de las claves.
+     * @param <V>            el tipo de los valores.
+     * @throws IOException si los datos no corresponden a los codecs.
+     */
+    private static <K, V> void aplicar(byte[] carga, Diccionario<K, V> diccionario,
+                                       Codec<K> codecDeLlaves, Codec<V> codecDeValores)
+            throws IOException {
+        DataInputStream datos = new DataInputStream(
+                new ByteArrayInputStream(carga, 1, carga.length - 1));
+        K llave = codecDeLlaves.leer(datos);
+        if (carga[0] == REMOVE) {
+            diccionario.remove(llave);
+        } else {
+            diccionario.put(llave, carga[0] == PUT ? codecDeValores.leer(datos) : null);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package ar.unrn.diccionario;
+
+import ar.unrn.diccionario.excepciones.LlaveNulaException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Diccionario de solo lectura para un conjunto de claves conocido de antemano,
+ * indexado con un {@link HashPerfectoMinimo}.
+ * <p>
+ * Cada clave tiene su propia posición en los arreglos de claves y valores, así
+ * que no hay colisiones que resolver: una búsqueda calcula el índice de la
+ * clave y la compara con la única clave guardada en esa posición. Los arreglos
+ * no tienen posiciones libres y el índice ocupa unos 3 bits por clave, de modo
+ * que es la forma más compacta de guardar una tabla grande que no cambia.
+ * </p>
+ * <p>
+ * Como {@link DiccionarioInmutable}, todos los campos son {@code final} y una
+ * instancia puede compartirse entre hilos sin sincronización. Se obtiene con
+ * {@link #copiaDe(TablaHashLectura)} o con {@link #de(Collection, Function)}.
+ * </p>
+ *
+ * @param <K> el tipo de las claves.
+ * @param <V> el tipo de los valores.
+ */
+public final class DiccionarioEstatico<K, V> implements TablaHashLectura<K, V> {
+
+    /**
+     * La función que asigna a cada clave su posición.
+     */
+    private final HashPerfectoMinimo<K> indice;
+    /**
+     * Las claves, cada una en la posición que le asigna {@link #indice}.
+     */
+    private final Object[] llaves;
+    /**
+     * Los valores, en la misma posición que su clave.
+     */
+    private final Object[] valores;
+    /**
+     * La estrategia con la que se comparan las claves.
+     */
+    private final EstrategiaHash<? super K> estrategia;
+
+    /**
+     * Construye el diccionario a partir de las entradas ya recolectadas.
+     *
+     * @param entradasLlaves  las claves, sin repetir.
+     * @param entradasValores los valores, en la misma posición que su clave.
+     * @param gamma           bits por clave pendiente de cada nivel del índice.
+     * @param estrategia      la estrategia de hash de las claves.
+     * @throws IllegalArgumentException si hay claves repetidas según la
+     *                                  estrategia.
+     */
+    private DiccionarioEstatico(List<K> entradasLlaves, List<V> entradasValores,
+                                double gamma, EstrategiaHash<? super K> estrategia) {
+        this.estrategia = estrategia;
+        this.indice = new HashPerfectoMinimo<>(entradasLlaves, gamma, estrategia);
+        this.llaves = new Object[entradasLlaves.size()];
+        this.valores = new Object[entradasLlaves.size()];
+        for (int i = 0; i < llaves.length; i++) {
+            int posicion = indice.indice(entradasLlaves.get(i));
+            llaves[posicion] = entradasLlaves.get(i);
+            valores[posicion] = entradasValores.get(i);
+        }
+    }
+
+    /**
+     * Crea un diccionario estático con las entradas de una tabla, comparando
+     * sus claves con {@code hashCode()} y {@code equals()}.
+     *
+     * @param tabla la tabla a copiar.
+     * @param <K>   el tipo de las claves.
+     * @param <V>   el tipo de los valores.
+     * @return el diccionario estático.
+     */
+    public static <K, V> DiccionarioEstatico<K, V> copiaDe(TablaHashLectura<K, V> tabla) {
+        return copiaDe(tabla, 1.0, EstrategiaHash.natural());
+    }
+
+    /**
+     * Crea un diccionario estático con las entradas de una tabla.
+     *
+     * @param tabla      la tabla a copiar.
+     * @param gamma      bits por clave pendiente de cada nivel del índice,
+     *                   entre 1 y 4; ver {@link HashPerfectoMinimo}.
+     * @param estrategia la estrategia con la que se calculan los hashes y se
+     *                   comparan las claves.
+     * @param <K>        el tipo de las claves.
+     * @param <V>        el tipo de los valores.
+     * @return el diccionario estático.
+     * @throws NullPointerException     si la tabla o la estrategia son
+     *                                  {@code null}.
+     * @throws IllegalArgumentException si la tabla tiene claves que la
+     *                                  estrategia considera iguales o
+     *                                  {@code gamma} está fuera de rango.
+     */
+    public static <K, V> DiccionarioEstatico<K, V> copiaDe(
+            TablaHashLectura<K, V> tabla, double gamma,
+            EstrategiaHash<? super K> estrategia) {
+        Objects.requireNonNull(estrategia, "La estrategia no puede ser nula.");
+        List<K> entradasLlaves = new ArrayList<>(tabla.size());
+        List<V> entradasValores = new ArrayList<>(tabla.size());
+        tabla.forEach((llave, valor) -> {
+            entradasLlaves.add(llave);
+            entradasValores.add(valor);
+        });
+        return new DiccionarioEstatico<>(entradasLlaves, entradasValores, gamma,
+                estrategia);
+    }
+
+    /**
+     * Crea un diccionario estático para un conjunto de claves, calculando el
+     * valor de cada una con una función.
+     *
+     * @param llaves  las claves, sin repetir.
+     * @param funcion calcula el valor de cada clave.
+     * @param <K>     el tipo de las claves.
+     * @param <V>     el tipo de los valores.
+     * @return el diccionario estático.
+     * @throws LlaveNulaException       si alguna clave es {@code null}.
+     * @throws IllegalArgumentException si hay claves repetidas.
+     */
+    public static <K, V> DiccionarioEstatico<K, V> de(
+            Collection<? extends K> llaves, Function<? super K, ? extends V> funcion) {
+        Objects.requireNonNull(funcion);
+        List<K> entradasLlaves = new ArrayList<>(llaves);
+        List<V> entradasValores = new ArrayList<>(entradasLlaves.size());
+        for (K llave : entradasLlaves) {
+            entradasValores.add(funcion.apply(llave));
+        }
+        return new DiccionarioEstatico<>(entradasLlaves, entradasValores, 1.0,
+                EstrategiaHash.natural());
+    }
+
+    /**
+     * Recupera el valor al que está mapeada una clave.
+     *
+     * @param key la clave buscada. No puede ser {@code null}.
+     * @return el valor asociado, o {@code null} si la clave no está.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        int posicion = posicionDe(key);
+        return posicion >= 0 ? (V) valores[posicion] : null;
+    }
+
+    /**
+     * Comprueba si el diccionario contiene una clave.
+     *
+     * @param key la clave buscada. No puede ser {@code null}.
+     * @return {@code true} si la clave está en el diccionario.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return posicionDe(key) >= 0;
+    }
+
+    /**
+     * Devuelve el número de asociaciones clave-valor del diccionario.
+     *
+     * @return la cantidad de elementos.
+     */
+    @Override
+    public int size() {
+        return llaves.length;
+    }
+
+    /**
+     * Devuelve la cantidad de posiciones del diccionario, que es siempre igual
+     * a la cantidad de elementos.
+     *
+     * @return la cantidad de posiciones.
+     */
+    @Override
+    public int capacidad() {
+        return llaves.length;
+    }
+
+    /**
+     * Devuelve la memoria que ocupa el índice por clave.
+     *
+     * @return los bits por clave del {@link HashPerfectoMinimo}.
+     */
+    public double bitsPorClave() {
+        return indice.bitsPorClave();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> accion) {
+        Objects.requireNonNull(accion);
+        for (int i = 0; i < llaves.length; i++) {
+            accion.accept((K) llaves[i], (V) valores[i]);
+        }
+    }
+
+    /**
+     * Crea una copia inmutable del diccionario que conserva su
+     * {@link EstrategiaHash}.
+     *
+     * @return la copia inmutable.
+     */
+    @Override
+    public DiccionarioInmutable<K, V> congelar() {
+        return DiccionarioInmutable.copiaDe(this, estrategia);
+    }
+
+    /**
+     * Busca la posición de una clave y comprueba que sea la guardada allí.
+     *
+     * @param key la clave buscada.
+     * @return la posición de la clave en los arreglos, o {@code -1} si no está.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    private int posicionDe(K key) {
+        int posicion = indice.indice(key);
+        return posicion >= 0 && posicion < llaves.length
+                && estrategia.iguales((K) llaves[posicion], key) ? posicion : -1;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder("DiccionarioEstatico{");
+        for (int i = 0; i < llaves.length; i++) {
+            if (i > 0) {
+                texto.append(", ");
+            }
+            texto.append(llaves[i]).append('=').append(valores[i]);
+        }
+        return texto.append('}').toString();
+    }
+}
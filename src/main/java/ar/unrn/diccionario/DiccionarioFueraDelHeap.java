@@ -0,0 +1,137 @@
+package ar.unrn.diccionario;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Diccionario de claves {@code long} a valores {@code long} cuya tabla vive
+ * fuera del heap de Java.
+ * <p>
+ * Las entradas se guardan en memoria nativa, en {@link ByteBuffer} directos de
+ * hasta 1 GiB ("tramos"): cada posición ocupa 16 bytes, la clave seguida de su
+ * valor, así que un sondeo lee una sola línea de caché. Para el recolector de
+ * basura la tabla es solo un puñado de objetos, sin importar cuántas entradas
+ * tenga, y no depende del tamaño del heap: la cantidad de posiciones es un
+ * {@code long} y la tabla puede superar los 2 GiB que admite un único
+ * arreglo o buffer. El tope lo fija la opción {@code -XX:MaxDirectMemorySize}
+ * de la máquina virtual, que si no se indica vale lo mismo que el heap máximo
+ * ({@code -Xmx}): para una tabla más grande que el heap hay que subirla.
+ * </p>
+ * <p>
+ * El algoritmo es el de {@link IntIntDiccionario}: sondeo lineal sobre el hash
+ * mezclado, la clave {@code 0} como marca de posición libre (la propia clave
+ * {@code 0} se guarda aparte) y desplazamiento hacia atrás al eliminar. Al
+ * crecer se reserva una tabla del doble de tamaño mientras la anterior sigue
+ * en uso, por lo que conviene indicar la capacidad necesaria al construirlo.
+ * </p>
+ * <p>
+ * {@link #close()} libera los tramos en el acto, igual que el crecimiento
+ * libera los de la tabla anterior, con {@code sun.misc.Unsafe.invokeCleaner}
+ * del módulo {@code jdk.unsupported}. Si ese módulo no está, la memoria queda
+ * reservada hasta que el recolector descarta los buffers, lo que puede tardar
+ * y agotar el tope anterior aunque el diccionario ya no la use. Después de
+ * cerrarlo, cualquier operación lanza {@link IllegalStateException}. No es
+ * seguro usarlo desde varios hilos.
+ * </p>
+ */
+public final class DiccionarioFueraDelHeap extends TablaLongLong {
+
+    /**
+     * Cantidad máxima de posiciones de la tabla (256 GiB de memoria nativa).
+     */
+    public static final long CAPACIDAD_MAXIMA = TablaLongLong.CAPACIDAD_MAXIMA;
+    /**
+     * Cantidad de posiciones con la que comienza el diccionario por defecto.
+     */
+    private static final long CAPACIDAD_POR_DEFECTO = 16;
+    /**
+     * Factor de carga por defecto.
+     */
+    private static final float FACTOR_DE_CARGA_POR_DEFECTO = 0.75f;
+    /**
+     * La instancia de {@code sun.misc.Unsafe}, o {@code null} si no está
+     * disponible.
+     */
+    private static final Object INSEGURO;
+    /**
+     * El método {@code invokeCleaner} de {@code sun.misc.Unsafe}, que libera la
+     * memoria de un buffer directo, o {@code null} si no está disponible.
+     */
+    private static final Method LIBERADOR;
+
+    static {
+        Object inseguro = null;
+        Method liberador = null;
+        try {
+            Class<?> clase = Class.forName("sun.misc.Unsafe");
+            Field instancia = clase.getDeclaredField("theUnsafe");
+            instancia.setAccessible(true);
+            inseguro = instancia.get(null);
+            liberador = clase.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Sin jdk.unsupported los tramos quedan a cargo del recolector.
+            inseguro = null;
+            liberador = null;
+        }
+        INSEGURO = inseguro;
+        LIBERADOR = liberador;
+    }
+
+    /**
+     * Construye un diccionario vacío con la capacidad y el factor de carga por
+     * defecto, cuyo valor ausente es {@code 0}.
+     */
+    public DiccionarioFueraDelHeap() {
+        this(CAPACIDAD_POR_DEFECTO, FACTOR_DE_CARGA_POR_DEFECTO, 0);
+    }
+
+    /**
+     * Construye un diccionario vacío con la capacidad, el factor de carga y el
+     * valor ausente indicados.
+     *
+     * @param capacidadInicial la cantidad de posiciones con la que comienza el
+     *                         diccionario. Se redondea a la siguiente potencia
+     *                         de dos.
+     * @param factorDeCarga    la proporción de posiciones ocupadas a partir de la
+     *                         cual la tabla se duplica; debe ser menor a 1.
+     * @param valorAusente     el valor que se devuelve para las claves que no
+     *                         están en el diccionario.
+     * @throws IllegalArgumentException si la capacidad no está entre 1 y
+     *                                  {@link #CAPACIDAD_MAXIMA} o el factor de
+     *                                  carga no está en el intervalo (0, 1).
+     */
+    public DiccionarioFueraDelHeap(long capacidadInicial, float factorDeCarga,
+                                   long valorAusente) {
+        super(factorDeCarga, valorAusente);
+        inicializar(potenciaDeDos(capacidadInicial));
+    }
+
+    @Override
+    ByteBuffer[] reservar(long nuevaCapacidad) {
+        long entradasPorTramo = entradasPorTramo(nuevaCapacidad);
+        int bytesPorTramo = (int) (entradasPorTramo << BITS_POR_ENTRADA);
+        ByteBuffer[] nuevos = new ByteBuffer[(int) (nuevaCapacidad / entradasPorTramo)];
+        for (int i = 0; i < nuevos.length; i++) {
+            // allocateDirect devuelve la memoria en cero: todas las posiciones libres.
+            nuevos[i] = ByteBuffer.allocateDirect(bytesPorTramo)
+                    .order(ByteOrder.nativeOrder());
+        }
+        return nuevos;
+    }
+
+    @Override
+    void liberar(ByteBuffer[] descartados) {
+        if (LIBERADOR != null) {
+            for (ByteBuffer tramo : descartados) {
+                try {
+                    LIBERADOR.invoke(INSEGURO, tramo);
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException(
+                            "No se pudo liberar la memoria de un tramo.", e);
+                }
+            }
+        }
+    }
+}
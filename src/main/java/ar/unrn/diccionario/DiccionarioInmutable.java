@@ -0,0 +1,246 @@
+package ar.unrn.diccionario;
+
+import ar.unrn.diccionario.excepciones.LlaveNulaException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Copia inmutable de un diccionario, pensada para tablas que se construyen una
+ * vez y luego solo se consultan, posiblemente desde muchos hilos.
+ * <p>
+ * No usa un objeto por entrada: las claves, los valores y los hashes se
+ * guardan en tres arreglos planos sin posiciones libres, ordenados por balde,
+ * y un cuarto arreglo indica dónde comienza cada balde (la disposición
+ * "CSR" de las matrices dispersas). Una búsqueda calcula el balde de la clave
+ * y recorre solo el tramo contiguo que le corresponde, comparando primero los
+ * hashes guardados. Con tantos baldes como entradas (redondeado a una potencia
+ * de dos), cada entrada ocupa unos 16 bytes de arreglos en lugar de los más
+ * de 30 de un {@code Balde}, y las entradas de un mismo balde quedan juntas en
+ * memoria.
+ * </p>
+ * <p>
+ * Todos los campos son {@code final} y los arreglos nunca se modifican después
+ * de construirlos, así que una instancia puede compartirse entre hilos sin
+ * ninguna sincronización. Se obtiene con {@link TablaHashLectura#congelar()} o
+ * con {@link #copiaDe(TablaHashLectura, EstrategiaHash)}.
+ * </p>
+ *
+ * @param <K> el tipo de las claves.
+ * @param <V> el tipo de los valores.
+ */
+public final class DiccionarioInmutable<K, V> implements TablaHashLectura<K, V> {
+
+    /**
+     * Posición en la que comienza cada balde dentro de los arreglos de
+     * entradas; el balde {@code b} ocupa {@code [inicios[b], inicios[b + 1])}.
+     * Tiene un elemento más que la cantidad de baldes.
+     */
+    private final int[] inicios;
+    /**
+     * El hash de cada clave según la estrategia.
+     */
+    private final int[] hashes;
+    /**
+     * Las claves, ordenadas por balde.
+     */
+    private final Object[] llaves;
+    /**
+     * Los valores, en la misma posición que su clave.
+     */
+    private final Object[] valores;
+    /**
+     * La estrategia con la que se calculan los hashes y se comparan las claves.
+     */
+    private final EstrategiaHash<? super K> estrategia;
+
+    /**
+     * Construye la copia a partir de las entradas ya recolectadas.
+     *
+     * @param entradasLlaves  las claves, sin repetir.
+     * @param entradasValores los valores, en la misma posición que su clave.
+     * @param estrategia      la estrategia de hash de las claves.
+     * @throws IllegalArgumentException si hay claves repetidas según la
+     *                                  estrategia.
+     */
+    @SuppressWarnings("unchecked")
+    private DiccionarioInmutable(List<K> entradasLlaves, List<V> entradasValores,
+                                 EstrategiaHash<? super K> estrategia) {
+        int cantidad = entradasLlaves.size();
+        int capacidad = Tablas.potenciaDeDos(Math.max(cantidad, 1));
+        int mascara = capacidad - 1;
+        this.estrategia = estrategia;
+        this.inicios = new int[capacidad + 1];
+        this.hashes = new int[cantidad];
+        this.llaves = new Object[cantidad];
+        this.valores = new Object[cantidad];
+        int[] hashesRecolectados = new int[cantidad];
+        // Primera pasada: contar las entradas de cada balde.
+        for (int i = 0; i < cantidad; i++) {
+            hashesRecolectados[i] = Tablas.hashDe(entradasLlaves.get(i), estrategia);
+            inicios[(Tablas.mezclar(hashesRecolectados[i]) & mascara) + 1]++;
+        }
+        for (int b = 0; b < capacidad; b++) {
+            inicios[b + 1] = inicios[b + 1] + inicios[b];
+        }
+        // Segunda pasada: ubicar cada entrada en el tramo de su balde.
+        int[] siguientes = new int[capacidad];
+        System.arraycopy(inicios, 0, siguientes, 0, capacidad);
+        for (int i = 0; i < cantidad; i++) {
+            K llave = entradasLlaves.get(i);
+            int hash = hashesRecolectados[i];
+            int balde = Tablas.mezclar(hash) & mascara;
+            for (int j = inicios[balde]; j < siguientes[balde]; j++) {
+                if (hashes[j] == hash && estrategia.iguales((K) llaves[j], llave)) {
+                    throw new IllegalArgumentException(
+                            "La clave está repetida según la estrategia: " + llave);
+                }
+            }
+            int posicion = siguientes[balde];
+            siguientes[balde] = posicion + 1;
+            hashes[posicion] = hash;
+            llaves[posicion] = llave;
+            valores[posicion] = entradasValores.get(i);
+        }
+    }
+
+    /**
+     * Crea una copia inmutable de una tabla, comparando sus claves con
+     * {@code hashCode()} y {@code equals()}.
+     *
+     * @param tabla la tabla a copiar.
+     * @param <K>   el tipo de las claves.
+     * @param <V>   el tipo de los valores.
+     * @return la copia inmutable.
+     */
+    public static <K, V> DiccionarioInmutable<K, V> copiaDe(
+            TablaHashLectura<K, V> tabla) {
+        return copiaDe(tabla, EstrategiaHash.natural());
+    }
+
+    /**
+     * Crea una copia inmutable de una tabla usando una estrategia de hash para
+     * sus claves.
+     *
+     * @param tabla      la tabla a copiar.
+     * @param estrategia la estrategia con la que se calculan los hashes y se
+     *                   comparan las claves.
+     * @param <K>        el tipo de las claves.
+     * @param <V>        el tipo de los valores.
+     * @return la copia inmutable.
+     * @throws NullPointerException     si la tabla o la estrategia son
+     *                                  {@code null}.
+     * @throws IllegalArgumentException si la tabla tiene claves que la
+     *                                  estrategia considera iguales.
+     */
+    public static <K, V> DiccionarioInmutable<K, V> copiaDe(
+            TablaHashLectura<K, V> tabla, EstrategiaHash<? super K> estrategia) {
+        Objects.requireNonNull(estrategia, "La estrategia no puede ser nula.");
+        List<K> entradasLlaves = new ArrayList<>(tabla.size());
+        List<V> entradasValores = new ArrayList<>(tabla.size());
+        tabla.forEach((llave, valor) -> {
+            entradasLlaves.add(llave);
+            entradasValores.add(valor);
+        });
+        return new DiccionarioInmutable<>(entradasLlaves, entradasValores, estrategia);
+    }
+
+    /**
+     * Recupera el valor al que está mapeada una clave.
+     *
+     * @param key la clave buscada. No puede ser {@code null}.
+     * @return el valor asociado, o {@code null} si la clave no está.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        int posicion = posicionDe(key);
+        return posicion >= 0 ? (V) valores[posicion] : null;
+    }
+
+    /**
+     * Comprueba si la copia contiene una clave.
+     *
+     * @param key la clave buscada. No puede ser {@code null}.
+     * @return {@code true} si la clave está en la copia.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return posicionDe(key) >= 0;
+    }
+
+    /**
+     * Devuelve el número de asociaciones clave-valor de la copia.
+     *
+     * @return la cantidad de elementos.
+     */
+    @Override
+    public int size() {
+        return llaves.length;
+    }
+
+    /**
+     * Devuelve la cantidad de baldes de la copia.
+     *
+     * @return la cantidad de tramos en los que se reparten las entradas.
+     */
+    @Override
+    public int capacidad() {
+        return inicios.length - 1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> accion) {
+        Objects.requireNonNull(accion);
+        for (int i = 0; i < llaves.length; i++) {
+            accion.accept((K) llaves[i], (V) valores[i]);
+        }
+    }
+
+    /**
+     * Devuelve esta misma copia, que ya es inmutable.
+     *
+     * @return esta instancia.
+     */
+    @Override
+    public DiccionarioInmutable<K, V> congelar() {
+        return this;
+    }
+
+    /**
+     * Busca la posición de una clave recorriendo el tramo de su balde.
+     *
+     * @param key la clave buscada.
+     * @return la posición de la clave en los arreglos, o {@code -1} si no está.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    private int posicionDe(K key) {
+        int hash = Tablas.hashDe(key, estrategia);
+        int balde = Tablas.mezclar(hash) & (inicios.length - 2);
+        int resultado = -1;
+        for (int i = inicios[balde]; resultado < 0 && i < inicios[balde + 1]; i++) {
+            if (hashes[i] == hash && estrategia.iguales((K) llaves[i], key)) {
+                resultado = i;
+            }
+        }
+        return resultado;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder("DiccionarioInmutable{");
+        for (int i = 0; i < llaves.length; i++) {
+            if (i > 0) {
+                texto.append(", ");
+            }
+            texto.append(llaves[i]).append('=').append(valores[i]);
+        }
+        return texto.append('}').toString();
+    }
+}
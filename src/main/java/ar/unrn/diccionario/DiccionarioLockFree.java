@@ -0,0 +1,723 @@
+package ar.unrn.diccionario;
+
+import ar.unrn.diccionario.excepciones.LlaveNulaException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Diccionario con encadenamiento que puede compartirse entre varios hilos sin
+ * usar candados.
+ * <p>
+ * Las cadenas de cada balde son <em>inmutables</em>: ninguna entrada cambia
+ * después de creada. Para escribir, un hilo lee la cabeza del balde, arma una
+ * cadena nueva que refleja el cambio (copiando solo las entradas anteriores a
+ * la modificada y compartiendo el resto) e intenta instalarla con un
+ * {@code compareAndSet} sobre el balde, mediante un {@link VarHandle}. Si otro
+ * hilo cambió el balde mientras tanto, la instalación falla y se reintenta con
+ * la cabeza nueva. Así ningún hilo espera a otro: siempre progresa al menos
+ * uno, y los hilos que escriben en baldes distintos no interfieren entre sí.
+ * </p>
+ * <p>
+ * Las lecturas leen la cabeza del balde con semántica de adquisición
+ * ({@code getAcquire}) y recorren la cadena sin ninguna sincronización
+ * adicional, ya que las entradas publicadas nunca se modifican.
+ * </p>
+ * <p>
+ * La tabla crece de forma <em>incremental y cooperativa</em>, como
+ * {@link java.util.concurrent.ConcurrentHashMap}: al superar el umbral se crea
+ * una tabla del doble de tamaño y cada escritura posterior migra unos pocos
+ * baldes, de modo que ninguna operación paga el costo de copiar toda la
+ * tabla. Un balde migrado se reemplaza en la tabla anterior por un
+ * <em>reenvío</em> que apunta a la nueva; las operaciones que lo encuentran
+ * continúan allí. Como la cadena de cada balde es inmutable, el hilo que lo
+ * migra arma sus dos mitades en la tabla nueva antes de instalar el reenvío,
+ * así que nadie ve la tabla nueva incompleta. Si las escrituras se detienen a
+ * mitad de una migración, el diccionario sigue funcionando con ambas tablas.
+ * </p>
+ * <p>
+ * Las operaciones compuestas son atómicas, pero sus funciones pueden
+ * evaluarse más de una vez si la instalación debe reintentarse, así que no
+ * deberían tener efectos secundarios. No se admiten claves ni valores
+ * {@code null}.
+ * </p>
+ *
+ * @param <K> el tipo de las claves mantenidas por este diccionario.
+ * @param <V> el tipo de los valores mapeados.
+ * @see DiccionarioConcurrente
+ */
+public class DiccionarioLockFree<K, V> implements TablaHash<K, V> {
+
+    /**
+     * Cantidad de baldes con la que comienza el diccionario por defecto.
+     */
+    private static final int CAPACIDAD_POR_DEFECTO = 16;
+    /**
+     * Factor de carga por defecto.
+     */
+    private static final float FACTOR_DE_CARGA_POR_DEFECTO = 0.75f;
+    /**
+     * Cantidad de baldes que migra cada escritura mientras la tabla crece.
+     */
+    private static final int TRAMO_DE_MIGRACION = 16;
+    /**
+     * Acceso atómico a las posiciones del arreglo de baldes.
+     */
+    private static final VarHandle BALDES =
+            MethodHandles.arrayElementVarHandle(Nodo[].class);
+
+    /**
+     * La tabla actual y, si está creciendo, la migración en curso. Se reemplaza
+     * completo en cada cambio, de modo que una migración nunca puede asociarse
+     * a una tabla que no es la suya.
+     */
+    private final AtomicReference<Estado<K, V>> estado;
+    /**
+     * Proporción entre elementos y baldes a partir de la cual la tabla se
+     * duplica.
+     */
+    private final float factorDeCarga;
+    /**
+     * Cantidad de asociaciones clave-valor almacenadas.
+     */
+    private final LongAdder cantidad = new LongAdder();
+
+    /**
+     * Construye un diccionario vacío con la capacidad y el factor de carga por
+     * defecto.
+     */
+    public DiccionarioLockFree() {
+        this(CAPACIDAD_POR_DEFECTO, FACTOR_DE_CARGA_POR_DEFECTO);
+    }
+
+    /**
+     * Construye un diccionario vacío con la capacidad inicial indicada y el
+     * factor de carga por defecto.
+     *
+     * @param capacidadInicial la cantidad de baldes con la que comienza el
+     *                         diccionario. Se redondea a la siguiente potencia
+     *                         de dos.
+     * @throws IllegalArgumentException si la capacidad no es positiva.
+     */
+    public DiccionarioLockFree(int capacidadInicial) {
+        this(capacidadInicial, FACTOR_DE_CARGA_POR_DEFECTO);
+    }
+
+    /**
+     * Construye un diccionario vacío con la capacidad y el factor de carga
+     * indicados.
+     *
+     * @param capacidadInicial la cantidad de baldes con la que comienza el
+     *                         diccionario. Se redondea a la siguiente potencia
+     *                         de dos.
+     * @param factorDeCarga    la proporción entre elementos y baldes a partir de
+     *                         la cual la tabla se duplica.
+     * @throws IllegalArgumentException si la capacidad o el factor de carga no
+     *                                  son positivos.
+     */
+    public DiccionarioLockFree(int capacidadInicial, float factorDeCarga) {
+        Tablas.validar(capacidadInicial, factorDeCarga);
+        this.factorDeCarga = factorDeCarga;
+        int capacidad = Tablas.potenciaDeDos(capacidadInicial);
+        this.estado = new AtomicReference<>(new Estado<>(crearTabla(capacidad),
+                Tablas.umbral(capacidad, factorDeCarga)));
+    }
+
+    /**
+     * Asocia un valor a una clave, reemplazando el valor anterior si la clave ya
+     * estaba.
+     *
+     * @param key   la clave. No puede ser {@code null}.
+     * @param value el valor. No puede ser {@code null}.
+     * @return el valor que tenía la clave, o {@code null} si no estaba.
+     * @throws LlaveNulaException   si la clave es {@code null}.
+     * @throws NullPointerException si el valor es {@code null}.
+     */
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(value, "El valor no puede ser nulo.");
+        return actualizar(key, (llave, actual) -> value, true);
+    }
+
+    /**
+     * Recupera el valor al que está mapeada una clave.
+     *
+     * @param key la clave buscada. No puede ser {@code null}.
+     * @return el valor asociado, o {@code null} si la clave no está.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    @Override
+    public V get(K key) {
+        int hash = hashDe(key);
+        Nodo<K, V> nodo = buscar(cadenaDe(hash), hash, key);
+        return nodo == null ? null : nodo.valor;
+    }
+
+    /**
+     * Elimina el mapeo de una clave si está presente.
+     *
+     * @param key la clave a eliminar. No puede ser {@code null}.
+     * @return {@code true} si la clave estaba y fue eliminada.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    @Override
+    public boolean remove(K key) {
+        return actualizar(key, (llave, actual) -> null, true) != null;
+    }
+
+    /**
+     * Comprueba si el diccionario contiene una clave.
+     *
+     * @param key la clave buscada. No puede ser {@code null}.
+     * @return {@code true} si la clave está en el diccionario.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    @Override
+    public boolean containsKey(K key) {
+        int hash = hashDe(key);
+        return buscar(cadenaDe(hash), hash, key) != null;
+    }
+
+    /**
+     * Devuelve el número de asociaciones clave-valor en el diccionario. Si otros
+     * hilos están modificando el diccionario, el resultado es aproximado.
+     *
+     * @return la cantidad de elementos.
+     */
+    @Override
+    public int size() {
+        return (int) Math.min(cantidad.sum(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Devuelve la cantidad de baldes de la tabla actual. Mientras la tabla
+     * crece, es la cantidad de baldes de la tabla que se está migrando.
+     *
+     * @return la longitud de la tabla de baldes.
+     */
+    @Override
+    public int capacidad() {
+        return estado.get().tabla.length;
+    }
+
+    /**
+     * Asocia un valor a una clave solo si la clave no estaba, de forma atómica.
+     *
+     * @param key   la clave. No puede ser {@code null}.
+     * @param value el valor. No puede ser {@code null}.
+     * @return el valor que ya tenía la clave, o {@code null} si no estaba.
+     * @throws LlaveNulaException   si la clave es {@code null}.
+     * @throws NullPointerException si el valor es {@code null}.
+     */
+    @Override
+    public V putIfAbsent(K key, V value) {
+        Objects.requireNonNull(value, "El valor no puede ser nulo.");
+        return actualizar(key, (llave, actual) -> actual == null ? value : actual, true);
+    }
+
+    /**
+     * Devuelve el valor de una clave, calculándolo y agregándolo de forma
+     * atómica si la clave no estaba.
+     *
+     * @param key     la clave. No puede ser {@code null}.
+     * @param funcion calcula el valor a partir de la clave; puede evaluarse más
+     *                de una vez si otro hilo modifica el mismo balde.
+     * @return el valor asociado a la clave, o {@code null} si no estaba y la
+     *         función devolvió {@code null}.
+     * @throws LlaveNulaException   si la clave es {@code null}.
+     * @throws NullPointerException si la función es {@code null}.
+     */
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> funcion) {
+        Objects.requireNonNull(funcion);
+        return actualizar(key,
+                (llave, actual) -> actual == null ? funcion.apply(llave) : actual, false);
+    }
+
+    /**
+     * Calcula de forma atómica un nuevo valor para una clave a partir de su
+     * valor actual. Si la función devuelve {@code null}, la clave se elimina.
+     *
+     * @param key     la clave. No puede ser {@code null}.
+     * @param funcion recibe la clave y su valor actual ({@code null} si no
+     *                estaba); puede evaluarse más de una vez si otro hilo
+     *                modifica el mismo balde.
+     * @return el nuevo valor de la clave, o {@code null} si quedó sin valor.
+     * @throws LlaveNulaException   si la clave es {@code null}.
+     * @throws NullPointerException si la función es {@code null}.
+     */
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> funcion) {
+        Objects.requireNonNull(funcion);
+        return actualizar(key, funcion, false);
+    }
+
+    /**
+     * Combina de forma atómica un valor con el valor actual de una clave. Si la
+     * clave no estaba, se agrega con el valor dado; si la función devuelve
+     * {@code null}, la clave se elimina.
+     *
+     * @param key     la clave. No puede ser {@code null}.
+     * @param value   el valor a combinar. No puede ser {@code null}.
+     * @param funcion recibe el valor actual y {@code value}; puede evaluarse
+     *                más de una vez si otro hilo modifica el mismo balde.
+     * @return el nuevo valor de la clave, o {@code null} si quedó sin valor.
+     * @throws LlaveNulaException   si la clave es {@code null}.
+     * @throws NullPointerException si el valor o la función son {@code null}.
+     */
+    @Override
+    public V merge(K key, V value,
+                   BiFunction<? super V, ? super V, ? extends V> funcion) {
+        Objects.requireNonNull(value, "El valor no puede ser nulo.");
+        Objects.requireNonNull(funcion);
+        return actualizar(key,
+                (llave, actual) -> actual == null ? value : funcion.apply(actual, value),
+                false);
+    }
+
+    /**
+     * Operación de escritura común: calcula el nuevo valor a partir del actual
+     * y arma la cadena que lo refleja, reintentando hasta poder instalarla en
+     * el balde sin que otro hilo lo haya cambiado. Después, colabora con la
+     * migración en curso o la inicia si la tabla superó su umbral.
+     *
+     * @param key              la clave.
+     * @param funcion          calcula el nuevo valor a partir de la clave y del
+     *                         valor actual; {@code null} indica quitar la clave.
+     * @param devolverAnterior si se devuelve el valor anterior en lugar del
+     *                         nuevo.
+     * @return el valor anterior o el nuevo, según {@code devolverAnterior}.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    private V actualizar(K key, BiFunction<? super K, ? super V, ? extends V> funcion,
+                         boolean devolverAnterior) {
+        int hash = hashDe(key);
+        Nodo<K, V>[] tabla = estado.get().tabla;
+        V anterior = null;
+        V nuevo = null;
+        boolean instalado = false;
+        while (!instalado) {
+            int indice = hash & (tabla.length - 1);
+            Nodo<K, V> primero = cabeza(tabla, indice);
+            if (primero instanceof Reenvio<K, V> reenvio) {
+                // El balde ya se migró: se continúa en la tabla nueva.
+                tabla = reenvio.nueva;
+            } else {
+                Nodo<K, V> nodo = buscar(primero, hash, key);
+                anterior = nodo == null ? null : nodo.valor;
+                nuevo = funcion.apply(key, anterior);
+                Nodo<K, V> reemplazo = armarCadena(primero, nodo, hash, key, nuevo);
+                instalado = reemplazo == primero
+                        || BALDES.compareAndSet(tabla, indice, primero, reemplazo);
+            }
+        }
+        if (anterior == null && nuevo != null) {
+            cantidad.increment();
+        } else if (anterior != null && nuevo == null) {
+            cantidad.decrement();
+        }
+        Estado<K, V> actual = estado.get();
+        if (actual.nueva != null) {
+            migrarTramo(actual);
+        } else if (cantidad.sum() > actual.umbral
+                && actual.tabla.length < Tablas.CAPACIDAD_MAXIMA) {
+            iniciarMigracion(actual);
+        }
+        return devolverAnterior ? anterior : nuevo;
+    }
+
+    /**
+     * Arma la cadena que resulta de asignar un nuevo valor a una clave.
+     *
+     * @param primero la cabeza de la cadena actual.
+     * @param nodo    el nodo de la clave en la cadena, o {@code null} si no está.
+     * @param hash    el hash dispersado de la clave.
+     * @param key     la clave.
+     * @param nuevo   el nuevo valor, o {@code null} para quitar la clave.
+     * @return la cabeza de la cadena nueva; {@code primero} si no hay cambios.
+     */
+    private static <K, V> Nodo<K, V> armarCadena(Nodo<K, V> primero, Nodo<K, V> nodo,
+                                                 int hash, K key, V nuevo) {
+        Nodo<K, V> resultado;
+        if (nuevo != null && nodo != null) {
+            resultado = reemplazar(primero, nodo,
+                    new Nodo<>(hash, key, nuevo, nodo.siguiente));
+        } else if (nuevo != null) {
+            resultado = new Nodo<>(hash, key, nuevo, primero);
+        } else if (nodo != null) {
+            resultado = reemplazar(primero, nodo, nodo.siguiente);
+        } else {
+            // No hay nada que cambiar.
+            resultado = primero;
+        }
+        return resultado;
+    }
+
+    /**
+     * Comienza a duplicar la tabla, si ningún otro hilo lo hizo antes, y migra
+     * el primer tramo de baldes.
+     *
+     * @param actual el estado sin migración en el que se superó el umbral.
+     */
+    private void iniciarMigracion(Estado<K, V> actual) {
+        Estado<K, V> migrando = new Estado<>(actual, crearTabla(actual.tabla.length * 2));
+        if (estado.compareAndSet(actual, migrando)) {
+            migrarTramo(migrando);
+        }
+    }
+
+    /**
+     * Reserva un tramo de baldes de la migración en curso y los migra. El hilo
+     * que migra el último balde reemplaza la tabla por la nueva.
+     *
+     * @param actual el estado con la migración en curso.
+     */
+    private void migrarTramo(Estado<K, V> actual) {
+        int hasta = actual.porMigrar.get();
+        int desde = Math.max(0, hasta - TRAMO_DE_MIGRACION);
+        while (hasta > 0 && !actual.porMigrar.compareAndSet(hasta, desde)) {
+            hasta = actual.porMigrar.get();
+            desde = Math.max(0, hasta - TRAMO_DE_MIGRACION);
+        }
+        if (hasta > 0) {
+            for (int i = desde; i < hasta; i++) {
+                migrarBalde(actual.tabla, actual.nueva, i);
+            }
+            if (actual.pendientes.addAndGet(desde - hasta) == 0) {
+                estado.compareAndSet(actual, new Estado<>(actual.nueva,
+                        Tablas.umbral(actual.nueva.length, factorDeCarga)));
+            }
+        }
+    }
+
+    /**
+     * Migra un balde: reparte su cadena entre las dos posiciones que le
+     * corresponden en la tabla nueva y recién entonces instala un reenvío en la
+     * tabla anterior. Si otro hilo modifica el balde mientras tanto, el reparto
+     * se rehace con la cadena nueva; hasta que el reenvío esté instalado nadie
+     * más escribe en esas posiciones de la tabla nueva.
+     *
+     * @param anterior la tabla que se está migrando.
+     * @param nueva    la tabla del doble de tamaño.
+     * @param indice   la posición del balde en la tabla anterior.
+     */
+    private static <K, V> void migrarBalde(Nodo<K, V>[] anterior, Nodo<K, V>[] nueva,
+                                           int indice) {
+        Reenvio<K, V> reenvio = new Reenvio<>(nueva);
+        boolean instalado = false;
+        while (!instalado) {
+            Nodo<K, V> primero = cabeza(anterior, indice);
+            Nodo<K, V> bajos = null;
+            Nodo<K, V> altos = null;
+            for (Nodo<K, V> nodo = primero; nodo != null; nodo = nodo.siguiente) {
+                // Al duplicar la tabla, cada entrada queda en la misma posición
+                // o en la posición más la capacidad anterior, según un bit.
+                if ((nodo.hash & anterior.length) == 0) {
+                    bajos = new Nodo<>(nodo.hash, nodo.llave, nodo.valor, bajos);
+                } else {
+                    altos = new Nodo<>(nodo.hash, nodo.llave, nodo.valor, altos);
+                }
+            }
+            BALDES.setRelease(nueva, indice, bajos);
+            BALDES.setRelease(nueva, indice + anterior.length, altos);
+            instalado = BALDES.compareAndSet(anterior, indice, primero, reenvio);
+        }
+    }
+
+    /**
+     * Arma una cadena igual a otra pero en la que un nodo se reemplaza por el
+     * resto indicado. Se copian solo los nodos anteriores al reemplazado; los
+     * posteriores se comparten.
+     *
+     * @param primero     la cabeza de la cadena original.
+     * @param reemplazado el nodo a reemplazar; debe estar en la cadena.
+     * @param resto       lo que ocupa el lugar del nodo reemplazado, incluida la
+     *                    continuación de la cadena.
+     * @return la cabeza de la cadena nueva.
+     */
+    private static <K, V> Nodo<K, V> reemplazar(Nodo<K, V> primero,
+                                                Nodo<K, V> reemplazado,
+                                                Nodo<K, V> resto) {
+        int anteriores = 0;
+        for (Nodo<K, V> nodo = primero; nodo != reemplazado; nodo = nodo.siguiente) {
+            anteriores++;
+        }
+        // Se copian los nodos anteriores desde el último hacia la cabeza.
+        Object[] copiados = new Object[anteriores];
+        Nodo<K, V> nodo = primero;
+        for (int i = 0; i < anteriores; i++) {
+            copiados[i] = nodo;
+            nodo = nodo.siguiente;
+        }
+        Nodo<K, V> resultado = resto;
+        for (int i = anteriores - 1; i >= 0; i--) {
+            @SuppressWarnings("unchecked")
+            Nodo<K, V> original = (Nodo<K, V>) copiados[i];
+            resultado = new Nodo<>(original.hash, original.llave, original.valor,
+                    resultado);
+        }
+        return resultado;
+    }
+
+    /**
+     * Encuentra la cadena en la que debería estar una clave, siguiendo los
+     * reenvíos de los baldes ya migrados.
+     *
+     * @param hash el hash dispersado de la clave.
+     * @return la cabeza de la cadena, o {@code null} si el balde está vacío.
+     */
+    private Nodo<K, V> cadenaDe(int hash) {
+        Nodo<K, V>[] tabla = estado.get().tabla;
+        Nodo<K, V> primero = cabeza(tabla, hash & (tabla.length - 1));
+        while (primero instanceof Reenvio<K, V> reenvio) {
+            tabla = reenvio.nueva;
+            primero = cabeza(tabla, hash & (tabla.length - 1));
+        }
+        return primero;
+    }
+
+    /**
+     * Lee la cabeza de un balde con semántica de adquisición.
+     *
+     * @param tabla  la tabla de baldes.
+     * @param indice la posición del balde.
+     * @return la cabeza de la cadena, o {@code null} si el balde está vacío.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K, V> Nodo<K, V> cabeza(Nodo<K, V>[] tabla, int indice) {
+        return (Nodo<K, V>) BALDES.getAcquire(tabla, indice);
+    }
+
+    /**
+     * Crea una tabla de baldes vacía.
+     *
+     * @param capacidad la cantidad de baldes.
+     * @return la tabla.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K, V> Nodo<K, V>[] crearTabla(int capacidad) {
+        return (Nodo<K, V>[]) new Nodo<?, ?>[capacidad];
+    }
+
+    /**
+     * Busca el nodo de una clave en una cadena.
+     *
+     * @param primero la cabeza de la cadena.
+     * @param hash    el hash dispersado de la clave.
+     * @param key     la clave.
+     * @return el nodo de la clave, o {@code null} si no está.
+     */
+    private static <K, V> Nodo<K, V> buscar(Nodo<K, V> primero, int hash, Object key) {
+        Nodo<K, V> nodo = primero;
+        while (nodo != null && !nodo.coincide(hash, key)) {
+            nodo = nodo.siguiente;
+        }
+        return nodo;
+    }
+
+    /**
+     * Obtiene el hash dispersado de una clave.
+     *
+     * @param key la clave.
+     * @return el hash con los bits altos mezclados en los bajos.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    private static int hashDe(Object key) {
+        return Tablas.dispersar(Tablas.hashDe(key));
+    }
+
+    /**
+     * Recorre las asociaciones del diccionario sin bloquear a ningún hilo,
+     * siguiendo los reenvíos de los baldes ya migrados. Cada balde se recorre
+     * tal como estaba al leer su cabeza, así que ninguna clave se recorre dos
+     * veces.
+     *
+     * @param accion recibe cada clave y su valor.
+     * @throws NullPointerException si la acción es {@code null}.
+     */
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> accion) {
+        Objects.requireNonNull(accion);
+        Nodo<K, V>[] tabla = estado.get().tabla;
+        for (int i = 0; i < tabla.length; i++) {
+            recorrer(tabla, i, accion);
+        }
+    }
+
+    /**
+     * Aplica una acción a las entradas de un balde, siguiendo su reenvío si ya
+     * se migró.
+     *
+     * @param tabla  la tabla de baldes.
+     * @param indice la posición del balde.
+     * @param accion recibe cada clave y su valor.
+     */
+    private static <K, V> void recorrer(Nodo<K, V>[] tabla, int indice,
+                                        BiConsumer<? super K, ? super V> accion) {
+        Nodo<K, V> primero = cabeza(tabla, indice);
+        if (primero instanceof Reenvio<K, V> reenvio) {
+            recorrer(reenvio.nueva, indice, accion);
+            recorrer(reenvio.nueva, indice + tabla.length, accion);
+        } else {
+            for (Nodo<K, V> nodo = primero; nodo != null; nodo = nodo.siguiente) {
+                accion.accept(nodo.llave, nodo.valor);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder("DiccionarioLockFree{");
+        int inicio = texto.length();
+        forEach((llave, valor) -> {
+            if (texto.length() > inicio) {
+                texto.append(", ");
+            }
+            texto.append(llave).append('=').append(valor);
+        });
+        return texto.append('}').toString();
+    }
+
+    /**
+     * La tabla en uso junto con la migración en curso, si la hay. Es
+     * inmutable salvo por los contadores de la migración.
+     *
+     * @param <K> el tipo de las claves.
+     * @param <V> el tipo de los valores.
+     */
+    private static final class Estado<K, V> {
+        /**
+         * La tabla actual; mientras se migra, la tabla de origen.
+         */
+        final Nodo<K, V>[] tabla;
+        /**
+         * Cantidad de elementos que dispara el crecimiento de la tabla.
+         */
+        final int umbral;
+        /**
+         * La tabla del doble de tamaño en la que se migra, o {@code null} si no
+         * hay una migración en curso.
+         */
+        final Nodo<K, V>[] nueva;
+        /**
+         * Límite superior de los baldes que todavía nadie reservó para migrar;
+         * los tramos se reservan desde el final de la tabla hacia el comienzo.
+         */
+        final AtomicInteger porMigrar;
+        /**
+         * Cantidad de baldes reservados o sin reservar que todavía no terminaron
+         * de migrarse.
+         */
+        final AtomicInteger pendientes;
+
+        /**
+         * Crea un estado sin migración.
+         *
+         * @param tabla  la tabla.
+         * @param umbral la cantidad de elementos que dispara el crecimiento.
+         */
+        Estado(Nodo<K, V>[] tabla, int umbral) {
+            this.tabla = tabla;
+            this.umbral = umbral;
+            this.nueva = null;
+            this.porMigrar = null;
+            this.pendientes = null;
+        }
+
+        /**
+         * Crea un estado que migra la tabla de otro estado a una tabla nueva.
+         *
+         * @param anterior el estado sin migración.
+         * @param nueva    la tabla del doble de tamaño.
+         */
+        Estado(Estado<K, V> anterior, Nodo<K, V>[] nueva) {
+            this.tabla = anterior.tabla;
+            this.umbral = anterior.umbral;
+            this.nueva = nueva;
+            this.porMigrar = new AtomicInteger(tabla.length);
+            this.pendientes = new AtomicInteger(tabla.length);
+        }
+    }
+
+    /**
+     * Entrada inmutable de una cadena.
+     *
+     * @param <K> el tipo de la clave.
+     * @param <V> el tipo del valor.
+     */
+    private static class Nodo<K, V> {
+        /**
+         * El hash dispersado de la clave.
+         */
+        final int hash;
+        /**
+         * La clave.
+         */
+        final K llave;
+        /**
+         * El valor asociado; nunca {@code null}.
+         */
+        final V valor;
+        /**
+         * La entrada siguiente de la cadena.
+         */
+        final Nodo<K, V> siguiente;
+
+        /**
+         * Crea una entrada.
+         *
+         * @param hash      el hash dispersado de la clave.
+         * @param llave     la clave.
+         * @param valor     el valor.
+         * @param siguiente la entrada siguiente de la cadena.
+         */
+        Nodo(int hash, K llave, V valor, Nodo<K, V> siguiente) {
+            this.hash = hash;
+            this.llave = llave;
+            this.valor = valor;
+            this.siguiente = siguiente;
+        }
+
+        /**
+         * Indica si esta entrada corresponde a una clave.
+         *
+         * @param otroHash  el hash dispersado de la clave buscada.
+         * @param otraLlave la clave buscada.
+         * @return {@code true} si es la entrada de esa clave.
+         */
+        boolean coincide(int otroHash, Object otraLlave) {
+            return hash == otroHash && (llave == otraLlave || llave.equals(otraLlave));
+        }
+    }
+
+    /**
+     * Marca que ocupa un balde ya migrado de la tabla anterior e indica la
+     * tabla en la que continúa la búsqueda. No corresponde a ninguna clave.
+     *
+     * @param <K> el tipo de las claves.
+     * @param <V> el tipo de los valores.
+     */
+    private static final class Reenvio<K, V> extends Nodo<K, V> {
+        /**
+         * La tabla a la que se migró el balde.
+         */
+        final Nodo<K, V>[] nueva;
+
+        /**
+         * Crea un reenvío.
+         *
+         * @param nueva la tabla a la que se migró el balde.
+         */
+        Reenvio(Nodo<K, V>[] nueva) {
+            super(0, null, null, null);
+            this.nueva = nueva;
+        }
+    }
+}
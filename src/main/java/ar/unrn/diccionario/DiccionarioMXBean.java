@@ -0,0 +1,99 @@
+package ar.unrn.diccionario;
+
+/**
+ * Interfaz de administración (JMX) con las estadísticas de un
+ * {@link Diccionario}. Cada atributo corresponde a un método de
+ * {@link EstadisticasDiccionario}; la implementación es {@link MonitorDiccionario}.
+ */
+public interface DiccionarioMXBean {
+
+    /**
+     * Devuelve la cantidad de entradas.
+     *
+     * @return la cantidad de entradas.
+     */
+    long getCantidad();
+
+    /**
+     * Devuelve la cantidad de baldes.
+     *
+     * @return la cantidad de baldes.
+     */
+    int getCapacidad();
+
+    /**
+     * Devuelve la proporción de baldes ocupados.
+     *
+     * @return un valor entre 0 y 1.
+     */
+    double getOcupacion();
+
+    /**
+     * Devuelve la cantidad de entradas que comparten su balde con otra.
+     *
+     * @return la cantidad de colisiones.
+     */
+    long getColisiones();
+
+    /**
+     * Devuelve la cantidad de entradas del balde más cargado.
+     *
+     * @return el largo máximo.
+     */
+    int getLongitudMaxima();
+
+    /**
+     * Devuelve la cantidad promedio de entradas de los baldes ocupados.
+     *
+     * @return el largo promedio.
+     */
+    double getLongitudPromedio();
+
+    /**
+     * Devuelve la cantidad promedio de claves que se comparan para encontrar
+     * una clave del diccionario.
+     *
+     * @return los sondeos promedio.
+     */
+    double getSondeosPromedio();
+
+    /**
+     * Devuelve la cantidad de baldes con cada cantidad de entradas.
+     *
+     * @return el histograma de ocupación.
+     */
+    long[] getHistograma();
+
+    /**
+     * Devuelve la cantidad de consultas que encontraron la clave.
+     *
+     * @return las consultas acertadas.
+     */
+    long getConsultasAcertadas();
+
+    /**
+     * Devuelve la cantidad de consultas que no encontraron la clave.
+     *
+     * @return las consultas fallidas.
+     */
+    long getConsultasFallidas();
+
+    /**
+     * Devuelve la proporción de consultas que encontraron la clave.
+     *
+     * @return un valor entre 0 y 1.
+     */
+    double getTasaDeAciertos();
+
+    /**
+     * Devuelve la cantidad de inserciones rechazadas por colisión.
+     *
+     * @return las inserciones rechazadas.
+     */
+    long getInsercionesRechazadas();
+
+    /**
+     * Vuelve a cero los contadores de consultas e inserciones rechazadas.
+     */
+    void reiniciarEstadisticas();
+}
@@ -0,0 +1,432 @@
+package ar.unrn.diccionario;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Diccionario de claves {@code long} a valores {@code long} cuya tabla vive en
+ * un archivo mapeado en memoria.
+ * <p>
+ * El archivo es la tabla misma: una cabecera de {@value #CABECERA} bytes
+ * seguida de las posiciones de 16 bytes (clave y valor) en el mismo orden que
+ * usa {@link DiccionarioFueraDelHeap}, mapeadas con
+ * {@link FileChannel#map(FileChannel.MapMode, long, long)} en tramos de hasta
+ * 1 GiB. Abrir un diccionario existente solo lee la cabecera y mapea el
+ * archivo, así que tarda lo mismo con mil entradas que con cien millones: el
+ * sistema operativo trae cada página del disco la primera vez que una
+ * búsqueda la toca.
+ * </p>
+ * <p>
+ * Formato de la cabecera, en <em>little-endian</em> como el resto del
+ * archivo:
+ * </p>
+ * <pre>
+ *  0  long   número mágico "COLISMAP"
+ *  8  int    versión del formato ({@value #VERSION})
+ * 12  int    estado: 1 si se cerró correctamente, 0 si está abierto
+ * 16  long   capacidad (cantidad de posiciones, potencia de dos)
+ * 24  long   cantidad de asociaciones
+ * 32  long   valor de la clave 0
+ * 40  long   valor ausente
+ * 48  float  factor de carga
+ * 52  int    1 si la clave 0 está en el diccionario
+ * </pre>
+ * <p>
+ * Las escrituras van directo a las páginas mapeadas; {@link #sincronizar()}
+ * actualiza la cabecera y las fuerza a disco, y {@link #close()} además marca
+ * el archivo como cerrado. Si un proceso termina sin cerrarlo, al abrirlo otra
+ * vez se recuentan las posiciones ocupadas, y la clave {@code 0} queda como en
+ * la última sincronización. Al crecer, la tabla nueva se arma en un archivo
+ * aparte que luego reemplaza al original. No es seguro usarlo desde varios
+ * hilos ni abrir el mismo archivo desde dos instancias que escriban.
+ * </p>
+ */
+public final class DiccionarioMapeado extends TablaLongLong {
+
+    /**
+     * Tamaño en bytes de la cabecera del archivo.
+     */
+    public static final int CABECERA = 64;
+    /**
+     * Versión del formato que escribe y acepta esta clase.
+     */
+    public static final int VERSION = 1;
+    /**
+     * Número mágico del formato: los bytes ASCII "COLISMAP".
+     */
+    private static final long MAGICO = 0x50414D53494C4F43L;
+    /**
+     * Posición de la versión en la cabecera.
+     */
+    private static final int POSICION_VERSION = 8;
+    /**
+     * Posición del estado en la cabecera.
+     */
+    private static final int POSICION_ESTADO = 12;
+    /**
+     * Posición de la capacidad en la cabecera.
+     */
+    private static final int POSICION_CAPACIDAD = 16;
+    /**
+     * Posición de la cantidad de asociaciones en la cabecera.
+     */
+    private static final int POSICION_CANTIDAD = 24;
+    /**
+     * Posición del valor de la clave 0 en la cabecera.
+     */
+    private static final int POSICION_VALOR_CERO = 32;
+    /**
+     * Posición del valor ausente en la cabecera.
+     */
+    private static final int POSICION_VALOR_AUSENTE = 40;
+    /**
+     * Posición del factor de carga en la cabecera.
+     */
+    private static final int POSICION_FACTOR = 48;
+    /**
+     * Posición de la marca de la clave 0 en la cabecera.
+     */
+    private static final int POSICION_TIENE_CERO = 52;
+    /**
+     * Estado de un archivo que se cerró correctamente.
+     */
+    private static final int CERRADO = 1;
+    /**
+     * Estado de un archivo abierto, o de uno cuyo proceso terminó sin cerrarlo.
+     */
+    private static final int ABIERTO = 0;
+    /**
+     * Sufijo del archivo en el que se arma la tabla al crecer.
+     */
+    private static final String SUFIJO_CRECIMIENTO = ".crecimiento";
+
+    /**
+     * El archivo del diccionario.
+     */
+    private final Path archivo;
+    /**
+     * El canal del archivo actual.
+     */
+    private FileChannel canal;
+    /**
+     * La cabecera mapeada del archivo actual.
+     */
+    private MappedByteBuffer cabecera;
+    /**
+     * Los tramos mapeados del archivo actual, para forzarlos a disco.
+     */
+    private MappedByteBuffer[] mapeados;
+    /**
+     * El canal del archivo en el que se arma la tabla durante un crecimiento.
+     */
+    private FileChannel canalNuevo;
+    /**
+     * La cabecera mapeada del archivo de crecimiento.
+     */
+    private MappedByteBuffer cabeceraNueva;
+    /**
+     * Los tramos mapeados del archivo de crecimiento.
+     */
+    private MappedByteBuffer[] mapeadosNuevos;
+
+    /**
+     * Construye el diccionario sin abrir ningún archivo.
+     *
+     * @param archivo       el archivo del diccionario.
+     * @param factorDeCarga el factor de carga.
+     * @param valorAusente  el valor de las claves ausentes.
+     */
+    private DiccionarioMapeado(Path archivo, float factorDeCarga, long valorAusente) {
+        super(factorDeCarga, valorAusente);
+        this.archivo = archivo;
+    }
+
+    /**
+     * Crea un archivo nuevo con un diccionario vacío.
+     *
+     * @param archivo          el archivo a crear; no debe existir.
+     * @param capacidadInicial la cantidad de posiciones con la que comienza el
+     *                         diccionario. Se redondea a la siguiente potencia
+     *                         de dos.
+     * @param factorDeCarga    la proporción de posiciones ocupadas a partir de la
+     *                         cual la tabla se duplica; debe ser menor a 1.
+     * @param valorAusente     el valor que se devuelve para las claves que no
+     *                         están en el diccionario.
+     * @return el diccionario, abierto.
+     * @throws IOException              si el archivo ya existe o no puede
+     *                                  crearse.
+     * @throws IllegalArgumentException si la capacidad o el factor de carga no
+     *                                  son válidos.
+     */
+    public static DiccionarioMapeado crear(Path archivo, long capacidadInicial,
+                                           float factorDeCarga, long valorAusente)
+            throws IOException {
+        long capacidad = potenciaDeDos(capacidadInicial);
+        DiccionarioMapeado diccionario =
+                new DiccionarioMapeado(archivo, factorDeCarga, valorAusente);
+        try {
+            diccionario.inicializar(capacidad);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        diccionario.escribirCabecera(diccionario.cabecera, ABIERTO);
+        diccionario.cabecera.force();
+        return diccionario;
+    }
+
+    /**
+     * Abre un archivo creado con {@link #crear(Path, long, float, long)}, sin
+     * leer sus entradas.
+     *
+     * @param archivo el archivo del diccionario.
+     * @return el diccionario, abierto.
+     * @throws IOException si el archivo no puede abrirse, no tiene el formato
+     *                     esperado o es de otra versión.
+     */
+    public static DiccionarioMapeado abrir(Path archivo) throws IOException {
+        FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        DiccionarioMapeado diccionario;
+        try {
+            if (canal.size() < CABECERA) {
+                throw new IOException(
+                        "El archivo no tiene una cabecera válida: " + archivo);
+            }
+            MappedByteBuffer cabecera = mapear(canal, 0, CABECERA);
+            long capacidad = validarCabecera(cabecera, canal.size(), archivo);
+            diccionario = new DiccionarioMapeado(archivo,
+                    cabecera.getFloat(POSICION_FACTOR),
+                    cabecera.getLong(POSICION_VALOR_AUSENTE));
+            diccionario.canal = canal;
+            diccionario.cabecera = cabecera;
+            diccionario.mapeados = mapearTramos(canal, capacidad);
+            long guardadas = cabecera.getInt(POSICION_ESTADO) == CERRADO
+                    ? cabecera.getLong(POSICION_CANTIDAD) : -1;
+            diccionario.restaurar(diccionario.mapeados, capacidad,
+                    cabecera.getInt(POSICION_TIENE_CERO) != 0,
+                    cabecera.getLong(POSICION_VALOR_CERO), guardadas);
+            // Sin forzarla, una caída podría dejar en disco la marca de cerrado
+            // sobre entradas que ya cambiaron.
+            cabecera.putInt(POSICION_ESTADO, ABIERTO);
+            cabecera.force();
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+        return diccionario;
+    }
+
+    /**
+     * Escribe la cabecera y fuerza a disco todas las páginas modificadas.
+     *
+     * @throws UncheckedIOException  si falla la escritura.
+     * @throws IllegalStateException si el diccionario está cerrado.
+     */
+    public void sincronizar() {
+        verificarAbierto();
+        escribirCabecera(cabecera, ABIERTO);
+        for (MappedByteBuffer tramo : mapeados) {
+            tramo.force();
+        }
+        cabecera.force();
+    }
+
+    /**
+     * Devuelve el archivo del diccionario.
+     *
+     * @return la ruta del archivo.
+     */
+    public Path archivo() {
+        return archivo;
+    }
+
+    /**
+     * Sincroniza el archivo, lo marca como cerrado correctamente y lo cierra.
+     * Llamarlo más de una vez no tiene efecto.
+     *
+     * @throws UncheckedIOException si falla la escritura o el cierre.
+     */
+    @Override
+    public void close() {
+        if (!cerrado()) {
+            sincronizar();
+            cabecera.putInt(POSICION_ESTADO, CERRADO);
+            cabecera.force();
+            try {
+                canal.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                super.close();
+            }
+        }
+    }
+
+    @Override
+    ByteBuffer[] reservar(long nuevaCapacidad) {
+        try {
+            // La primera tabla va en el archivo pedido; las siguientes, en uno
+            // aparte que reemplaza al original al terminar de crecer.
+            boolean inicial = canal == null;
+            FileChannel destino = inicial
+                    ? FileChannel.open(archivo, StandardOpenOption.CREATE_NEW,
+                            StandardOpenOption.READ, StandardOpenOption.WRITE)
+                    : FileChannel.open(archivoDeCrecimiento(), StandardOpenOption.CREATE,
+                            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ,
+                            StandardOpenOption.WRITE);
+            MappedByteBuffer[] tramos = mapearTramos(destino, nuevaCapacidad);
+            if (inicial) {
+                canal = destino;
+                cabecera = mapear(destino, 0, CABECERA);
+                mapeados = tramos;
+            } else {
+                canalNuevo = destino;
+                cabeceraNueva = mapear(destino, 0, CABECERA);
+                mapeadosNuevos = tramos;
+            }
+            return tramos;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * La tabla nueva y su cabecera se fuerzan a disco antes de que el archivo
+     * de crecimiento reemplace al original, para que un corte de energía
+     * nunca deje en su lugar un archivo incompleto; después se fuerza la
+     * carpeta, para que el reemplazo también sobreviva al corte. El canal del
+     * original se cierra antes del reemplazo; sus tramos mapeados no pueden
+     * liberarse explícitamente y los libera el recolector de basura cuando
+     * dejan de estar referenciados.
+     * </p>
+     */
+    @Override
+    void terminarCrecimiento() {
+        try {
+            escribirCabecera(cabeceraNueva, ABIERTO);
+            for (MappedByteBuffer tramo : mapeadosNuevos) {
+                tramo.force();
+            }
+            cabeceraNueva.force();
+            canal.close();
+            Files.move(archivoDeCrecimiento(), archivo,
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            try (FileChannel carpeta = FileChannel.open(
+                    archivo.toAbsolutePath().getParent(), StandardOpenOption.READ)) {
+                carpeta.force(true);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        canal = canalNuevo;
+        cabecera = cabeceraNueva;
+        mapeados = mapeadosNuevos;
+        canalNuevo = null;
+        cabeceraNueva = null;
+        mapeadosNuevos = null;
+    }
+
+    /**
+     * Devuelve la ruta del archivo en el que se arma la tabla al crecer.
+     *
+     * @return la ruta del archivo de crecimiento.
+     */
+    private Path archivoDeCrecimiento() {
+        return archivo.resolveSibling(archivo.getFileName() + SUFIJO_CRECIMIENTO);
+    }
+
+    /**
+     * Escribe el estado actual del diccionario en una cabecera.
+     *
+     * @param destino la cabecera mapeada.
+     * @param estado  {@link #ABIERTO} o {@link #CERRADO}.
+     */
+    private void escribirCabecera(MappedByteBuffer destino, int estado) {
+        destino.putLong(0, MAGICO);
+        destino.putInt(POSICION_VERSION, VERSION);
+        destino.putInt(POSICION_ESTADO, estado);
+        destino.putLong(POSICION_CAPACIDAD, capacidad());
+        destino.putLong(POSICION_CANTIDAD, size());
+        destino.putLong(POSICION_VALOR_CERO, valorCero());
+        destino.putLong(POSICION_VALOR_AUSENTE, valorAusente());
+        destino.putFloat(POSICION_FACTOR, factorDeCarga());
+        destino.putInt(POSICION_TIENE_CERO, tieneCero() ? 1 : 0);
+    }
+
+    /**
+     * Comprueba que una cabecera sea de este formato y versión y que el archivo
+     * tenga el tamaño que indica.
+     *
+     * @param cabecera la cabecera mapeada.
+     * @param tamanio  el tamaño del archivo en bytes.
+     * @param archivo  el archivo, para los mensajes de error.
+     * @return la capacidad de la tabla.
+     * @throws IOException si la cabecera no es válida.
+     */
+    private static long validarCabecera(MappedByteBuffer cabecera, long tamanio,
+                                         Path archivo) throws IOException {
+        if (cabecera.getLong(0) != MAGICO) {
+            throw new IOException("El archivo no es un DiccionarioMapeado: " + archivo);
+        }
+        int version = cabecera.getInt(POSICION_VERSION);
+        if (version != VERSION) {
+            throw new IOException("Versión de formato no soportada: " + version
+                    + " (se esperaba " + VERSION + ")");
+        }
+        long capacidad = cabecera.getLong(POSICION_CAPACIDAD);
+        if (capacidad <= 0 || capacidad > CAPACIDAD_MAXIMA
+                || Long.bitCount(capacidad) != 1
+                || tamanio < CABECERA + (capacidad << BITS_POR_ENTRADA)) {
+            throw new IOException("El archivo está truncado o dañado: " + archivo);
+        }
+        return capacidad;
+    }
+
+    /**
+     * Mapea las posiciones de una tabla en tramos consecutivos, a continuación
+     * de la cabecera. Si el archivo es más corto, se extiende con ceros.
+     *
+     * @param canal     el canal del archivo.
+     * @param capacidad la cantidad de posiciones.
+     * @return los tramos mapeados.
+     * @throws IOException si falla el mapeo.
+     */
+    private static MappedByteBuffer[] mapearTramos(FileChannel canal, long capacidad)
+            throws IOException {
+        long entradasPorTramo = entradasPorTramo(capacidad);
+        long bytesPorTramo = entradasPorTramo << BITS_POR_ENTRADA;
+        MappedByteBuffer[] tramos =
+                new MappedByteBuffer[(int) (capacidad / entradasPorTramo)];
+        for (int i = 0; i < tramos.length; i++) {
+            tramos[i] = mapear(canal, CABECERA + i * bytesPorTramo, bytesPorTramo);
+        }
+        return tramos;
+    }
+
+    /**
+     * Mapea una región de un archivo para lectura y escritura.
+     *
+     * @param canal   el canal del archivo.
+     * @param inicio  el primer byte de la región.
+     * @param tamanio la cantidad de bytes.
+     * @return la región mapeada, en little-endian.
+     * @throws IOException si falla el mapeo.
+     */
+    private static MappedByteBuffer mapear(FileChannel canal, long inicio, long tamanio)
+            throws IOException {
+        MappedByteBuffer region =
+                canal.map(FileChannel.MapMode.READ_WRITE, inicio, tamanio);
+        region.order(ByteOrder.LITTLE_ENDIAN);
+        return region;
+    }
+}
@@ -0,0 +1,358 @@
+package ar.unrn.diccionario;
+
+import ar.unrn.diccionario.excepciones.ColisionException;
+import ar.unrn.diccionario.excepciones.LlaveNulaException;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Diccionario con direccionamiento abierto y sondeo lineal que aplica la
+ * técnica "Robin Hood".
+ * <p>
+ * Cada entrada se encuentra a cierta <em>distancia</em> de su posición inicial
+ * (la cantidad de pasos que hubo que sondear para ubicarla). Al insertar, si la
+ * entrada que se está ubicando ya recorrió más distancia que la que ocupa la
+ * posición actual, ambas intercambian lugares: se le "quita" la posición a la
+ * entrada más cercana a su origen para dársela a la más lejana. Esto reduce la
+ * varianza de las distancias y permite cortar una búsqueda en cuanto se
+ * encuentra una entrada más cercana a su origen que la distancia recorrida, ya
+ * que la clave buscada no podría estar más adelante. Así las búsquedas de
+ * claves ausentes se mantienen cortas incluso con tablas muy cargadas.
+ * </p>
+ * <p>
+ * Las eliminaciones no usan lápidas: las entradas siguientes se desplazan una
+ * posición hacia atrás (<em>backward-shift</em>) hasta encontrar una posición
+ * vacía o una entrada que ya está en su posición inicial.
+ * </p>
+ * <p>
+ * Esta implementación no permite claves nulas, y lanzará una
+ * {@link LlaveNulaException} si se intenta usar una.
+ * </p>
+ *
+ * @param <K> el tipo de las claves mantenidas por este diccionario.
+ * @param <V> el tipo de los valores mapeados.
+ */
+public class DiccionarioRobinHood<K, V> implements TablaHash<K, V> {
+
+    /**
+     * Cantidad de posiciones con la que comienza el diccionario por defecto.
+     */
+    private static final int CAPACIDAD_POR_DEFECTO = 16;
+    /**
+     * Factor de carga por defecto. Gracias al corte temprano de las búsquedas,
+     * Robin Hood tolera ocupaciones mucho más altas que el sondeo lineal común.
+     */
+    private static final float FACTOR_DE_CARGA_POR_DEFECTO = 0.9f;
+
+    /**
+     * Las claves almacenadas; {@code null} indica una posición libre. Su longitud
+     * es siempre una potencia de dos.
+     */
+    private Object[] llaves;
+    /**
+     * Los valores almacenados, en la misma posición que su clave.
+     */
+    private Object[] valores;
+    /**
+     * El hash dispersado de cada clave, usado para calcular su distancia a la
+     * posición inicial y para evitar invocar {@code equals()} en la mayoría de
+     * las comparaciones.
+     */
+    private int[] hashes;
+    /**
+     * Proporción de posiciones ocupadas a partir de la cual la tabla se duplica.
+     */
+    private final float factorDeCarga;
+    /**
+     * Cantidad de asociaciones clave-valor almacenadas.
+     */
+    private int cantidad;
+    /**
+     * Cantidad de entradas que dispara el crecimiento de la tabla.
+     */
+    private int umbral;
+
+    /**
+     * Construye un diccionario vacío con la capacidad y el factor de carga por
+     * defecto.
+     */
+    public DiccionarioRobinHood() {
+        this(CAPACIDAD_POR_DEFECTO, FACTOR_DE_CARGA_POR_DEFECTO);
+    }
+
+    /**
+     * Construye un diccionario vacío con la capacidad y el factor de carga
+     * indicados.
+     *
+     * @param capacidadInicial la cantidad de posiciones con la que comienza el
+     *                         diccionario. Se redondea a la siguiente potencia
+     *                         de dos.
+     * @param factorDeCarga    la proporción de posiciones ocupadas a partir de la
+     *                         cual la tabla se duplica; debe ser menor a 1.
+     * @throws IllegalArgumentException si la capacidad no es positiva o el factor
+     *                                  de carga no está en el intervalo (0, 1).
+     */
+    public DiccionarioRobinHood(int capacidadInicial, float factorDeCarga) {
+        Tablas.validar(capacidadInicial, factorDeCarga);
+        if (factorDeCarga >= 1) {
+            throw new IllegalArgumentException(
+                    "El factor de carga debe ser menor a 1: " + factorDeCarga);
+        }
+        this.factorDeCarga = factorDeCarga;
+        inicializar(Tablas.potenciaDeDos(capacidadInicial));
+    }
+
+    /**
+     * Asocia un valor a una clave en el diccionario.
+     * <p>
+     * Si la clave ya está, su valor se reemplaza en el lugar. Si no, mientras se
+     * busca una posición libre, la entrada que se está ubicando desplaza a toda
+     * entrada que esté más cerca de su posición inicial, y se continúa ubicando
+     * a la desplazada.
+     * </p>
+     *
+     * @param key   la clave con la que se asociará el valor. No puede ser
+     *              {@code null}.
+     * @param value el valor que se asociará con la clave.
+     * @return el valor que tenía la clave, o {@code null} si no estaba.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     * @throws ColisionException  si la tabla alcanzó su capacidad máxima.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        int hash = Tablas.dispersar(Tablas.hashDe(key));
+        int posicion = posicionDe(key, hash);
+        V anterior = null;
+        if (posicion >= 0) {
+            anterior = (V) valores[posicion];
+            valores[posicion] = value;
+        } else {
+            if (cantidad >= umbral) {
+                crecer();
+            }
+            colocar(key, value, hash);
+            cantidad++;
+        }
+        return anterior;
+    }
+
+    /**
+     * Recupera el valor al que está mapeada la clave especificada.
+     *
+     * @param key la clave buscada. No puede ser {@code null}.
+     * @return el valor asociado, o {@code null} si la clave no está.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        V valorRecuperado = null;
+        int posicion = posicionDe(key, Tablas.dispersar(Tablas.hashDe(key)));
+        if (posicion >= 0) {
+            valorRecuperado = (V) valores[posicion];
+        }
+        return valorRecuperado;
+    }
+
+    /**
+     * Elimina el mapeo para una clave si está presente, desplazando hacia atrás
+     * las entradas siguientes que no están en su posición inicial.
+     *
+     * @param key la clave a eliminar. No puede ser {@code null}.
+     * @return {@code true} si la clave estaba y fue eliminada.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    @Override
+    public boolean remove(K key) {
+        int posicion = posicionDe(key, Tablas.dispersar(Tablas.hashDe(key)));
+        boolean removidoConExito = posicion >= 0;
+        if (removidoConExito) {
+            int mascara = llaves.length - 1;
+            int siguiente = (posicion + 1) & mascara;
+            while (llaves[siguiente] != null && distancia(siguiente) > 0) {
+                llaves[posicion] = llaves[siguiente];
+                valores[posicion] = valores[siguiente];
+                hashes[posicion] = hashes[siguiente];
+                posicion = siguiente;
+                siguiente = (siguiente + 1) & mascara;
+            }
+            llaves[posicion] = null;
+            valores[posicion] = null;
+            cantidad--;
+        }
+        return removidoConExito;
+    }
+
+    /**
+     * Comprueba si el diccionario contiene un mapeo para la clave especificada.
+     *
+     * @param key la clave buscada. No puede ser {@code null}.
+     * @return {@code true} si la clave está en el diccionario.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return posicionDe(key, Tablas.dispersar(Tablas.hashDe(key))) >= 0;
+    }
+
+    /**
+     * Devuelve el número de asociaciones clave-valor en el diccionario.
+     *
+     * @return la cantidad de elementos.
+     */
+    @Override
+    public int size() {
+        return cantidad;
+    }
+
+    /**
+     * Devuelve la cantidad actual de posiciones de la tabla.
+     *
+     * @return la longitud de los arreglos de la tabla.
+     */
+    @Override
+    public int capacidad() {
+        return llaves.length;
+    }
+
+    /**
+     * Busca la posición que ocupa una clave. La búsqueda se corta en cuanto la
+     * distancia recorrida supera la distancia de la entrada de la posición
+     * actual.
+     *
+     * @param key  la clave buscada.
+     * @param hash el hash dispersado de la clave.
+     * @return la posición de la clave, o {@code -1} si no está.
+     */
+    private int posicionDe(Object key, int hash) {
+        int mascara = llaves.length - 1;
+        int posicion = hash & mascara;
+        int recorrido = 0;
+        int resultado = -1;
+        while (resultado < 0 && llaves[posicion] != null && distancia(posicion) >= recorrido) {
+            if (hashes[posicion] == hash && llaves[posicion].equals(key)) {
+                resultado = posicion;
+            }
+            posicion = (posicion + 1) & mascara;
+            recorrido++;
+        }
+        return resultado;
+    }
+
+    /**
+     * Ubica una entrada nueva aplicando la regla de Robin Hood, sin verificar si
+     * la clave ya existe.
+     *
+     * @param llave la clave.
+     * @param valor el valor.
+     * @param hash  el hash dispersado de la clave.
+     */
+    private void colocar(Object llave, Object valor, int hash) {
+        int mascara = llaves.length - 1;
+        Object llaveActual = llave;
+        Object valorActual = valor;
+        int hashActual = hash;
+        int posicion = hash & mascara;
+        int recorrido = 0;
+        while (llaves[posicion] != null) {
+            int distanciaOcupante = distancia(posicion);
+            if (distanciaOcupante < recorrido) {
+                // La entrada que se ubica viene de más lejos: toma esta posición
+                // y se continúa ubicando a la desplazada.
+                Object llaveDesplazada = llaves[posicion];
+                Object valorDesplazado = valores[posicion];
+                int hashDesplazado = hashes[posicion];
+                llaves[posicion] = llaveActual;
+                valores[posicion] = valorActual;
+                hashes[posicion] = hashActual;
+                llaveActual = llaveDesplazada;
+                valorActual = valorDesplazado;
+                hashActual = hashDesplazado;
+                recorrido = distanciaOcupante;
+            }
+            posicion = (posicion + 1) & mascara;
+            recorrido++;
+        }
+        llaves[posicion] = llaveActual;
+        valores[posicion] = valorActual;
+        hashes[posicion] = hashActual;
+    }
+
+    /**
+     * Calcula a cuántas posiciones de su posición inicial está la entrada de una
+     * posición ocupada.
+     *
+     * @param posicion una posición ocupada de la tabla.
+     * @return la distancia a la posición inicial de su clave.
+     */
+    private int distancia(int posicion) {
+        int mascara = llaves.length - 1;
+        return (posicion - (hashes[posicion] & mascara)) & mascara;
+    }
+
+    /**
+     * Duplica la capacidad de la tabla y reubica todas las entradas.
+     *
+     * @throws ColisionException si la tabla alcanzó su capacidad máxima.
+     */
+    private void crecer() {
+        if (llaves.length == Tablas.CAPACIDAD_MAXIMA) {
+            throw new ColisionException("El diccionario alcanzó su capacidad máxima.");
+        }
+        Object[] llavesAnteriores = llaves;
+        Object[] valoresAnteriores = valores;
+        int[] hashesAnteriores = hashes;
+        inicializar(llavesAnteriores.length * 2);
+        for (int i = 0; i < llavesAnteriores.length; i++) {
+            if (llavesAnteriores[i] != null) {
+                colocar(llavesAnteriores[i], valoresAnteriores[i], hashesAnteriores[i]);
+            }
+        }
+    }
+
+    /**
+     * Crea arreglos vacíos de la capacidad indicada y calcula su umbral. Siempre
+     * queda al menos una posición libre.
+     *
+     * @param capacidad la cantidad de posiciones; una potencia de dos.
+     */
+    private void inicializar(int capacidad) {
+        llaves = new Object[capacidad];
+        valores = new Object[capacidad];
+        hashes = new int[capacidad];
+        umbral = Math.min(Tablas.umbral(capacidad, factorDeCarga), capacidad - 1);
+    }
+
+    /**
+     * Recorre todas las asociaciones del diccionario, en el orden en que están
+     * guardadas.
+     *
+     * @param accion recibe cada clave y su valor.
+     * @throws NullPointerException si la acción es {@code null}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> accion) {
+        Objects.requireNonNull(accion);
+        for (int i = 0; i < llaves.length; i++) {
+            if (llaves[i] != null) {
+                accion.accept((K) llaves[i], (V) valores[i]);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder("DiccionarioRobinHood{");
+        String separador = "";
+        for (int i = 0; i < llaves.length; i++) {
+            if (llaves[i] != null) {
+                texto.append(separador).append(llaves[i]).append('=').append(valores[i]);
+                separador = ", ";
+            }
+        }
+        return texto.append('}').toString();
+    }
+}
@@ -0,0 +1,519 @@
+package ar.unrn.diccionario;
+
+import ar.unrn.diccionario.excepciones.ColisionException;
+import ar.unrn.diccionario.excepciones.LlaveNulaException;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Diccionario con direccionamiento abierto al estilo de las "Swiss tables" de
+ * Abseil (y de F14 de Folly).
+ * <p>
+ * Además de los arreglos planos de claves y valores, la tabla mantiene un byte
+ * de control por posición. Un byte de control indica si la posición está vacía,
+ * borrada u ocupada y, en este último caso, guarda 7 bits del hash de su clave
+ * (llamados {@code H2}). Los bytes de control se agrupan de a
+ * {@code TAMANIO_GRUPO} en un {@code long}, de modo que con unas pocas
+ * operaciones aritméticas sobre ese {@code long} (técnica SWAR, "SIMD within a
+ * register") se comparan los 8 bytes de un grupo a la vez contra el
+ * {@code H2} buscado.
+ * </p>
+ * <p>
+ * Solo se invoca {@code equals()} sobre las posiciones cuyo {@code H2}
+ * coincide, lo que descarta sin tocar las claves a 127 de cada 128 posiciones
+ * ocupadas que no corresponden. Esto es especialmente útil con claves cuyo
+ * {@code equals()} es costoso, como cadenas largas o claves compuestas.
+ * </p>
+ * <p>
+ * El resto del hash ({@code H1}) elige el grupo inicial; si la clave no está
+ * en ese grupo y el grupo no tiene posiciones vacías, se sigue con otros grupos
+ * mediante sondeo cuadrático.
+ * </p>
+ * <p>
+ * Esta implementación no permite claves nulas, y lanzará una
+ * {@link LlaveNulaException} si se intenta usar una.
+ * </p>
+ *
+ * @param <K> el tipo de las claves mantenidas por este diccionario.
+ * @param <V> el tipo de los valores mapeados.
+ */
+public class DiccionarioSuizo<K, V> implements TablaHash<K, V> {
+
+    /**
+     * Cantidad de posiciones (y de bytes de control) por grupo.
+     */
+    private static final int TAMANIO_GRUPO = Long.BYTES;
+    /**
+     * Cantidad de bits de un byte de control.
+     */
+    private static final int BITS_POR_BYTE = Byte.SIZE;
+    /**
+     * Cantidad de bits del hash que se guardan en el byte de control.
+     */
+    private static final int BITS_H2 = 7;
+    /**
+     * Máscara que extrae {@code H2} del hash.
+     */
+    private static final int MASCARA_H2 = (1 << BITS_H2) - 1;
+    /**
+     * Byte de control de una posición vacía: {@code 0b1000_0000}.
+     */
+    private static final long VACIO = 0x80L;
+    /**
+     * Byte de control de una posición borrada: {@code 0b1111_1110}.
+     */
+    private static final long BORRADO = 0xFEL;
+    /**
+     * Un grupo con los 8 bytes de control en {@link #VACIO}.
+     */
+    private static final long GRUPO_VACIO = 0x8080808080808080L;
+    /**
+     * El bit menos significativo de cada byte de un grupo.
+     */
+    private static final long BITS_BAJOS = 0x0101010101010101L;
+    /**
+     * El bit más significativo de cada byte de un grupo.
+     */
+    private static final long BITS_ALTOS = 0x8080808080808080L;
+    /**
+     * Desplazamiento que alinea el bit 1 de cada byte de control con su bit 7;
+     * permite distinguir {@link #VACIO} de {@link #BORRADO}.
+     */
+    private static final int DESPLAZAMIENTO_VACIO = 6;
+    /**
+     * Máscara de un byte de control.
+     */
+    private static final long MASCARA_BYTE = 0xFFL;
+    /**
+     * Capacidad mínima: un grupo completo.
+     */
+    private static final int CAPACIDAD_MINIMA = TAMANIO_GRUPO;
+    /**
+     * Cantidad de posiciones con la que comienza el diccionario por defecto.
+     */
+    private static final int CAPACIDAD_POR_DEFECTO = 16;
+    /**
+     * Factor de carga por defecto; el mismo que usa Abseil (7/8).
+     */
+    private static final float FACTOR_DE_CARGA_POR_DEFECTO = 0.875f;
+
+    /**
+     * Los bytes de control, agrupados de a {@code TAMANIO_GRUPO} por
+     * {@code long}. El byte {@code i} de un grupo (contando desde el menos
+     * significativo) corresponde a la posición {@code grupo * 8 + i}.
+     */
+    private long[] control;
+    /**
+     * Las claves almacenadas; {@code null} en posiciones vacías o borradas.
+     */
+    private Object[] llaves;
+    /**
+     * Los valores almacenados, en la misma posición que su clave.
+     */
+    private Object[] valores;
+    /**
+     * Proporción de posiciones ocupadas (incluyendo borradas) a partir de la cual
+     * se reconstruye la tabla.
+     */
+    private final float factorDeCarga;
+    /**
+     * Cantidad de asociaciones clave-valor almacenadas.
+     */
+    private int cantidad;
+    /**
+     * Cantidad de posiciones marcadas como borradas.
+     */
+    private int borrados;
+    /**
+     * Cantidad de posiciones ocupadas (entradas más borradas) que dispara la
+     * reconstrucción de la tabla.
+     */
+    private int umbral;
+
+    /**
+     * Construye un diccionario vacío con la capacidad y el factor de carga por
+     * defecto.
+     */
+    public DiccionarioSuizo() {
+        this(CAPACIDAD_POR_DEFECTO, FACTOR_DE_CARGA_POR_DEFECTO);
+    }
+
+    /**
+     * Construye un diccionario vacío con la capacidad y el factor de carga
+     * indicados.
+     *
+     * @param capacidadInicial la cantidad de posiciones con la que comienza el
+     *                         diccionario. Se redondea a la siguiente potencia
+     *                         de dos, con un mínimo de un grupo (8 posiciones).
+     * @param factorDeCarga    la proporción de posiciones ocupadas a partir de la
+     *                         cual la tabla se reconstruye; debe ser menor a 1.
+     * @throws IllegalArgumentException si la capacidad no es positiva o el factor
+     *                                  de carga no está en el intervalo (0, 1).
+     */
+    public DiccionarioSuizo(int capacidadInicial, float factorDeCarga) {
+        Tablas.validar(capacidadInicial, factorDeCarga);
+        if (factorDeCarga >= 1) {
+            throw new IllegalArgumentException(
+                    "El factor de carga debe ser menor a 1: " + factorDeCarga);
+        }
+        this.factorDeCarga = factorDeCarga;
+        inicializar(Tablas.potenciaDeDos(Math.max(capacidadInicial, CAPACIDAD_MINIMA)));
+    }
+
+    /**
+     * Asocia un valor a una clave en el diccionario. Si la clave ya está, su
+     * valor se reemplaza en el lugar; si no, la entrada ocupa la primera
+     * posición vacía o borrada de la secuencia de grupos de la clave.
+     *
+     * @param key   la clave con la que se asociará el valor. No puede ser
+     *              {@code null}.
+     * @param value el valor que se asociará con la clave.
+     * @return el valor que tenía la clave, o {@code null} si no estaba.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     * @throws ColisionException  si la tabla alcanzó su capacidad máxima.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        int hash = Tablas.mezclar(Tablas.hashDe(key));
+        int posicion = posicionDe(key, hash);
+        V anterior = null;
+        if (posicion >= 0) {
+            anterior = (V) valores[posicion];
+            valores[posicion] = value;
+        } else {
+            posicion = posicionLibre(hash);
+            if (byteDeControl(posicion) == BORRADO) {
+                borrados--;
+            }
+            ocupar(posicion, key, value, hash);
+            cantidad++;
+            if (cantidad + borrados > umbral) {
+                reconstruir();
+            }
+        }
+        return anterior;
+    }
+
+    /**
+     * Recupera el valor al que está mapeada la clave especificada.
+     *
+     * @param key la clave buscada. No puede ser {@code null}.
+     * @return el valor asociado, o {@code null} si la clave no está.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        V valorRecuperado = null;
+        int posicion = posicionDe(key, Tablas.mezclar(Tablas.hashDe(key)));
+        if (posicion >= 0) {
+            valorRecuperado = (V) valores[posicion];
+        }
+        return valorRecuperado;
+    }
+
+    /**
+     * Elimina el mapeo para una clave si está presente.
+     * <p>
+     * Si el grupo de la posición todavía tiene alguna posición vacía, ninguna
+     * búsqueda pudo haber seguido de largo por ese grupo, así que la posición se
+     * marca directamente como vacía; si no, se marca como borrada para no cortar
+     * las secuencias de sondeo que lo atraviesan.
+     * </p>
+     *
+     * @param key la clave a eliminar. No puede ser {@code null}.
+     * @return {@code true} si la clave estaba y fue eliminada.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    @Override
+    public boolean remove(K key) {
+        int posicion = posicionDe(key, Tablas.mezclar(Tablas.hashDe(key)));
+        boolean removidoConExito = posicion >= 0;
+        if (removidoConExito) {
+            if (vacios(control[posicion / TAMANIO_GRUPO]) != 0) {
+                marcar(posicion, VACIO);
+            } else {
+                marcar(posicion, BORRADO);
+                borrados++;
+            }
+            llaves[posicion] = null;
+            valores[posicion] = null;
+            cantidad--;
+        }
+        return removidoConExito;
+    }
+
+    /**
+     * Comprueba si el diccionario contiene un mapeo para la clave especificada.
+     *
+     * @param key la clave buscada. No puede ser {@code null}.
+     * @return {@code true} si la clave está en el diccionario.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return posicionDe(key, Tablas.mezclar(Tablas.hashDe(key))) >= 0;
+    }
+
+    /**
+     * Devuelve el número de asociaciones clave-valor en el diccionario.
+     *
+     * @return la cantidad de elementos.
+     */
+    @Override
+    public int size() {
+        return cantidad;
+    }
+
+    /**
+     * Devuelve la cantidad actual de posiciones de la tabla.
+     *
+     * @return la longitud de los arreglos de claves y valores.
+     */
+    @Override
+    public int capacidad() {
+        return llaves.length;
+    }
+
+    /**
+     * Busca la posición de una clave recorriendo su secuencia de grupos. En
+     * cada grupo solo se comparan con {@code equals()} las posiciones cuyo byte
+     * de control coincide con el {@code H2} de la clave; la búsqueda termina en
+     * el primer grupo que tenga alguna posición vacía.
+     *
+     * @param key  la clave buscada.
+     * @param hash el hash mezclado de la clave.
+     * @return la posición de la clave, o {@code -1} si no está.
+     */
+    private int posicionDe(Object key, int hash) {
+        int mascaraGrupos = control.length - 1;
+        int grupo = h1(hash) & mascaraGrupos;
+        int resultado = -1;
+        boolean seguir = true;
+        for (int paso = 1; seguir; paso++) {
+            long bytes = control[grupo];
+            long candidatos = coincidencias(bytes, h2(hash));
+            while (candidatos != 0 && resultado < 0) {
+                int posicion = grupo * TAMANIO_GRUPO + primerByte(candidatos);
+                Object llave = llaves[posicion];
+                if (llave != null && (llave == key || llave.equals(key))) {
+                    resultado = posicion;
+                }
+                candidatos = candidatos & (candidatos - 1);
+            }
+            seguir = resultado < 0 && vacios(bytes) == 0;
+            grupo = (grupo + paso) & mascaraGrupos;
+        }
+        return resultado;
+    }
+
+    /**
+     * Busca la primera posición vacía o borrada de la secuencia de grupos de un
+     * hash.
+     *
+     * @param hash el hash mezclado de la clave.
+     * @return una posición disponible.
+     */
+    private int posicionLibre(int hash) {
+        int mascaraGrupos = control.length - 1;
+        int grupo = h1(hash) & mascaraGrupos;
+        long disponibles = vaciosOBorrados(control[grupo]);
+        for (int paso = 1; disponibles == 0; paso++) {
+            grupo = (grupo + paso) & mascaraGrupos;
+            disponibles = vaciosOBorrados(control[grupo]);
+        }
+        return grupo * TAMANIO_GRUPO + primerByte(disponibles);
+    }
+
+    /**
+     * Guarda una entrada en una posición y actualiza su byte de control.
+     *
+     * @param posicion la posición, vacía o borrada.
+     * @param llave    la clave.
+     * @param valor    el valor.
+     * @param hash     el hash mezclado de la clave.
+     */
+    private void ocupar(int posicion, Object llave, Object valor, int hash) {
+        marcar(posicion, h2(hash));
+        llaves[posicion] = llave;
+        valores[posicion] = valor;
+    }
+
+    /**
+     * Reconstruye la tabla descartando las posiciones borradas; duplica su
+     * capacidad si las entradas ocupan más de la mitad del umbral.
+     *
+     * @throws ColisionException si la tabla alcanzó su capacidad máxima.
+     */
+    private void reconstruir() {
+        long[] controlAnterior = control;
+        Object[] llavesAnteriores = llaves;
+        Object[] valoresAnteriores = valores;
+        int capacidad = llavesAnteriores.length;
+        if (cantidad > umbral / 2) {
+            if (capacidad == Tablas.CAPACIDAD_MAXIMA) {
+                throw new ColisionException("El diccionario alcanzó su capacidad máxima.");
+            }
+            capacidad = capacidad * 2;
+        }
+        inicializar(capacidad);
+        for (int grupo = 0; grupo < controlAnterior.length; grupo++) {
+            // Las posiciones ocupadas son las que tienen el bit alto en cero.
+            long ocupadas = ~controlAnterior[grupo] & BITS_ALTOS;
+            while (ocupadas != 0) {
+                int posicion = grupo * TAMANIO_GRUPO + primerByte(ocupadas);
+                Object llave = llavesAnteriores[posicion];
+                int hash = Tablas.mezclar(llave.hashCode());
+                ocupar(posicionLibre(hash), llave, valoresAnteriores[posicion], hash);
+                cantidad++;
+                ocupadas = ocupadas & (ocupadas - 1);
+            }
+        }
+    }
+
+    /**
+     * Crea una tabla vacía de la capacidad indicada y calcula su umbral. Siempre
+     * queda al menos una posición vacía, para que toda búsqueda termine.
+     *
+     * @param capacidad la cantidad de posiciones; una potencia de dos mayor o
+     *                  igual a {@code TAMANIO_GRUPO}.
+     */
+    private void inicializar(int capacidad) {
+        control = new long[capacidad / TAMANIO_GRUPO];
+        Arrays.fill(control, GRUPO_VACIO);
+        llaves = new Object[capacidad];
+        valores = new Object[capacidad];
+        cantidad = 0;
+        borrados = 0;
+        umbral = Math.min(Tablas.umbral(capacidad, factorDeCarga), capacidad - 1);
+    }
+
+    /**
+     * Devuelve el byte de control de una posición.
+     *
+     * @param posicion la posición.
+     * @return el byte de control, entre 0 y 255.
+     */
+    private long byteDeControl(int posicion) {
+        int desplazamiento = (posicion % TAMANIO_GRUPO) * BITS_POR_BYTE;
+        return (control[posicion / TAMANIO_GRUPO] >>> desplazamiento) & MASCARA_BYTE;
+    }
+
+    /**
+     * Cambia el byte de control de una posición.
+     *
+     * @param posicion la posición.
+     * @param valor    el nuevo byte de control.
+     */
+    private void marcar(int posicion, long valor) {
+        int grupo = posicion / TAMANIO_GRUPO;
+        int desplazamiento = (posicion % TAMANIO_GRUPO) * BITS_POR_BYTE;
+        long sinByte = control[grupo] & ~(MASCARA_BYTE << desplazamiento);
+        control[grupo] = sinByte | (valor << desplazamiento);
+    }
+
+    /**
+     * Devuelve la parte del hash que elige el grupo inicial.
+     *
+     * @param hash el hash mezclado.
+     * @return {@code H1}, los 25 bits altos del hash.
+     */
+    private static int h1(int hash) {
+        return hash >>> BITS_H2;
+    }
+
+    /**
+     * Devuelve la parte del hash que se guarda en el byte de control.
+     *
+     * @param hash el hash mezclado.
+     * @return {@code H2}, los 7 bits bajos del hash.
+     */
+    private static long h2(int hash) {
+        return hash & MASCARA_H2;
+    }
+
+    /**
+     * Marca los bytes de un grupo iguales a {@code h2}.
+     * <p>
+     * Tras el XOR, los bytes coincidentes quedan en cero y se detectan con el
+     * truco clásico {@code (x - 0x01..) & ~x & 0x80..}. Puede haber falsos
+     * positivos en bytes ubicados por encima de una coincidencia real, que se
+     * descartan al comparar las claves con {@code equals()}.
+     * </p>
+     *
+     * @param grupo los 8 bytes de control.
+     * @param h2    el valor buscado.
+     * @return un {@code long} con el bit alto encendido en cada byte candidato.
+     */
+    private static long coincidencias(long grupo, long h2) {
+        long diferencias = grupo ^ (BITS_BAJOS * h2);
+        return (diferencias - BITS_BAJOS) & ~diferencias & BITS_ALTOS;
+    }
+
+    /**
+     * Marca los bytes vacíos de un grupo: los que tienen el bit 7 encendido y
+     * el bit 1 apagado.
+     *
+     * @param grupo los 8 bytes de control.
+     * @return un {@code long} con el bit alto encendido en cada byte vacío.
+     */
+    private static long vacios(long grupo) {
+        return grupo & ~(grupo << DESPLAZAMIENTO_VACIO) & BITS_ALTOS;
+    }
+
+    /**
+     * Marca los bytes vacíos o borrados de un grupo: los que tienen el bit 7
+     * encendido.
+     *
+     * @param grupo los 8 bytes de control.
+     * @return un {@code long} con el bit alto encendido en cada byte disponible.
+     */
+    private static long vaciosOBorrados(long grupo) {
+        return grupo & BITS_ALTOS;
+    }
+
+    /**
+     * Devuelve el número del primer byte marcado.
+     *
+     * @param marcas un {@code long} con bits altos de bytes encendidos; no puede
+     *               ser cero.
+     * @return el índice (0 a 7) del byte marcado menos significativo.
+     */
+    private static int primerByte(long marcas) {
+        return Long.numberOfTrailingZeros(marcas) / BITS_POR_BYTE;
+    }
+
+    /**
+     * Recorre todas las asociaciones del diccionario, en el orden en que están
+     * guardadas.
+     *
+     * @param accion recibe cada clave y su valor.
+     * @throws NullPointerException si la acción es {@code null}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> accion) {
+        Objects.requireNonNull(accion);
+        for (int i = 0; i < llaves.length; i++) {
+            if (llaves[i] != null) {
+                accion.accept((K) llaves[i], (V) valores[i]);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder("DiccionarioSuizo{");
+        String separador = "";
+        for (int i = 0; i < llaves.length; i++) {
+            if (llaves[i] != null) {
+                texto.append(separador).append(llaves[i]).append('=').append(valores[i]);
+                separador = ", ";
+            }
+        }
+        return texto.append('}').toString();
+    }
+}
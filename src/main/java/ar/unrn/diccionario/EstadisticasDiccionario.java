@@ -0,0 +1,242 @@
+package ar.unrn.diccionario;
+
+import java.util.Arrays;
+
+/**
+ * Foto del estado de un {@link Diccionario}, tomada con
+ * {@link Diccionario#estadisticas()}.
+ * <p>
+ * La parte estructural (cuántas entradas hay en cada balde, colisiones y largo
+ * de las listas) se calcula siempre al tomar la foto. Los contadores de
+ * consultas e inserciones rechazadas solo avanzan mientras las estadísticas del
+ * diccionario están activadas ({@link Diccionario#activarEstadisticas()}); si no,
+ * valen cero.
+ * </p>
+ * <p>
+ * Una colisión es cada entrada que comparte el balde con otra: un balde con
+ * {@code k} entradas aporta {@code k - 1} colisiones. Los sondeos de una
+ * búsqueda son las claves que se comparan hasta encontrar la buscada: en una
+ * lista, su posición; en un balde convertido en árbol, la altura del árbol.
+ * </p>
+ */
+public final class EstadisticasDiccionario {
+
+    /**
+     * Cantidad de entradas de cada balde.
+     */
+    private final int[] entradasPorBalde;
+    /**
+     * Cantidad de baldes con cada cantidad de entradas.
+     */
+    private final long[] histograma;
+    /**
+     * Cantidad total de entradas.
+     */
+    private final long cantidad;
+    /**
+     * Cantidad de baldes con al menos una entrada.
+     */
+    private final int baldesOcupados;
+    /**
+     * Suma de los sondeos necesarios para encontrar cada clave.
+     */
+    private final long sondeos;
+    /**
+     * Consultas que encontraron la clave.
+     */
+    private final long consultasAcertadas;
+    /**
+     * Consultas que no encontraron la clave.
+     */
+    private final long consultasFallidas;
+    /**
+     * Inserciones rechazadas por colisión.
+     */
+    private final long insercionesRechazadas;
+
+    /**
+     * Construye la foto a partir de la cantidad de entradas de cada balde y de
+     * los contadores.
+     *
+     * @param entradasPorBalde      la cantidad de entradas de cada balde; el
+     *                              arreglo pasa a ser de la foto.
+     * @param sondeos               la suma de los sondeos necesarios para
+     *                              encontrar cada clave.
+     * @param consultasAcertadas    las consultas que encontraron la clave.
+     * @param consultasFallidas     las consultas que no la encontraron.
+     * @param insercionesRechazadas las inserciones rechazadas por colisión.
+     */
+    EstadisticasDiccionario(int[] entradasPorBalde, long sondeos, long consultasAcertadas,
+                            long consultasFallidas, long insercionesRechazadas) {
+        this.entradasPorBalde = entradasPorBalde;
+        this.sondeos = sondeos;
+        this.consultasAcertadas = consultasAcertadas;
+        this.consultasFallidas = consultasFallidas;
+        this.insercionesRechazadas = insercionesRechazadas;
+        int maximo = 0;
+        long total = 0;
+        int ocupados = 0;
+        for (int entradas : entradasPorBalde) {
+            maximo = Math.max(maximo, entradas);
+            total = total + entradas;
+            if (entradas > 0) {
+                ocupados++;
+            }
+        }
+        this.histograma = new long[maximo + 1];
+        for (int entradas : entradasPorBalde) {
+            histograma[entradas]++;
+        }
+        this.cantidad = total;
+        this.baldesOcupados = ocupados;
+    }
+
+    /**
+     * Devuelve la cantidad de entradas del diccionario.
+     *
+     * @return la cantidad de entradas.
+     */
+    public long cantidad() {
+        return cantidad;
+    }
+
+    /**
+     * Devuelve la cantidad de baldes del diccionario.
+     *
+     * @return la cantidad de baldes.
+     */
+    public int capacidad() {
+        return entradasPorBalde.length;
+    }
+
+    /**
+     * Devuelve la cantidad de baldes con al menos una entrada.
+     *
+     * @return la cantidad de baldes ocupados.
+     */
+    public int baldesOcupados() {
+        return baldesOcupados;
+    }
+
+    /**
+     * Devuelve la cantidad de entradas que comparten su balde con otra.
+     *
+     * @return la cantidad de colisiones.
+     */
+    public long colisiones() {
+        return cantidad - baldesOcupados;
+    }
+
+    /**
+     * Devuelve las colisiones de cada balde: sus entradas menos una, o cero si
+     * está vacío.
+     *
+     * @return un arreglo nuevo, indexado por balde.
+     */
+    public int[] colisionesPorBalde() {
+        int[] colisiones = new int[entradasPorBalde.length];
+        for (int i = 0; i < colisiones.length; i++) {
+            colisiones[i] = Math.max(0, entradasPorBalde[i] - 1);
+        }
+        return colisiones;
+    }
+
+    /**
+     * Devuelve el histograma de ocupación: la posición {@code k} tiene la
+     * cantidad de baldes con exactamente {@code k} entradas.
+     *
+     * @return un arreglo nuevo, de largo {@link #longitudMaxima()} + 1.
+     */
+    public long[] histograma() {
+        return histograma.clone();
+    }
+
+    /**
+     * Devuelve la cantidad de entradas del balde más cargado.
+     *
+     * @return el largo máximo.
+     */
+    public int longitudMaxima() {
+        return histograma.length - 1;
+    }
+
+    /**
+     * Devuelve la cantidad promedio de entradas de los baldes ocupados.
+     *
+     * @return el largo promedio, o {@code 0} si el diccionario está vacío.
+     */
+    public double longitudPromedio() {
+        return baldesOcupados == 0 ? 0 : (double) cantidad / baldesOcupados;
+    }
+
+    /**
+     * Devuelve la cantidad promedio de claves que se comparan para encontrar
+     * una clave del diccionario.
+     *
+     * @return los sondeos promedio, o {@code 0} si el diccionario está vacío.
+     */
+    public double sondeosPromedio() {
+        return cantidad == 0 ? 0 : (double) sondeos / cantidad;
+    }
+
+    /**
+     * Devuelve la proporción de baldes ocupados.
+     *
+     * @return un valor entre 0 y 1.
+     */
+    public double ocupacion() {
+        return (double) baldesOcupados / entradasPorBalde.length;
+    }
+
+    /**
+     * Devuelve la cantidad de consultas que encontraron la clave.
+     *
+     * @return las consultas acertadas.
+     */
+    public long consultasAcertadas() {
+        return consultasAcertadas;
+    }
+
+    /**
+     * Devuelve la cantidad de consultas que no encontraron la clave.
+     *
+     * @return las consultas fallidas.
+     */
+    public long consultasFallidas() {
+        return consultasFallidas;
+    }
+
+    /**
+     * Devuelve la proporción de consultas que encontraron la clave.
+     *
+     * @return un valor entre 0 y 1, o {@code 0} si no hubo consultas.
+     */
+    public double tasaDeAciertos() {
+        long consultas = consultasAcertadas + consultasFallidas;
+        return consultas == 0 ? 0 : (double) consultasAcertadas / consultas;
+    }
+
+    /**
+     * Devuelve la cantidad de inserciones rechazadas por colisión.
+     *
+     * @return las inserciones rechazadas.
+     */
+    public long insercionesRechazadas() {
+        return insercionesRechazadas;
+    }
+
+    @Override
+    public String toString() {
+        return "EstadisticasDiccionario{" +
+                "cantidad=" + cantidad +
+                ", capacidad=" + capacidad() +
+                ", colisiones=" + colisiones() +
+                ", longitudMaxima=" + longitudMaxima() +
+                ", sondeosPromedio=" + sondeosPromedio() +
+                ", histograma=" + Arrays.toString(histograma) +
+                ", consultasAcertadas=" + consultasAcertadas +
+                ", consultasFallidas=" + consultasFallidas +
+                ", insercionesRechazadas=" + insercionesRechazadas +
+                '}';
+    }
+}
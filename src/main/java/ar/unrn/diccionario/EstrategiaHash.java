@@ -0,0 +1,65 @@
+package ar.unrn.diccionario;
+
+/**
+ * Define cómo un {@link Diccionario} calcula el hash de sus claves y decide si
+ * dos claves son iguales, en lugar de usar sus métodos {@code hashCode()} y
+ * {@code equals()}.
+ * <p>
+ * Permite usar como claves tipos cuyo {@code hashCode()} es de mala calidad (como
+ * {@link LlaveDefectuosa}) o que no se pueden modificar, sin envolver cada clave
+ * en otro objeto: la estrategia se guarda una sola vez en el diccionario y no
+ * agrega ninguna asignación por búsqueda.
+ * </p>
+ * <p>
+ * Como con {@code hashCode()} y {@code equals()}, dos claves iguales según
+ * {@link #iguales(Object, Object)} deben tener el mismo {@link #hash(Object)}.
+ * Las claves nunca son {@code null}: el diccionario las rechaza antes de invocar
+ * a la estrategia.
+ * </p>
+ *
+ * @param <K> el tipo de las claves.
+ */
+public interface EstrategiaHash<K> {
+
+    /**
+     * Calcula el código hash de una clave.
+     *
+     * @param llave la clave; nunca {@code null}.
+     * @return el código hash.
+     */
+    int hash(K llave);
+
+    /**
+     * Indica si dos claves son iguales.
+     *
+     * @param llave la clave almacenada; nunca {@code null}.
+     * @param otra  la clave buscada; nunca {@code null}.
+     * @return {@code true} si ambas claves representan la misma entrada.
+     */
+    boolean iguales(K llave, K otra);
+
+    /**
+     * Devuelve la estrategia que usa {@code hashCode()} y {@code equals()} de las
+     * propias claves; es la que usa el diccionario si no se indica otra.
+     *
+     * @param <K> el tipo de las claves.
+     * @return la estrategia natural.
+     */
+    @SuppressWarnings("unchecked")
+    static <K> EstrategiaHash<K> natural() {
+        return (EstrategiaHash<K>) Estrategias.NATURAL;
+    }
+
+    /**
+     * Devuelve una estrategia que compara las claves por identidad
+     * ({@code ==}) y usa {@link System#identityHashCode(Object)}, como
+     * {@link java.util.IdentityHashMap}.
+     *
+     * @param <K> el tipo de las claves.
+     * @return la estrategia de identidad.
+     */
+    @SuppressWarnings("unchecked")
+    static <K> EstrategiaHash<K> identidad() {
+        return (EstrategiaHash<K>) Estrategias.IDENTIDAD;
+    }
+}
@@ -0,0 +1,36 @@
+package ar.unrn.diccionario;
+
+/**
+ * Estrategias de hash predefinidas, expuestas mediante
+ * {@link EstrategiaHash#natural()} y {@link EstrategiaHash#identidad()}.
+ */
+enum Estrategias implements EstrategiaHash<Object> {
+    /**
+     * Usa {@code hashCode()} y {@code equals()} de las claves.
+     */
+    NATURAL {
+        @Override
+        public int hash(Object llave) {
+            return llave.hashCode();
+        }
+
+        @Override
+        public boolean iguales(Object llave, Object otra) {
+            return llave == otra || llave.equals(otra);
+        }
+    },
+    /**
+     * Usa la identidad de las claves.
+     */
+    IDENTIDAD {
+        @Override
+        public int hash(Object llave) {
+            return System.identityHashCode(llave);
+        }
+
+        @Override
+        public boolean iguales(Object llave, Object otra) {
+            return llave == otra;
+        }
+    }
+}
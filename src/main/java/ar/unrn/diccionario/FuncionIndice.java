@@ -0,0 +1,78 @@
+package ar.unrn.diccionario;
+
+/**
+ * Forma en que un {@link Diccionario} transforma el {@code hashCode()} de una
+ * clave en el índice de su balde.
+ * <p>
+ * La capacidad del diccionario es siempre una potencia de dos, así que el
+ * índice puede obtenerse con una máscara de bits en lugar de una división. La
+ * máscara, sin embargo, solo usa los bits bajos del hash: claves cuyos
+ * {@code hashCode()} difieren únicamente en los bits altos (por ejemplo,
+ * múltiplos de la capacidad) caen todas en el mismo balde. Las funciones que
+ * <em>mezclan</em> el hash antes de aplicar la máscara reparten esas claves a
+ * costa de unas pocas operaciones adicionales.
+ * </p>
+ * <p>
+ * Todas las funciones cumplen que, al duplicar la capacidad, las claves de un
+ * balde solo pueden ir a dos baldes nuevos que no comparten con ningún otro
+ * balde anterior, de modo que redimensionar un diccionario con
+ * {@link PoliticaColision#RECHAZO} nunca produce colisiones.
+ * </p>
+ */
+public enum FuncionIndice {
+    /**
+     * Módulo matemático con {@link Math#floorMod(int, int)}, como en la versión
+     * original del diccionario. Con capacidades potencia de dos da el mismo
+     * resultado que {@link #MASCARA}, pero requiere una división.
+     */
+    MODULO,
+    /**
+     * Máscara de bits {@code hash & (capacidad - 1)}: usa solo los bits bajos
+     * del hash. Es la opción por defecto.
+     */
+    MASCARA,
+    /**
+     * Combina los 16 bits altos del hash con los bajos ({@code h ^ (h >>> 16)})
+     * antes de aplicar la máscara, como hace {@link java.util.HashMap}.
+     */
+    DISPERSION,
+    /**
+     * Aplica el paso final ("fmix32") de MurmurHash3 antes de la máscara: cada
+     * bit del índice depende de todos los bits del hash.
+     */
+    MURMUR3,
+    /**
+     * Hashing de Fibonacci: multiplica el hash por {@code 2^32 / φ} y toma los
+     * bits altos del producto, que son los mejor mezclados.
+     */
+    FIBONACCI;
+
+    /**
+     * Calcula el índice del balde para un código hash.
+     *
+     * @param hash      el código hash de la clave.
+     * @param capacidad la cantidad de baldes; una potencia de dos.
+     * @return un índice en {@code [0, capacidad - 1]}.
+     */
+    int indice(int hash, int capacidad) {
+        int mascara = capacidad - 1;
+        return switch (this) {
+            // El hashCode de la clave puede ser cualquier entero.
+            // Queremos mapearlo a un valor entre 0 y capacidad - 1.
+            // Math.floorMod(a, b) calcula el módulo de 'a' con respecto a 'b',
+            // y el resultado siempre tiene el mismo signo que el divisor 'b'.
+            // Dado que la capacidad es positiva, el resultado estará en
+            // [0, capacidad - 1].
+            // Esto maneja correctamente tanto hashCodes positivos como negativos.
+            // https://docs.oracle.com/en/java/javase/21/docs/api/java.base/java/lang/Math.html#floorMod(int,int)
+            case MODULO -> Math.floorMod(hash, capacidad);
+            case MASCARA -> hash & mascara;
+            case DISPERSION -> Tablas.dispersar(hash) & mascara;
+            case MURMUR3 -> Tablas.mezclar(hash) & mascara;
+            // Los bits altos de (hash * φ) escalados a la capacidad; con una
+            // potencia de dos equivale a tomar los log2(capacidad) bits altos.
+            case FIBONACCI -> (int) (Integer.toUnsignedLong(hash * Tablas.FIBONACCI)
+                    * capacidad >>> Integer.SIZE);
+        };
+    }
+}
@@ -0,0 +1,338 @@
+package ar.unrn.diccionario;
+
+import ar.unrn.diccionario.excepciones.LlaveNulaException;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Función de hash perfecta y mínima para un conjunto fijo de claves: asigna a
+ * cada una de las {@code n} claves un índice distinto en {@code [0, n)}, sin
+ * colisiones ni posiciones libres.
+ * <p>
+ * Se construye con el algoritmo BBHash. En cada <em>nivel</em> hay un arreglo
+ * de bits de {@code gamma} bits por clave pendiente y cada clave se ubica en una
+ * posición calculada con una semilla distinta por nivel. Las claves que quedan
+ * solas en su posición marcan ese bit; las que comparten posición pasan al
+ * nivel siguiente, con un arreglo más chico. El índice de una clave es la
+ * cantidad de bits marcados antes del suyo (su <em>rango</em>), que se calcula
+ * en tiempo constante con conteos acumulados cada 512 bits.
+ * </p>
+ * <p>
+ * Con {@code gamma = 1} la función ocupa unos 3 bits por clave; valores mayores
+ * ocupan más memoria pero se construyen más rápido y resuelven más claves en los
+ * primeros niveles, lo que acelera las consultas. Las claves que no se resuelven
+ * en {@value #MAX_NIVELES} niveles (por ejemplo, las que comparten
+ * {@code hashCode()}) se guardan en un {@link Diccionario} de respaldo.
+ * </p>
+ * <p>
+ * La función no guarda las claves: para una clave que no pertenece al conjunto
+ * devuelve {@code -1} o un índice cualquiera. {@link DiccionarioEstatico} la
+ * usa junto con las claves para responder consultas de pertenencia.
+ * </p>
+ *
+ * @param <K> el tipo de las claves.
+ */
+public final class HashPerfectoMinimo<K> {
+
+    /**
+     * Cantidad máxima de niveles de bits antes de recurrir al respaldo.
+     */
+    public static final int MAX_NIVELES = 32;
+    /**
+     * Valor de {@code gamma} (bits por clave pendiente) por defecto.
+     */
+    private static final double GAMMA_POR_DEFECTO = 1.0;
+    /**
+     * Mayor valor de {@code gamma} admitido; asegura que cada nivel tenga menos
+     * de {@code 2^32} bits.
+     */
+    private static final double GAMMA_MAXIMO = 4.0;
+    /**
+     * Factor de carga del diccionario de respaldo.
+     */
+    private static final float FACTOR_DE_CARGA_DEL_RESPALDO = 0.75f;
+    /**
+     * Cantidad de bits de cada palabra de los arreglos de bits.
+     */
+    private static final int BITS_POR_PALABRA = Long.SIZE;
+    /**
+     * Desplazamiento que convierte una posición de bit en una posición de
+     * palabra.
+     */
+    private static final int PALABRA = 6;
+    /**
+     * Desplazamiento que convierte una posición de palabra en la posición de su
+     * bloque de conteo (8 palabras, 512 bits).
+     */
+    private static final int BLOQUE = 3;
+
+    /**
+     * Los bits de todos los niveles, uno a continuación del otro.
+     */
+    private final long[] bits;
+    /**
+     * Posición del primer bit de cada nivel en {@link #bits}, más una posición
+     * final con el total de bits.
+     */
+    private final long[] inicioDeNivel;
+    /**
+     * Cantidad de bits marcados antes de cada bloque de 8 palabras.
+     */
+    private final int[] rangoDeBloque;
+    /**
+     * Índices de las claves que no se resolvieron en ningún nivel, o
+     * {@code null} si no hubo ninguna.
+     */
+    private final Diccionario<K, Integer> respaldo;
+    /**
+     * La estrategia con la que se calcula el hash base de las claves.
+     */
+    private final EstrategiaHash<? super K> estrategia;
+    /**
+     * Cantidad de claves del conjunto.
+     */
+    private final int cantidad;
+
+    /**
+     * Construye la función para un conjunto de claves con {@code gamma = 1},
+     * usando {@code hashCode()} y {@code equals()} de las claves.
+     *
+     * @param llaves las claves, sin repetir.
+     * @throws LlaveNulaException       si alguna clave es {@code null}.
+     * @throws IllegalArgumentException si hay claves repetidas.
+     */
+    public HashPerfectoMinimo(Collection<? extends K> llaves) {
+        this(llaves, GAMMA_POR_DEFECTO, EstrategiaHash.natural());
+    }
+
+    /**
+     * Construye la función para un conjunto de claves.
+     *
+     * @param llaves     las claves, sin repetir.
+     * @param gamma      bits por clave pendiente de cada nivel, entre 1 y 4.
+     * @param estrategia la estrategia con la que se calcula el hash de las
+     *                   claves y se comparan las claves del respaldo.
+     * @throws LlaveNulaException       si alguna clave es {@code null}.
+     * @throws IllegalArgumentException si hay claves repetidas o {@code gamma}
+     *                                  está fuera de rango.
+     * @throws NullPointerException     si la estrategia es {@code null}.
+     */
+    public HashPerfectoMinimo(Collection<? extends K> llaves, double gamma,
+                              EstrategiaHash<? super K> estrategia) {
+        if (!(gamma >= 1 && gamma <= GAMMA_MAXIMO)) {
+            throw new IllegalArgumentException(
+                    "gamma debe estar entre 1 y " + GAMMA_MAXIMO + ": " + gamma);
+        }
+        this.estrategia = Objects.requireNonNull(estrategia,
+                "La estrategia no puede ser nula.");
+        this.cantidad = llaves.size();
+        Object[] pendientes = llaves.toArray();
+        int[] hashes = new int[pendientes.length];
+        for (int i = 0; i < pendientes.length; i++) {
+            @SuppressWarnings("unchecked")
+            K llave = (K) pendientes[i];
+            hashes[i] = Tablas.hashDe(llave, estrategia);
+        }
+        long[][] niveles = new long[MAX_NIVELES][];
+        int cantidadPendiente = pendientes.length;
+        int usados = 0;
+        while (cantidadPendiente > 0 && usados < MAX_NIVELES) {
+            niveles[usados] = armarNivel(usados, pendientes, hashes, cantidadPendiente,
+                    gamma);
+            cantidadPendiente = separarPendientes(usados, niveles[usados], pendientes,
+                    hashes, cantidadPendiente);
+            usados++;
+        }
+        this.inicioDeNivel = new long[usados + 1];
+        for (int nivel = 0; nivel < usados; nivel++) {
+            inicioDeNivel[nivel + 1] = inicioDeNivel[nivel]
+                    + (long) niveles[nivel].length * BITS_POR_PALABRA;
+        }
+        this.bits = new long[(int) (inicioDeNivel[usados] >>> PALABRA)];
+        for (int nivel = 0; nivel < usados; nivel++) {
+            System.arraycopy(niveles[nivel], 0, bits,
+                    (int) (inicioDeNivel[nivel] >>> PALABRA), niveles[nivel].length);
+        }
+        this.rangoDeBloque = new int[(bits.length >>> BLOQUE) + 1];
+        int marcados = 0;
+        for (int palabra = 0; palabra < bits.length; palabra++) {
+            if ((palabra & ((1 << BLOQUE) - 1)) == 0) {
+                rangoDeBloque[palabra >>> BLOQUE] = marcados;
+            }
+            marcados = marcados + Long.bitCount(bits[palabra]);
+        }
+        this.respaldo = cantidadPendiente == 0 ? null
+                : armarRespaldo(pendientes, cantidadPendiente, marcados);
+    }
+
+    /**
+     * Calcula el índice de una clave.
+     *
+     * @param llave la clave. No puede ser {@code null}.
+     * @return un índice en {@code [0, size())} distinto para cada clave del
+     *         conjunto; para otras claves, {@code -1} o un índice cualquiera.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    public int indice(K llave) {
+        int hash = Tablas.hashDe(llave, estrategia);
+        int resultado = -1;
+        int niveles = inicioDeNivel.length - 1;
+        for (int nivel = 0; resultado < 0 && nivel < niveles; nivel++) {
+            long tamanio = inicioDeNivel[nivel + 1] - inicioDeNivel[nivel];
+            long bit = inicioDeNivel[nivel] + posicion(hash, nivel, tamanio);
+            if ((bits[(int) (bit >>> PALABRA)] & (1L << bit)) != 0) {
+                resultado = rango(bit);
+            }
+        }
+        if (resultado < 0 && respaldo != null) {
+            Integer enRespaldo = respaldo.get(llave);
+            resultado = enRespaldo == null ? -1 : enRespaldo;
+        }
+        return resultado;
+    }
+
+    /**
+     * Devuelve la cantidad de claves del conjunto.
+     *
+     * @return la cantidad de índices distintos.
+     */
+    public int size() {
+        return cantidad;
+    }
+
+    /**
+     * Devuelve la cantidad de niveles de bits que se usaron.
+     *
+     * @return la cantidad de niveles.
+     */
+    public int niveles() {
+        return inicioDeNivel.length - 1;
+    }
+
+    /**
+     * Devuelve la memoria que ocupan los bits y los conteos por clave, sin
+     * contar el respaldo.
+     *
+     * @return los bits por clave, o 0 si el conjunto está vacío.
+     */
+    public double bitsPorClave() {
+        long total = (long) bits.length * BITS_POR_PALABRA
+                + (long) rangoDeBloque.length * Integer.SIZE;
+        return cantidad == 0 ? 0 : (double) total / cantidad;
+    }
+
+    /**
+     * Marca en un nivel nuevo las posiciones ocupadas por una sola clave.
+     *
+     * @param nivel      el número de nivel.
+     * @param pendientes las claves pendientes, en las primeras posiciones.
+     * @param hashes     el hash base de cada clave pendiente.
+     * @param cantidad   la cantidad de claves pendientes.
+     * @param gamma      los bits por clave pendiente.
+     * @return los bits del nivel.
+     */
+    private static long[] armarNivel(int nivel, Object[] pendientes, int[] hashes,
+                                     int cantidad, double gamma) {
+        int palabras = (int) Math.max(1, Math.ceil(gamma * cantidad / BITS_POR_PALABRA));
+        long tamanio = (long) palabras * BITS_POR_PALABRA;
+        long[] ocupados = new long[palabras];
+        long[] repetidos = new long[palabras];
+        for (int i = 0; i < cantidad; i++) {
+            long bit = posicion(hashes[i], nivel, tamanio);
+            int palabra = (int) (bit >>> PALABRA);
+            long mascara = 1L << bit;
+            if ((ocupados[palabra] & mascara) != 0) {
+                repetidos[palabra] = repetidos[palabra] | mascara;
+            }
+            ocupados[palabra] = ocupados[palabra] | mascara;
+        }
+        for (int palabra = 0; palabra < palabras; palabra++) {
+            ocupados[palabra] = ocupados[palabra] & ~repetidos[palabra];
+        }
+        return ocupados;
+    }
+
+    /**
+     * Deja al principio de los arreglos las claves que no quedaron solas en su
+     * posición del nivel.
+     *
+     * @param nivel      el número de nivel.
+     * @param bitsNivel  los bits del nivel.
+     * @param pendientes las claves pendientes.
+     * @param hashes     el hash base de cada clave pendiente.
+     * @param cantidad   la cantidad de claves pendientes.
+     * @return la cantidad de claves que siguen pendientes.
+     */
+    private static int separarPendientes(int nivel, long[] bitsNivel, Object[] pendientes,
+                                         int[] hashes, int cantidad) {
+        long tamanio = (long) bitsNivel.length * BITS_POR_PALABRA;
+        int siguen = 0;
+        for (int i = 0; i < cantidad; i++) {
+            long bit = posicion(hashes[i], nivel, tamanio);
+            if ((bitsNivel[(int) (bit >>> PALABRA)] & (1L << bit)) == 0) {
+                pendientes[siguen] = pendientes[i];
+                hashes[siguen] = hashes[i];
+                siguen++;
+            }
+        }
+        return siguen;
+    }
+
+    /**
+     * Asigna índices consecutivos a las claves que no se resolvieron en ningún
+     * nivel.
+     *
+     * @param pendientes las claves pendientes, en las primeras posiciones.
+     * @param cantidad   la cantidad de claves pendientes.
+     * @param primero    el primer índice libre.
+     * @return el diccionario de respaldo.
+     * @throws IllegalArgumentException si hay claves repetidas.
+     */
+    @SuppressWarnings("unchecked")
+    private Diccionario<K, Integer> armarRespaldo(Object[] pendientes, int cantidad,
+                                                  int primero) {
+        Diccionario<K, Integer> resultado = new Diccionario<>(cantidad,
+                FACTOR_DE_CARGA_DEL_RESPALDO, PoliticaColision.ENCADENAMIENTO,
+                FuncionIndice.DISPERSION, estrategia);
+        for (int i = 0; i < cantidad; i++) {
+            K llave = (K) pendientes[i];
+            if (resultado.containsKey(llave)) {
+                throw new IllegalArgumentException("La clave está repetida: " + llave);
+            }
+            resultado.put(llave, primero + i);
+        }
+        return resultado;
+    }
+
+    /**
+     * Cuenta los bits marcados antes de una posición.
+     *
+     * @param bit la posición del bit.
+     * @return la cantidad de bits marcados en {@code [0, bit)}.
+     */
+    private int rango(long bit) {
+        int palabra = (int) (bit >>> PALABRA);
+        int resultado = rangoDeBloque[palabra >>> BLOQUE];
+        for (int i = palabra & ~((1 << BLOQUE) - 1); i < palabra; i++) {
+            resultado = resultado + Long.bitCount(bits[i]);
+        }
+        return resultado + Long.bitCount(bits[palabra] & ((1L << bit) - 1));
+    }
+
+    /**
+     * Calcula la posición de una clave en un nivel, mezclando su hash con el
+     * número de nivel y reduciéndolo al tamaño del nivel con una
+     * multiplicación en lugar de un módulo.
+     *
+     * @param hash    el hash base de la clave.
+     * @param nivel   el número de nivel.
+     * @param tamanio la cantidad de bits del nivel; menor a {@code 2^32}.
+     * @return una posición en {@code [0, tamanio)}.
+     */
+    private static long posicion(int hash, int nivel, long tamanio) {
+        int mezclado = Tablas.mezclar(((long) nivel << Integer.SIZE)
+                | Integer.toUnsignedLong(hash));
+        return Integer.toUnsignedLong(mezclado) * tamanio >>> Integer.SIZE;
+    }
+}
@@ -0,0 +1,244 @@
+package ar.unrn.diccionario;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * Guarda el contenido de un diccionario en un formato binario compacto y lo
+ * vuelve a cargar.
+ * <p>
+ * Una instantánea comienza con una cabecera de 12 bytes: la marca
+ * {@code "DICC"}, la versión del formato y la cantidad de entradas. Le siguen
+ * las entradas, cada una como la clave escrita por su {@link Codec}, un byte
+ * que indica si el valor es {@code null} y, si no lo es, el valor escrito por
+ * el suyo. Los números se escriben en orden big-endian, el de
+ * {@link java.io.DataOutput}.
+ * </p>
+ * <p>
+ * La carga reserva de entrada los baldes que hacen falta para la cantidad
+ * anunciada en la cabecera, hasta {@value #RESERVA_MAXIMA} entradas para que
+ * una cabecera dañada no agote la memoria antes de leer nada; si hay más, la
+ * tabla crece al terminar la carga. Cada entrada se agrega sin buscar si su
+ * clave ya está, porque una instantánea no puede tener claves repetidas: el costo por
+ * entrada es calcular el hash y enlazar un balde, y cargar un diccionario
+ * grande queda limitado por la lectura del archivo. Por eso la instantánea
+ * tiene que provenir de {@link #guardar}; si el archivo fue alterado y repite
+ * una clave, el diccionario cargado la contiene dos veces.
+ * </p>
+ */
+public final class Instantanea {
+
+    /**
+     * Marca con la que comienza toda instantánea, {@code "DICC"} en ASCII.
+     */
+    static final int MARCA = 0x44494343;
+    /**
+     * Versión del formato que se escribe y la única que se sabe leer.
+     */
+    static final int VERSION = 1;
+    /**
+     * Factor de carga del diccionario que devuelve la carga.
+     */
+    private static final float FACTOR_DE_CARGA = 0.75f;
+    /**
+     * Cantidad máxima de entradas para la que se reservan baldes antes de leer.
+     */
+    static final int RESERVA_MAXIMA = 1 << 20;
+
+    /**
+     * Clase de utilidad, no se instancia.
+     */
+    private Instantanea() {
+    }
+
+    /**
+     * Escribe el contenido de una tabla en un flujo de salida. El flujo no se
+     * cierra, pero se vacía al terminar.
+     *
+     * @param tabla         la tabla que se guarda.
+     * @param salida        dónde escribir la instantánea.
+     * @param codecDeLlaves cómo se escriben las claves.
+     * @param codecDeValores cómo se escriben los valores que no son
+     *                      {@code null}.
+     * @param <K>           el tipo de las claves.
+     * @param <V>           el tipo de los valores.
+     * @throws IOException           si falla la escritura.
+     * @throws IllegalStateException si la tabla cambia de tamaño mientras se
+     *                               recorre.
+     */
+    public static <K, V> void guardar(TablaHashLectura<K, V> tabla, OutputStream salida,
+                                      Codec<? super K> codecDeLlaves,
+                                      Codec<? super V> codecDeValores)
+            throws IOException {
+        Objects.requireNonNull(tabla, "La tabla no puede ser nula.");
+        Objects.requireNonNull(codecDeLlaves, "El codec de claves no puede ser nulo.");
+        Objects.requireNonNull(codecDeValores, "El codec de valores no puede ser nulo.");
+        DataOutputStream datos = new DataOutputStream(new BufferedOutputStream(
+                Objects.requireNonNull(salida, "La salida no puede ser nula.")));
+        int cantidad = tabla.size();
+        datos.writeInt(MARCA);
+        datos.writeInt(VERSION);
+        datos.writeInt(cantidad);
+        Escritor<K, V> escritor = new Escritor<>(datos, codecDeLlaves, codecDeValores);
+        tabla.forEach(escritor::escribir);
+        escritor.verificar(cantidad);
+        datos.flush();
+    }
+
+    /**
+     * Lee una instantánea escrita con {@link #guardar} y devuelve un
+     * {@link Diccionario} redimensionable con su contenido, que resuelve las
+     * colisiones con {@link PoliticaColision#ENCADENAMIENTO}. El flujo no se
+     * cierra y se lee sin adelantarse: queda justo después de la instantánea,
+     * listo para leer lo que siga. Como las claves y los valores se leen de a
+     * pocos bytes, conviene pasar un flujo con búfer, por ejemplo un
+     * {@link java.io.BufferedInputStream}.
+     *
+     * @param entrada        de dónde leer la instantánea.
+     * @param codecDeLlaves  cómo se leen las claves.
+     * @param codecDeValores cómo se leen los valores.
+     * @param <K>            el tipo de las claves.
+     * @param <V>            el tipo de los valores.
+     * @return un diccionario con las entradas de la instantánea.
+     * @throws IOException si falla la lectura, el flujo no es una instantánea,
+     *                     su versión no es conocida o termina antes de tiempo.
+     */
+    public static <K, V> Diccionario<K, V> cargar(InputStream entrada,
+                                                  Codec<? extends K> codecDeLlaves,
+                                                  Codec<? extends V> codecDeValores)
+            throws IOException {
+        Objects.requireNonNull(codecDeLlaves, "El codec de claves no puede ser nulo.");
+        Objects.requireNonNull(codecDeValores, "El codec de valores no puede ser nulo.");
+        DataInputStream datos = new DataInputStream(
+                Objects.requireNonNull(entrada, "La entrada no puede ser nula."));
+        int marca = datos.readInt();
+        if (marca != MARCA) {
+            throw new IOException("No es una instantánea de diccionario: 0x"
+                    + Integer.toHexString(marca));
+        }
+        int version = datos.readInt();
+        if (version != VERSION) {
+            throw new IOException("Versión de instantánea desconocida: " + version);
+        }
+        int cantidad = datos.readInt();
+        if (cantidad < 0) {
+            throw new IOException("Cantidad de entradas inválida: " + cantidad);
+        }
+        Diccionario<K, V> diccionario = new Diccionario<>(
+                capacidadPara(Math.min(cantidad, RESERVA_MAXIMA)),
+                FACTOR_DE_CARGA, PoliticaColision.ENCADENAMIENTO,
+                FuncionIndice.DISPERSION, EstrategiaHash.natural());
+        for (int i = 0; i < cantidad; i++) {
+            K llave = codecDeLlaves.leer(datos);
+            V valor = null;
+            if (datos.readBoolean()) {
+                valor = codecDeValores.leer(datos);
+            }
+            diccionario.cargarSinVerificar(llave, valor);
+        }
+        diccionario.terminarCarga();
+        return diccionario;
+    }
+
+    /**
+     * Calcula la cantidad de baldes que admite la cantidad de entradas indicada
+     * sin crecer.
+     *
+     * @param cantidad la cantidad de entradas.
+     * @return la capacidad inicial del diccionario.
+     */
+    private static int capacidadPara(int cantidad) {
+        return (int) Math.max(1, Math.ceil(cantidad / (double) FACTOR_DE_CARGA));
+    }
+
+    /**
+     * Escribe las entradas que recibe del recorrido de la tabla. Como
+     * {@link TablaHashLectura#forEach} no admite excepciones comprobadas, la
+     * primera {@link IOException} se guarda y se relanza al terminar.
+     *
+     * @param <K> el tipo de las claves.
+     * @param <V> el tipo de los valores.
+     */
+    private static final class Escritor<K, V> {
+
+        /**
+         * Dónde se escriben las entradas.
+         */
+        private final DataOutputStream datos;
+        /**
+         * Cómo se escriben las claves.
+         */
+        private final Codec<? super K> codecDeLlaves;
+        /**
+         * Cómo se escriben los valores.
+         */
+        private final Codec<? super V> codecDeValores;
+        /**
+         * Cantidad de entradas escritas.
+         */
+        private int escritas;
+        /**
+         * La primera falla de escritura, o {@code null} si no hubo ninguna.
+         */
+        private IOException falla;
+
+        /**
+         * Construye un escritor.
+         *
+         * @param datos          dónde se escriben las entradas.
+         * @param codecDeLlaves  cómo se escriben las claves.
+         * @param codecDeValores cómo se escriben los valores.
+         */
+        Escritor(DataOutputStream datos, Codec<? super K> codecDeLlaves,
+                 Codec<? super V> codecDeValores) {
+            this.datos = datos;
+            this.codecDeLlaves = codecDeLlaves;
+            this.codecDeValores = codecDeValores;
+        }
+
+        /**
+         * Escribe una entrada, salvo que ya haya fallado una escritura anterior.
+         *
+         * @param llave la clave.
+         * @param valor el valor, posiblemente {@code null}.
+         */
+        void escribir(K llave, V valor) {
+            if (falla == null) {
+                try {
+                    codecDeLlaves.escribir(datos, llave);
+                    datos.writeBoolean(valor != null);
+                    if (valor != null) {
+                        codecDeValores.escribir(datos, valor);
+                    }
+                    escritas++;
+                } catch (IOException e) {
+                    falla = e;
+                }
+            }
+        }
+
+        /**
+         * Relanza la falla de escritura, si la hubo, y comprueba que se hayan
+         * escrito tantas entradas como anuncia la cabecera.
+         *
+         * @param cantidad la cantidad anunciada en la cabecera.
+         * @throws IOException           si falló alguna escritura.
+         * @throws IllegalStateException si se escribió otra cantidad de entradas.
+         */
+        void verificar(int cantidad) throws IOException {
+            if (falla != null) {
+                throw falla;
+            }
+            if (escritas != cantidad) {
+                throw new IllegalStateException("La tabla cambió mientras se guardaba: "
+                        + "se anunciaron " + cantidad + " entradas y se escribieron "
+                        + escritas + ".");
+            }
+        }
+    }
+}
@@ -0,0 +1,441 @@
+package ar.unrn.diccionario;
+
+import ar.unrn.diccionario.excepciones.ColisionException;
+
+import java.util.Objects;
+
+/**
+ * Diccionario especializado de claves {@code int} a valores {@code int}.
+ * <p>
+ * A diferencia de un {@code Diccionario<Integer, Integer>}, no envuelve las
+ * claves ni los valores en objetos: se guardan directamente en dos arreglos
+ * {@code int[]} paralelos, así que las operaciones no asignan memoria y cada
+ * entrada ocupa 8 bytes (más el espacio libre que deja el factor de carga) en
+ * lugar de los casi 50 de un balde con dos objetos {@link Integer}.
+ * </p>
+ * <p>
+ * Usa direccionamiento abierto con sondeo lineal sobre el hash mezclado con
+ * MurmurHash3. La clave {@code 0} marca las posiciones libres, de modo que no
+ * hace falta un arreglo aparte de ocupación; la propia clave {@code 0} se
+ * guarda fuera de la tabla, en un campo con su propia marca. Las eliminaciones
+ * no usan lápidas: las entradas siguientes se desplazan hacia atrás
+ * (<em>backward-shift</em>) para cerrar el hueco.
+ * </p>
+ * <p>
+ * Como los valores son primitivos, las operaciones que en {@link TablaHash}
+ * devuelven {@code null} para indicar una clave ausente devuelven aquí el
+ * <em>valor ausente</em> del diccionario, {@code 0} si no se indica otro.
+ * </p>
+ */
+public class IntIntDiccionario {
+
+    /**
+     * Cantidad de posiciones con la que comienza el diccionario por defecto.
+     */
+    private static final int CAPACIDAD_POR_DEFECTO = 16;
+    /**
+     * Factor de carga por defecto.
+     */
+    private static final float FACTOR_DE_CARGA_POR_DEFECTO = 0.75f;
+    /**
+     * Clave que marca una posición libre de la tabla.
+     */
+    private static final int LIBRE = 0;
+
+    /**
+     * Las claves almacenadas; {@link #LIBRE} indica una posición libre. Su
+     * longitud es siempre una potencia de dos.
+     */
+    private int[] llaves;
+    /**
+     * Los valores almacenados, en la misma posición que su clave.
+     */
+    private int[] valores;
+    /**
+     * Indica si la clave {@code 0}, que no puede guardarse en la tabla, está en
+     * el diccionario.
+     */
+    private boolean tieneCero;
+    /**
+     * El valor asociado a la clave {@code 0}, si está.
+     */
+    private int valorCero;
+    /**
+     * Proporción de posiciones ocupadas a partir de la cual la tabla se duplica.
+     */
+    private final float factorDeCarga;
+    /**
+     * Valor que devuelven las operaciones cuando la clave no está.
+     */
+    private final int valorAusente;
+    /**
+     * Cantidad de asociaciones clave-valor almacenadas, incluida la clave
+     * {@code 0}.
+     */
+    private int cantidad;
+    /**
+     * Cantidad de entradas en la tabla que dispara su crecimiento.
+     */
+    private int umbral;
+
+    /**
+     * Construye un diccionario vacío con la capacidad y el factor de carga por
+     * defecto, cuyo valor ausente es {@code 0}.
+     */
+    public IntIntDiccionario() {
+        this(CAPACIDAD_POR_DEFECTO, FACTOR_DE_CARGA_POR_DEFECTO, 0);
+    }
+
+    /**
+     * Construye un diccionario vacío con la capacidad, el factor de carga y el
+     * valor ausente indicados.
+     *
+     * @param capacidadInicial la cantidad de posiciones con la que comienza el
+     *                         diccionario. Se redondea a la siguiente potencia
+     *                         de dos.
+     * @param factorDeCarga    la proporción de posiciones ocupadas a partir de la
+     *                         cual la tabla se duplica; debe ser menor a 1.
+     * @param valorAusente     el valor que se devuelve para las claves que no
+     *                         están en el diccionario.
+     * @throws IllegalArgumentException si la capacidad no es positiva o el factor
+     *                                  de carga no está en el intervalo (0, 1).
+     */
+    public IntIntDiccionario(int capacidadInicial, float factorDeCarga,
+                             int valorAusente) {
+        Tablas.validar(capacidadInicial, factorDeCarga);
+        if (factorDeCarga >= 1) {
+            throw new IllegalArgumentException(
+                    "El factor de carga debe ser menor a 1: " + factorDeCarga);
+        }
+        this.factorDeCarga = factorDeCarga;
+        this.valorAusente = valorAusente;
+        inicializar(Tablas.potenciaDeDos(capacidadInicial));
+    }
+
+    /**
+     * Asocia un valor a una clave, reemplazando el valor anterior si la clave ya
+     * estaba.
+     *
+     * @param key   la clave.
+     * @param value el valor que se asociará con la clave.
+     * @return el valor que tenía la clave, o el valor ausente si no estaba.
+     * @throws ColisionException si la tabla alcanzó su capacidad máxima.
+     */
+    public int put(int key, int value) {
+        int anterior = valorAusente;
+        if (key == LIBRE) {
+            if (tieneCero) {
+                anterior = valorCero;
+            } else {
+                tieneCero = true;
+                cantidad++;
+            }
+            valorCero = value;
+        } else {
+            int posicion = posicionDe(key);
+            if (posicion >= 0) {
+                anterior = valores[posicion];
+                valores[posicion] = value;
+            } else {
+                colocar(key, value, posicion);
+            }
+        }
+        return anterior;
+    }
+
+    /**
+     * Suma un incremento al valor de una clave. Si la clave no estaba, se agrega
+     * con el valor ausente más el incremento.
+     * <p>
+     * Es la operación típica para contar apariciones y resuelve la clave con un
+     * único sondeo, en lugar de un {@link #get(int)} seguido de un
+     * {@link #put(int, int)}; solo si la clave es nueva y la tabla tiene que
+     * crecer se busca otra vez su posición en la tabla nueva.
+     * </p>
+     *
+     * @param key        la clave.
+     * @param incremento el valor a sumar.
+     * @return el valor resultante de la clave.
+     * @throws ColisionException si la tabla alcanzó su capacidad máxima.
+     */
+    public int sumar(int key, int incremento) {
+        int resultado;
+        if (key == LIBRE) {
+            if (!tieneCero) {
+                tieneCero = true;
+                valorCero = valorAusente;
+                cantidad++;
+            }
+            valorCero = valorCero + incremento;
+            resultado = valorCero;
+        } else {
+            int posicion = posicionDe(key);
+            if (posicion >= 0) {
+                valores[posicion] = valores[posicion] + incremento;
+                resultado = valores[posicion];
+            } else {
+                resultado = valorAusente + incremento;
+                colocar(key, resultado, posicion);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Recupera el valor al que está mapeada una clave.
+     *
+     * @param key la clave buscada.
+     * @return el valor asociado, o el valor ausente si la clave no está.
+     */
+    public int get(int key) {
+        return getOrDefault(key, valorAusente);
+    }
+
+    /**
+     * Recupera el valor al que está mapeada una clave, o un valor por defecto
+     * si no está.
+     *
+     * @param key        la clave buscada.
+     * @param porDefecto el valor a devolver si la clave no está.
+     * @return el valor asociado, o {@code porDefecto} si la clave no está.
+     */
+    public int getOrDefault(int key, int porDefecto) {
+        int valorRecuperado = porDefecto;
+        if (key == LIBRE) {
+            if (tieneCero) {
+                valorRecuperado = valorCero;
+            }
+        } else {
+            int posicion = posicionDe(key);
+            if (posicion >= 0) {
+                valorRecuperado = valores[posicion];
+            }
+        }
+        return valorRecuperado;
+    }
+
+    /**
+     * Elimina el mapeo de una clave si está presente.
+     *
+     * @param key la clave a eliminar.
+     * @return {@code true} si la clave estaba y fue eliminada.
+     */
+    public boolean remove(int key) {
+        boolean removidoConExito;
+        if (key == LIBRE) {
+            removidoConExito = tieneCero;
+            tieneCero = false;
+        } else {
+            int posicion = posicionDe(key);
+            removidoConExito = posicion >= 0;
+            if (removidoConExito) {
+                desplazarHaciaAtras(posicion);
+            }
+        }
+        if (removidoConExito) {
+            cantidad--;
+        }
+        return removidoConExito;
+    }
+
+    /**
+     * Comprueba si el diccionario contiene un mapeo para una clave.
+     *
+     * @param key la clave buscada.
+     * @return {@code true} si la clave está en el diccionario.
+     */
+    public boolean containsKey(int key) {
+        return key == LIBRE ? tieneCero : posicionDe(key) >= 0;
+    }
+
+    /**
+     * Devuelve el número de asociaciones clave-valor en el diccionario.
+     *
+     * @return la cantidad de elementos.
+     */
+    public int size() {
+        return cantidad;
+    }
+
+    /**
+     * Comprueba si el diccionario está vacío.
+     *
+     * @return {@code true} si no contiene elementos.
+     */
+    public boolean isEmpty() {
+        return cantidad == 0;
+    }
+
+    /**
+     * Devuelve la cantidad actual de posiciones de la tabla.
+     *
+     * @return la longitud de los arreglos de la tabla.
+     */
+    public int capacidad() {
+        return llaves.length;
+    }
+
+    /**
+     * Aplica una acción a cada entrada del diccionario, sin un orden
+     * particular y sin crear objetos. La acción no debe modificar el
+     * diccionario.
+     *
+     * @param accion la acción a aplicar a cada clave y su valor.
+     * @throws NullPointerException si la acción es {@code null}.
+     */
+    public void forEach(ConsumidorDeEntradas accion) {
+        Objects.requireNonNull(accion);
+        if (tieneCero) {
+            accion.aceptar(LIBRE, valorCero);
+        }
+        for (int i = 0; i < llaves.length; i++) {
+            if (llaves[i] != LIBRE) {
+                accion.aceptar(llaves[i], valores[i]);
+            }
+        }
+    }
+
+    /**
+     * Busca la posición que ocupa una clave distinta de {@code 0}.
+     *
+     * @param key la clave buscada.
+     * @return la posición de la clave, o {@code -(posicionLibre + 1)} si no
+     *         está, donde {@code posicionLibre} es la posición libre en la que
+     *         terminó la búsqueda.
+     */
+    private int posicionDe(int key) {
+        int mascara = llaves.length - 1;
+        int posicion = Tablas.mezclar(key) & mascara;
+        while (llaves[posicion] != LIBRE && llaves[posicion] != key) {
+            posicion = (posicion + 1) & mascara;
+        }
+        return llaves[posicion] == LIBRE ? -(posicion + 1) : posicion;
+    }
+
+    /**
+     * Agrega una clave distinta de {@code 0} que no está en la tabla, haciéndola
+     * crecer antes si alcanzó su umbral. Si no crece, usa la posición libre que
+     * ya encontró la búsqueda de la clave.
+     *
+     * @param key      la clave.
+     * @param value    el valor.
+     * @param busqueda el resultado de {@link #posicionDe(int)} para la clave.
+     * @throws ColisionException si la tabla alcanzó su capacidad máxima.
+     */
+    private void colocar(int key, int value, int busqueda) {
+        int libre = busqueda;
+        if (cantidadEnTabla() >= umbral) {
+            crecer();
+            libre = posicionDe(key);
+        }
+        int posicion = -(libre + 1);
+        llaves[posicion] = key;
+        valores[posicion] = value;
+        cantidad++;
+    }
+
+    /**
+     * Vacía una posición y desplaza hacia atrás las entradas siguientes del
+     * grupo cuya posición inicial no queda entre el hueco y ellas, para que
+     * ninguna búsqueda se corte antes de tiempo.
+     *
+     * @param posicionQuitada la posición de la entrada eliminada.
+     */
+    private void desplazarHaciaAtras(int posicionQuitada) {
+        int mascara = llaves.length - 1;
+        int hueco = posicionQuitada;
+        int siguiente = (hueco + 1) & mascara;
+        while (llaves[siguiente] != LIBRE) {
+            int inicial = Tablas.mezclar(llaves[siguiente]) & mascara;
+            // La entrada puede ocupar el hueco si su posición inicial no está
+            // en el tramo circular (hueco, siguiente].
+            if (((siguiente - inicial) & mascara) >= ((siguiente - hueco) & mascara)) {
+                llaves[hueco] = llaves[siguiente];
+                valores[hueco] = valores[siguiente];
+                hueco = siguiente;
+            }
+            siguiente = (siguiente + 1) & mascara;
+        }
+        llaves[hueco] = LIBRE;
+    }
+
+    /**
+     * Devuelve la cantidad de entradas guardadas en la tabla, sin contar la
+     * clave {@code 0}.
+     *
+     * @return la cantidad de posiciones ocupadas.
+     */
+    private int cantidadEnTabla() {
+        return tieneCero ? cantidad - 1 : cantidad;
+    }
+
+    /**
+     * Duplica la capacidad de la tabla y reubica todas las entradas.
+     *
+     * @throws ColisionException si la tabla alcanzó su capacidad máxima.
+     */
+    private void crecer() {
+        if (llaves.length == Tablas.CAPACIDAD_MAXIMA) {
+            throw new ColisionException("El diccionario alcanzó su capacidad máxima.");
+        }
+        int[] llavesAnteriores = llaves;
+        int[] valoresAnteriores = valores;
+        inicializar(llavesAnteriores.length * 2);
+        int mascara = llaves.length - 1;
+        for (int i = 0; i < llavesAnteriores.length; i++) {
+            if (llavesAnteriores[i] != LIBRE) {
+                int posicion = Tablas.mezclar(llavesAnteriores[i]) & mascara;
+                while (llaves[posicion] != LIBRE) {
+                    posicion = (posicion + 1) & mascara;
+                }
+                llaves[posicion] = llavesAnteriores[i];
+                valores[posicion] = valoresAnteriores[i];
+            }
+        }
+    }
+
+    /**
+     * Crea arreglos vacíos de la capacidad indicada y calcula su umbral. Siempre
+     * queda al menos una posición libre.
+     *
+     * @param capacidad la cantidad de posiciones; una potencia de dos.
+     */
+    private void inicializar(int capacidad) {
+        llaves = new int[capacidad];
+        valores = new int[capacidad];
+        umbral = Math.min(Tablas.umbral(capacidad, factorDeCarga), capacidad - 1);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder("IntIntDiccionario{");
+        String separador = "";
+        if (tieneCero) {
+            texto.append(LIBRE).append('=').append(valorCero);
+            separador = ", ";
+        }
+        for (int i = 0; i < llaves.length; i++) {
+            if (llaves[i] != LIBRE) {
+                texto.append(separador).append(llaves[i]).append('=').append(valores[i]);
+                separador = ", ";
+            }
+        }
+        return texto.append('}').toString();
+    }
+
+    /**
+     * Acción que recibe una clave y su valor, ambos {@code int}, usada por
+     * {@link #forEach(ConsumidorDeEntradas)}.
+     */
+    @FunctionalInterface
+    public interface ConsumidorDeEntradas {
+
+        /**
+         * Procesa una entrada.
+         *
+         * @param llave la clave.
+         * @param valor su valor.
+         */
+        void aceptar(int llave, int valor);
+    }
+}
@@ -1,5 +1,6 @@
 package ar.unrn.diccionario;
 
+import java.util.Comparator;
 import java.util.Objects;
 
 /**
@@ -18,8 +19,21 @@ import java.util.Objects;
  * lo que permite crear objetos que son diferentes según {@code equals} pero
  * que tienen el mismo {@code hashCode}, o viceversa.
  * </p>
+ * <p>
+ * Las llaves se ordenan por su {@code name}, de forma consistente con
+ * {@link #equals(Object)}. Esto permite que las estructuras que organizan las
+ * colisiones en árboles (como {@link Diccionario} con
+ * {@link PoliticaColision#ENCADENAMIENTO}) las distingan en tiempo logarítmico
+ * aunque todas compartan el mismo {@code hashCode}.
+ * </p>
  */
-public class LlaveDefectuosa {
+public class LlaveDefectuosa implements Comparable<LlaveDefectuosa> {
+    /**
+     * Orden por nombre, ubicando primero las llaves sin nombre.
+     */
+    private static final Comparator<String> ORDEN_NOMBRES =
+            Comparator.nullsFirst(Comparator.naturalOrder());
+
     /**
      * El nombre o identificador de esta llave. Utilizado para la comparación
      * en el método {@link #equals(Object)} y para la representación en
@@ -93,6 +107,18 @@ public class LlaveDefectuosa {
         return sonIguales;
     }
 
+    /**
+     * Compara esta llave con otra según su {@code name}.
+     *
+     * @param otra la llave con la que se compara.
+     * @return un valor negativo, cero o positivo si el nombre de esta llave es
+     * menor, igual o mayor que el de la otra.
+     */
+    @Override
+    public int compareTo(LlaveDefectuosa otra) {
+        return ORDEN_NOMBRES.compare(name, otra.name);
+    }
+
     /**
      * Devuelve una representación en forma de {@code String} de esta {@code LlaveDefectuosa}.
      * <p>
@@ -0,0 +1,386 @@
+package ar.unrn.diccionario;
+
+import ar.unrn.diccionario.excepciones.ColisionException;
+
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+/**
+ * Diccionario especializado de claves {@code long} a valores de cualquier tipo.
+ * <p>
+ * Las claves se guardan directamente en un arreglo {@code long[]}, sin
+ * envolverlas en objetos {@link Long}, así que buscar o insertar una clave no
+ * asigna memoria y cada entrada ocupa 8 bytes más la referencia al valor.
+ * </p>
+ * <p>
+ * Usa direccionamiento abierto con sondeo lineal sobre el hash mezclado con
+ * la variante de 64 bits de MurmurHash3. La clave {@code 0} marca las
+ * posiciones libres; la propia clave {@code 0} se guarda fuera de la tabla, en
+ * un campo con su propia marca. Las eliminaciones no usan lápidas: las entradas
+ * siguientes se desplazan hacia atrás (<em>backward-shift</em>) para cerrar el
+ * hueco.
+ * </p>
+ *
+ * @param <V> el tipo de los valores mapeados.
+ * @see IntObjDiccionario
+ */
+public class LongObjDiccionario<V> {
+
+    /**
+     * Cantidad de posiciones con la que comienza el diccionario por defecto.
+     */
+    private static final int CAPACIDAD_POR_DEFECTO = 16;
+    /**
+     * Factor de carga por defecto.
+     */
+    private static final float FACTOR_DE_CARGA_POR_DEFECTO = 0.75f;
+    /**
+     * Clave que marca una posición libre de la tabla.
+     */
+    private static final long LIBRE = 0L;
+
+    /**
+     * Las claves almacenadas; {@link #LIBRE} indica una posición libre. Su
+     * longitud es siempre una potencia de dos.
+     */
+    private long[] llaves;
+    /**
+     * Los valores almacenados, en la misma posición que su clave.
+     */
+    private Object[] valores;
+    /**
+     * Indica si la clave {@code 0}, que no puede guardarse en la tabla, está en
+     * el diccionario.
+     */
+    private boolean tieneCero;
+    /**
+     * El valor asociado a la clave {@code 0}, si está.
+     */
+    private V valorCero;
+    /**
+     * Proporción de posiciones ocupadas a partir de la cual la tabla se duplica.
+     */
+    private final float factorDeCarga;
+    /**
+     * Cantidad de asociaciones clave-valor almacenadas, incluida la clave
+     * {@code 0}.
+     */
+    private int cantidad;
+    /**
+     * Cantidad de entradas en la tabla que dispara su crecimiento.
+     */
+    private int umbral;
+
+    /**
+     * Construye un diccionario vacío con la capacidad y el factor de carga por
+     * defecto.
+     */
+    public LongObjDiccionario() {
+        this(CAPACIDAD_POR_DEFECTO, FACTOR_DE_CARGA_POR_DEFECTO);
+    }
+
+    /**
+     * Construye un diccionario vacío con la capacidad y el factor de carga
+     * indicados.
+     *
+     * @param capacidadInicial la cantidad de posiciones con la que comienza el
+     *                         diccionario. Se redondea a la siguiente potencia
+     *                         de dos.
+     * @param factorDeCarga    la proporción de posiciones ocupadas a partir de la
+     *                         cual la tabla se duplica; debe ser menor a 1.
+     * @throws IllegalArgumentException si la capacidad no es positiva o el factor
+     *                                  de carga no está en el intervalo (0, 1).
+     */
+    public LongObjDiccionario(int capacidadInicial, float factorDeCarga) {
+        Tablas.validar(capacidadInicial, factorDeCarga);
+        if (factorDeCarga >= 1) {
+            throw new IllegalArgumentException(
+                    "El factor de carga debe ser menor a 1: " + factorDeCarga);
+        }
+        this.factorDeCarga = factorDeCarga;
+        inicializar(Tablas.potenciaDeDos(capacidadInicial));
+    }
+
+    /**
+     * Asocia un valor a una clave, reemplazando el valor anterior si la clave ya
+     * estaba.
+     *
+     * @param key   la clave.
+     * @param value el valor que se asociará con la clave.
+     * @return el valor que tenía la clave, o {@code null} si no estaba.
+     * @throws ColisionException si la tabla alcanzó su capacidad máxima.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        V anterior = null;
+        if (key == LIBRE) {
+            anterior = valorCero;
+            if (!tieneCero) {
+                tieneCero = true;
+                cantidad++;
+            }
+            valorCero = value;
+        } else {
+            int posicion = posicionDe(key);
+            if (posicion >= 0) {
+                anterior = (V) valores[posicion];
+                valores[posicion] = value;
+            } else {
+                colocar(key, value, posicion);
+            }
+        }
+        return anterior;
+    }
+
+    /**
+     * Devuelve el valor de una clave, calculándolo y agregándolo si la clave no
+     * estaba o estaba asociada a {@code null}. Resuelve la clave con un único
+     * sondeo. Como en {@link java.util.Map#computeIfAbsent}, si la función
+     * devuelve {@code null} no se agrega nada.
+     *
+     * @param key     la clave.
+     * @param funcion calcula el valor a partir de la clave; no se invoca si la
+     *                clave ya tenía un valor.
+     * @return el valor asociado a la clave, o {@code null} si la función lo
+     *         devolvió.
+     * @throws NullPointerException si la función es {@code null}.
+     * @throws ColisionException    si la tabla alcanzó su capacidad máxima.
+     */
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(long key, LongFunction<? extends V> funcion) {
+        Objects.requireNonNull(funcion);
+        V resultado;
+        if (key == LIBRE) {
+            resultado = valorCero;
+            if (resultado == null) {
+                resultado = funcion.apply(key);
+                if (resultado != null) {
+                    put(key, resultado);
+                }
+            }
+        } else {
+            int posicion = posicionDe(key);
+            resultado = posicion >= 0 ? (V) valores[posicion] : null;
+            if (resultado == null) {
+                resultado = funcion.apply(key);
+                if (resultado != null && posicion >= 0) {
+                    valores[posicion] = resultado;
+                } else if (resultado != null) {
+                    colocar(key, resultado, posicion);
+                }
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Recupera el valor al que está mapeada una clave.
+     *
+     * @param key la clave buscada.
+     * @return el valor asociado, o {@code null} si la clave no está.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        V valorRecuperado = null;
+        if (key == LIBRE) {
+            valorRecuperado = valorCero;
+        } else {
+            int posicion = posicionDe(key);
+            if (posicion >= 0) {
+                valorRecuperado = (V) valores[posicion];
+            }
+        }
+        return valorRecuperado;
+    }
+
+    /**
+     * Elimina el mapeo de una clave si está presente.
+     *
+     * @param key la clave a eliminar.
+     * @return {@code true} si la clave estaba y fue eliminada.
+     */
+    public boolean remove(long key) {
+        boolean removidoConExito;
+        if (key == LIBRE) {
+            removidoConExito = tieneCero;
+            tieneCero = false;
+            valorCero = null;
+        } else {
+            int posicion = posicionDe(key);
+            removidoConExito = posicion >= 0;
+            if (removidoConExito) {
+                desplazarHaciaAtras(posicion);
+            }
+        }
+        if (removidoConExito) {
+            cantidad--;
+        }
+        return removidoConExito;
+    }
+
+    /**
+     * Comprueba si el diccionario contiene un mapeo para una clave.
+     *
+     * @param key la clave buscada.
+     * @return {@code true} si la clave está en el diccionario.
+     */
+    public boolean containsKey(long key) {
+        return key == LIBRE ? tieneCero : posicionDe(key) >= 0;
+    }
+
+    /**
+     * Devuelve el número de asociaciones clave-valor en el diccionario.
+     *
+     * @return la cantidad de elementos.
+     */
+    public int size() {
+        return cantidad;
+    }
+
+    /**
+     * Comprueba si el diccionario está vacío.
+     *
+     * @return {@code true} si no contiene elementos.
+     */
+    public boolean isEmpty() {
+        return cantidad == 0;
+    }
+
+    /**
+     * Devuelve la cantidad actual de posiciones de la tabla.
+     *
+     * @return la longitud de los arreglos de la tabla.
+     */
+    public int capacidad() {
+        return llaves.length;
+    }
+
+    /**
+     * Busca la posición que ocupa una clave distinta de {@code 0}.
+     *
+     * @param key la clave buscada.
+     * @return la posición de la clave, o {@code -(posicionLibre + 1)} si no
+     *         está, donde {@code posicionLibre} es la posición libre en la que
+     *         terminó la búsqueda.
+     */
+    private int posicionDe(long key) {
+        int mascara = llaves.length - 1;
+        int posicion = Tablas.mezclar(key) & mascara;
+        while (llaves[posicion] != LIBRE && llaves[posicion] != key) {
+            posicion = (posicion + 1) & mascara;
+        }
+        return llaves[posicion] == LIBRE ? -(posicion + 1) : posicion;
+    }
+
+    /**
+     * Agrega una clave distinta de {@code 0} que no está en la tabla, haciéndola
+     * crecer antes si alcanzó su umbral. Si no crece, usa la posición libre que
+     * ya encontró la búsqueda de la clave.
+     *
+     * @param key      la clave.
+     * @param value    el valor.
+     * @param busqueda el resultado de {@link #posicionDe(long)} para la clave.
+     * @throws ColisionException si la tabla alcanzó su capacidad máxima.
+     */
+    private void colocar(long key, V value, int busqueda) {
+        int libre = busqueda;
+        if (cantidadEnTabla() >= umbral) {
+            crecer();
+            libre = posicionDe(key);
+        }
+        int posicion = -(libre + 1);
+        llaves[posicion] = key;
+        valores[posicion] = value;
+        cantidad++;
+    }
+
+    /**
+     * Vacía una posición y desplaza hacia atrás las entradas siguientes del
+     * grupo cuya posición inicial no queda entre el hueco y ellas, para que
+     * ninguna búsqueda se corte antes de tiempo.
+     *
+     * @param posicionQuitada la posición de la entrada eliminada.
+     */
+    private void desplazarHaciaAtras(int posicionQuitada) {
+        int mascara = llaves.length - 1;
+        int hueco = posicionQuitada;
+        int siguiente = (hueco + 1) & mascara;
+        while (llaves[siguiente] != LIBRE) {
+            int inicial = Tablas.mezclar(llaves[siguiente]) & mascara;
+            // La entrada puede ocupar el hueco si su posición inicial no está
+            // en el tramo circular (hueco, siguiente].
+            if (((siguiente - inicial) & mascara) >= ((siguiente - hueco) & mascara)) {
+                llaves[hueco] = llaves[siguiente];
+                valores[hueco] = valores[siguiente];
+                hueco = siguiente;
+            }
+            siguiente = (siguiente + 1) & mascara;
+        }
+        llaves[hueco] = LIBRE;
+        valores[hueco] = null;
+    }
+
+    /**
+     * Devuelve la cantidad de entradas guardadas en la tabla, sin contar la
+     * clave {@code 0}.
+     *
+     * @return la cantidad de posiciones ocupadas.
+     */
+    private int cantidadEnTabla() {
+        return tieneCero ? cantidad - 1 : cantidad;
+    }
+
+    /**
+     * Duplica la capacidad de la tabla y reubica todas las entradas.
+     *
+     * @throws ColisionException si la tabla alcanzó su capacidad máxima.
+     */
+    private void crecer() {
+        if (llaves.length == Tablas.CAPACIDAD_MAXIMA) {
+            throw new ColisionException("El diccionario alcanzó su capacidad máxima.");
+        }
+        long[] llavesAnteriores = llaves;
+        Object[] valoresAnteriores = valores;
+        inicializar(llavesAnteriores.length * 2);
+        int mascara = llaves.length - 1;
+        for (int i = 0; i < llavesAnteriores.length; i++) {
+            if (llavesAnteriores[i] != LIBRE) {
+                int posicion = Tablas.mezclar(llavesAnteriores[i]) & mascara;
+                while (llaves[posicion] != LIBRE) {
+                    posicion = (posicion + 1) & mascara;
+                }
+                llaves[posicion] = llavesAnteriores[i];
+                valores[posicion] = valoresAnteriores[i];
+            }
+        }
+    }
+
+    /**
+     * Crea arreglos vacíos de la capacidad indicada y calcula su umbral. Siempre
+     * queda al menos una posición libre.
+     *
+     * @param capacidad la cantidad de posiciones; una potencia de dos.
+     */
+    private void inicializar(int capacidad) {
+        llaves = new long[capacidad];
+        valores = new Object[capacidad];
+        umbral = Math.min(Tablas.umbral(capacidad, factorDeCarga), capacidad - 1);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder("LongObjDiccionario{");
+        String separador = "";
+        if (tieneCero) {
+            texto.append(LIBRE).append('=').append(valorCero);
+            separador = ", ";
+        }
+        for (int i = 0; i < llaves.length; i++) {
+            if (llaves[i] != LIBRE) {
+                texto.append(separador).append(llaves[i]).append('=').append(valores[i]);
+                separador = ", ";
+            }
+        }
+        return texto.append('}').toString();
+    }
+}
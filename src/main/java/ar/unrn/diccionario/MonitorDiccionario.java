@@ -0,0 +1,171 @@
+package ar.unrn.diccionario;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Objects;
+
+/**
+ * Publica las estadísticas de un {@link Diccionario} por JMX, para verlas con
+ * herramientas como JConsole o VisualVM.
+ * <p>
+ * Cada atributo recorre los baldes del diccionario, así que la foto se reutiliza
+ * durante {@value #VIGENCIA_MILISEGUNDOS} ms: una consola que lee todos los
+ * atributos juntos recorre la tabla una sola vez. Los contadores de consultas
+ * y rechazos se publican de forma segura entre hilos, pero {@link Diccionario}
+ * no lo es: si la tabla se modifica mientras se recorre, los valores
+ * estructurales (colisiones, largos, ocupación) son aproximados.
+ * </p>
+ */
+public final class MonitorDiccionario implements DiccionarioMXBean {
+
+    /**
+     * Dominio de los nombres con los que se registran los monitores.
+     */
+    public static final String DOMINIO = "ar.unrn.diccionario";
+    /**
+     * Tiempo durante el que se reutiliza una foto, en milisegundos.
+     */
+    static final long VIGENCIA_MILISEGUNDOS = 1_000;
+    /**
+     * Nanosegundos en un milisegundo.
+     */
+    private static final long NANOS_POR_MILISEGUNDO = 1_000_000;
+
+    /**
+     * El diccionario observado.
+     */
+    private final Diccionario<?, ?> diccionario;
+    /**
+     * La última foto tomada, o {@code null} si todavía no se tomó ninguna.
+     */
+    private EstadisticasDiccionario foto;
+    /**
+     * Instante en que se tomó la última foto, según {@link System#nanoTime()}.
+     */
+    private long tomadaEn;
+
+    /**
+     * Construye un monitor para un diccionario y activa sus estadísticas.
+     *
+     * @param diccionario el diccionario observado.
+     */
+    public MonitorDiccionario(Diccionario<?, ?> diccionario) {
+        this.diccionario = Objects.requireNonNull(diccionario,
+                "El diccionario no puede ser nulo.");
+        diccionario.activarEstadisticas();
+    }
+
+    /**
+     * Registra un monitor del diccionario en el servidor de JMX de la
+     * plataforma, con el nombre
+     * {@code ar.unrn.diccionario:type=Diccionario,name=<nombre>}.
+     *
+     * @param diccionario el diccionario observado; se activan sus estadísticas.
+     * @param nombre      el nombre que lo identifica en la consola.
+     * @return el nombre con el que quedó registrado.
+     * @throws JMException si el nombre no es válido o ya está registrado.
+     */
+    public static ObjectName registrar(Diccionario<?, ?> diccionario, String nombre)
+            throws JMException {
+        ObjectName nombreJmx = new ObjectName(DOMINIO + ":type=Diccionario,name="
+                + ObjectName.quote(Objects.requireNonNull(nombre,
+                        "El nombre no puede ser nulo.")));
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        servidor.registerMBean(new MonitorDiccionario(diccionario), nombreJmx);
+        return nombreJmx;
+    }
+
+    /**
+     * Quita del servidor de JMX de la plataforma un monitor registrado con
+     * {@link #registrar(Diccionario, String)}.
+     *
+     * @param nombreJmx el nombre devuelto al registrarlo.
+     * @throws JMException si no hay un monitor registrado con ese nombre.
+     */
+    public static void desregistrar(ObjectName nombreJmx) throws JMException {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(nombreJmx);
+    }
+
+    @Override
+    public long getCantidad() {
+        return foto().cantidad();
+    }
+
+    @Override
+    public int getCapacidad() {
+        return foto().capacidad();
+    }
+
+    @Override
+    public double getOcupacion() {
+        return foto().ocupacion();
+    }
+
+    @Override
+    public long getColisiones() {
+        return foto().colisiones();
+    }
+
+    @Override
+    public int getLongitudMaxima() {
+        return foto().longitudMaxima();
+    }
+
+    @Override
+    public double getLongitudPromedio() {
+        return foto().longitudPromedio();
+    }
+
+    @Override
+    public double getSondeosPromedio() {
+        return foto().sondeosPromedio();
+    }
+
+    @Override
+    public long[] getHistograma() {
+        return foto().histograma();
+    }
+
+    @Override
+    public long getConsultasAcertadas() {
+        return foto().consultasAcertadas();
+    }
+
+    @Override
+    public long getConsultasFallidas() {
+        return foto().consultasFallidas();
+    }
+
+    @Override
+    public double getTasaDeAciertos() {
+        return foto().tasaDeAciertos();
+    }
+
+    @Override
+    public long getInsercionesRechazadas() {
+        return foto().insercionesRechazadas();
+    }
+
+    @Override
+    public synchronized void reiniciarEstadisticas() {
+        diccionario.reiniciarEstadisticas();
+        foto = null;
+    }
+
+    /**
+     * Devuelve la última foto si todavía está vigente, o toma una nueva.
+     *
+     * @return las estadísticas del diccionario.
+     */
+    private synchronized EstadisticasDiccionario foto() {
+        long ahora = System.nanoTime();
+        boolean vencida = ahora - tomadaEn > VIGENCIA_MILISEGUNDOS * NANOS_POR_MILISEGUNDO;
+        if (foto == null || vencida) {
+            foto = diccionario.estadisticas();
+            tomadaEn = ahora;
+        }
+        return foto;
+    }
+}
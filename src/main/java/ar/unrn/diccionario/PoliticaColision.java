@@ -0,0 +1,20 @@
+package ar.unrn.diccionario;
+
+/**
+ * Indica cómo resuelve un {@link Diccionario} la inserción de una clave en un
+ * balde que ya está ocupado por otra entrada.
+ */
+public enum PoliticaColision {
+    /**
+     * La inserción se rechaza lanzando una
+     * {@link ar.unrn.diccionario.excepciones.ColisionException}. Cada balde
+     * contiene a lo sumo una entrada.
+     */
+    RECHAZO,
+    /**
+     * Cada balde guarda una lista enlazada de entradas, que se convierte en un
+     * árbol balanceado cuando crece demasiado. Nunca se rechaza una inserción:
+     * si la clave ya existe, {@code put} reemplaza su valor en el lugar.
+     */
+    ENCADENAMIENTO
+}
@@ -0,0 +1,20 @@
+package ar.unrn.diccionario;
+
+/**
+ * Resultado de {@link Diccionario#tryPut(Object, Object)}.
+ */
+public enum ResultadoInsercion {
+    /**
+     * La clave no estaba y se agregó una entrada nueva.
+     */
+    AGREGADA,
+    /**
+     * La clave ya estaba y se reemplazó su valor.
+     */
+    REEMPLAZADA,
+    /**
+     * La clave no estaba y su balde estaba ocupado por otra clave, así que no se
+     * insertó (solo con {@link PoliticaColision#RECHAZO}).
+     */
+    COLISION
+}
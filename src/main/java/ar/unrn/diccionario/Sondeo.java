@@ -0,0 +1,72 @@
+package ar.unrn.diccionario;
+
+/**
+ * Secuencia de posiciones que recorre un {@link DiccionarioAbierto} cuando la
+ * posición inicial de una clave está ocupada.
+ * <p>
+ * Las tres secuencias recorren todas las posiciones de una tabla cuya capacidad
+ * es una potencia de dos, por lo que una búsqueda siempre termina al encontrar
+ * una posición vacía.
+ * </p>
+ */
+public enum Sondeo {
+    /**
+     * Sondeo lineal: se prueba la posición siguiente, {@code h, h+1, h+2, ...}.
+     * Es el más amigable con la caché, pero tiende a formar agrupamientos
+     * (clustering) de posiciones ocupadas.
+     */
+    LINEAL(0),
+    /**
+     * Sondeo cuadrático con números triangulares: {@code h, h+1, h+3, h+6, ...}.
+     * Reduce el agrupamiento primario del sondeo lineal.
+     */
+    CUADRATICO(1),
+    /**
+     * Doble hash: el paso entre posiciones se obtiene de un segundo hash de la
+     * clave, {@code h, h+p, h+2p, ...}. Claves que comparten la posición inicial
+     * siguen recorridos distintos.
+     */
+    DOBLE(0);
+
+    /**
+     * Cuánto aumenta el paso luego de cada intento.
+     */
+    private final int crecimiento;
+
+    /**
+     * Construye una secuencia de sondeo.
+     *
+     * @param crecimiento cuánto aumenta el paso luego de cada intento.
+     */
+    Sondeo(int crecimiento) {
+        this.crecimiento = crecimiento;
+    }
+
+    /**
+     * Devuelve la distancia entre la posición inicial y el segundo intento.
+     * <p>
+     * Para el doble hash es siempre impar, de forma que sea coprimo con la
+     * capacidad (una potencia de dos) y el recorrido pase por todas las
+     * posiciones.
+     * </p>
+     *
+     * @param hash el hash de la clave.
+     * @return el primer paso del recorrido.
+     */
+    int pasoInicial(int hash) {
+        int paso = 1;
+        if (this == DOBLE) {
+            paso = (hash * Tablas.FIBONACCI >>> (Integer.SIZE / 2)) | 1;
+        }
+        return paso;
+    }
+
+    /**
+     * Devuelve cuánto aumenta el paso luego de cada intento.
+     *
+     * @return 1 para el sondeo cuadrático, 0 para los demás.
+     */
+    int crecimiento() {
+        return crecimiento;
+    }
+}
@@ -0,0 +1,158 @@
+package ar.unrn.diccionario;
+
+import ar.unrn.diccionario.excepciones.ColisionException;
+import ar.unrn.diccionario.excepciones.LlaveNulaException;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Operaciones comunes a todas las implementaciones modificables de diccionario
+ * (mapa hash) de este paquete. Las operaciones de consulta se heredan de
+ * {@link TablaHashLectura}.
+ * <p>
+ * Ninguna implementación admite claves nulas: todas las operaciones lanzan
+ * {@link LlaveNulaException} si reciben una.
+ * </p>
+ * <p>
+ * Como en {@link java.util.Map}, las operaciones compuestas
+ * ({@link #putIfAbsent(Object, Object)}, {@link #computeIfAbsent(Object, Function)},
+ * {@link #compute(Object, BiFunction)} y {@link #merge(Object, Object, BiFunction)})
+ * tratan a una clave asociada a {@code null} igual que a una clave ausente. Las
+ * implementaciones por defecto se construyen con {@code get}, {@code put} y
+ * {@code remove}; las tablas que pueden hacerlo las redefinen para buscar la
+ * clave una sola vez.
+ * </p>
+ *
+ * @param <K> el tipo de las claves mantenidas por la tabla.
+ * @param <V> el tipo de los valores mapeados.
+ */
+public interface TablaHash<K, V> extends TablaHashLectura<K, V> {
+
+    /**
+     * Asocia un valor a una clave. Si la tabla ya contiene una clave igual, su
+     * valor se reemplaza en el lugar.
+     *
+     * @param key   la clave con la que se asociará el valor. No puede ser
+     *              {@code null}.
+     * @param value el valor que se asociará con la clave.
+     * @return el valor que tenía la clave, o {@code null} si no estaba.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     * @throws ColisionException  si la tabla no puede almacenar una clave nueva,
+     *                            por ejemplo porque su posición está ocupada por
+     *                            otra clave.
+     */
+    V put(K key, V value);
+
+    /**
+     * Elimina el mapeo para una clave si está presente.
+     *
+     * @param key la clave a eliminar. No puede ser {@code null}.
+     * @return {@code true} si la clave estaba y fue eliminada.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    boolean remove(K key);
+
+    /**
+     * Asocia un valor a una clave solo si la clave no está (o está asociada a
+     * {@code null}).
+     *
+     * @param key   la clave. No puede ser {@code null}.
+     * @param value el valor a asociar.
+     * @return el valor que ya tenía la clave, o {@code null} si se asoció
+     * {@code value}.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     * @throws ColisionException  si la tabla no puede almacenar la clave.
+     */
+    default V putIfAbsent(K key, V value) {
+        V actual = get(key);
+        if (actual == null) {
+            actual = put(key, value);
+        }
+        return actual;
+    }
+
+    /**
+     * Si la clave no está (o está asociada a {@code null}), calcula su valor
+     * con la función indicada y lo asocia, salvo que el resultado sea
+     * {@code null}.
+     * <p>
+     * La función no debe modificar la tabla.
+     * </p>
+     *
+     * @param key     la clave. No puede ser {@code null}.
+     * @param funcion calcula el valor a partir de la clave.
+     * @return el valor asociado a la clave luego de la operación, o {@code null}
+     * si la función devolvió {@code null}.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     * @throws ColisionException  si la tabla no puede almacenar la clave.
+     */
+    default V computeIfAbsent(K key, Function<? super K, ? extends V> funcion) {
+        Objects.requireNonNull(funcion);
+        V resultado = get(key);
+        if (resultado == null) {
+            resultado = funcion.apply(key);
+            if (resultado != null) {
+                put(key, resultado);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Calcula un nuevo valor para la clave a partir del actual (o de
+     * {@code null} si no está). Si el resultado es {@code null}, la clave se
+     * elimina.
+     * <p>
+     * La función no debe modificar la tabla.
+     * </p>
+     *
+     * @param key     la clave. No puede ser {@code null}.
+     * @param funcion recibe la clave y su valor actual, y devuelve el nuevo valor.
+     * @return el nuevo valor, o {@code null} si la clave quedó sin asociar.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     * @throws ColisionException  si la tabla no puede almacenar la clave.
+     */
+    default V compute(K key, BiFunction<? super K, ? super V, ? extends V> funcion) {
+        Objects.requireNonNull(funcion);
+        V resultado = funcion.apply(key, get(key));
+        if (resultado == null) {
+            remove(key);
+        } else {
+            put(key, resultado);
+        }
+        return resultado;
+    }
+
+    /**
+     * Combina un valor con el que ya tiene la clave. Si la clave no está (o está
+     * asociada a {@code null}) se le asocia {@code value}; si no, se le asocia el
+     * resultado de la función, o se elimina si ese resultado es {@code null}.
+     * <p>
+     * Es la operación natural para contadores:
+     * {@code tabla.merge(palabra, 1, Integer::sum)}.
+     * </p>
+     *
+     * @param key     la clave. No puede ser {@code null}.
+     * @param value   el valor a asociar o combinar. No puede ser {@code null}.
+     * @param funcion combina el valor actual con {@code value}.
+     * @return el nuevo valor, o {@code null} si la clave quedó sin asociar.
+     * @throws LlaveNulaException  si la clave es {@code null}.
+     * @throws NullPointerException si {@code value} o la función son {@code null}.
+     * @throws ColisionException   si la tabla no puede almacenar la clave.
+     */
+    default V merge(K key, V value,
+                    BiFunction<? super V, ? super V, ? extends V> funcion) {
+        Objects.requireNonNull(value);
+        Objects.requireNonNull(funcion);
+        V actual = get(key);
+        V resultado = actual == null ? value : funcion.apply(actual, value);
+        if (resultado == null) {
+            remove(key);
+        } else {
+            put(key, resultado);
+        }
+        return resultado;
+    }
+}
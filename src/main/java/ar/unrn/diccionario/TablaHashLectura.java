@@ -0,0 +1,102 @@
+package ar.unrn.diccionario;
+
+import ar.unrn.diccionario.excepciones.LlaveNulaException;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Operaciones de consulta comunes a todos los diccionarios de este paquete,
+ * tanto los modificables ({@link TablaHash}) como los inmutables
+ * ({@link DiccionarioInmutable}).
+ * <p>
+ * Ninguna implementación admite claves nulas: todas las operaciones lanzan
+ * {@link LlaveNulaException} si reciben una.
+ * </p>
+ *
+ * @param <K> el tipo de las claves mantenidas por la tabla.
+ * @param <V> el tipo de los valores mapeados.
+ */
+public interface TablaHashLectura<K, V> {
+
+    /**
+     * Recupera el valor al que está mapeada la clave especificada.
+     *
+     * @param key la clave buscada. No puede ser {@code null}.
+     * @return el valor asociado, o {@code null} si la clave no está.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    V get(K key);
+
+    /**
+     * Comprueba si la tabla contiene un mapeo para la clave especificada.
+     *
+     * @param key la clave buscada. No puede ser {@code null}.
+     * @return {@code true} si la clave está en la tabla.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    boolean containsKey(K key);
+
+    /**
+     * Devuelve el número de asociaciones clave-valor en la tabla.
+     * <p>
+     * Todas las implementaciones mantienen esta cantidad en un contador que se
+     * actualiza al insertar y eliminar, así que la operación es de tiempo
+     * constante y puede consultarse con frecuencia.
+     * </p>
+     *
+     * @return la cantidad de elementos.
+     */
+    int size();
+
+    /**
+     * Devuelve la cantidad de posiciones (o baldes) que la tabla tiene
+     * reservadas en este momento.
+     *
+     * @return la capacidad actual de la tabla.
+     */
+    int capacidad();
+
+    /**
+     * Devuelve la proporción entre los elementos almacenados y la capacidad
+     * actual, en tiempo constante. Es útil para monitorear qué tan cargada está
+     * la tabla sin recorrerla.
+     *
+     * @return {@code size() / capacidad()}; puede ser mayor a 1 en tablas con
+     * encadenamiento.
+     */
+    default double ocupacion() {
+        return (double) size() / capacidad();
+    }
+
+    /**
+     * Comprueba si la tabla no contiene ninguna asociación clave-valor.
+     *
+     * @return {@code true} si {@link #size()} es 0.
+     */
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Recorre todas las asociaciones de la tabla, en un orden no especificado.
+     * <p>
+     * La acción no debe modificar la tabla. En las tablas concurrentes, el
+     * recorrido refleja el estado de la tabla en algún momento durante la
+     * operación o posterior a su inicio, y nunca recorre una clave dos veces.
+     * </p>
+     *
+     * @param accion recibe cada clave y su valor.
+     * @throws NullPointerException si la acción es {@code null}.
+     */
+    void forEach(BiConsumer<? super K, ? super V> accion);
+
+    /**
+     * Crea una copia inmutable de la tabla, con una disposición compacta en
+     * arreglos planos que puede compartirse entre hilos sin sincronización.
+     *
+     * @return la copia inmutable.
+     */
+    default DiccionarioInmutable<K, V> congelar() {
+        return DiccionarioInmutable.copiaDe(this);
+    }
+}
@@ -0,0 +1,641 @@
+package ar.unrn.diccionario;
+
+import ar.unrn.diccionario.excepciones.ColisionException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Base de los diccionarios de claves {@code long} a valores {@code long} cuya
+ * tabla vive en {@link ByteBuffer} en lugar de arreglos del heap.
+ * <p>
+ * La tabla se reparte en "tramos" de hasta 1 GiB: cada posición ocupa 16
+ * bytes, la clave seguida de su valor, así que un sondeo lee una sola línea de
+ * caché, y la cantidad de posiciones es un {@code long}. El algoritmo es el de
+ * {@link IntIntDiccionario}: sondeo lineal sobre el hash mezclado, la clave
+ * {@code 0} como marca de posición libre (la propia clave {@code 0} se guarda
+ * aparte) y desplazamiento hacia atrás al eliminar.
+ * </p>
+ * <p>
+ * Las subclases deciden de dónde sale la memoria de los tramos con
+ * {@link #reservar(long)}: memoria nativa en {@link DiccionarioFueraDelHeap} o
+ * un archivo mapeado en {@link DiccionarioMapeado}. Los tramos que devuelvan
+ * deben estar en cero, que es la marca de posición libre.
+ * </p>
+ */
+abstract class TablaLongLong implements AutoCloseable {
+
+    /**
+     * Cantidad máxima de posiciones de la tabla (256 GiB).
+     */
+    static final long CAPACIDAD_MAXIMA = 1L << 34;
+    /**
+     * Desplazamiento que convierte una posición en su dirección dentro del
+     * tramo: cada entrada ocupa 16 bytes.
+     */
+    static final int BITS_POR_ENTRADA = 4;
+    /**
+     * Clave que marca una posición libre de la tabla.
+     */
+    private static final long LIBRE = 0;
+    /**
+     * Desplazamiento que convierte una posición en el número de su tramo: cada
+     * tramo guarda {@code 2^26} entradas (1 GiB).
+     */
+    private static final int BITS_POR_TRAMO = 26;
+
+    /**
+     * La memoria de la tabla, en tramos del mismo tamaño; {@code null} una vez
+     * cerrada.
+     */
+    private ByteBuffer[] tramos;
+    /**
+     * La cantidad de posiciones de la tabla; siempre una potencia de dos.
+     */
+    private long capacidad;
+    /**
+     * Indica si la clave {@code 0}, que no puede guardarse en la tabla, está en
+     * el diccionario.
+     */
+    private boolean tieneCero;
+    /**
+     * El valor asociado a la clave {@code 0}, si está.
+     */
+    private long valorCero;
+    /**
+     * Proporción de posiciones ocupadas a partir de la cual la tabla se duplica.
+     */
+    private final float factorDeCarga;
+    /**
+     * Valor que devuelven las operaciones cuando la clave no está.
+     */
+    private final long valorAusente;
+    /**
+     * Cantidad de asociaciones clave-valor almacenadas, incluida la clave
+     * {@code 0}.
+     */
+    private long cantidad;
+    /**
+     * Cantidad de entradas en la tabla que dispara su crecimiento.
+     */
+    private long umbral;
+
+    /**
+     * Construye la tabla sin reservar memoria; la subclase debe llamar a
+     * {@link #inicializar(long)} o a {@link #restaurar} al terminar de
+     * construirse.
+     *
+     * @param factorDeCarga la proporción de posiciones ocupadas a partir de la
+     *                      cual la tabla se duplica; debe ser menor a 1.
+     * @param valorAusente  el valor que se devuelve para las claves que no
+     *                      están en el diccionario.
+     * @throws IllegalArgumentException si el factor de carga no está en el
+     *                                  intervalo (0, 1).
+     */
+    TablaLongLong(float factorDeCarga, long valorAusente) {
+        if (!(factorDeCarga > 0 && factorDeCarga < 1)) {
+            throw new IllegalArgumentException(
+                    "El factor de carga debe estar entre 0 y 1: " + factorDeCarga);
+        }
+        this.factorDeCarga = factorDeCarga;
+        this.valorAusente = valorAusente;
+    }
+
+    /**
+     * Valida una capacidad pedida y la redondea a la siguiente potencia de dos.
+     *
+     * @param capacidadInicial la capacidad pedida.
+     * @return una potencia de dos entre 1 y {@link #CAPACIDAD_MAXIMA}.
+     * @throws IllegalArgumentException si la capacidad no está entre 1 y
+     *                                  {@link #CAPACIDAD_MAXIMA}.
+     */
+    static long potenciaDeDos(long capacidadInicial) {
+        if (capacidadInicial <= 0 || capacidadInicial > CAPACIDAD_MAXIMA) {
+            throw new IllegalArgumentException(
+                    "La capacidad inicial debe estar entre 1 y " + CAPACIDAD_MAXIMA + ": "
+                            + capacidadInicial);
+        }
+        return Math.max(1, Long.highestOneBit(capacidadInicial - 1) << 1);
+    }
+
+    /**
+     * Calcula cuántas entradas guarda cada tramo de una tabla.
+     *
+     * @param capacidad la cantidad de posiciones; una potencia de dos.
+     * @return las entradas por tramo; la cantidad de tramos es
+     *         {@code capacidad / entradasPorTramo(capacidad)}.
+     */
+    static long entradasPorTramo(long capacidad) {
+        return Math.min(capacidad, 1L << BITS_POR_TRAMO);
+    }
+
+    /**
+     * Reserva los tramos de una tabla vacía.
+     *
+     * @param nuevaCapacidad la cantidad de posiciones; una potencia de dos.
+     * @return los tramos, de {@link #entradasPorTramo(long)} entradas cada uno y
+     *         con todos sus bytes en cero.
+     */
+    abstract ByteBuffer[] reservar(long nuevaCapacidad);
+
+    /**
+     * Se llama cuando el crecimiento terminó de copiar las entradas a los
+     * tramos nuevos y los anteriores ya no se usan.
+     */
+    void terminarCrecimiento() {
+        // Por defecto no hay nada que hacer: los tramos anteriores se descartan.
+    }
+
+    /**
+     * Se llama con los tramos que la tabla dejó de usar, al crecer o al
+     * cerrarse, para que la subclase devuelva su memoria sin esperar al
+     * recolector. Los tramos no vuelven a leerse después.
+     *
+     * @param descartados los tramos que ya no se usan.
+     */
+    void liberar(ByteBuffer[] descartados) {
+        // Por defecto no hay nada que hacer: el recolector los libera al descartarlos.
+    }
+
+    /**
+     * Asocia un valor a una clave, reemplazando el valor anterior si la clave ya
+     * estaba.
+     *
+     * @param key   la clave.
+     * @param value el valor que se asociará con la clave.
+     * @return el valor que tenía la clave, o el valor ausente si no estaba.
+     * @throws ColisionException     si la tabla alcanzó su capacidad máxima.
+     * @throws IllegalStateException si el diccionario está cerrado.
+     */
+    public long put(long key, long value) {
+        verificarAbierto();
+        long anterior = valorAusente;
+        if (key == LIBRE) {
+            if (tieneCero) {
+                anterior = valorCero;
+            } else {
+                tieneCero = true;
+                cantidad++;
+            }
+            valorCero = value;
+        } else {
+            long posicion = posicionDe(key);
+            if (posicion >= 0) {
+                anterior = valor(posicion);
+                escribirValor(posicion, value);
+            } else {
+                colocar(key, value);
+            }
+        }
+        return anterior;
+    }
+
+    /**
+     * Suma un incremento al valor de una clave. Si la clave no estaba, se agrega
+     * con el valor ausente más el incremento.
+     *
+     * @param key        la clave.
+     * @param incremento el valor a sumar.
+     * @return el valor resultante de la clave.
+     * @throws ColisionException     si la tabla alcanzó su capacidad máxima.
+     * @throws IllegalStateException si el diccionario está cerrado.
+     */
+    public long sumar(long key, long incremento) {
+        verificarAbierto();
+        long resultado;
+        if (key == LIBRE) {
+            if (!tieneCero) {
+                tieneCero = true;
+                valorCero = valorAusente;
+                cantidad++;
+            }
+            valorCero = valorCero + incremento;
+            resultado = valorCero;
+        } else {
+            long posicion = posicionDe(key);
+            if (posicion >= 0) {
+                resultado = valor(posicion) + incremento;
+                escribirValor(posicion, resultado);
+            } else {
+                resultado = valorAusente + incremento;
+                colocar(key, resultado);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Recupera el valor al que está mapeada una clave.
+     *
+     * @param key la clave buscada.
+     * @return el valor asociado, o el valor ausente si la clave no está.
+     * @throws IllegalStateException si el diccionario está cerrado.
+     */
+    public long get(long key) {
+        return getOrDefault(key, valorAusente);
+    }
+
+    /**
+     * Recupera el valor al que está mapeada una clave, o un valor por defecto
+     * si no está.
+     *
+     * @param key        la clave buscada.
+     * @param porDefecto el valor a devolver si la clave no está.
+     * @return el valor asociado, o {@code porDefecto} si la clave no está.
+     * @throws IllegalStateException si el diccionario está cerrado.
+     */
+    public long getOrDefault(long key, long porDefecto) {
+        verificarAbierto();
+        long valorRecuperado = porDefecto;
+        if (key == LIBRE) {
+            if (tieneCero) {
+                valorRecuperado = valorCero;
+            }
+        } else {
+            long posicion = posicionDe(key);
+            if (posicion >= 0) {
+                valorRecuperado = valor(posicion);
+            }
+        }
+        return valorRecuperado;
+    }
+
+    /**
+     * Elimina el mapeo de una clave si está presente.
+     *
+     * @param key la clave a eliminar.
+     * @return {@code true} si la clave estaba y fue eliminada.
+     * @throws IllegalStateException si el diccionario está cerrado.
+     */
+    public boolean remove(long key) {
+        verificarAbierto();
+        boolean removidoConExito;
+        if (key == LIBRE) {
+            removidoConExito = tieneCero;
+            tieneCero = false;
+        } else {
+            long posicion = posicionDe(key);
+            removidoConExito = posicion >= 0;
+            if (removidoConExito) {
+                desplazarHaciaAtras(posicion);
+            }
+        }
+        if (removidoConExito) {
+            cantidad--;
+        }
+        return removidoConExito;
+    }
+
+    /**
+     * Comprueba si el diccionario contiene un mapeo para una clave.
+     *
+     * @param key la clave buscada.
+     * @return {@code true} si la clave está en el diccionario.
+     * @throws IllegalStateException si el diccionario está cerrado.
+     */
+    public boolean containsKey(long key) {
+        verificarAbierto();
+        return key == LIBRE ? tieneCero : posicionDe(key) >= 0;
+    }
+
+    /**
+     * Devuelve el número de asociaciones clave-valor en el diccionario.
+     *
+     * @return la cantidad de elementos.
+     */
+    public long size() {
+        return cantidad;
+    }
+
+    /**
+     * Comprueba si el diccionario está vacío.
+     *
+     * @return {@code true} si no contiene elementos.
+     */
+    public boolean isEmpty() {
+        return cantidad == 0;
+    }
+
+    /**
+     * Devuelve la cantidad actual de posiciones de la tabla.
+     *
+     * @return la cantidad de posiciones.
+     */
+    public long capacidad() {
+        return capacidad;
+    }
+
+    /**
+     * Devuelve la memoria que ocupa la tabla.
+     *
+     * @return la cantidad de bytes de los tramos, o 0 si está cerrado.
+     */
+    public long bytesReservados() {
+        return tramos == null ? 0 : capacidad << BITS_POR_ENTRADA;
+    }
+
+    /**
+     * Suelta los tramos de la tabla y se los entrega a {@link #liberar}.
+     * Llamarlo más de una vez no tiene efecto.
+     */
+    @Override
+    public void close() {
+        ByteBuffer[] descartados = tramos;
+        tramos = null;
+        tieneCero = false;
+        cantidad = 0;
+        if (descartados != null) {
+            liberar(descartados);
+        }
+    }
+
+    /**
+     * Indica si el diccionario ya fue cerrado.
+     *
+     * @return {@code true} si se llamó a {@link #close()}.
+     */
+    boolean cerrado() {
+        return tramos == null;
+    }
+
+    /**
+     * Indica si la clave {@code 0} está en el diccionario.
+     *
+     * @return {@code true} si la clave {@code 0} está.
+     */
+    boolean tieneCero() {
+        return tieneCero;
+    }
+
+    /**
+     * Devuelve el valor de la clave {@code 0}.
+     *
+     * @return el valor, que solo tiene sentido si {@link #tieneCero()}.
+     */
+    long valorCero() {
+        return valorCero;
+    }
+
+    /**
+     * Devuelve el valor que se usa para las claves ausentes.
+     *
+     * @return el valor ausente.
+     */
+    long valorAusente() {
+        return valorAusente;
+    }
+
+    /**
+     * Devuelve el factor de carga de la tabla.
+     *
+     * @return el factor de carga.
+     */
+    float factorDeCarga() {
+        return factorDeCarga;
+    }
+
+    /**
+     * Comprueba que el diccionario no se haya cerrado.
+     *
+     * @throws IllegalStateException si el diccionario está cerrado.
+     */
+    void verificarAbierto() {
+        if (tramos == null) {
+            throw new IllegalStateException("El diccionario está cerrado.");
+        }
+    }
+
+    /**
+     * Reserva una tabla vacía de la capacidad indicada y calcula su umbral.
+     * Siempre queda al menos una posición libre.
+     *
+     * @param nuevaCapacidad la cantidad de posiciones; una potencia de dos.
+     */
+    final void inicializar(long nuevaCapacidad) {
+        tramos = reservar(nuevaCapacidad);
+        capacidad = nuevaCapacidad;
+        umbral = calcularUmbral(nuevaCapacidad);
+    }
+
+    /**
+     * Adopta tramos que ya contienen una tabla, por ejemplo leída de un
+     * archivo.
+     *
+     * @param existentes     los tramos con las entradas.
+     * @param capacidadTabla la cantidad de posiciones; una potencia de dos.
+     * @param conCero        si la clave {@code 0} está en el diccionario.
+     * @param valorDelCero   el valor de la clave {@code 0}.
+     * @param guardadas      la cantidad de asociaciones, incluida la clave
+     *                       {@code 0}, o un número negativo si no se conoce y
+     *                       hay que contar las posiciones ocupadas.
+     */
+    final void restaurar(ByteBuffer[] existentes, long capacidadTabla, boolean conCero,
+                         long valorDelCero, long guardadas) {
+        tramos = existentes;
+        capacidad = capacidadTabla;
+        umbral = calcularUmbral(capacidadTabla);
+        tieneCero = conCero;
+        valorCero = valorDelCero;
+        long total = guardadas;
+        if (total < 0) {
+            total = conCero ? 1 : 0;
+            for (long i = 0; i < capacidadTabla; i++) {
+                if (llave(i) != LIBRE) {
+                    total++;
+                }
+            }
+        }
+        cantidad = total;
+    }
+
+    /**
+     * Calcula la cantidad de entradas que dispara el crecimiento, dejando
+     * siempre al menos una posición libre.
+     *
+     * @param capacidadTabla la cantidad de posiciones.
+     * @return el umbral de crecimiento.
+     */
+    private long calcularUmbral(long capacidadTabla) {
+        return Math.min((long) (capacidadTabla * (double) factorDeCarga),
+                capacidadTabla - 1);
+    }
+
+    /**
+     * Busca la posición que ocupa una clave distinta de {@code 0}.
+     *
+     * @param key la clave buscada.
+     * @return la posición de la clave, o {@code -(posicionLibre + 1)} si no
+     *         está, donde {@code posicionLibre} es la posición libre en la que
+     *         terminó la búsqueda.
+     */
+    private long posicionDe(long key) {
+        long mascara = capacidad - 1;
+        long posicion = Tablas.mezclar64(key) & mascara;
+        long encontrada = llave(posicion);
+        while (encontrada != LIBRE && encontrada != key) {
+            posicion = (posicion + 1) & mascara;
+            encontrada = llave(posicion);
+        }
+        return encontrada == LIBRE ? -(posicion + 1) : posicion;
+    }
+
+    /**
+     * Agrega una clave distinta de {@code 0} que no está en la tabla, haciéndola
+     * crecer antes si alcanzó su umbral.
+     *
+     * @param key   la clave.
+     * @param value el valor.
+     * @throws ColisionException si la tabla alcanzó su capacidad máxima.
+     */
+    private void colocar(long key, long value) {
+        if (cantidadEnTabla() >= umbral) {
+            crecer();
+        }
+        long posicion = -(posicionDe(key) + 1);
+        escribir(posicion, key, value);
+        cantidad++;
+    }
+
+    /**
+     * Vacía una posición y desplaza hacia atrás las entradas siguientes del
+     * grupo cuya posición inicial no queda entre el hueco y ellas.
+     *
+     * @param posicionQuitada la posición de la entrada eliminada.
+     */
+    private void desplazarHaciaAtras(long posicionQuitada) {
+        long mascara = capacidad - 1;
+        long hueco = posicionQuitada;
+        long siguiente = (hueco + 1) & mascara;
+        long llaveSiguiente = llave(siguiente);
+        while (llaveSiguiente != LIBRE) {
+            long inicial = Tablas.mezclar64(llaveSiguiente) & mascara;
+            if (((siguiente - inicial) & mascara) >= ((siguiente - hueco) & mascara)) {
+                escribir(hueco, llaveSiguiente, valor(siguiente));
+                hueco = siguiente;
+            }
+            siguiente = (siguiente + 1) & mascara;
+            llaveSiguiente = llave(siguiente);
+        }
+        escribir(hueco, LIBRE, 0);
+    }
+
+    /**
+     * Devuelve la cantidad de entradas guardadas en la tabla, sin contar la
+     * clave {@code 0}.
+     *
+     * @return la cantidad de posiciones ocupadas.
+     */
+    private long cantidadEnTabla() {
+        return tieneCero ? cantidad - 1 : cantidad;
+    }
+
+    /**
+     * Duplica la capacidad de la tabla y reubica todas las entradas.
+     *
+     * @throws ColisionException si la tabla alcanzó su capacidad máxima.
+     */
+    private void crecer() {
+        if (capacidad == CAPACIDAD_MAXIMA) {
+            throw new ColisionException("El diccionario alcanzó su capacidad máxima.");
+        }
+        ByteBuffer[] tramosAnteriores = tramos;
+        long capacidadAnterior = capacidad;
+        inicializar(capacidad * 2);
+        long mascara = capacidad - 1;
+        for (long i = 0; i < capacidadAnterior; i++) {
+            ByteBuffer tramo = tramosAnteriores[(int) (i >>> BITS_POR_TRAMO)];
+            long llaveAnterior = tramo.getLong(direccion(i));
+            if (llaveAnterior != LIBRE) {
+                long posicion = Tablas.mezclar64(llaveAnterior) & mascara;
+                while (llave(posicion) != LIBRE) {
+                    posicion = (posicion + 1) & mascara;
+                }
+                long valorAnterior = tramo.getLong(direccion(i) + Long.BYTES);
+                escribir(posicion, llaveAnterior, valorAnterior);
+            }
+        }
+        terminarCrecimiento();
+        liberar(tramosAnteriores);
+    }
+
+    /**
+     * Calcula la dirección de una posición dentro de su tramo.
+     *
+     * @param posicion la posición en la tabla.
+     * @return el desplazamiento en bytes de la clave de esa posición.
+     */
+    private static int direccion(long posicion) {
+        return ((int) posicion & ((1 << BITS_POR_TRAMO) - 1)) << BITS_POR_ENTRADA;
+    }
+
+    /**
+     * Lee la clave guardada en una posición.
+     *
+     * @param posicion la posición en la tabla.
+     * @return la clave, o {@link #LIBRE}.
+     */
+    private long llave(long posicion) {
+        return tramos[(int) (posicion >>> BITS_POR_TRAMO)].getLong(direccion(posicion));
+    }
+
+    /**
+     * Lee el valor guardado en una posición.
+     *
+     * @param posicion la posición en la tabla.
+     * @return el valor.
+     */
+    private long valor(long posicion) {
+        return tramos[(int) (posicion >>> BITS_POR_TRAMO)]
+                .getLong(direccion(posicion) + Long.BYTES);
+    }
+
+    /**
+     * Reemplaza el valor guardado en una posición.
+     *
+     * @param posicion la posición en la tabla.
+     * @param value    el nuevo valor.
+     */
+    private void escribirValor(long posicion, long value) {
+        tramos[(int) (posicion >>> BITS_POR_TRAMO)]
+                .putLong(direccion(posicion) + Long.BYTES, value);
+    }
+
+    /**
+     * Guarda una entrada en una posición.
+     *
+     * @param posicion la posición en la tabla.
+     * @param key      la clave.
+     * @param value    el valor.
+     */
+    private void escribir(long posicion, long key, long value) {
+        ByteBuffer tramo = tramos[(int) (posicion >>> BITS_POR_TRAMO)];
+        int direccion = direccion(posicion);
+        tramo.putLong(direccion, key);
+        tramo.putLong(direccion + Long.BYTES, value);
+    }
+
+    @Override
+    public String toString() {
+        String nombre = getClass().getSimpleName();
+        String texto;
+        if (tramos == null) {
+            texto = nombre + "{cerrado}";
+        } else {
+            StringBuilder constructor = new StringBuilder(nombre).append('{');
+            String separador = "";
+            if (tieneCero) {
+                constructor.append(LIBRE).append('=').append(valorCero);
+                separador = ", ";
+            }
+            for (long i = 0; i < capacidad; i++) {
+                long llave = llave(i);
+                if (llave != LIBRE) {
+                    constructor.append(separador).append(llave).append('=')
+                            .append(valor(i));
+                    separador = ", ";
+                }
+            }
+            texto = constructor.append('}').toString();
+        }
+        return texto;
+    }
+}
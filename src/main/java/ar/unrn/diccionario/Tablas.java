@@ -0,0 +1,190 @@
+package ar.unrn.diccionario;
+
+import ar.unrn.diccionario.excepciones.LlaveNulaException;
+
+/**
+ * Operaciones de soporte compartidas por las distintas implementaciones de
+ * {@link TablaHash}: validación de parámetros, cálculo de capacidades y
+ * obtención del hash de las claves.
+ */
+final class Tablas {
+    /**
+     * Cantidad máxima de posiciones de una tabla; la mayor potencia de dos
+     * representable como tamaño de un arreglo de Java.
+     */
+    static final int CAPACIDAD_MAXIMA = 1 << 30;
+    /**
+     * Constante de Fibonacci ({@code 2^32 / φ}); multiplicar por ella reparte
+     * los bits del hash hacia los bits altos del producto.
+     */
+    static final int FIBONACCI = 0x9E3779B9;
+    /**
+     * Primera constante multiplicativa del paso final ("fmix32") de MurmurHash3.
+     */
+    private static final int MURMUR_C1 = 0x85ebca6b;
+    /**
+     * Segunda constante multiplicativa del paso final ("fmix32") de MurmurHash3.
+     */
+    private static final int MURMUR_C2 = 0xc2b2ae35;
+    /**
+     * Primera constante multiplicativa del paso final ("fmix64") de MurmurHash3
+     * para valores de 64 bits.
+     */
+    private static final long MURMUR64_C1 = 0xff51afd7ed558ccdL;
+    /**
+     * Segunda constante multiplicativa del paso final ("fmix64") de MurmurHash3
+     * para valores de 64 bits.
+     */
+    private static final long MURMUR64_C2 = 0xc4ceb9fe1a85ec53L;
+    /**
+     * Desplazamiento del paso final de MurmurHash3 para valores de 64 bits.
+     */
+    private static final int MURMUR64_R = 33;
+    /**
+     * Primer desplazamiento del paso final de MurmurHash3.
+     */
+    private static final int MURMUR_R1 = 16;
+    /**
+     * Segundo desplazamiento del paso final de MurmurHash3.
+     */
+    private static final int MURMUR_R2 = 13;
+
+    /**
+     * Clase de utilidad, no se instancia.
+     */
+    private Tablas() {
+    }
+
+    /**
+     * Valida los parámetros de construcción de una tabla.
+     *
+     * @param capacidadInicial la capacidad pedida.
+     * @param factorDeCarga    el factor de carga pedido.
+     * @throws IllegalArgumentException si la capacidad o el factor de carga no
+     *                                  son positivos.
+     */
+    static void validar(int capacidadInicial, float factorDeCarga) {
+        if (capacidadInicial <= 0) {
+            throw new IllegalArgumentException(
+                    "La capacidad inicial debe ser positiva: " + capacidadInicial);
+        }
+        if (!(factorDeCarga > 0) || Float.isInfinite(factorDeCarga)) {
+            throw new IllegalArgumentException(
+                    "El factor de carga debe ser positivo: " + factorDeCarga);
+        }
+    }
+
+    /**
+     * Redondea la capacidad pedida a la menor potencia de dos que sea mayor o
+     * igual a ella, sin superar {@link #CAPACIDAD_MAXIMA}.
+     *
+     * @param capacidad la capacidad deseada; debe ser positiva.
+     * @return una potencia de dos.
+     */
+    static int potenciaDeDos(int capacidad) {
+        int resultado = 1;
+        if (capacidad >= CAPACIDAD_MAXIMA) {
+            resultado = CAPACIDAD_MAXIMA;
+        } else if (capacidad > 1) {
+            resultado = Integer.highestOneBit(capacidad - 1) << 1;
+        }
+        return resultado;
+    }
+
+    /**
+     * Calcula la cantidad de elementos que dispara el crecimiento de una tabla.
+     *
+     * @param capacidad     la cantidad de posiciones de la tabla.
+     * @param factorDeCarga la proporción de ocupación permitida.
+     * @return el umbral de crecimiento para esa capacidad.
+     */
+    static int umbral(int capacidad, float factorDeCarga) {
+        return (int) Math.min(capacidad * (double) factorDeCarga, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Obtiene el {@code hashCode()} de una clave, validando que no sea nula.
+     *
+     * @param llave la clave; no puede ser {@code null}.
+     * @return el código hash de la clave.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    static int hashDe(Object llave) {
+        return hashDe(llave, EstrategiaHash.natural());
+    }
+
+    /**
+     * Obtiene el hash de una clave según una {@link EstrategiaHash}, validando
+     * que la clave no sea nula.
+     *
+     * @param llave      la clave; no puede ser {@code null}.
+     * @param estrategia la estrategia que calcula el hash.
+     * @param <K>        el tipo de la clave.
+     * @return el código hash de la clave según la estrategia.
+     * @throws LlaveNulaException si la clave es {@code null}.
+     */
+    static <K> int hashDe(K llave, EstrategiaHash<? super K> estrategia) {
+        if (llave == null) {
+            throw new LlaveNulaException("La clave no puede ser nula.");
+        }
+        return estrategia.hash(llave);
+    }
+
+    /**
+     * Mezcla los bits altos del hash con los bajos, como hace
+     * {@link java.util.HashMap}, para que las tablas indexadas con una máscara
+     * no dependan solo de los bits bajos del {@code hashCode()}.
+     *
+     * @param hash el código hash original.
+     * @return el hash dispersado.
+     */
+    static int dispersar(int hash) {
+        return hash ^ (hash >>> (Integer.SIZE / 2));
+    }
+
+    /**
+     * Aplica el paso final ("fmix32") de MurmurHash3: cada bit del resultado
+     * depende de todos los bits de la entrada.
+     *
+     * @param hash el valor a mezclar.
+     * @return el valor mezclado.
+     */
+    static int mezclar(int hash) {
+        int h = hash;
+        h = h ^ (h >>> MURMUR_R1);
+        h = h * MURMUR_C1;
+        h = h ^ (h >>> MURMUR_R2);
+        h = h * MURMUR_C2;
+        return h ^ (h >>> MURMUR_R1);
+    }
+
+    /**
+     * Aplica el paso final ("fmix64") de MurmurHash3 a un valor de 64 bits y lo
+     * reduce a un hash de 32 bits en el que cada bit depende de todos los bits
+     * de la entrada.
+     *
+     * @param valor el valor a mezclar.
+     * @return el hash mezclado.
+     */
+    static int mezclar(long valor) {
+        long h = mezclar64(valor);
+        return (int) (h ^ (h >>> Integer.SIZE));
+    }
+
+    /**
+     * Aplica el paso final ("fmix64") de MurmurHash3 a un valor de 64 bits,
+     * para las tablas con más posiciones de las que puede indexar un
+     * {@code int}.
+     *
+     * @param valor el valor a mezclar.
+     * @return el valor mezclado, de 64 bits.
+     */
+    static long mezclar64(long valor) {
+        long h = valor;
+        h = h ^ (h >>> MURMUR64_R);
+        h = h * MURMUR64_C1;
+        h = h ^ (h >>> MURMUR64_R);
+        h = h * MURMUR64_C2;
+        return h ^ (h >>> MURMUR64_R);
+    }
+}
@@ -1,7 +1,117 @@
 package ar.unrn.diccionario.excepciones;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
+/**
+ * Indica que una clave nueva no pudo insertarse porque su balde ya estaba
+ * ocupado por otra clave, o porque la tabla no puede crecer más.
+ * <p>
+ * Con la política de rechazo una colisión es un resultado esperado de
+ * {@code put}, no un error de programación, así que el diccionario la informa
+ * sin traza de la pila y sin armar el mensaje: guarda el balde y las dos claves
+ * y recién las convierte en texto si se llama a {@link #getMessage()}. Rechazar
+ * una inserción cuesta entonces poco más que crear un objeto. Quien no necesita
+ * la excepción puede usar {@code Diccionario.tryPut}, que no la crea.
+ * </p>
+ */
 public class ColisionException extends DiccionarioException {
+
+    /**
+     * El balde en el que ocurrió la colisión, o {@code -1} si no corresponde.
+     */
+    private final int balde;
+    /**
+     * La clave que no pudo insertarse, o {@code null} si no corresponde.
+     */
+    private final transient Object llave;
+    /**
+     * La clave que ocupaba el balde, o {@code null} si no corresponde.
+     */
+    private final transient Object ocupante;
+    /**
+     * El mensaje, armado la primera vez que se consulta.
+     */
+    private String mensaje;
+
     public ColisionException(String mensaje) {
         super(mensaje);
+        this.balde = -1;
+        this.llave = null;
+        this.ocupante = null;
+        this.mensaje = mensaje;
+    }
+
+    /**
+     * Construye una excepción sin traza de la pila cuyo mensaje se arma recién
+     * al consultarlo.
+     *
+     * @param balde    el balde en el que ocurrió la colisión.
+     * @param llave    la clave que no pudo insertarse.
+     * @param ocupante la clave que ya ocupaba el balde.
+     */
+    public ColisionException(int balde, Object llave, Object ocupante) {
+        super(null, false);
+        this.balde = balde;
+        this.llave = llave;
+        this.ocupante = ocupante;
+    }
+
+    /**
+     * Devuelve el mensaje; si todavía no se armó, lo arma a partir del balde y
+     * las claves.
+     *
+     * @return el mensaje de la excepción.
+     */
+    @Override
+    public String getMessage() {
+        if (mensaje == null) {
+            mensaje = "Colisión en el bucket " + balde
+                    + " al intentar insertar la clave: " + llave
+                    + ". El bucket ya está ocupado por la clave: " + ocupante;
+        }
+        return mensaje;
+    }
+
+    /**
+     * Arma el mensaje antes de serializar la excepción, porque las claves no se
+     * serializan y sin ellas ya no podría armarse.
+     *
+     * @param salida el flujo de serialización.
+     * @throws IOException si falla la escritura.
+     */
+    private void writeObject(ObjectOutputStream salida) throws IOException {
+        getMessage();
+        salida.defaultWriteObject();
+    }
+
+    /**
+     * Devuelve el balde en el que ocurrió la colisión.
+     *
+     * @return el índice del balde, o {@code -1} si la excepción no corresponde
+     *         a un balde ocupado.
+     */
+    public int balde() {
+        return balde;
+    }
+
+    /**
+     * Devuelve la clave que no pudo insertarse.
+     *
+     * @return la clave, o {@code null} si la excepción no corresponde a un balde
+     *         ocupado.
+     */
+    public Object llave() {
+        return llave;
+    }
+
+    /**
+     * Devuelve la clave que ya ocupaba el balde.
+     *
+     * @return la clave, o {@code null} si la excepción no corresponde a un balde
+     *         ocupado.
+     */
+    public Object ocupante() {
+        return ocupante;
     }
 }
@@ -4,4 +4,17 @@ public class DiccionarioException extends RuntimeException {
     public DiccionarioException(String mensaje) {
         super(mensaje);
     }
+
+    /**
+     * Construye una excepción que puede omitir la traza de la pila. Las
+     * excepciones suprimidas se registran igual que en cualquier otra.
+     *
+     * @param mensaje  el mensaje, o {@code null} si la subclase lo arma al
+     *                 consultarlo.
+     * @param conTraza si se registra la traza de la pila. Registrarla es la parte
+     *                 más costosa de crear una excepción.
+     */
+    protected DiccionarioException(String mensaje, boolean conTraza) {
+        super(mensaje, null, true, conTraza);
+    }
 }
@@ -0,0 +1,66 @@
+package ar.unrn;
+
+import ar.unrn.diccionario.LlaveDefectuosa;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas para la clase BuscadorDeColisionesEnFlujo")
+class BuscadorDeColisionesEnFlujoTest {
+
+    @Test
+    @DisplayName("Debe encontrar las mismas colisiones que el buscador paralelo")
+    void buscar_CoincideConElBuscadorParalelo() {
+        int cantidad = 300_000;
+        BuscadorDeColisiones.Resultado<ObjetoSimple> esperado =
+                BuscadorDeColisiones.buscar(cantidad, ObjetoSimple::conId);
+
+        Map<Integer, List<ObjetoSimple>> grupos = new HashMap<>();
+        BuscadorDeColisionesEnFlujo.Resumen resumen = BuscadorDeColisionesEnFlujo.buscar(
+                cantidad, ObjetoSimple::conId, 2, grupos::put);
+
+        assertFalse(grupos.isEmpty());
+        assertEquals(esperado.grupos(), grupos);
+        assertEquals(cantidad, resumen.objetos());
+        assertEquals(esperado.hashesUnicos(), resumen.hashesUnicos());
+        assertEquals(esperado.colisiones(), resumen.colisiones());
+        long enColision = grupos.values().stream().mapToLong(List::size).sum();
+        assertEquals(enColision, resumen.objetosEnColision());
+    }
+
+    @Test
+    @DisplayName("Debe entregar los grupos por partición y, dentro de cada una, por ID")
+    void buscar_EntregaLosGruposEnOrden() {
+        // Con un bit de partición, los hashes negativos van en la segunda pasada.
+        Map<Integer, List<LlaveDefectuosa>> grupos = new LinkedHashMap<>();
+        BuscadorDeColisionesEnFlujo.Resumen resumen = BuscadorDeColisionesEnFlujo.buscar(
+                9, id -> new LlaveDefectuosa("llave" + id, id % 3 == 0 ? -id % 2 : id % 2),
+                1, grupos::put);
+
+        assertEquals(List.of(1, 0, -1), new ArrayList<>(grupos.keySet()));
+        assertEquals(List.of(new LlaveDefectuosa("llave1", 1), new LlaveDefectuosa("llave5", 1),
+                new LlaveDefectuosa("llave7", 1)), grupos.get(1));
+        assertEquals(3, resumen.hashesUnicos());
+        assertEquals(3, resumen.colisiones());
+        assertEquals(9, resumen.objetosEnColision());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar argumentos inválidos y aceptar una búsqueda vacía")
+    void buscar_ValidaLosArgumentos() {
+        assertEquals(0, BuscadorDeColisionesEnFlujo.buscar(
+                0, ObjetoSimple::conId, 4, (hash, grupo) -> fail()).hashesUnicos());
+        assertThrows(IllegalArgumentException.class, () -> BuscadorDeColisionesEnFlujo.buscar(
+                -1, ObjetoSimple::conId, 4, (hash, grupo) -> fail()));
+        assertThrows(IllegalArgumentException.class, () -> BuscadorDeColisionesEnFlujo.buscar(
+                1, ObjetoSimple::conId, BuscadorDeColisionesEnFlujo.BITS_MAXIMOS + 1,
+                (hash, grupo) -> fail()));
+    }
+}
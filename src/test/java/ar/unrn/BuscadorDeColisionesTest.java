@@ -0,0 +1,68 @@
+package ar.unrn;
+
+import ar.unrn.diccionario.LlaveDefectuosa;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas para la clase BuscadorDeColisiones")
+class BuscadorDeColisionesTest {
+
+    @Test
+    @DisplayName("conId debe crear el mismo objeto que crearSiguiente para ese ID")
+    void conId_CoincideConCrearSiguiente() {
+        ObjetoSimple siguiente = ObjetoSimple.crearSiguiente();
+        String texto = siguiente.toString();
+        int id = Integer.parseInt(texto.substring(texto.indexOf("id=") + 3, texto.indexOf(',')));
+        assertEquals(siguiente, ObjetoSimple.conId(id));
+        assertEquals(siguiente.hashCode(), ObjetoSimple.conId(id).hashCode());
+    }
+
+    @Test
+    @DisplayName("Debe encontrar las mismas colisiones que la agrupación secuencial")
+    void buscar_CoincideConLaAgrupacionSecuencial() {
+        int cantidad = 300_000;
+        Map<Integer, List<ObjetoSimple>> porHash = new HashMap<>();
+        for (int id = 1; id <= cantidad; id++) {
+            ObjetoSimple objeto = ObjetoSimple.conId(id);
+            porHash.computeIfAbsent(objeto.hashCode(), hash -> new ArrayList<>()).add(objeto);
+        }
+        porHash.values().removeIf(lista -> lista.size() < 2);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            BuscadorDeColisiones.Resultado<ObjetoSimple> resultado =
+                    BuscadorDeColisiones.buscar(cantidad, ObjetoSimple::conId, pool);
+            assertEquals(cantidad, resultado.objetos());
+            assertFalse(porHash.isEmpty());
+            assertEquals(porHash, resultado.grupos());
+            assertEquals(porHash.size(), resultado.colisiones());
+            long repetidos = porHash.values().stream().mapToLong(lista -> lista.size() - 1L).sum();
+            assertEquals(cantidad - repetidos, resultado.hashesUnicos());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe agrupar por hash objetos de cualquier tipo")
+    void buscar_AgrupaLlavesDefectuosas() {
+        BuscadorDeColisiones.Resultado<LlaveDefectuosa> resultado = BuscadorDeColisiones.buscar(
+                100_000, id -> new LlaveDefectuosa("llave" + id, id % 10));
+        assertEquals(10, resultado.hashesUnicos());
+        assertEquals(10, resultado.colisiones());
+        assertEquals(10_000, resultado.grupos().get(3).size());
+        assertEquals(new LlaveDefectuosa("llave3", 3), resultado.grupos().get(3).get(0));
+
+        assertEquals(0, BuscadorDeColisiones.buscar(0, ObjetoSimple::conId).hashesUnicos());
+        assertThrows(IllegalArgumentException.class,
+                () -> BuscadorDeColisiones.buscar(-1, ObjetoSimple::conId));
+    }
+}
@@ -0,0 +1,87 @@
+package ar.unrn.diccionario;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas para la clase DiccionarioAbierto")
+class DiccionarioAbiertoTest {
+
+    @ParameterizedTest
+    @EnumSource(Sondeo.class)
+    @DisplayName("Debe resolver claves que caen en la misma posición inicial")
+    void resuelveColisiones(Sondeo sondeo) {
+        DiccionarioAbierto<LlaveDefectuosa, Integer> diccionario =
+                new DiccionarioAbierto<>(4, 0.75f, sondeo);
+        for (int i = 0; i < 500; i++) {
+            diccionario.put(new LlaveDefectuosa("llave" + i, 42), i);
+        }
+        assertEquals(500, diccionario.size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i, diccionario.get(new LlaveDefectuosa("llave" + i, 42)));
+        }
+        assertFalse(diccionario.containsKey(new LlaveDefectuosa("otra", 42)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Sondeo.class)
+    @DisplayName("Las lápidas no deben cortar la búsqueda de otras claves")
+    void lapidasNoCortanLaBusqueda(Sondeo sondeo) {
+        DiccionarioAbierto<Integer, String> diccionario = new DiccionarioAbierto<>(sondeo);
+        for (int i = 0; i < 10_000; i++) {
+            diccionario.put(i, "v" + i);
+        }
+        for (int i = 0; i < 10_000; i += 2) {
+            assertTrue(diccionario.remove(i));
+        }
+        assertEquals(5_000, diccionario.size());
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i % 2 == 0 ? null : "v" + i, diccionario.get(i));
+        }
+        for (int i = 0; i < 10_000; i += 2) {
+            assertNull(diccionario.put(i, "w" + i));
+        }
+        assertEquals(10_000, diccionario.size());
+        assertEquals("w0", diccionario.get(0));
+    }
+
+    @Test
+    @DisplayName("Inserciones y eliminaciones alternadas no deben hacer crecer la tabla")
+    void lapidasSeDescartanSinCrecer() {
+        DiccionarioAbierto<Integer, Integer> diccionario = new DiccionarioAbierto<>();
+        for (int i = 0; i < 100_000; i++) {
+            diccionario.put(i, i);
+            diccionario.remove(i);
+        }
+        assertTrue(diccionario.isEmpty());
+        assertEquals(16, diccionario.capacidad());
+    }
+
+    @Test
+    @DisplayName("Las operaciones compuestas por defecto deben servir para contar")
+    void merge_CuentaApariciones() {
+        DiccionarioAbierto<String, Integer> contador = new DiccionarioAbierto<>();
+        for (String palabra : new String[]{"uno", "dos", "uno", "tres", "uno"}) {
+            contador.merge(palabra, 1, Integer::sum);
+        }
+        assertEquals(3, contador.get("uno"));
+        assertEquals(1, contador.get("dos"));
+        assertEquals(1, contador.putIfAbsent("tres", 9));
+        assertEquals(6, contador.computeIfAbsent("cuatro", String::length));
+        assertNull(contador.compute("dos", (llave, valor) -> null));
+        assertFalse(contador.containsKey("dos"));
+        assertEquals(3, contador.size());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar factores de carga que no dejen posiciones libres")
+    void constructor_RechazaFactorDeCargaInvalido() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DiccionarioAbierto<String, Integer>(16, 1f, Sondeo.LINEAL));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DiccionarioAbierto<String, Integer>(16, 0.5f, null));
+    }
+}
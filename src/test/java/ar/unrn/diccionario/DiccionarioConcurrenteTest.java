@@ -0,0 +1,139 @@
+package ar.unrn.diccionario;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas para la clase DiccionarioConcurrente")
+class DiccionarioConcurrenteTest {
+
+    private static final int HILOS = 8;
+
+    private DiccionarioConcurrente<String, Integer> diccionario;
+
+    @BeforeEach
+    void setUp() {
+        diccionario = new DiccionarioConcurrente<>();
+    }
+
+    /**
+     * Ejecuta una tarea en varios hilos a la vez y espera a que todos terminen,
+     * propagando cualquier falla.
+     */
+    private static void enParalelo(Callable<Void> tarea) throws Exception {
+        ExecutorService ejecutor = Executors.newFixedThreadPool(HILOS);
+        try {
+            List<Future<Void>> resultados = new ArrayList<>();
+            for (int i = 0; i < HILOS; i++) {
+                resultados.add(ejecutor.submit(tarea));
+            }
+            for (Future<Void> resultado : resultados) {
+                resultado.get();
+            }
+        } finally {
+            ejecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("No debe aceptar valores nulos")
+    void rechazaValoresNulos() {
+        assertThrows(NullPointerException.class, () -> diccionario.put("clave", null));
+        assertThrows(NullPointerException.class, () -> diccionario.merge("clave", null, Integer::sum));
+    }
+
+    @Test
+    @DisplayName("Debe crecer conservando todas las entradas")
+    void crecimiento() {
+        DiccionarioConcurrente<Integer, Integer> chico = new DiccionarioConcurrente<>(1, 0.75f, 4);
+        assertEquals(4, chico.capacidad());
+        for (int i = 0; i < 10_000; i++) {
+            chico.put(i, -i);
+        }
+        assertEquals(10_000, chico.size());
+        assertTrue(chico.capacidad() >= 10_000 / 0.75);
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(-i, chico.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Hilos que insertan claves distintas no deben perder ninguna")
+    void insercionesConcurrentes() throws Exception {
+        DiccionarioConcurrente<Integer, Integer> compartido = new DiccionarioConcurrente<>(2, 0.75f, 16);
+        AtomicInteger siguienteHilo = new AtomicInteger();
+        enParalelo(() -> {
+            int base = siguienteHilo.getAndIncrement() * 20_000;
+            for (int i = base; i < base + 20_000; i++) {
+                assertNull(compartido.put(i, i));
+            }
+            return null;
+        });
+        assertEquals(HILOS * 20_000, compartido.size());
+        for (int i = 0; i < HILOS * 20_000; i++) {
+            assertEquals(i, compartido.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("merge debe ser atómico aunque varios hilos actualicen las mismas claves")
+    void mergeConcurrenteEsAtomico() throws Exception {
+        enParalelo(() -> {
+            for (int i = 0; i < 50_000; i++) {
+                diccionario.merge("clave" + (i % 100), 1, Integer::sum);
+            }
+            return null;
+        });
+        assertEquals(100, diccionario.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(HILOS * 500, diccionario.get("clave" + i));
+        }
+    }
+
+    @Test
+    @DisplayName("Los lectores no deben perder claves mientras otros hilos hacen crecer la tabla")
+    void lecturasDuranteElCrecimiento() throws Exception {
+        DiccionarioConcurrente<Integer, Integer> compartido = new DiccionarioConcurrente<>(2, 0.75f, 4);
+        for (int i = 0; i < 1_000; i++) {
+            compartido.put(-i - 1, i);
+        }
+        AtomicInteger siguienteHilo = new AtomicInteger();
+        enParalelo(() -> {
+            int hilo = siguienteHilo.getAndIncrement();
+            for (int i = 0; i < 20_000; i++) {
+                if (hilo % 2 == 0) {
+                    compartido.put(hilo * 20_000 + i, i);
+                } else {
+                    int fija = i % 1_000;
+                    assertEquals(fija, compartido.get(-fija - 1));
+                }
+            }
+            return null;
+        });
+        assertEquals(1_000 + HILOS / 2 * 20_000, compartido.size());
+    }
+
+    @Test
+    @DisplayName("computeIfAbsent debe calcular cada valor una sola vez")
+    void computeIfAbsentCalculaUnaVez() throws Exception {
+        AtomicInteger llamadas = new AtomicInteger();
+        enParalelo(() -> {
+            for (int i = 0; i < 1_000; i++) {
+                diccionario.computeIfAbsent("clave" + i, llave -> llamadas.incrementAndGet());
+            }
+            return null;
+        });
+        assertEquals(1_000, llamadas.get());
+        assertEquals(1_000, diccionario.size());
+    }
+}
@@ -0,0 +1,42 @@
+package ar.unrn.diccionario;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas para la clase DiccionarioCuckoo")
+class DiccionarioCuckooTest {
+
+    @Test
+    @DisplayName("Debe crecer y conservar todas las entradas")
+    void creceConservandoEntradas() {
+        DiccionarioCuckoo<Integer, Integer> numerico = new DiccionarioCuckoo<>();
+        for (int i = 0; i < 100_000; i++) {
+            numerico.put(i, -i);
+        }
+        assertEquals(100_000, numerico.size());
+        assertTrue(numerico.ocupacion() <= 0.45, "La capacidad suma las posiciones de ambas tablas.");
+        for (int i = 0; i < 100_000; i++) {
+            assertEquals(-i, numerico.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Claves con el mismo hashCode deben terminar en el escondite")
+    void clavesConElMismoHashVanAlEscondite() {
+        DiccionarioCuckoo<LlaveDefectuosa, Integer> defectuoso = new DiccionarioCuckoo<>();
+        for (int i = 0; i < 50; i++) {
+            defectuoso.put(new LlaveDefectuosa("llave" + i, 42), i);
+        }
+        assertEquals(50, defectuoso.size());
+        assertEquals(48, defectuoso.enEscondite());
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, defectuoso.get(new LlaveDefectuosa("llave" + i, 42)));
+        }
+        for (int i = 0; i < 50; i++) {
+            assertTrue(defectuoso.remove(new LlaveDefectuosa("llave" + i, 42)));
+        }
+        assertTrue(defectuoso.isEmpty());
+    }
+}
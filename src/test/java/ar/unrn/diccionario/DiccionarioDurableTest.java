@@ -0,0 +1,172 @@
+package ar.unrn.diccionario;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas para la clase DiccionarioDurable")
+class DiccionarioDurableTest {
+
+    @TempDir
+    Path carpeta;
+
+    private DiccionarioDurable<Integer, String> abrir(int lote, long compactar) throws IOException {
+        return DiccionarioDurable.abrir(carpeta, Codec.enteros(), Codec.textos(), lote, compactar);
+    }
+
+    @Test
+    @DisplayName("Debe recuperar las asociaciones, los valores nulos y las eliminaciones al reabrirlo")
+    void abrir_ReproduceElRegistro() throws IOException {
+        try (DiccionarioDurable<Integer, String> diccionario =
+                     DiccionarioDurable.abrir(carpeta, Codec.enteros(), Codec.textos())) {
+            for (int i = 0; i < 1_000; i++) {
+                diccionario.put(i, "v" + i);
+            }
+            diccionario.put(5, null);
+            diccionario.put(6, "otro");
+            assertTrue(diccionario.remove(7));
+            assertFalse(diccionario.remove(-1));
+        }
+        try (DiccionarioDurable<Integer, String> diccionario =
+                     DiccionarioDurable.abrir(carpeta, Codec.enteros(), Codec.textos())) {
+            assertEquals(999, diccionario.size());
+            assertTrue(diccionario.containsKey(5));
+            assertNull(diccionario.get(5));
+            assertEquals("otro", diccionario.get(6));
+            assertFalse(diccionario.containsKey(7));
+            assertEquals("v999", diccionario.get(999));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe conservar tras una caída solo las operaciones sincronizadas")
+    void abrir_PierdeElLoteSinSincronizar() throws IOException {
+        DiccionarioDurable<Integer, String> caido = abrir(1_000, Long.MAX_VALUE);
+        for (int i = 0; i < 10; i++) {
+            caido.put(i, "v" + i);
+        }
+        caido.sincronizar();
+        for (int i = 10; i < 15; i++) {
+            caido.put(i, "v" + i);
+        }
+        long tamanio = Files.size(carpeta.resolve(DiccionarioDurable.REGISTRO));
+
+        try (DiccionarioDurable<Integer, String> recuperado = abrir(1_000, Long.MAX_VALUE)) {
+            assertEquals(10, recuperado.size());
+            assertEquals("v9", recuperado.get(9));
+            assertFalse(recuperado.containsKey(10));
+            assertEquals(tamanio, Files.size(carpeta.resolve(DiccionarioDurable.REGISTRO)));
+        }
+        caido.close();
+    }
+
+    @Test
+    @DisplayName("Debe descartar un registro incompleto o dañado al final del archivo")
+    void abrir_DescartaLaColaDaniada() throws IOException {
+        try (DiccionarioDurable<Integer, String> diccionario = abrir(1, Long.MAX_VALUE)) {
+            diccionario.put(1, "uno");
+            diccionario.put(2, "dos");
+        }
+        Path registro = carpeta.resolve(DiccionarioDurable.REGISTRO);
+        long valido = Files.size(registro);
+        Files.write(registro, new byte[]{1, 0, 0, 0, 4, 7, 7, 7, 7, 0, 0},
+                StandardOpenOption.APPEND);
+
+        try (DiccionarioDurable<Integer, String> diccionario = abrir(1, Long.MAX_VALUE)) {
+            assertEquals(2, diccionario.size());
+            assertEquals("dos", diccionario.get(2));
+            assertEquals(valido, Files.size(registro));
+            diccionario.put(3, "tres");
+        }
+        try (DiccionarioDurable<Integer, String> diccionario = abrir(1, Long.MAX_VALUE)) {
+            assertEquals("tres", diccionario.get(3));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe descartar un registro cuyo tipo fue alterado")
+    void abrir_DescartaElRegistroConElTipoAlterado() throws IOException {
+        Path registro = carpeta.resolve(DiccionarioDurable.REGISTRO);
+        try (DiccionarioDurable<Integer, String> diccionario = abrir(1, Long.MAX_VALUE)) {
+            diccionario.put(1, "uno");
+        }
+        long valido = Files.size(registro);
+        try (DiccionarioDurable<Integer, String> diccionario = abrir(1, Long.MAX_VALUE)) {
+            diccionario.put(1, "otro");
+        }
+        // El segundo registro pasa de PUT (1) a REMOVE (3) sin tocar su CRC.
+        byte[] bytes = Files.readAllBytes(registro);
+        bytes[(int) valido] = 3;
+        Files.write(registro, bytes);
+
+        try (DiccionarioDurable<Integer, String> diccionario = abrir(1, Long.MAX_VALUE)) {
+            assertEquals(1, diccionario.size());
+            assertEquals("uno", diccionario.get(1));
+            assertEquals(valido, Files.size(registro));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe compactar el registro en una instantánea al superar el umbral")
+    void put_CompactaElRegistro() throws IOException {
+        Path registro = carpeta.resolve(DiccionarioDurable.REGISTRO);
+        try (DiccionarioDurable<Integer, String> diccionario = abrir(8, 1_024)) {
+            for (int i = 0; i < 2_000; i++) {
+                diccionario.put(i % 300, "v" + i);
+            }
+            assertTrue(Files.exists(carpeta.resolve(DiccionarioDurable.INSTANTANEA)));
+            assertTrue(Files.size(registro) < 2_048);
+        }
+        try (DiccionarioDurable<Integer, String> diccionario = abrir(8, 1_024)) {
+            assertEquals(300, diccionario.size());
+            for (int i = 1_700; i < 2_000; i++) {
+                assertEquals("v" + i, diccionario.get(i % 300));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Debe tolerar una caída entre la instantánea y el vaciado del registro")
+    void compactar_ReaplicarElRegistroNoCambiaElResultado() throws IOException {
+        Path registro = carpeta.resolve(DiccionarioDurable.REGISTRO);
+        byte[] anterior;
+        try (DiccionarioDurable<Integer, String> diccionario = abrir(1, Long.MAX_VALUE)) {
+            diccionario.put(1, "uno");
+            diccionario.put(2, "dos");
+            diccionario.remove(1);
+            diccionario.put(1, "otra vez");
+            diccionario.remove(2);
+            anterior = Files.readAllBytes(registro);
+            diccionario.compactar();
+        }
+        Files.write(registro, anterior);
+
+        try (DiccionarioDurable<Integer, String> diccionario = abrir(1, Long.MAX_VALUE)) {
+            assertEquals(1, diccionario.size());
+            assertEquals("otra vez", diccionario.get(1));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe rechazar parámetros inválidos y operaciones después de cerrarlo")
+    void abrir_ValidaParametrosYEstado() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> abrir(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> abrir(1, 0));
+
+        DiccionarioDurable<Integer, String> diccionario = abrir(1, Long.MAX_VALUE);
+        diccionario.close();
+        diccionario.close();
+        assertThrows(IllegalStateException.class, () -> diccionario.put(1, "uno"));
+        assertThrows(IllegalStateException.class, () -> diccionario.get(1));
+
+        Files.write(carpeta.resolve(DiccionarioDurable.REGISTRO), new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        assertThrows(IOException.class, () -> abrir(1, Long.MAX_VALUE));
+    }
+}
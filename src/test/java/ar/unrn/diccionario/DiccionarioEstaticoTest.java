@@ -0,0 +1,87 @@
+package ar.unrn.diccionario;
+
+import ar.unrn.diccionario.excepciones.LlaveNulaException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas para la clase DiccionarioEstatico")
+class DiccionarioEstaticoTest {
+
+    @Test
+    @DisplayName("Debe responder las consultas de todas las claves de la tabla original")
+    void copiaDe_ConservaTodasLasEntradas() {
+        DiccionarioSuizo<Integer, String> original = new DiccionarioSuizo<>();
+        for (int i = 0; i < 50_000; i++) {
+            original.put(i * 31, "v" + i);
+        }
+        DiccionarioEstatico<Integer, String> estatico = DiccionarioEstatico.copiaDe(original);
+        assertEquals(50_000, estatico.size());
+        assertEquals(estatico.size(), estatico.capacidad());
+        assertEquals(1.0, estatico.ocupacion());
+        for (int i = 0; i < 50_000; i++) {
+            assertEquals("v" + i, estatico.get(i * 31));
+        }
+        for (int i = 0; i < 1_000; i++) {
+            assertFalse(estatico.containsKey(i * 31 + 1));
+            assertNull(estatico.get(-i - 1));
+        }
+        assertTrue(estatico.bitsPorClave() < 4);
+    }
+
+    @Test
+    @DisplayName("Debe construirse desde una colección de claves y recorrer todas sus entradas")
+    void de_CalculaLosValores() {
+        List<String> palabras = List.of("uno", "dos", "tres", "cuatro", "cinco");
+        DiccionarioEstatico<String, Integer> largos =
+                DiccionarioEstatico.de(palabras, String::length);
+        Map<String, Integer> recorridas = new HashMap<>();
+        largos.forEach((llave, valor) -> assertNull(recorridas.put(llave, valor)));
+        assertEquals(palabras.stream().collect(Collectors.toMap(p -> p, String::length)),
+                recorridas);
+        assertEquals(6, largos.get("cuatro"));
+        assertNull(largos.get("seis"));
+        assertThrows(LlaveNulaException.class, () -> largos.get(null));
+    }
+
+    @Test
+    @DisplayName("Debe usar la estrategia de hash para comparar las claves")
+    void copiaDe_UsaLaEstrategia() {
+        Diccionario<String, Integer> original =
+                new Diccionario<>(16, 0.75f, PoliticaColision.ENCADENAMIENTO);
+        IntStream.range(0, 100).forEach(i -> original.put("Clave" + i, i));
+        EstrategiaHash<String> sinMayusculas = new EstrategiaHash<>() {
+            @Override
+            public int hash(String llave) {
+                return llave.toLowerCase().hashCode();
+            }
+
+            @Override
+            public boolean iguales(String llave, String otra) {
+                return llave.equalsIgnoreCase(otra);
+            }
+        };
+        DiccionarioEstatico<String, Integer> estatico =
+                DiccionarioEstatico.copiaDe(original, 2.0, sinMayusculas);
+        assertEquals(42, estatico.get("CLAVE42"));
+        assertFalse(estatico.containsKey("clave100"));
+        assertEquals(42, estatico.congelar().get("clave42"));
+    }
+
+    @Test
+    @DisplayName("Un diccionario vacío debe responder consultas")
+    void copiaVacia() {
+        DiccionarioEstatico<String, Integer> vacio =
+                DiccionarioEstatico.copiaDe(new Diccionario<>());
+        assertTrue(vacio.isEmpty());
+        assertNull(vacio.get("algo"));
+        assertEquals("DiccionarioEstatico{}", vacio.toString());
+    }
+}
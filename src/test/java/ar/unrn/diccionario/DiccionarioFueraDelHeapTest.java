@@ -0,0 +1,143 @@
+package ar.unrn.diccionario;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas para la clase DiccionarioFueraDelHeap")
+class DiccionarioFueraDelHeapTest {
+
+    private DiccionarioFueraDelHeap diccionario;
+
+    @BeforeEach
+    void setUp() {
+        diccionario = new DiccionarioFueraDelHeap();
+    }
+
+    @AfterEach
+    void tearDown() {
+        diccionario.close();
+    }
+
+    @Test
+    @DisplayName("Debe insertar, recuperar y eliminar pares clave-valor")
+    void operacionesBasicas() {
+        assertTrue(diccionario.isEmpty());
+        assertEquals(0, diccionario.put(5L << 40, 50));
+        assertEquals(0, diccionario.put(-7, 70));
+        assertEquals(50, diccionario.put(5L << 40, 55));
+        assertEquals(55, diccionario.get(5L << 40));
+        assertEquals(0, diccionario.get(5));
+        assertEquals(-1, diccionario.getOrDefault(6, -1));
+        assertTrue(diccionario.remove(5L << 40));
+        assertFalse(diccionario.remove(5L << 40));
+        assertEquals(70, diccionario.get(-7));
+        assertEquals(1, diccionario.size());
+    }
+
+    @Test
+    @DisplayName("La clave cero debe funcionar como cualquier otra clave")
+    void claveCero() {
+        DiccionarioFueraDelHeap conAusente = new DiccionarioFueraDelHeap(16, 0.5f, -1);
+        assertEquals(-1, conAusente.put(0, 10));
+        assertEquals(12, conAusente.sumar(0, 2));
+        assertEquals(0, conAusente.sumar(Long.MIN_VALUE, 1));
+        assertEquals(2, conAusente.size());
+        assertTrue(conAusente.remove(0));
+        assertEquals(-1, conAusente.get(0));
+        conAusente.close();
+    }
+
+    @Test
+    @DisplayName("Debe crecer conservando todas las entradas")
+    void crecimiento() {
+        DiccionarioFueraDelHeap chico = new DiccionarioFueraDelHeap(1, 0.75f, 0);
+        for (long i = 0; i < 100_000; i++) {
+            chico.put(i << 20, i);
+        }
+        assertEquals(100_000, chico.size());
+        assertTrue(chico.capacidad() >= 100_000 / 0.75);
+        assertEquals(chico.capacidad() * 16, chico.bytesReservados());
+        for (long i = 0; i < 100_000; i++) {
+            assertEquals(i, chico.get(i << 20));
+        }
+        chico.close();
+    }
+
+    @Test
+    @DisplayName("Debe comportarse como HashMap ante operaciones aleatorias")
+    void coincideConHashMap() {
+        DiccionarioFueraDelHeap fueraDelHeap = new DiccionarioFueraDelHeap(16, 0.9f, 0);
+        Map<Long, Long> referencia = new HashMap<>();
+        Random azar = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            long llave = azar.nextInt(2_000) - 1_000L;
+            switch (azar.nextInt(3)) {
+                case 0 -> {
+                    Long anterior = referencia.put(llave, (long) i);
+                    assertEquals(anterior == null ? 0 : anterior, fueraDelHeap.put(llave, i));
+                }
+                case 1 -> assertEquals(referencia.merge(llave, 1L, Long::sum),
+                        fueraDelHeap.sumar(llave, 1));
+                default -> assertEquals(referencia.remove(llave) != null,
+                        fueraDelHeap.remove(llave));
+            }
+            assertEquals(referencia.containsKey(llave), fueraDelHeap.containsKey(llave));
+        }
+        assertEquals(referencia.size(), fueraDelHeap.size());
+        referencia.forEach((llave, valor) -> assertEquals(valor, fueraDelHeap.get(llave)));
+        fueraDelHeap.close();
+    }
+
+    @Test
+    @DisplayName("Después de cerrarlo no debe permitir operaciones")
+    void close_LiberaLaTabla() {
+        diccionario.put(1, 1);
+        diccionario.close();
+        diccionario.close();
+        assertEquals(0, diccionario.bytesReservados());
+        assertTrue(diccionario.isEmpty());
+        assertThrows(IllegalStateException.class, () -> diccionario.get(1));
+        assertThrows(IllegalStateException.class, () -> diccionario.put(1, 1));
+        assertEquals("DiccionarioFueraDelHeap{cerrado}", diccionario.toString());
+    }
+
+    @Test
+    @DisplayName("Debe devolver la memoria nativa al crecer y al cerrarse")
+    void close_DevuelveLaMemoriaNativa() {
+        BufferPoolMXBean directos = ManagementFactory
+                .getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> pool.getName().equals("direct"))
+                .findFirst().orElseThrow();
+        long antes = directos.getMemoryUsed();
+        DiccionarioFueraDelHeap tabla = new DiccionarioFueraDelHeap(1 << 10, 0.75f, 0);
+        for (long llave = 1; llave <= 1 << 14; llave++) {
+            tabla.put(llave, llave);
+        }
+        // Solo la tabla actual sigue reservada: las anteriores ya se liberaron.
+        assertEquals(antes + tabla.bytesReservados(), directos.getMemoryUsed());
+        tabla.close();
+        assertEquals(antes, directos.getMemoryUsed());
+    }
+
+    @Test
+    @DisplayName("Debe validar la capacidad y el factor de carga")
+    void constructor_Validaciones() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DiccionarioFueraDelHeap(16, 1f, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DiccionarioFueraDelHeap(0, 0.5f, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DiccionarioFueraDelHeap(DiccionarioFueraDelHeap.CAPACIDAD_MAXIMA + 1,
+                        0.5f, 0));
+    }
+}
@@ -0,0 +1,120 @@
+package ar.unrn.diccionario;
+
+import ar.unrn.diccionario.excepciones.LlaveNulaException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas para la clase DiccionarioInmutable")
+class DiccionarioInmutableTest {
+
+    static Stream<Supplier<TablaHash<Integer, Integer>>> motores() {
+        return Stream.of(
+                () -> new Diccionario<>(16, 0.75f, PoliticaColision.ENCADENAMIENTO),
+                DiccionarioAbierto::new,
+                DiccionarioRobinHood::new,
+                DiccionarioCuckoo::new,
+                DiccionarioSuizo::new,
+                DiccionarioConcurrente::new,
+                DiccionarioLockFree::new);
+    }
+
+    @ParameterizedTest
+    @MethodSource("motores")
+    @DisplayName("forEach y congelar deben conservar todas las entradas de cada motor")
+    void congelar_ConservaTodasLasEntradas(Supplier<TablaHash<Integer, Integer>> motor) {
+        TablaHash<Integer, Integer> tabla = motor.get();
+        for (int i = 0; i < 5_000; i++) {
+            tabla.put(i * 31, i);
+        }
+        for (int i = 0; i < 5_000; i += 5) {
+            tabla.remove(i * 31);
+        }
+        Map<Integer, Integer> recorridas = new HashMap<>();
+        tabla.forEach((llave, valor) -> assertNull(recorridas.put(llave, valor)));
+        assertEquals(4_000, recorridas.size());
+
+        DiccionarioInmutable<Integer, Integer> copia = tabla.congelar();
+        assertEquals(4_000, copia.size());
+        for (int i = 0; i < 5_000; i++) {
+            assertEquals(i % 5 == 0 ? null : i, copia.get(i * 31));
+        }
+        assertFalse(copia.containsKey(-1));
+    }
+
+    @Test
+    @DisplayName("La copia no debe cambiar al modificar el diccionario original")
+    void congelar_EsIndependienteDelOriginal() {
+        Diccionario<String, Integer> original = new Diccionario<>();
+        original.put("uno", 1);
+        DiccionarioInmutable<String, Integer> copia = original.congelar();
+        original.put("uno", 10);
+        original.put("dos", 2);
+        assertEquals(1, copia.get("uno"));
+        assertFalse(copia.containsKey("dos"));
+        assertSame(copia, copia.congelar());
+    }
+
+    @Test
+    @DisplayName("Debe agrupar claves con el mismo hashCode y conservar valores nulos")
+    void congelar_ClavesConElMismoHash() {
+        Diccionario<LlaveDefectuosa, String> defectuoso =
+                new Diccionario<>(16, 0.75f, PoliticaColision.ENCADENAMIENTO);
+        for (int i = 0; i < 100; i++) {
+            defectuoso.put(new LlaveDefectuosa("llave" + i, 42), i == 7 ? null : "v" + i);
+        }
+        DiccionarioInmutable<LlaveDefectuosa, String> copia = defectuoso.congelar();
+        assertEquals(100, copia.size());
+        assertEquals("v99", copia.get(new LlaveDefectuosa("llave99", 42)));
+        assertTrue(copia.containsKey(new LlaveDefectuosa("llave7", 42)));
+        assertNull(copia.get(new LlaveDefectuosa("llave7", 42)));
+        assertNull(copia.get(new LlaveDefectuosa("llave100", 42)));
+    }
+
+    @Test
+    @DisplayName("La copia de un Diccionario debe conservar su estrategia de hash")
+    void congelar_ConservaLaEstrategia() {
+        EstrategiaHash<String> sinMayusculas = new EstrategiaHash<>() {
+            @Override
+            public int hash(String llave) {
+                return llave.toLowerCase().hashCode();
+            }
+
+            @Override
+            public boolean iguales(String llave, String otra) {
+                return llave.equalsIgnoreCase(otra);
+            }
+        };
+        Diccionario<String, Integer> original = new Diccionario<>(16, 0.75f,
+                PoliticaColision.ENCADENAMIENTO, FuncionIndice.MASCARA, sinMayusculas);
+        original.put("Hola", 1);
+        DiccionarioInmutable<String, Integer> copia = original.congelar();
+        assertEquals(1, copia.get("HOLA"));
+
+        Diccionario<String, Integer> distintas = new Diccionario<>(16, 0.75f,
+                PoliticaColision.ENCADENAMIENTO);
+        distintas.put("hola", 1);
+        distintas.put("HOLA", 2);
+        assertThrows(IllegalArgumentException.class,
+                () -> DiccionarioInmutable.copiaDe(distintas, sinMayusculas));
+    }
+
+    @Test
+    @DisplayName("Una copia vacía debe responder consultas y rechazar claves nulas")
+    void copiaVacia() {
+        DiccionarioInmutable<String, Integer> vacia = new Diccionario<String, Integer>().congelar();
+        assertTrue(vacia.isEmpty());
+        assertEquals(1, vacia.capacidad());
+        assertNull(vacia.get("algo"));
+        assertEquals("DiccionarioInmutable{}", vacia.toString());
+        assertThrows(LlaveNulaException.class, () -> vacia.get(null));
+    }
+}
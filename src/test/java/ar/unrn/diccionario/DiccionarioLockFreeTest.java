@@ -0,0 +1,194 @@
+package ar.unrn.diccionario;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas para la clase DiccionarioLockFree")
+class DiccionarioLockFreeTest {
+
+    private static final int HILOS = 8;
+
+    private DiccionarioLockFree<String, Integer> diccionario;
+
+    @BeforeEach
+    void setUp() {
+        diccionario = new DiccionarioLockFree<>();
+    }
+
+    /**
+     * Ejecuta una tarea en varios hilos a la vez y espera a que todos terminen,
+     * propagando cualquier falla.
+     */
+    private static void enParalelo(Callable<Void> tarea) throws Exception {
+        ExecutorService ejecutor = Executors.newFixedThreadPool(HILOS);
+        try {
+            List<Future<Void>> resultados = new ArrayList<>();
+            for (int i = 0; i < HILOS; i++) {
+                resultados.add(ejecutor.submit(tarea));
+            }
+            for (Future<Void> resultado : resultados) {
+                resultado.get();
+            }
+        } finally {
+            ejecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("No debe aceptar valores nulos")
+    void rechazaValoresNulos() {
+        assertThrows(NullPointerException.class, () -> diccionario.put("clave", null));
+        assertThrows(NullPointerException.class, () -> diccionario.merge("clave", null, Integer::sum));
+    }
+
+    @Test
+    @DisplayName("Debe crecer conservando todas las entradas")
+    void crecimiento() {
+        DiccionarioLockFree<Integer, Integer> chico = new DiccionarioLockFree<>(4);
+        assertEquals(4, chico.capacidad());
+        for (int i = 0; i < 10_000; i++) {
+            chico.put(i, -i);
+        }
+        for (int i = 0; i < 10_000; i += 2) {
+            assertTrue(chico.remove(i));
+        }
+        assertEquals(5_000, chico.size());
+        assertTrue(chico.capacidad() >= 4_096, "La tabla debería haber crecido.");
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i % 2 == 0 ? null : -i, chico.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Una migración a medias no debe ocultar ninguna entrada")
+    void migracionIncompleta() {
+        DiccionarioLockFree<Integer, Integer> chico = new DiccionarioLockFree<>(1024, 0.5f);
+        for (int i = 0; i <= 512; i++) {
+            chico.put(i, i);
+        }
+        // La inserción que superó el umbral inició la migración y solo movió
+        // un tramo: el resto de los baldes sigue en la tabla anterior.
+        assertEquals(1024, chico.capacidad());
+        for (int i = 0; i <= 512; i++) {
+            assertEquals(i, chico.get(i));
+        }
+        assertEquals(513, chico.size());
+        assertEquals(513, chico.toString().split(", ").length);
+        for (int i = 0; i < 1_000; i++) {
+            chico.put(-1, i);
+        }
+        assertEquals(2048, chico.capacidad(), "Las escrituras deberían completar la migración.");
+        for (int i = 0; i <= 512; i++) {
+            assertEquals(i, chico.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Hilos que insertan claves distintas no deben perder ninguna")
+    void insercionesConcurrentes() throws Exception {
+        DiccionarioLockFree<Integer, Integer> compartido = new DiccionarioLockFree<>(2);
+        AtomicInteger siguienteHilo = new AtomicInteger();
+        enParalelo(() -> {
+            int base = siguienteHilo.getAndIncrement() * 20_000;
+            for (int i = base; i < base + 20_000; i++) {
+                assertNull(compartido.put(i, i));
+            }
+            return null;
+        });
+        assertEquals(HILOS * 20_000, compartido.size());
+        for (int i = 0; i < HILOS * 20_000; i++) {
+            assertEquals(i, compartido.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("merge debe ser atómico aunque varios hilos actualicen las mismas claves")
+    void mergeConcurrenteEsAtomico() throws Exception {
+        enParalelo(() -> {
+            for (int i = 0; i < 50_000; i++) {
+                diccionario.merge("clave" + (i % 100), 1, Integer::sum);
+            }
+            return null;
+        });
+        assertEquals(100, diccionario.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(HILOS * 500, diccionario.get("clave" + i));
+        }
+    }
+
+    @Test
+    @DisplayName("Los lectores no deben perder claves mientras otros hilos hacen crecer la tabla")
+    void lecturasDuranteElCrecimiento() throws Exception {
+        DiccionarioLockFree<Integer, Integer> compartido = new DiccionarioLockFree<>(2);
+        for (int i = 0; i < 1_000; i++) {
+            compartido.put(-i - 1, i);
+        }
+        AtomicInteger siguienteHilo = new AtomicInteger();
+        enParalelo(() -> {
+            int hilo = siguienteHilo.getAndIncrement();
+            for (int i = 0; i < 20_000; i++) {
+                if (hilo % 2 == 0) {
+                    compartido.put(hilo * 20_000 + i, i);
+                } else {
+                    int fija = i % 1_000;
+                    assertEquals(fija, compartido.get(-fija - 1));
+                }
+            }
+            return null;
+        });
+        assertEquals(1_000 + HILOS / 2 * 20_000, compartido.size());
+    }
+
+    @Test
+    @DisplayName("computeIfAbsent debe devolver a todos los hilos el valor instalado")
+    void computeIfAbsentDevuelveElValorInstalado() throws Exception {
+        DiccionarioLockFree<Integer, Integer> compartido = new DiccionarioLockFree<>(16);
+        AtomicInteger siguienteHilo = new AtomicInteger();
+        int[][] vistos = new int[HILOS][1_000];
+        enParalelo(() -> {
+            int hilo = siguienteHilo.getAndIncrement();
+            for (int i = 0; i < 1_000; i++) {
+                vistos[hilo][i] = compartido.computeIfAbsent(i, llave -> hilo);
+            }
+            return null;
+        });
+        assertEquals(1_000, compartido.size());
+        for (int[] visto : vistos) {
+            for (int i = 0; i < 1_000; i++) {
+                assertEquals(compartido.get(i), visto[i]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Inserciones y eliminaciones concurrentes deben dejar la cuenta exacta")
+    void insercionesYEliminacionesConcurrentes() throws Exception {
+        DiccionarioLockFree<Integer, Integer> compartido = new DiccionarioLockFree<>(8);
+        AtomicInteger siguienteHilo = new AtomicInteger();
+        enParalelo(() -> {
+            int base = siguienteHilo.getAndIncrement() * 10_000;
+            for (int i = base; i < base + 10_000; i++) {
+                compartido.put(i, i);
+                if (i % 2 == 0) {
+                    assertTrue(compartido.remove(i));
+                }
+            }
+            return null;
+        });
+        assertEquals(HILOS * 5_000, compartido.size());
+        for (int i = 0; i < HILOS * 10_000; i++) {
+            assertEquals(i % 2 != 0, compartido.containsKey(i));
+        }
+    }
+}
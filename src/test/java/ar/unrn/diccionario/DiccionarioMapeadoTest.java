@@ -0,0 +1,106 @@
+package ar.unrn.diccionario;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas para la clase DiccionarioMapeado")
+class DiccionarioMapeadoTest {
+
+    @TempDir
+    Path carpeta;
+
+    @Test
+    @DisplayName("Debe conservar las entradas al cerrarlo y abrirlo otra vez")
+    void abrir_RecuperaLasEntradas() throws IOException {
+        Path archivo = carpeta.resolve("tabla.dic");
+        try (DiccionarioMapeado diccionario = DiccionarioMapeado.crear(archivo, 1_024, 0.75f, -1)) {
+            for (long i = 0; i < 500; i++) {
+                diccionario.put(i * 7, i);
+            }
+            diccionario.put(0, 42);
+            diccionario.remove(7);
+        }
+        try (DiccionarioMapeado abierto = DiccionarioMapeado.abrir(archivo)) {
+            assertEquals(499, abierto.size());
+            assertEquals(42, abierto.get(0));
+            assertEquals(-1, abierto.get(7));
+            assertEquals(499, abierto.get(499 * 7));
+            assertEquals(1_024, abierto.capacidad());
+        }
+        assertEquals(DiccionarioMapeado.CABECERA + 1_024 * 16, Files.size(archivo));
+    }
+
+    @Test
+    @DisplayName("Debe crecer reemplazando el archivo y conservar todas las entradas")
+    void crecimiento_ReemplazaElArchivo() throws IOException {
+        Path archivo = carpeta.resolve("crece.dic");
+        try (DiccionarioMapeado diccionario = DiccionarioMapeado.crear(archivo, 2, 0.75f, 0)) {
+            for (long i = 1; i <= 50_000; i++) {
+                diccionario.sumar(i << 32, i);
+            }
+            assertEquals(50_000, diccionario.size());
+        }
+        assertFalse(Files.exists(carpeta.resolve("crece.dic.crecimiento")));
+        try (DiccionarioMapeado abierto = DiccionarioMapeado.abrir(archivo)) {
+            assertTrue(abierto.capacidad() >= 50_000 / 0.75);
+            for (long i = 1; i <= 50_000; i++) {
+                assertEquals(i, abierto.get(i << 32));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Si no se cerró, al abrirlo debe recontar las entradas")
+    void abrir_SinCerrarRecuentaLasEntradas() throws IOException {
+        Path archivo = carpeta.resolve("interrumpido.dic");
+        DiccionarioMapeado escritor = DiccionarioMapeado.crear(archivo, 64, 0.75f, 0);
+        escritor.put(1, 10);
+        escritor.sincronizar();
+        escritor.put(2, 20);
+        escritor.put(3, 30);
+        try (DiccionarioMapeado lector = DiccionarioMapeado.abrir(archivo)) {
+            assertEquals(3, lector.size());
+            assertEquals(30, lector.get(3));
+        }
+        escritor.close();
+        escritor.close();
+        assertThrows(IllegalStateException.class, () -> escritor.get(1));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar archivos existentes, ajenos o de otra versión")
+    void validaciones() throws IOException {
+        Path archivo = carpeta.resolve("existente.dic");
+        DiccionarioMapeado.crear(archivo, 16, 0.5f, 0).close();
+        assertThrows(FileAlreadyExistsException.class,
+                () -> DiccionarioMapeado.crear(archivo, 16, 0.5f, 0));
+
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.WRITE)) {
+            ByteBuffer version = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            version.putInt(0, DiccionarioMapeado.VERSION + 1);
+            canal.write(version, 8);
+        }
+        IOException otraVersion = assertThrows(IOException.class,
+                () -> DiccionarioMapeado.abrir(archivo));
+        assertTrue(otraVersion.getMessage().contains("Versión"));
+
+        Path ajeno = carpeta.resolve("ajeno.txt");
+        Files.writeString(ajeno, "esto no es un diccionario mapeado, es texto plano ".repeat(3));
+        assertThrows(IOException.class, () -> DiccionarioMapeado.abrir(ajeno));
+        Path corto = carpeta.resolve("corto.dic");
+        Files.writeString(corto, "corto");
+        assertThrows(IOException.class, () -> DiccionarioMapeado.abrir(corto));
+    }
+}
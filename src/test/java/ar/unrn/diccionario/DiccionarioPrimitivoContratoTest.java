@@ -0,0 +1,214 @@
+package ar.unrn.diccionario;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Contrato común de IntObjDiccionario y LongObjDiccionario")
+class DiccionarioPrimitivoContratoTest {
+
+    /**
+     * Las operaciones que comparten los diccionarios de claves primitivas, con
+     * claves {@code long} que la versión de enteros recibe convertidas.
+     */
+    interface Primitivo {
+        Object put(long llave, Object valor);
+
+        Object computeIfAbsent(long llave, LongFunction<Object> funcion);
+
+        Object get(long llave);
+
+        boolean remove(long llave);
+
+        boolean containsKey(long llave);
+
+        int size();
+
+        boolean isEmpty();
+    }
+
+    /**
+     * Cada implementación, con el desplazamiento que lleva las claves a los bits
+     * que una máscara sin mezclar ignoraría.
+     */
+    static Stream<Arguments> diccionarios() {
+        return Stream.of(
+                Arguments.of("IntObjDiccionario",
+                        (Supplier<Primitivo>) DiccionarioPrimitivoContratoTest::deEnteros, 12),
+                Arguments.of("LongObjDiccionario",
+                        (Supplier<Primitivo>) DiccionarioPrimitivoContratoTest::deLargos, 40));
+    }
+
+    private static Primitivo deEnteros() {
+        IntObjDiccionario<Object> diccionario = new IntObjDiccionario<>(4, 0.8f);
+        return new Primitivo() {
+            public Object put(long llave, Object valor) {
+                return diccionario.put((int) llave, valor);
+            }
+
+            public Object computeIfAbsent(long llave, LongFunction<Object> funcion) {
+                return diccionario.computeIfAbsent((int) llave, funcion::apply);
+            }
+
+            public Object get(long llave) {
+                return diccionario.get((int) llave);
+            }
+
+            public boolean remove(long llave) {
+                return diccionario.remove((int) llave);
+            }
+
+            public boolean containsKey(long llave) {
+                return diccionario.containsKey((int) llave);
+            }
+
+            public int size() {
+                return diccionario.size();
+            }
+
+            public boolean isEmpty() {
+                return diccionario.isEmpty();
+            }
+        };
+    }
+
+    private static Primitivo deLargos() {
+        LongObjDiccionario<Object> diccionario = new LongObjDiccionario<>(4, 0.8f);
+        return new Primitivo() {
+            public Object put(long llave, Object valor) {
+                return diccionario.put(llave, valor);
+            }
+
+            public Object computeIfAbsent(long llave, LongFunction<Object> funcion) {
+                return diccionario.computeIfAbsent(llave, funcion);
+            }
+
+            public Object get(long llave) {
+                return diccionario.get(llave);
+            }
+
+            public boolean remove(long llave) {
+                return diccionario.remove(llave);
+            }
+
+            public boolean containsKey(long llave) {
+                return diccionario.containsKey(llave);
+            }
+
+            public int size() {
+                return diccionario.size();
+            }
+
+            public boolean isEmpty() {
+                return diccionario.isEmpty();
+            }
+        };
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("diccionarios")
+    @DisplayName("Debe insertar, recuperar y eliminar pares clave-valor")
+    void operacionesBasicas(String nombre, Supplier<Primitivo> fabrica, int desplazamiento) {
+        Primitivo diccionario = fabrica.get();
+        assertTrue(diccionario.isEmpty());
+        assertNull(diccionario.put(1, "uno"));
+        assertNull(diccionario.put(0, "cero"));
+        assertEquals("uno", diccionario.put(1, "UNO"));
+        assertEquals("UNO", diccionario.get(1));
+        assertEquals("cero", diccionario.get(0));
+        assertNull(diccionario.get(2));
+        assertTrue(diccionario.remove(0));
+        assertFalse(diccionario.remove(0));
+        assertNull(diccionario.get(0));
+        assertEquals(1, diccionario.size());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("diccionarios")
+    @DisplayName("computeIfAbsent debe agrupar valores por clave sin recalcularlos")
+    @SuppressWarnings("unchecked")
+    void computeIfAbsent_AgrupaPorClave(String nombre, Supplier<Primitivo> fabrica,
+                                        int desplazamiento) {
+        Primitivo grupos = fabrica.get();
+        String[] palabras = {"sol", "mar", "luna", "río", "cielo", ""};
+        for (String palabra : palabras) {
+            ((List<String>) grupos.computeIfAbsent(palabra.length(), largo -> new ArrayList<>()))
+                    .add(palabra);
+        }
+        assertEquals(List.of("sol", "mar", "río"), grupos.get(3));
+        assertEquals(List.of("luna"), grupos.get(4));
+        assertEquals(List.of(""), grupos.get(0));
+        assertEquals(4, grupos.size());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("diccionarios")
+    @DisplayName("computeIfAbsent no debe guardar un resultado nulo")
+    void computeIfAbsent_NoGuardaNulos(String nombre, Supplier<Primitivo> fabrica,
+                                       int desplazamiento) {
+        Primitivo diccionario = fabrica.get();
+        assertNull(diccionario.computeIfAbsent(0, llave -> null));
+        assertNull(diccionario.computeIfAbsent(5, llave -> null));
+        assertFalse(diccionario.containsKey(0));
+        assertFalse(diccionario.containsKey(5));
+        assertTrue(diccionario.isEmpty());
+
+        diccionario.put(0, null);
+        diccionario.put(5, null);
+        assertEquals("cero", diccionario.computeIfAbsent(0, llave -> "cero"));
+        assertEquals("cinco", diccionario.computeIfAbsent(5, llave -> "cinco"));
+        assertEquals("cinco", diccionario.get(5));
+        assertEquals(2, diccionario.size());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("diccionarios")
+    @DisplayName("computeIfAbsent debe coincidir con HashMap mientras la tabla crece")
+    void computeIfAbsent_CoincideConHashMap(String nombre, Supplier<Primitivo> fabrica,
+                                            int desplazamiento) {
+        Primitivo diccionario = fabrica.get();
+        Map<Long, Object> referencia = new HashMap<>();
+        Random azar = new Random(11);
+        for (int i = 0; i < 50_000; i++) {
+            long llave = (long) (azar.nextInt(5_000) - 2_500) << desplazamiento;
+            Object valor = azar.nextInt(4) == 0 ? null : i;
+            assertEquals(referencia.computeIfAbsent(llave, l -> valor),
+                    diccionario.computeIfAbsent(llave, l -> valor));
+            assertEquals(referencia.size(), diccionario.size());
+        }
+        referencia.forEach((llave, valor) -> assertEquals(valor, diccionario.get(llave)));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("diccionarios")
+    @DisplayName("Debe comportarse como HashMap ante operaciones aleatorias")
+    void coincideConHashMap(String nombre, Supplier<Primitivo> fabrica, int desplazamiento) {
+        Primitivo primitivo = fabrica.get();
+        Map<Long, Object> referencia = new HashMap<>();
+        Random azar = new Random(7);
+        for (int i = 0; i < 200_000; i++) {
+            // Solo difieren en los bits altos: sin mezclar caerían en el mismo balde.
+            long llave = (long) (azar.nextInt(2_000) - 1_000) << desplazamiento;
+            if (azar.nextBoolean()) {
+                assertEquals(referencia.put(llave, i), primitivo.put(llave, i));
+            } else {
+                assertEquals(referencia.remove(llave) != null, primitivo.remove(llave));
+            }
+            assertEquals(referencia.get(llave), primitivo.get(llave));
+        }
+        assertEquals(referencia.size(), primitivo.size());
+        referencia.forEach((llave, valor) -> assertEquals(valor, primitivo.get(llave)));
+    }
+}
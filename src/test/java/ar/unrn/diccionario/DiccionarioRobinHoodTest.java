@@ -0,0 +1,27 @@
+package ar.unrn.diccionario;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas para la clase DiccionarioRobinHood")
+class DiccionarioRobinHoodTest {
+
+    @Test
+    @DisplayName("Debe soportar agrupamientos de claves con el mismo hashCode")
+    void soportaClavesConElMismoHash() {
+        DiccionarioRobinHood<LlaveDefectuosa, Integer> defectuoso = new DiccionarioRobinHood<>();
+        for (int i = 0; i < 300; i++) {
+            defectuoso.put(new LlaveDefectuosa("llave" + i, i % 4), i);
+        }
+        for (int i = 0; i < 300; i += 3) {
+            assertTrue(defectuoso.remove(new LlaveDefectuosa("llave" + i, i % 4)));
+        }
+        for (int i = 0; i < 300; i++) {
+            Integer esperado = i % 3 == 0 ? null : i;
+            assertEquals(esperado, defectuoso.get(new LlaveDefectuosa("llave" + i, i % 4)));
+        }
+        assertEquals(200, defectuoso.size());
+    }
+}
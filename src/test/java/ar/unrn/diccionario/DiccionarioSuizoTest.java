@@ -0,0 +1,49 @@
+package ar.unrn.diccionario;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas para la clase DiccionarioSuizo")
+class DiccionarioSuizoTest {
+
+    @Test
+    @DisplayName("La capacidad debe ser una potencia de dos de al menos un grupo")
+    void capacidadMinimaDeUnGrupo() {
+        assertEquals(8, new DiccionarioSuizo<String, Integer>(1, 0.5f).capacidad());
+        assertEquals(32, new DiccionarioSuizo<String, Integer>(20, 0.5f).capacidad());
+        assertThrows(IllegalArgumentException.class, () -> new DiccionarioSuizo<>(8, 1f));
+    }
+
+    @Test
+    @DisplayName("Debe crecer y conservar todas las entradas")
+    void creceConservandoEntradas() {
+        DiccionarioSuizo<Integer, Integer> numerico = new DiccionarioSuizo<>();
+        for (int i = 0; i < 100_000; i++) {
+            numerico.put(i, -i);
+        }
+        assertEquals(100_000, numerico.size());
+        assertTrue(numerico.capacidad() >= 100_000);
+        for (int i = 0; i < 100_000; i++) {
+            assertEquals(-i, numerico.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe soportar claves con el mismo hashCode, que comparten grupo y H2")
+    void soportaClavesConElMismoHash() {
+        DiccionarioSuizo<LlaveDefectuosa, Integer> defectuoso = new DiccionarioSuizo<>();
+        for (int i = 0; i < 100; i++) {
+            defectuoso.put(new LlaveDefectuosa("llave" + i, 42), i);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            assertTrue(defectuoso.remove(new LlaveDefectuosa("llave" + i, 42)));
+        }
+        for (int i = 0; i < 100; i++) {
+            Integer esperado = i % 2 == 0 ? null : i;
+            assertEquals(esperado, defectuoso.get(new LlaveDefectuosa("llave" + i, 42)));
+        }
+        assertEquals(50, defectuoso.size());
+    }
+}
@@ -7,6 +7,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("Pruebas para la clase Diccionario")
@@ -14,8 +23,8 @@ class DiccionarioTest {
 
     // Claves que sabemos que colisionarán con NUM_BUCKETS = 256
     // ... (resto de tus comentarios y campos de clase sin cambios) ...
-    private final String CLAVE_COLISION_1 = "clave_colision_1"; // Su índice de bucket es 103
-    private final String CLAVE_COLISION_2 = "otra_clave_muy_diferente_para_colision"; // Su índice de bucket también es 103
+    private final String CLAVE_COLISION_1 = "clave_colision_1"; // Su índice de bucket es 200
+    private final String CLAVE_COLISION_2 = "otra_clave_colision_1308"; // Su índice de bucket también es 200
     private Diccionario<String, Integer> diccionario;
     private Diccionario<Integer, String> diccionarioNumerico;
 
@@ -67,7 +76,7 @@ class DiccionarioTest {
         @Test
         @DisplayName("Debe insertar un par clave-valor correctamente en un bucket vacío")
         void put_InsertaCorrectamente() {
-            assertTrue(diccionario.put("clave1", 100), "put debería retornar true para una inserción exitosa.");
+            assertNull(diccionario.put("clave1", 100), "put debería retornar null al insertar una clave nueva.");
             assertEquals(1, diccionario.size(), "El tamaño debería ser 1 después de una inserción.");
             assertFalse(diccionario.isEmpty(), "El diccionario no debería estar vacío después de una inserción.");
             assertEquals(100, diccionario.get("clave1"), "get debería retornar el valor insertado.");
@@ -91,13 +100,13 @@ class DiccionarioTest {
             System.out.println(diccionario.obtienePosicion(CLAVE_COLISION_2));
 
             ColisionException exception = assertThrows(ColisionException.class, () -> {
-                diccionario.put(CLAVE_COLISION_1, 20); // Intenta insertar otra clave en el mismo bucket
+                diccionario.put(CLAVE_COLISION_2, 20); // Intenta insertar otra clave en el mismo bucket
             });
 
             // Verificación del mensaje de la excepción (más robusta usando contains)
             String exceptionMessage = exception.getMessage();
             assertTrue(exceptionMessage.contains("Colisión en el bucket"), "El mensaje debe indicar colisión en bucket.");
-            assertTrue(exceptionMessage.contains("al intentar insertar la clave: " + CLAVE_COLISION_1), "El mensaje debe indicar la clave que falló.");
+            assertTrue(exceptionMessage.contains("al intentar insertar la clave: " + CLAVE_COLISION_2), "El mensaje debe indicar la clave que falló.");
             assertTrue(exceptionMessage.contains("El bucket ya está ocupado por la clave: " + CLAVE_COLISION_1), "El mensaje debe indicar la clave existente.");
 
             assertEquals(1, diccionario.size(), "El tamaño no debería cambiar después de una colisión.");
@@ -106,15 +115,69 @@ class DiccionarioTest {
         }
 
         @Test
-        @DisplayName("put con la misma clave en un bucket ocupado por ella misma debe lanzar ColisionException (según política actual)")
-        void put_MismaClaveEnBucketOcupadoLanzaColision() {
+        @DisplayName("put con la misma clave debe reemplazar el valor y devolver el anterior")
+        void put_MismaClaveReemplazaElValor() {
             diccionario.put("claveUnica", 1);
-            ColisionException exception = assertThrows(ColisionException.class, () -> {
-                diccionario.put("claveUnica", 2); // Intenta re-insertar la misma clave
-            });
-            assertTrue(exception.getMessage().contains("claveUnica"));
-            assertEquals(1, diccionario.get("claveUnica"), "El valor original no debería cambiar.");
+            assertEquals(1, diccionario.put("claveUnica", 2), "put debería retornar el valor anterior.");
+            assertEquals(2, diccionario.get("claveUnica"), "El valor debería haberse reemplazado.");
+            assertEquals(1, diccionario.size(), "Reemplazar un valor no debe cambiar el tamaño.");
+        }
+
+        @Test
+        @DisplayName("tryPut debe informar si agregó, reemplazó o rechazó la clave sin lanzar excepciones")
+        void tryPut_InformaElResultado() {
+            assertEquals(ResultadoInsercion.AGREGADA, diccionario.tryPut(CLAVE_COLISION_1, 10));
+            assertEquals(ResultadoInsercion.REEMPLAZADA, diccionario.tryPut(CLAVE_COLISION_1, 11));
+            assertEquals(ResultadoInsercion.COLISION, diccionario.tryPut(CLAVE_COLISION_2, 20));
+
             assertEquals(1, diccionario.size());
+            assertEquals(11, diccionario.get(CLAVE_COLISION_1));
+            assertFalse(diccionario.containsKey(CLAVE_COLISION_2));
+            assertThrows(LlaveNulaException.class, () -> diccionario.tryPut(null, 1));
+
+            Diccionario<String, Integer> encadenado =
+                    new Diccionario<>(16, 0.75f, PoliticaColision.ENCADENAMIENTO);
+            encadenado.tryPut(CLAVE_COLISION_1, 10);
+            assertEquals(ResultadoInsercion.AGREGADA, encadenado.tryPut(CLAVE_COLISION_2, 20));
+            assertEquals(2, encadenado.size());
+        }
+
+        @Test
+        @DisplayName("La ColisionException de put no debe tener traza y debe conservar las claves")
+        void put_ColisionSinTraza() {
+            diccionario.put(CLAVE_COLISION_1, 10);
+            ColisionException exception = assertThrows(ColisionException.class,
+                    () -> diccionario.put(CLAVE_COLISION_2, 20));
+
+            assertEquals(0, exception.getStackTrace().length);
+            assertEquals(CLAVE_COLISION_2, exception.llave());
+            assertEquals(CLAVE_COLISION_1, exception.ocupante());
+            assertEquals(diccionario.obtienePosicion(CLAVE_COLISION_1), exception.balde());
+            assertSame(exception.getMessage(), exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("La ColisionException debe conservar su mensaje al serializarse y admitir suprimidas")
+        void put_ColisionSerializable() throws IOException, ClassNotFoundException {
+            diccionario.put(CLAVE_COLISION_1, 10);
+            ColisionException exception = assertThrows(ColisionException.class,
+                    () -> diccionario.put(CLAVE_COLISION_2, 20));
+            exception.addSuppressed(new IllegalStateException("suprimida"));
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream salida = new ObjectOutputStream(bytes)) {
+                salida.writeObject(exception);
+            }
+            ColisionException leida;
+            try (ObjectInputStream entrada = new ObjectInputStream(
+                    new ByteArrayInputStream(bytes.toByteArray()))) {
+                leida = (ColisionException) entrada.readObject();
+            }
+
+            assertEquals(1, exception.getSuppressed().length);
+            assertTrue(leida.getMessage().contains(CLAVE_COLISION_2));
+            assertTrue(leida.getMessage().contains(CLAVE_COLISION_1));
+            assertNull(leida.llave());
         }
     }
 
@@ -260,7 +323,7 @@ class DiccionarioTest {
 
             // 4. Intento de inserción de una clave que causa colisión
             assertThrows(ColisionException.class, () -> {
-                diccionario.put(CLAVE_COLISION_1, 4); // Esto debería fallar
+                diccionario.put(CLAVE_COLISION_2, 4); // Esto debería fallar
             }, "Debería lanzarse ColisionException al insertar una clave en un bucket ocupado.");
             assertEquals(3, diccionario.size(), "El tamaño no debe cambiar después de una ColisionException.");
 
@@ -282,6 +345,439 @@ class DiccionarioTest {
             diccionario.remove("a");
             assertTrue(diccionario.isEmpty(), "Diccionario debe estar vacío después de remover el único elemento.");
         }
+
+        @Test
+        @DisplayName("size() solo debe cambiar al agregar o quitar entradas")
+        void size_SoloCambiaAlAgregarOQuitar() {
+            diccionario.put(CLAVE_COLISION_1, 1);
+            diccionario.put(CLAVE_COLISION_1, 2);
+            diccionario.merge(CLAVE_COLISION_1, 1, Integer::sum);
+            assertThrows(ColisionException.class, () -> diccionario.put(CLAVE_COLISION_2, 1));
+            assertFalse(diccionario.remove(CLAVE_COLISION_2));
+            assertEquals(1, diccionario.size(), "Reemplazos y operaciones fallidas no deben contar.");
+            diccionario.compute(CLAVE_COLISION_1, (llave, valor) -> null);
+            assertTrue(diccionario.isEmpty());
+        }
+
+        @Test
+        @DisplayName("ocupacion() debe relacionar el tamaño con la capacidad")
+        void ocupacion_RelacionaTamanioYCapacidad() {
+            TablaHash<Integer, String> tabla = new Diccionario<>(16, 4f, PoliticaColision.ENCADENAMIENTO);
+            for (int i = 0; i < 32; i++) {
+                tabla.put(i, "v" + i);
+            }
+            assertEquals(16, tabla.capacidad());
+            assertEquals(2.0, tabla.ocupacion());
+            assertEquals(0.0, diccionario.ocupacion());
+        }
+    }
+
+    @Nested
+    @DisplayName("Pruebas para el modo redimensionable")
+    class RedimensionableTests {
+
+        @Test
+        @DisplayName("El diccionario por defecto mantiene su cantidad de baldes")
+        void porDefecto_TieneTamanioFijo() {
+            for (int i = 0; i < 256; i++) {
+                diccionarioNumerico.put(i, "v" + i);
+            }
+            assertEquals(256, diccionarioNumerico.capacidad());
+            assertEquals(256, diccionarioNumerico.size());
+            assertThrows(ColisionException.class, () -> diccionarioNumerico.put(256, "v256"));
+        }
+
+        @Test
+        @DisplayName("La capacidad inicial se redondea a una potencia de dos")
+        void capacidadInicial_SeRedondeaAPotenciaDeDos() {
+            assertEquals(1, new Diccionario<String, Integer>(1).capacidad());
+            assertEquals(16, new Diccionario<String, Integer>(10).capacidad());
+            assertEquals(64, new Diccionario<String, Integer>(64).capacidad());
+        }
+
+        @Test
+        @DisplayName("Debe duplicar los baldes al superar el factor de carga")
+        void put_DuplicaAlSuperarFactorDeCarga() {
+            Diccionario<Integer, String> redimensionable = new Diccionario<>(8, 0.5f);
+            for (int i = 0; i < 4; i++) {
+                redimensionable.put(i, "v" + i);
+            }
+            assertEquals(8, redimensionable.capacidad(), "Todavía no se superó el umbral.");
+            redimensionable.put(4, "v4");
+            assertEquals(16, redimensionable.capacidad(), "Debería haberse duplicado.");
+        }
+
+        @Test
+        @DisplayName("Las funciones de índice que mezclan deben conservar las entradas al crecer")
+        void put_ConservaEntradasConCadaFuncionIndice() {
+            for (FuncionIndice funcion : FuncionIndice.values()) {
+                Diccionario<Integer, Integer> mezclado =
+                        new Diccionario<>(8, 0.75f, PoliticaColision.ENCADENAMIENTO, funcion);
+                for (int i = 0; i < 10_000; i++) {
+                    mezclado.put(i << 16, i);
+                }
+                assertEquals(10_000, mezclado.size());
+                for (int i = 0; i < 10_000; i++) {
+                    assertEquals(i, mezclado.get(i << 16), funcion.name());
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Con RECHAZO, una función que mezcla evita colisiones de hashes con bits bajos iguales")
+        void put_MezclaEvitaColisionesDeBitsBajos() {
+            Diccionario<Integer, String> conMascara =
+                    new Diccionario<>(256, 0.75f, PoliticaColision.RECHAZO, FuncionIndice.MASCARA);
+            Diccionario<Integer, String> conMurmur =
+                    new Diccionario<>(256, 0.75f, PoliticaColision.RECHAZO, FuncionIndice.MURMUR3);
+            conMascara.put(0, "cero");
+            conMurmur.put(0, "cero");
+            assertThrows(ColisionException.class, () -> conMascara.put(1 << 16, "otro"));
+            assertNull(conMurmur.put(1 << 16, "otro"));
+            assertNotEquals(conMurmur.obtienePosicion(0), conMurmur.obtienePosicion(1 << 16));
+        }
+
+        @Test
+        @DisplayName("Debe conservar todas las entradas al crecer")
+        void put_ConservaEntradasAlCrecer() {
+            Diccionario<Integer, String> redimensionable = new Diccionario<>(4);
+            for (int i = 0; i < 100_000; i++) {
+                redimensionable.put(i, "v" + i);
+            }
+            assertEquals(100_000, redimensionable.size());
+            assertEquals(262_144, redimensionable.capacidad());
+            for (int i = 0; i < 100_000; i++) {
+                assertEquals("v" + i, redimensionable.get(i));
+            }
+            assertTrue(redimensionable.remove(99_999));
+            assertFalse(redimensionable.containsKey(99_999));
+            assertEquals(99_999, redimensionable.size());
+        }
+
+        @Test
+        @DisplayName("Debe rechazar capacidades y factores de carga inválidos")
+        void constructor_RechazaParametrosInvalidos() {
+            assertThrows(IllegalArgumentException.class, () -> new Diccionario<String, Integer>(0));
+            assertThrows(IllegalArgumentException.class, () -> new Diccionario<String, Integer>(16, 0f));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new Diccionario<String, Integer>(16, Float.NaN));
+        }
+    }
+
+    @Nested
+    @DisplayName("Pruebas para la política de encadenamiento")
+    class EncadenamientoTests {
+
+        private Diccionario<Object, Integer> encadenado;
+
+        @BeforeEach
+        void setUp() {
+            encadenado = new Diccionario<>(16, 0.75f, PoliticaColision.ENCADENAMIENTO);
+        }
+
+        @Test
+        @DisplayName("Debe aceptar claves distintas que caen en el mismo bucket")
+        void put_AceptaClavesEnElMismoBucket() {
+            assertEquals(encadenado.obtienePosicion(300), encadenado.obtienePosicion(556));
+            assertNull(encadenado.put(300, 1));
+            assertNull(encadenado.put(556, 2));
+            assertEquals(1, encadenado.get(300));
+            assertEquals(2, encadenado.get(556));
+            assertEquals(2, encadenado.size());
+        }
+
+        @Test
+        @DisplayName("Debe reemplazar el valor al reinsertar una clave existente")
+        void put_MismaClaveReemplazaElValor() {
+            encadenado.put("claveUnica", 1);
+            assertEquals(1, encadenado.put("claveUnica", 2));
+            assertEquals(2, encadenado.get("claveUnica"));
+            assertEquals(1, encadenado.size());
+        }
+
+        @Test
+        @DisplayName("Debe soportar muchas llaves defectuosas con el mismo hashCode")
+        void put_SoportaLlavesConElMismoHash() {
+            for (int i = 0; i < 1_000; i++) {
+                encadenado.put(new LlaveDefectuosa("llave" + i, 42), i);
+            }
+            assertEquals(1_000, encadenado.size());
+            for (int i = 0; i < 1_000; i++) {
+                assertEquals(i, encadenado.get(new LlaveDefectuosa("llave" + i, 42)));
+            }
+            assertFalse(encadenado.containsKey(new LlaveDefectuosa("otra", 42)));
+            assertEquals(7, encadenado.put(new LlaveDefectuosa("llave7", 42), 0));
+            assertEquals(0, encadenado.get(new LlaveDefectuosa("llave7", 42)));
+            assertEquals(1_000, encadenado.size());
+        }
+
+        @Test
+        @DisplayName("Debe eliminar entradas de listas y árboles hasta vaciarse")
+        void remove_EliminaDeListasYArboles() {
+            for (int i = 0; i < 20; i++) {
+                encadenado.put(new LlaveDefectuosa("llave" + i, 42), i);
+            }
+            for (int i = 0; i < 20; i++) {
+                assertTrue(encadenado.remove(new LlaveDefectuosa("llave" + i, 42)));
+                assertFalse(encadenado.containsKey(new LlaveDefectuosa("llave" + i, 42)));
+                for (int j = i + 1; j < 20; j++) {
+                    assertEquals(j, encadenado.get(new LlaveDefectuosa("llave" + j, 42)));
+                }
+            }
+            assertTrue(encadenado.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Debe distinguir claves no comparables con el mismo hashCode")
+        void get_DistingueClavesNoComparablesConElMismoHash() {
+            for (int i = 0; i < 50; i++) {
+                encadenado.put(new SinOrden(i), i);
+            }
+            for (int i = 0; i < 50; i += 2) {
+                assertTrue(encadenado.remove(new SinOrden(i)));
+            }
+            assertEquals(25, encadenado.size());
+            for (int i = 0; i < 50; i++) {
+                assertEquals(i % 2 == 0 ? null : i, encadenado.get(new SinOrden(i)));
+            }
+        }
+
+        @Test
+        @DisplayName("Debe encontrar claves de distintas clases con el mismo hashCode en un árbol")
+        void get_ClavesDeDistintasClasesConElMismoHash() {
+            // "Aa" y "BB" tienen el mismo hashCode: sus 64 combinaciones también.
+            List<String> textos = List.of("");
+            for (int i = 0; i < 6; i++) {
+                List<String> siguientes = new ArrayList<>();
+                for (String texto : textos) {
+                    siguientes.add(texto + "Aa");
+                    siguientes.add(texto + "BB");
+                }
+                textos = siguientes;
+            }
+            int hash = textos.get(0).hashCode();
+            // Los números, con el mismo hashCode, entran cuando el balde ya es un árbol.
+            for (int i = 0; i < textos.size(); i++) {
+                encadenado.put(textos.get(i), i);
+                if (i == 20) {
+                    encadenado.put(hash, -1);
+                    encadenado.put(Integer.toUnsignedLong(hash), -2);
+                }
+            }
+            assertEquals(hash, Long.valueOf(Integer.toUnsignedLong(hash)).hashCode());
+
+            assertEquals(66, encadenado.size());
+            assertEquals(-1, encadenado.get(hash));
+            assertEquals(-2, encadenado.get(Integer.toUnsignedLong(hash)));
+            for (int i = 0; i < textos.size(); i++) {
+                assertEquals(i, encadenado.get(textos.get(i)));
+            }
+            assertEquals(-1, encadenado.put(hash, -3));
+            assertEquals(66, encadenado.size());
+            assertTrue(encadenado.remove(Integer.toUnsignedLong(hash)));
+            assertFalse(encadenado.containsKey(Integer.toUnsignedLong(hash)));
+            assertEquals(-3, encadenado.get(hash));
+        }
+
+        @Test
+        @DisplayName("Debe tratar como la misma clave a objetos iguales de distintas clases")
+        void put_ClavesIgualesDeDistintasClases() {
+            // Las listas [i, 1000 - 31i] tienen todas el mismo hashCode.
+            for (int i = 0; i < 20; i++) {
+                encadenado.put(new ArrayList<>(List.of(i, 1000 - 31 * i)), i);
+            }
+            LinkedList<Integer> igual = new LinkedList<>(List.of(7, 1000 - 31 * 7));
+            assertEquals(7, encadenado.get(igual));
+            assertEquals(7, encadenado.put(igual, 70));
+            assertEquals(20, encadenado.size());
+            assertTrue(encadenado.remove(new LinkedList<>(List.of(3, 1000 - 31 * 3))));
+            assertFalse(encadenado.containsKey(List.of(3, 1000 - 31 * 3)));
+            assertEquals(70, encadenado.get(List.of(7, 1000 - 31 * 7)));
+            assertEquals(19, encadenado.size());
+        }
+
+        @Test
+        @DisplayName("Debe conservar todas las entradas al crecer")
+        void put_ConservaEntradasAlCrecer() {
+            for (int i = 0; i < 10_000; i++) {
+                encadenado.put(new LlaveDefectuosa("llave" + i, i % 3), i);
+            }
+            assertEquals(10_000, encadenado.size());
+            assertTrue(encadenado.capacidad() > 10_000);
+            for (int i = 0; i < 10_000; i++) {
+                assertEquals(i, encadenado.get(new LlaveDefectuosa("llave" + i, i % 3)));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Pruebas para las operaciones de actualización en el lugar")
+    class ActualizacionTests {
+
+        @Test
+        @DisplayName("putIfAbsent solo debe asociar claves ausentes")
+        void putIfAbsent_SoloAsociaClavesAusentes() {
+            assertNull(diccionario.putIfAbsent("a", 1));
+            assertEquals(1, diccionario.putIfAbsent("a", 2));
+            assertEquals(1, diccionario.get("a"));
+            diccionario.put("nula", null);
+            assertNull(diccionario.putIfAbsent("nula", 3));
+            assertEquals(3, diccionario.get("nula"));
+            assertEquals(2, diccionario.size());
+        }
+
+        @Test
+        @DisplayName("computeIfAbsent solo debe invocar la función si la clave falta")
+        void computeIfAbsent_InvocaLaFuncionSoloSiFalta() {
+            assertEquals(5, diccionario.computeIfAbsent("cinco", String::length));
+            assertEquals(5, diccionario.computeIfAbsent("cinco", llave -> {
+                throw new AssertionError("No debería invocarse la función.");
+            }));
+            assertNull(diccionario.computeIfAbsent("nada", llave -> null));
+            assertFalse(diccionario.containsKey("nada"));
+            assertEquals(1, diccionario.size());
+        }
+
+        @Test
+        @DisplayName("compute debe reemplazar el valor o eliminar la clave si devuelve null")
+        void compute_ReemplazaOEliminaLaClave() {
+            assertEquals(1, diccionario.compute("a", (llave, valor) -> valor == null ? 1 : valor + 1));
+            assertEquals(2, diccionario.compute("a", (llave, valor) -> valor == null ? 1 : valor + 1));
+            assertNull(diccionario.compute("a", (llave, valor) -> null));
+            assertFalse(diccionario.containsKey("a"));
+            assertTrue(diccionario.isEmpty());
+        }
+
+        @Test
+        @DisplayName("merge debe servir para contar apariciones en ambas políticas")
+        void merge_CuentaApariciones() {
+            Diccionario<String, Integer> encadenado =
+                    new Diccionario<>(4, 0.75f, PoliticaColision.ENCADENAMIENTO);
+            String[] palabras = {"uno", "dos", "uno", "tres", "uno", "dos"};
+            for (String palabra : palabras) {
+                diccionario.merge(palabra, 1, Integer::sum);
+                encadenado.merge(palabra, 1, Integer::sum);
+            }
+            for (Diccionario<String, Integer> contador : List.of(diccionario, encadenado)) {
+                assertEquals(3, contador.get("uno"));
+                assertEquals(2, contador.get("dos"));
+                assertEquals(1, contador.get("tres"));
+                assertEquals(3, contador.size());
+            }
+            assertNull(encadenado.merge("dos", 0, (actual, nuevo) -> null));
+            assertFalse(encadenado.containsKey("dos"));
+            assertEquals(2, encadenado.size());
+        }
+
+        @Test
+        @DisplayName("Las operaciones compuestas deben respetar la política de rechazo")
+        void actualizaciones_RespetanLaPoliticaDeRechazo() {
+            diccionario.put(CLAVE_COLISION_1, 1);
+            assertThrows(ColisionException.class, () -> diccionario.merge(CLAVE_COLISION_2, 1, Integer::sum));
+            assertThrows(ColisionException.class, () -> diccionario.putIfAbsent(CLAVE_COLISION_2, 1));
+            assertEquals(2, diccionario.merge(CLAVE_COLISION_1, 1, Integer::sum));
+            assertEquals(1, diccionario.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Pruebas de estrategias de hash")
+    class EstrategiaHashTests {
+
+        /**
+         * Compara cadenas sin distinguir mayúsculas, con un hash constante
+         * que obliga a encadenar todas las claves en el mismo balde.
+         */
+        private final EstrategiaHash<String> sinMayusculas = new EstrategiaHash<>() {
+            @Override
+            public int hash(String llave) {
+                return 7;
+            }
+
+            @Override
+            public boolean iguales(String llave, String otra) {
+                return llave.equalsIgnoreCase(otra);
+            }
+        };
+
+        @Test
+        @DisplayName("La estrategia debe decidir la igualdad de las claves")
+        void estrategia_DecideLaIgualdad() {
+            Diccionario<String, Integer> encadenado = new Diccionario<>(16, 0.75f,
+                    PoliticaColision.ENCADENAMIENTO, FuncionIndice.MASCARA, sinMayusculas);
+            for (int i = 0; i < 20; i++) {
+                assertNull(encadenado.put("clave" + i, i));
+            }
+            assertEquals(5, encadenado.put("CLAVE5", 50));
+            assertEquals(50, encadenado.get("Clave5"));
+            assertTrue(encadenado.containsKey("CLAVE19"));
+            assertTrue(encadenado.remove("clave0".toUpperCase()));
+            assertFalse(encadenado.containsKey("clave0"));
+            assertEquals(19, encadenado.size());
+            for (int i = 1; i < 20; i++) {
+                assertTrue(encadenado.containsKey("CLAVE" + i), "Falta la clave " + i);
+            }
+        }
+
+        @Test
+        @DisplayName("Una estrategia propia debe repartir claves con un hashCode defectuoso")
+        void estrategia_ReparteLlavesDefectuosas() {
+            EstrategiaHash<LlaveDefectuosa> porNombre = new EstrategiaHash<>() {
+                @Override
+                public int hash(LlaveDefectuosa llave) {
+                    return llave.toString().hashCode();
+                }
+
+                @Override
+                public boolean iguales(LlaveDefectuosa llave, LlaveDefectuosa otra) {
+                    return llave.equals(otra);
+                }
+            };
+            Diccionario<LlaveDefectuosa, Integer> rechazo = new Diccionario<>(16, 0.75f,
+                    PoliticaColision.RECHAZO, FuncionIndice.MURMUR3, porNombre);
+            assertThrows(ColisionException.class, () -> {
+                Diccionario<LlaveDefectuosa, Integer> natural = new Diccionario<>(16);
+                natural.put(new LlaveDefectuosa("a", 1), 1);
+                natural.put(new LlaveDefectuosa("b", 1), 2);
+            });
+            rechazo.put(new LlaveDefectuosa("a", 1), 1);
+            rechazo.put(new LlaveDefectuosa("b", 1), 2);
+            assertEquals(2, rechazo.get(new LlaveDefectuosa("b", 99)));
+            assertEquals(2, rechazo.size());
+        }
+
+        @Test
+        @DisplayName("La estrategia de identidad debe distinguir objetos iguales pero distintos")
+        void identidad_DistingueInstancias() {
+            Diccionario<String, Integer> identidad = new Diccionario<>(16, 0.75f,
+                    PoliticaColision.ENCADENAMIENTO, FuncionIndice.MURMUR3,
+                    EstrategiaHash.identidad());
+            String primera = new String("clave");
+            String segunda = new String("clave");
+            identidad.put(primera, 1);
+            identidad.put(segunda, 2);
+            assertEquals(2, identidad.size());
+            assertEquals(1, identidad.get(primera));
+            assertEquals(2, identidad.get(segunda));
+            assertNull(identidad.get("otra"));
+        }
+
+        @Test
+        @DisplayName("No debe aceptarse una estrategia nula")
+        void constructor_RechazaEstrategiaNula() {
+            assertThrows(NullPointerException.class, () -> new Diccionario<String, Integer>(16,
+                    0.75f, PoliticaColision.ENCADENAMIENTO, FuncionIndice.MASCARA, null));
+        }
+    }
+
+    /**
+     * Clave no comparable cuyo hashCode es siempre el mismo.
+     */
+    private record SinOrden(int id) {
+        @Override
+        public int hashCode() {
+            return 7;
+        }
     }
     // ... (resto de la clase, como el helper comentado, sin cambios) ...
 }
\ No newline at end of file
@@ -0,0 +1,97 @@
+package ar.unrn.diccionario;
+
+import ar.unrn.diccionario.excepciones.ColisionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas para las estadísticas de Diccionario")
+class EstadisticasDiccionarioTest {
+
+    private static final String CLAVE_COLISION_1 = "clave_colision_1";
+    private static final String CLAVE_COLISION_2 = "otra_clave_colision_1308";
+
+    @Test
+    @DisplayName("Debe calcular el histograma, las colisiones y los sondeos de un balde compartido")
+    void estadisticas_DescribenLaOcupacion() {
+        Diccionario<LlaveDefectuosa, Integer> diccionario =
+                new Diccionario<>(16, 4f, PoliticaColision.ENCADENAMIENTO);
+        for (int i = 0; i < 3; i++) {
+            diccionario.put(new LlaveDefectuosa("igual" + i, 7), i);
+        }
+        diccionario.put(new LlaveDefectuosa("sola", 8), 3);
+
+        EstadisticasDiccionario estadisticas = diccionario.estadisticas();
+
+        assertEquals(4, estadisticas.cantidad());
+        assertEquals(16, estadisticas.capacidad());
+        assertEquals(2, estadisticas.baldesOcupados());
+        assertEquals(2, estadisticas.colisiones());
+        assertEquals(3, estadisticas.longitudMaxima());
+        assertArrayEquals(new long[]{14, 1, 0, 1}, estadisticas.histograma());
+        assertEquals(2.0, estadisticas.longitudPromedio());
+        // La lista de tres se recorre 1 + 2 + 3 veces; la entrada sola, una.
+        assertEquals(7.0 / 4, estadisticas.sondeosPromedio());
+        int[] colisiones = estadisticas.colisionesPorBalde();
+        assertEquals(2, colisiones[diccionario.obtienePosicion(new LlaveDefectuosa("igual0", 7))]);
+        assertEquals(0, colisiones[diccionario.obtienePosicion(new LlaveDefectuosa("sola", 8))]);
+    }
+
+    @Test
+    @DisplayName("No debe contar consultas ni rechazos mientras las estadísticas están desactivadas")
+    void contadores_SoloConEstadisticasActivas() {
+        Diccionario<String, Integer> diccionario = new Diccionario<>();
+        diccionario.put(CLAVE_COLISION_1, 1);
+        diccionario.get(CLAVE_COLISION_1);
+        diccionario.tryPut(CLAVE_COLISION_2, 2);
+        assertFalse(diccionario.estadisticasActivas());
+        assertEquals(0, diccionario.estadisticas().consultasAcertadas());
+        assertEquals(0, diccionario.estadisticas().insercionesRechazadas());
+
+        diccionario.activarEstadisticas();
+        diccionario.get(CLAVE_COLISION_1);
+        diccionario.containsKey(CLAVE_COLISION_1);
+        diccionario.get("ausente");
+        diccionario.tryPut(CLAVE_COLISION_2, 2);
+        assertThrows(ColisionException.class, () -> diccionario.put(CLAVE_COLISION_2, 2));
+
+        EstadisticasDiccionario estadisticas = diccionario.estadisticas();
+        assertEquals(2, estadisticas.consultasAcertadas());
+        assertEquals(1, estadisticas.consultasFallidas());
+        assertEquals(2.0 / 3, estadisticas.tasaDeAciertos());
+        assertEquals(2, estadisticas.insercionesRechazadas());
+
+        diccionario.reiniciarEstadisticas();
+        assertEquals(0, diccionario.estadisticas().consultasAcertadas());
+        diccionario.desactivarEstadisticas();
+        diccionario.get(CLAVE_COLISION_1);
+        assertEquals(0, diccionario.estadisticas().consultasAcertadas());
+    }
+
+    @Test
+    @DisplayName("Debe publicar las estadísticas por JMX")
+    void registrar_PublicaElMXBean() throws JMException {
+        Diccionario<String, Integer> diccionario = new Diccionario<>();
+        ObjectName nombre = MonitorDiccionario.registrar(diccionario, "prueba");
+        try {
+            assertTrue(diccionario.estadisticasActivas());
+            diccionario.put(CLAVE_COLISION_1, 1);
+            diccionario.get(CLAVE_COLISION_1);
+
+            MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+            assertEquals(1L, servidor.getAttribute(nombre, "Cantidad"));
+            assertEquals(256, servidor.getAttribute(nombre, "Capacidad"));
+            assertEquals(1L, servidor.getAttribute(nombre, "ConsultasAcertadas"));
+            servidor.invoke(nombre, "reiniciarEstadisticas", null, null);
+            assertEquals(0L, servidor.getAttribute(nombre, "ConsultasAcertadas"));
+        } finally {
+            MonitorDiccionario.desregistrar(nombre);
+        }
+    }
+}
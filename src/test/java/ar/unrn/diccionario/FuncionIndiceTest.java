@@ -0,0 +1,67 @@
+package ar.unrn.diccionario;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas para el enum FuncionIndice")
+class FuncionIndiceTest {
+
+    @ParameterizedTest
+    @EnumSource(FuncionIndice.class)
+    @DisplayName("El índice debe estar siempre dentro de la capacidad")
+    void indice_DentroDeLaCapacidad(FuncionIndice funcion) {
+        Random azar = new Random(42);
+        for (int capacidad = 1; capacidad <= 1 << 20; capacidad = capacidad * 2) {
+            for (int i = 0; i < 1_000; i++) {
+                int indice = funcion.indice(azar.nextInt(), capacidad);
+                assertTrue(indice >= 0 && indice < capacidad, funcion + ": " + indice);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("La máscara debe coincidir con floorMod en capacidades potencia de dos")
+    void mascara_CoincideConModulo() {
+        Random azar = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            int hash = azar.nextInt();
+            assertEquals(FuncionIndice.MODULO.indice(hash, 256), FuncionIndice.MASCARA.indice(hash, 256));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(FuncionIndice.class)
+    @DisplayName("Al duplicar la capacidad, baldes distintos no deben compartir baldes nuevos")
+    void duplicar_NoMezclaBaldesDistintos(FuncionIndice funcion) {
+        Random azar = new Random(3);
+        for (int i = 0; i < 10_000; i++) {
+            int primero = azar.nextInt();
+            int segundo = azar.nextInt();
+            if (funcion.indice(primero, 64) != funcion.indice(segundo, 64)) {
+                assertNotEquals(funcion.indice(primero, 128), funcion.indice(segundo, 128));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = FuncionIndice.class, names = {"DISPERSION", "MURMUR3", "FIBONACCI"})
+    @DisplayName("Las funciones que mezclan deben repartir hashes que solo difieren en los bits altos")
+    void mezcla_RepartirBitsAltos(FuncionIndice funcion) {
+        Set<Integer> conMascara = new HashSet<>();
+        Set<Integer> mezclados = new HashSet<>();
+        for (int i = 0; i < 256; i++) {
+            conMascara.add(FuncionIndice.MASCARA.indice(i << 16, 256));
+            mezclados.add(funcion.indice(i << 16, 256));
+        }
+        assertEquals(1, conMascara.size(), "La máscara los agrupa a todos en un balde.");
+        assertTrue(mezclados.size() > 128, funcion + " ocupó solo " + mezclados.size() + " baldes.");
+    }
+}
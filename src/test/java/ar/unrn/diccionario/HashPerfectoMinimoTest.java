@@ -0,0 +1,92 @@
+package ar.unrn.diccionario;
+
+import ar.unrn.diccionario.excepciones.LlaveNulaException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas para la clase HashPerfectoMinimo")
+class HashPerfectoMinimoTest {
+
+    /**
+     * Comprueba que la función asigne a cada clave un índice distinto en
+     * {@code [0, n)}.
+     */
+    private static <K> void assertEsBiyectiva(HashPerfectoMinimo<K> funcion, List<K> llaves) {
+        BitSet usados = new BitSet(llaves.size());
+        for (K llave : llaves) {
+            int indice = funcion.indice(llave);
+            assertTrue(indice >= 0 && indice < llaves.size(), "índice fuera de rango: " + indice);
+            assertFalse(usados.get(indice), "índice repetido: " + indice);
+            usados.set(indice);
+        }
+        assertEquals(llaves.size(), usados.cardinality());
+    }
+
+    @Test
+    @DisplayName("Debe asignar índices distintos en [0, n) a 200.000 claves")
+    void indice_EsMinimoYPerfecto() {
+        List<Long> llaves = new ArrayList<>();
+        new Random(17).longs(200_000).distinct().forEach(llaves::add);
+        HashPerfectoMinimo<Long> funcion = new HashPerfectoMinimo<>(llaves);
+        assertEquals(llaves.size(), funcion.size());
+        assertEsBiyectiva(funcion, llaves);
+    }
+
+    @Test
+    @DisplayName("Con gamma 1 el índice debe ocupar menos de 4 bits por clave")
+    void bitsPorClave_SonPocos() {
+        List<Integer> llaves = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            llaves.add(i * 7919);
+        }
+        HashPerfectoMinimo<Integer> compacta = new HashPerfectoMinimo<>(llaves);
+        HashPerfectoMinimo<Integer> rapida =
+                new HashPerfectoMinimo<>(llaves, 2.0, EstrategiaHash.natural());
+        assertTrue(compacta.bitsPorClave() < 4, "bits por clave: " + compacta.bitsPorClave());
+        assertTrue(rapida.niveles() <= compacta.niveles());
+        assertEsBiyectiva(rapida, llaves);
+    }
+
+    @Test
+    @DisplayName("Las claves con el mismo hashCode deben resolverse con el respaldo")
+    void indice_ClavesConElMismoHash() {
+        List<LlaveDefectuosa> llaves = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            llaves.add(new LlaveDefectuosa("llave" + i, i < 50 ? 42 : i));
+        }
+        HashPerfectoMinimo<LlaveDefectuosa> funcion = new HashPerfectoMinimo<>(llaves);
+        assertEquals(HashPerfectoMinimo.MAX_NIVELES, funcion.niveles());
+        assertEsBiyectiva(funcion, llaves);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar claves repetidas, claves nulas y gamma fuera de rango")
+    void construccion_Validaciones() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new HashPerfectoMinimo<>(List.of("a", "b", "c", "b", "d")));
+        assertThrows(LlaveNulaException.class,
+                () -> new HashPerfectoMinimo<>(java.util.Arrays.asList("a", null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new HashPerfectoMinimo<>(List.of("a"), 0.5, EstrategiaHash.natural()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new HashPerfectoMinimo<>(List.of("a"), Double.NaN,
+                        EstrategiaHash.natural()));
+    }
+
+    @Test
+    @DisplayName("Una función vacía no debe asignar índices")
+    void indice_ConjuntoVacio() {
+        HashPerfectoMinimo<String> vacia = new HashPerfectoMinimo<>(List.of());
+        assertEquals(0, vacia.size());
+        assertEquals(0, vacia.niveles());
+        assertEquals(-1, vacia.indice("algo"));
+        assertEquals(0, vacia.bitsPorClave());
+    }
+}
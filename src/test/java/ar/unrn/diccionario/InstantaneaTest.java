@@ -0,0 +1,180 @@
+package ar.unrn.diccionario;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas para la clase Instantanea")
+class InstantaneaTest {
+
+    private static <K, V> byte[] guardar(TablaHashLectura<K, V> tabla, Codec<K> llaves,
+                                         Codec<V> valores) throws IOException {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        Instantanea.guardar(tabla, salida, llaves, valores);
+        return salida.toByteArray();
+    }
+
+    @Test
+    @DisplayName("Debe recuperar todas las entradas guardadas, incluidos los valores nulos")
+    void cargar_RecuperaLoGuardado() throws IOException {
+        Diccionario<Integer, String> original =
+                new Diccionario<>(16, 0.75f, PoliticaColision.ENCADENAMIENTO);
+        for (int i = 0; i < 20_000; i++) {
+            original.put(i * 7, i % 10 == 0 ? null : "valor ñ " + i);
+        }
+        byte[] bytes = guardar(original, Codec.enteros(), Codec.textos());
+
+        Diccionario<Integer, String> cargado = Instantanea.cargar(
+                new ByteArrayInputStream(bytes), Codec.enteros(), Codec.textos());
+
+        assertEquals(original.size(), cargado.size());
+        for (int i = 0; i < 20_000; i++) {
+            assertTrue(cargado.containsKey(i * 7));
+            assertEquals(original.get(i * 7), cargado.get(i * 7));
+        }
+        assertFalse(cargado.containsKey(1));
+        assertTrue(cargado.ocupacion() <= 0.75);
+    }
+
+    @Test
+    @DisplayName("Debe cargar claves con el mismo hash y seguir admitiendo modificaciones")
+    void cargar_ClavesConElMismoHash() throws IOException {
+        // "Aa" y "BB" tienen el mismo hashCode: sus combinaciones también.
+        List<String> claves = new ArrayList<>();
+        claves.add("");
+        for (int i = 0; i < 6; i++) {
+            List<String> siguientes = new ArrayList<>();
+            for (String clave : claves) {
+                siguientes.add(clave + "Aa");
+                siguientes.add(clave + "BB");
+            }
+            claves = siguientes;
+        }
+        DiccionarioSuizo<String, Long> original = new DiccionarioSuizo<>();
+        for (int i = 0; i < claves.size(); i++) {
+            original.put(claves.get(i), (long) i);
+        }
+        byte[] bytes = guardar(original, Codec.textos(), Codec.largos());
+
+        Diccionario<String, Long> cargado = Instantanea.cargar(
+                new ByteArrayInputStream(bytes), Codec.textos(), Codec.largos());
+
+        assertEquals(claves.size(), cargado.size());
+        for (int i = 0; i < claves.size(); i++) {
+            assertEquals((long) i, cargado.get(claves.get(i)));
+        }
+        cargado.put(claves.get(0), -1L);
+        assertEquals(-1L, cargado.get(claves.get(0)));
+        assertEquals(claves.size(), cargado.size());
+        cargado.remove(claves.get(1));
+        assertFalse(cargado.containsKey(claves.get(1)));
+    }
+
+    @Test
+    @DisplayName("Debe guardar y cargar un diccionario vacío")
+    void cargar_Vacio() throws IOException {
+        byte[] bytes = guardar(new Diccionario<Integer, Integer>(), Codec.enteros(),
+                Codec.enteros());
+        assertEquals(12, bytes.length);
+        Diccionario<Integer, Integer> cargado = Instantanea.cargar(
+                new ByteArrayInputStream(bytes), Codec.enteros(), Codec.enteros());
+        assertTrue(cargado.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar flujos que no son instantáneas o de otra versión")
+    void cargar_RechazaCabecerasInvalidas() throws IOException {
+        ByteArrayOutputStream otraMarca = new ByteArrayOutputStream();
+        DataOutputStream datos = new DataOutputStream(otraMarca);
+        datos.writeInt(0x12345678);
+        datos.writeInt(Instantanea.VERSION);
+        datos.writeInt(0);
+        assertThrows(IOException.class, () -> Instantanea.cargar(
+                new ByteArrayInputStream(otraMarca.toByteArray()),
+                Codec.enteros(), Codec.enteros()));
+
+        ByteArrayOutputStream otraVersion = new ByteArrayOutputStream();
+        datos = new DataOutputStream(otraVersion);
+        datos.writeInt(Instantanea.MARCA);
+        datos.writeInt(Instantanea.VERSION + 1);
+        datos.writeInt(0);
+        assertThrows(IOException.class, () -> Instantanea.cargar(
+                new ByteArrayInputStream(otraVersion.toByteArray()),
+                Codec.enteros(), Codec.enteros()));
+    }
+
+    @Test
+    @DisplayName("Debe fallar si la instantánea termina antes de tiempo")
+    void cargar_InstantaneaTruncada() throws IOException {
+        Diccionario<Integer, Integer> original = new Diccionario<>();
+        original.put(1, 10);
+        original.put(2, 20);
+        byte[] bytes = guardar(original, Codec.enteros(), Codec.enteros());
+        byte[] truncados = java.util.Arrays.copyOf(bytes, bytes.length - 2);
+
+        assertThrows(EOFException.class, () -> Instantanea.cargar(
+                new ByteArrayInputStream(truncados), Codec.enteros(), Codec.enteros()));
+    }
+
+    @Test
+    @DisplayName("No debe reservar memoria para toda la cantidad que anuncia una cabecera dañada")
+    void cargar_CantidadAnunciadaExcesiva() throws IOException {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        DataOutputStream datos = new DataOutputStream(salida);
+        datos.writeInt(Instantanea.MARCA);
+        datos.writeInt(Instantanea.VERSION);
+        datos.writeInt(Integer.MAX_VALUE);
+        datos.writeInt(1);
+        datos.writeBoolean(false);
+
+        assertThrows(EOFException.class, () -> Instantanea.cargar(
+                new ByteArrayInputStream(salida.toByteArray()), Codec.enteros(), Codec.enteros()));
+    }
+
+    @Test
+    @DisplayName("Debe hacer crecer la tabla si hay más entradas que las reservadas")
+    void cargar_MasEntradasQueLaReserva() throws IOException {
+        Diccionario<Integer, Integer> original =
+                new Diccionario<>(16, 0.75f, PoliticaColision.ENCADENAMIENTO);
+        int cantidad = Instantanea.RESERVA_MAXIMA + 1000;
+        for (int i = 0; i < cantidad; i++) {
+            original.put(i, -i);
+        }
+        byte[] bytes = guardar(original, Codec.enteros(), Codec.enteros());
+
+        Diccionario<Integer, Integer> cargado = Instantanea.cargar(
+                new ByteArrayInputStream(bytes), Codec.enteros(), Codec.enteros());
+        assertEquals(cantidad, cargado.size());
+        assertEquals(-(cantidad - 1), cargado.get(cantidad - 1));
+        assertTrue(cargado.estadisticas().capacidad() * 0.75 >= cantidad);
+    }
+
+    @Test
+    @DisplayName("Debe dejar el flujo justo después de la instantánea")
+    void cargar_NoLeeDeMas() throws IOException {
+        Diccionario<Integer, String> primero =
+                new Diccionario<>(16, 0.75f, PoliticaColision.ENCADENAMIENTO);
+        Diccionario<Integer, String> segundo =
+                new Diccionario<>(16, 0.75f, PoliticaColision.ENCADENAMIENTO);
+        primero.put(1, "uno");
+        segundo.put(2, "dos");
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        Instantanea.guardar(primero, salida, Codec.enteros(), Codec.textos());
+        Instantanea.guardar(segundo, salida, Codec.enteros(), Codec.textos());
+        salida.write(7);
+        ByteArrayInputStream entrada = new ByteArrayInputStream(salida.toByteArray());
+
+        assertEquals("uno", Instantanea.cargar(entrada, Codec.enteros(), Codec.textos()).get(1));
+        assertEquals("dos", Instantanea.cargar(entrada, Codec.enteros(), Codec.textos()).get(2));
+        assertEquals(7, entrada.read());
+    }
+}
@@ -0,0 +1,134 @@
+package ar.unrn.diccionario;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas para la clase IntIntDiccionario")
+class IntIntDiccionarioTest {
+
+    private IntIntDiccionario diccionario;
+
+    @BeforeEach
+    void setUp() {
+        diccionario = new IntIntDiccionario();
+    }
+
+    @Test
+    @DisplayName("Debe insertar, recuperar y eliminar pares clave-valor")
+    void operacionesBasicas() {
+        assertTrue(diccionario.isEmpty());
+        assertEquals(0, diccionario.put(5, 50));
+        assertEquals(0, diccionario.put(-7, 70));
+        assertEquals(50, diccionario.put(5, 55));
+        assertEquals(55, diccionario.get(5));
+        assertEquals(0, diccionario.get(6));
+        assertEquals(-1, diccionario.getOrDefault(6, -1));
+        assertTrue(diccionario.remove(5));
+        assertFalse(diccionario.remove(5));
+        assertFalse(diccionario.containsKey(5));
+        assertEquals(70, diccionario.get(-7));
+        assertEquals(1, diccionario.size());
+    }
+
+    @Test
+    @DisplayName("La clave cero debe funcionar como cualquier otra clave")
+    void claveCero() {
+        assertFalse(diccionario.containsKey(0));
+        assertEquals(0, diccionario.put(0, 10));
+        assertTrue(diccionario.containsKey(0));
+        assertEquals(10, diccionario.get(0));
+        assertEquals(12, diccionario.sumar(0, 2));
+        assertEquals(1, diccionario.size());
+        assertTrue(diccionario.remove(0));
+        assertFalse(diccionario.containsKey(0));
+        assertTrue(diccionario.isEmpty());
+    }
+
+    @Test
+    @DisplayName("forEach debe recorrer todas las entradas, incluida la clave cero")
+    void forEach_RecorreTodasLasEntradas() {
+        Map<Integer, Integer> esperadas = new HashMap<>();
+        for (int i = -500; i < 500; i++) {
+            diccionario.put(i * 3, i);
+            esperadas.put(i * 3, i);
+        }
+        Map<Integer, Integer> recorridas = new HashMap<>();
+        diccionario.forEach((llave, valor) -> assertNull(recorridas.put(llave, valor)));
+        assertEquals(esperadas, recorridas);
+    }
+
+    @Test
+    @DisplayName("Debe devolver el valor ausente configurado para las claves que no están")
+    void valorAusenteConfigurable() {
+        IntIntDiccionario conAusente = new IntIntDiccionario(16, 0.5f, -1);
+        assertEquals(-1, conAusente.get(3));
+        assertEquals(-1, conAusente.put(3, 30));
+        assertEquals(30, conAusente.put(3, 31));
+        assertEquals(0, conAusente.sumar(4, 1));
+    }
+
+    @Test
+    @DisplayName("sumar debe contar apariciones con un único sondeo")
+    void sumar_CuentaApariciones() {
+        int[] datos = {3, 1, 3, 0, 3, 1};
+        for (int dato : datos) {
+            diccionario.sumar(dato, 1);
+        }
+        assertEquals(3, diccionario.get(3));
+        assertEquals(2, diccionario.get(1));
+        assertEquals(1, diccionario.get(0));
+        assertEquals(3, diccionario.size());
+    }
+
+    @Test
+    @DisplayName("Debe crecer conservando todas las entradas")
+    void crecimiento() {
+        IntIntDiccionario chico = new IntIntDiccionario(2, 0.75f, 0);
+        for (int i = 0; i < 10_000; i++) {
+            chico.put(i * 1024, i);
+        }
+        assertEquals(10_000, chico.size());
+        assertTrue(chico.capacidad() >= 10_000 / 0.75);
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, chico.get(i * 1024));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe comportarse como HashMap ante operaciones aleatorias")
+    void coincideConHashMap() {
+        IntIntDiccionario primitivo = new IntIntDiccionario(16, 0.9f, 0);
+        Map<Integer, Integer> referencia = new HashMap<>();
+        Random azar = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            int llave = azar.nextInt(2_000) - 1_000;
+            switch (azar.nextInt(3)) {
+                case 0 -> {
+                    Integer anterior = referencia.put(llave, i);
+                    assertEquals(anterior == null ? 0 : anterior, primitivo.put(llave, i));
+                }
+                case 1 -> assertEquals(referencia.merge(llave, 1, Integer::sum),
+                        primitivo.sumar(llave, 1));
+                default -> assertEquals(referencia.remove(llave) != null,
+                        primitivo.remove(llave));
+            }
+            assertEquals(referencia.containsKey(llave), primitivo.containsKey(llave));
+        }
+        assertEquals(referencia.size(), primitivo.size());
+        referencia.forEach((llave, valor) -> assertEquals(valor, primitivo.get(llave)));
+    }
+
+    @Test
+    @DisplayName("No debe aceptar un factor de carga mayor o igual a 1")
+    void constructor_ValidaFactorDeCarga() {
+        assertThrows(IllegalArgumentException.class, () -> new IntIntDiccionario(16, 1f, 0));
+        assertThrows(IllegalArgumentException.class, () -> new IntIntDiccionario(0, 0.5f, 0));
+    }
+}
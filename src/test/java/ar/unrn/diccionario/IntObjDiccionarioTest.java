@@ -0,0 +1,28 @@
+package ar.unrn.diccionario;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas para la clase IntObjDiccionario")
+class IntObjDiccionarioTest {
+
+    @Test
+    @DisplayName("Debe guardar la clave 0 aparte y distinguir los extremos del rango")
+    void distingueCeroYExtremos() {
+        IntObjDiccionario<String> diccionario = new IntObjDiccionario<>();
+        diccionario.put(0, "cero");
+        diccionario.put(Integer.MIN_VALUE, "mínima");
+        diccionario.put(Integer.MAX_VALUE, "máxima");
+        diccionario.put(-1, "menos uno");
+        assertEquals("cero", diccionario.get(0));
+        assertEquals("mínima", diccionario.get(Integer.MIN_VALUE));
+        assertEquals("máxima", diccionario.get(Integer.MAX_VALUE));
+        assertEquals("menos uno", diccionario.get(-1));
+        assertEquals(4, diccionario.size());
+        assertTrue(diccionario.remove(0));
+        assertFalse(diccionario.containsKey(0));
+        assertEquals(3, diccionario.size());
+    }
+}
@@ -0,0 +1,32 @@
+package ar.unrn.diccionario;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas para la clase LongObjDiccionario")
+class LongObjDiccionarioTest {
+
+    private LongObjDiccionario<String> diccionario;
+
+    @BeforeEach
+    void setUp() {
+        diccionario = new LongObjDiccionario<>();
+    }
+
+    @Test
+    @DisplayName("Debe distinguir claves que solo difieren en la mitad alta")
+    void distingueMitadAlta() {
+        long alta = 1L << Integer.SIZE;
+        diccionario.put(1L, "baja");
+        diccionario.put(alta | 1L, "alta");
+        diccionario.put(Long.MIN_VALUE, "mínima");
+        assertEquals("baja", diccionario.get(1L));
+        assertEquals("alta", diccionario.get(alta | 1L));
+        assertEquals("mínima", diccionario.get(Long.MIN_VALUE));
+        assertNull(diccionario.get(alta));
+        assertEquals(3, diccionario.size());
+    }
+}
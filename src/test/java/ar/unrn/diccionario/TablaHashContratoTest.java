@@ -0,0 +1,105 @@
+package ar.unrn.diccionario;
+
+import ar.unrn.diccionario.excepciones.LlaveNulaException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Contrato común de las implementaciones de TablaHash")
+class TablaHashContratoTest {
+
+    /**
+     * Cada implementación, creada con poca capacidad inicial y alta carga para
+     * que crezca y sus colisiones se noten durante las pruebas.
+     */
+    static Stream<Arguments> tablas() {
+        Stream<Arguments> abiertas = Stream.of(Sondeo.values()).map(sondeo -> tabla(
+                "DiccionarioAbierto " + sondeo, () -> new DiccionarioAbierto<>(16, 0.9f, sondeo)));
+        return Stream.concat(abiertas, Stream.of(
+                tabla("Diccionario con encadenamiento",
+                        () -> new Diccionario<>(16, 0.75f, PoliticaColision.ENCADENAMIENTO)),
+                tabla("DiccionarioRobinHood", () -> new DiccionarioRobinHood<>(16, 0.95f)),
+                tabla("DiccionarioSuizo", () -> new DiccionarioSuizo<>(64, 0.95f)),
+                tabla("DiccionarioCuckoo", () -> new DiccionarioCuckoo<>(8, 0.9f)),
+                tabla("DiccionarioConcurrente", () -> new DiccionarioConcurrente<>(1, 0.75f, 4)),
+                tabla("DiccionarioLockFree", () -> new DiccionarioLockFree<>(4))));
+    }
+
+    private static Arguments tabla(String nombre, Supplier<TablaHash<Object, Integer>> fabrica) {
+        return Arguments.of(nombre, fabrica);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("tablas")
+    @DisplayName("Debe insertar, recuperar y eliminar pares clave-valor")
+    void operacionesBasicas(String nombre, Supplier<TablaHash<Object, Integer>> fabrica) {
+        TablaHash<Object, Integer> diccionario = fabrica.get();
+        assertTrue(diccionario.isEmpty());
+        assertNull(diccionario.put("manzana", 10));
+        assertNull(diccionario.put("banana", 20));
+        assertEquals(10, diccionario.get("manzana"));
+        assertEquals(20, diccionario.get("banana"));
+        assertNull(diccionario.get("uva"));
+        assertEquals(2, diccionario.size());
+
+        assertTrue(diccionario.remove("manzana"));
+        assertFalse(diccionario.remove("manzana"));
+        assertFalse(diccionario.containsKey("manzana"));
+        assertTrue(diccionario.containsKey("banana"));
+        assertEquals(1, diccionario.size());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("tablas")
+    @DisplayName("Debe reemplazar el valor al reinsertar una clave existente")
+    void put_MismaClaveReemplazaElValor(String nombre,
+                                        Supplier<TablaHash<Object, Integer>> fabrica) {
+        TablaHash<Object, Integer> diccionario = fabrica.get();
+        diccionario.put("claveUnica", 1);
+        assertEquals(1, diccionario.put("claveUnica", 2));
+        assertEquals(2, diccionario.get("claveUnica"));
+        assertEquals(1, diccionario.size());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("tablas")
+    @DisplayName("Debe lanzar LlaveNulaException si la clave es nula")
+    void lanzaLlaveNulaException(String nombre, Supplier<TablaHash<Object, Integer>> fabrica) {
+        TablaHash<Object, Integer> diccionario = fabrica.get();
+        assertThrows(LlaveNulaException.class, () -> diccionario.put(null, 1));
+        assertThrows(LlaveNulaException.class, () -> diccionario.get(null));
+        assertThrows(LlaveNulaException.class, () -> diccionario.remove(null));
+        assertThrows(LlaveNulaException.class, () -> diccionario.containsKey(null));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("tablas")
+    @DisplayName("Debe comportarse como HashMap ante operaciones aleatorias con alta carga")
+    void coincideConHashMapBajoCargaAlta(String nombre,
+                                         Supplier<TablaHash<Object, Integer>> fabrica) {
+        TablaHash<Object, Integer> diccionario = fabrica.get();
+        Map<Object, Integer> referencia = new HashMap<>();
+        Random azar = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            int llave = azar.nextInt(2_000);
+            if (azar.nextBoolean()) {
+                assertEquals(referencia.remove(llave) != null, diccionario.remove(llave));
+            } else {
+                assertEquals(referencia.put(llave, i), diccionario.put(llave, i));
+            }
+            assertEquals(referencia.size(), diccionario.size());
+        }
+        for (int llave = 0; llave < 2_000; llave++) {
+            assertEquals(referencia.get(llave), diccionario.get(llave));
+        }
+    }
+}